@@ -97,7 +97,7 @@ public class ClientAnnotationProcessor extends AbstractProcessor {
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
-		return true;
+		return false; // the server side dispatchers are generated by the CommandDispatchProcessor
 	}
 
 	protected void writeAbstractTestClient() throws IOException {
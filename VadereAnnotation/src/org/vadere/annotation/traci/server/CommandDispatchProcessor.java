@@ -0,0 +1,219 @@
+package org.vadere.annotation.traci.server;
+
+import com.google.auto.service.AutoService;
+
+import org.vadere.annotation.traci.client.TraCIApi;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.MirroredTypeException;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a dispatcher class <tt>&lt;Handler&gt;Dispatcher</tt> next to each command handler annotated
+ * with {@link TraCIApi}. The dispatcher maps a (command, variable) pair to the handler method annotated
+ * with the single or multiple annotation given in {@link TraCIApi} by nested <tt>switch</tt> statements
+ * over both enums, i.e. the server invokes the handler methods directly instead of looking them up and
+ * calling them via reflection.
+ *
+ * A handler method must accept the command (or a subclass of it), the remote manager and optionally the
+ * variable, e.g. <tt>process_getIDList(TraCIGetCommand cmd, RemoteManager remoteManager, PolygonVar var)</tt>.
+ */
+@SupportedAnnotationTypes("org.vadere.annotation.traci.client.TraCIApi")
+@SupportedSourceVersion(SourceVersion.RELEASE_11)
+@AutoService(Processor.class)
+public class CommandDispatchProcessor extends AbstractProcessor {
+
+	private static final String TRACI_COMMAND = "org.vadere.manager.traci.commands.TraCICommand";
+	private static final String REMOTE_MANAGER = "org.vadere.manager.RemoteManager";
+	private static final String DISPATCHER_SUFFIX = "Dispatcher";
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(TraCIApi.class)) {
+			if (!element.getKind().equals(ElementKind.CLASS) || element.getModifiers().contains(Modifier.ABSTRACT))
+				continue;
+			try {
+				writeDispatcher((TypeElement) element);
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		return false; // the client api is generated by the ClientAnnotationProcessor for the same annotation
+	}
+
+	private void writeDispatcher(TypeElement handlerClass) throws IOException {
+		TraCIApi traCIApi = handlerClass.getAnnotation(TraCIApi.class);
+		String singleAnnotation = simpleName(singleAnnotation(traCIApi));
+		String multipleAnnotation = simpleName(multipleAnnotation(traCIApi));
+		String varEnum = varEnum(traCIApi);
+
+		// cmd -> (var -> handler method) in the order of the source file
+		Map<String, Map<String, ExecutableElement>> dispatchTable = new LinkedHashMap<>();
+		for (Element element : handlerClass.getEnclosedElements()) {
+			if (!element.getKind().equals(ElementKind.METHOD))
+				continue;
+			for (AnnotationMirror anMirror : element.getAnnotationMirrors()) {
+				String anName = anMirror.getAnnotationType().asElement().getSimpleName().toString();
+				if (anName.equals(singleAnnotation)) {
+					addHandler(dispatchTable, (ExecutableElement) element, anMirror);
+				} else if (anName.equals(multipleAnnotation)) {
+					for (AnnotationMirror single : containedAnnotations(anMirror)) {
+						addHandler(dispatchTable, (ExecutableElement) element, single);
+					}
+				}
+			}
+		}
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(handlerClass).getQualifiedName().toString();
+		String handlerName = handlerClass.getSimpleName().toString();
+		String dispatcherName = handlerName + DISPATCHER_SUFFIX;
+		JavaFileObject jFile = processingEnv.getFiler().createSourceFile(packageName + "." + dispatcherName, handlerClass);
+
+		try (PrintWriter writer = new PrintWriter(jFile.openWriter())) {
+			writer.append("package ").append(packageName).append(";").println();
+			writer.println();
+			writer.append("/**").println();
+			writer.append(" * Generated source file. DO NOT CHANGE!").println();
+			writer.append(" *").println();
+			writer.append(" * Dispatches commands to the annotated methods of {@link ").append(handlerName).append("}.").println();
+			writer.append(" */").println();
+			writer.append("final class ").append(dispatcherName).append(" {").println();
+			writer.println();
+			writer.append("\tprivate ").append(dispatcherName).append("() { }").println();
+			writer.println();
+
+			writer.append("\tstatic ").append(TRACI_COMMAND).append(" dispatch(").append(handlerName).append(" handler, ")
+					.append(TRACI_COMMAND).append(" cmd, ").append(varEnum).append(" var, ")
+					.append(REMOTE_MANAGER).append(" remoteManager) {").println();
+			writer.append("\t\tswitch (cmd.getTraCICmd()) {").println();
+			for (Map.Entry<String, Map<String, ExecutableElement>> cmdEntry : dispatchTable.entrySet()) {
+				writer.append("\t\t\tcase ").append(cmdEntry.getKey()).append(":").println();
+				writer.append("\t\t\t\tswitch (var) {").println();
+				for (Map.Entry<String, ExecutableElement> varEntry : cmdEntry.getValue().entrySet()) {
+					writer.append("\t\t\t\t\tcase ").append(varEntry.getKey()).append(":").println();
+					writer.append("\t\t\t\t\t\treturn ").append(invocation(varEntry.getValue(), varEnum)).append(";").println();
+				}
+				writer.append("\t\t\t\t\tdefault:").println();
+				writer.append("\t\t\t\t\t\tbreak;").println();
+				writer.append("\t\t\t\t}").println();
+				writer.append("\t\t\t\tbreak;").println();
+			}
+			writer.append("\t\t\tdefault:").println();
+			writer.append("\t\t\t\tbreak;").println();
+			writer.append("\t\t}").println();
+			writer.append("\t\treturn handler.process_NotImplemented(cmd, remoteManager);").println();
+			writer.append("\t}").println();
+			writer.append("}").println();
+		}
+	}
+
+	private void addHandler(Map<String, Map<String, ExecutableElement>> dispatchTable, ExecutableElement method, AnnotationMirror anMirror) {
+		String cmd = null;
+		String var = null;
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : anMirror.getElementValues().entrySet()) {
+			String key = entry.getKey().getSimpleName().toString();
+			if (key.equals("cmd")) {
+				cmd = ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+			} else if (key.equals("var")) {
+				var = ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+			}
+		}
+
+		if (cmd == null || var == null) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "handler annotation without cmd or var", method, anMirror);
+			return;
+		}
+		if (method.getModifiers().contains(Modifier.PRIVATE) || method.getParameters().size() < 2 || method.getParameters().size() > 3) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"handler methods must be non-private and accept (cmd, remoteManager) or (cmd, remoteManager, var)", method);
+			return;
+		}
+
+		ExecutableElement previous = dispatchTable.computeIfAbsent(cmd, c -> new LinkedHashMap<>()).putIfAbsent(var, method);
+		if (previous != null) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					String.format("%s %s is already handled by %s", cmd, var, previous.getSimpleName()), method, anMirror);
+		}
+	}
+
+	private String invocation(ExecutableElement method, String varEnum) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("handler.").append(method.getSimpleName()).append("(");
+		String cmdType = method.getParameters().get(0).asType().toString();
+		if (cmdType.equals(TRACI_COMMAND)) {
+			builder.append("cmd");
+		} else {
+			builder.append("(").append(cmdType).append(") cmd");
+		}
+		builder.append(", remoteManager");
+		if (method.getParameters().size() == 3) {
+			if (!method.getParameters().get(2).asType().toString().equals(varEnum)) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "the third parameter must be of type " + varEnum, method);
+			}
+			builder.append(", var");
+		}
+		return builder.append(")").toString();
+	}
+
+	private List<AnnotationMirror> containedAnnotations(AnnotationMirror container) {
+		List<AnnotationMirror> annotations = new ArrayList<>();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : container.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().toString().equals("value")) {
+				for (Object value : (List<?>) entry.getValue().getValue()) {
+					annotations.add((AnnotationMirror) ((AnnotationValue) value).getValue());
+				}
+			}
+		}
+		return annotations;
+	}
+
+	private String simpleName(String canonicalName) {
+		return canonicalName.substring(canonicalName.lastIndexOf('.') + 1).trim();
+	}
+
+	private String singleAnnotation(TraCIApi traCIApi) {
+		try {
+			return traCIApi.singleAnnotation().getCanonicalName();
+		} catch (MirroredTypeException e) {
+			return e.getTypeMirror().toString();
+		}
+	}
+
+	private String multipleAnnotation(TraCIApi traCIApi) {
+		try {
+			return traCIApi.multipleAnnotation().getCanonicalName();
+		} catch (MirroredTypeException e) {
+			return e.getTypeMirror().toString();
+		}
+	}
+
+	private String varEnum(TraCIApi traCIApi) {
+		try {
+			return traCIApi.varEnum().getCanonicalName();
+		} catch (MirroredTypeException e) {
+			return e.getTypeMirror().toString();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package org.vadere.benchmarks;
+
+import org.vadere.simulator.models.potential.solver.EikonalSolverProvider;
+import org.vadere.simulator.models.potential.solver.calculators.EikonalSolver;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.util.geometry.shapes.VShape;
+
+import java.util.List;
+
+/**
+ * Provides the same {@link EikonalSolver} as the simulation but without solving the eikonal equation,
+ * such that the benchmarks measure {@link EikonalSolver#solve()} only.
+ */
+public class BenchmarkEikonalSolverProvider extends EikonalSolverProvider {
+
+	@Override
+	public EikonalSolver provide(
+			final Domain domain,
+			final int targetId,
+			final List<VShape> targetShapes,
+			final AttributesAgent attributesPedestrian,
+			final AttributesFloorField attributesPotential) {
+		return buildBase(domain, targetId, targetShapes, attributesPedestrian, attributesPotential);
+	}
+}
@@ -0,0 +1,38 @@
+package org.vadere.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Entry point of <tt>vadere-benchmarks.jar</tt>. It accepts all JMH command line options
+ * (e.g. a regular expression selecting the benchmarks, see <tt>-h</tt>) but writes the
+ * results as JSON by default such that the results of different releases can be compared.
+ *
+ * Example: <tt>java -jar vadere-benchmarks.jar LinkedCellsGrid -rff linked-cells.json</tt>
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+
+		if (!commandLineOptions.getResult().hasValue()) {
+			String date = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+			options.result("vadere-benchmarks_" + date + ".json");
+		}
+
+		new Runner(options.build()).run();
+	}
+}
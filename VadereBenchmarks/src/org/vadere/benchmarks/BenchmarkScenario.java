@@ -0,0 +1,139 @@
+package org.vadere.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.simulator.entrypoints.ScenarioFactory;
+import org.vadere.simulator.projects.Scenario;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.util.StateJsonConverter;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.io.IOUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Loads the scenarios of <tt>Scenarios/ModelTests</tt> used by the benchmarks. The scenario directory
+ * can be set by the system property {@link #SCENARIO_DIRECTORY_PROPERTY}, otherwise it is searched
+ * in the working directory and its parents.
+ */
+public class BenchmarkScenario {
+
+	public static final String SCENARIO_DIRECTORY_PROPERTY = "vadere.benchmarks.scenarios";
+	private static final String DEFAULT_SCENARIO_DIRECTORY = "Scenarios/ModelTests";
+
+	/**
+	 * Loads a scenario relative to the scenario directory, e.g. <tt>TestOSM/scenarios/chicken_floorfield_ok.scenario</tt>.
+	 *
+	 * @param scenario  the path of the scenario file relative to the scenario directory
+	 * @return the scenario
+	 */
+	public static Scenario load(@NotNull final String scenario) {
+		return load(scenario, Collections.emptyMap());
+	}
+
+	/**
+	 * Loads a scenario and replaces the values of the given attributes, e.g. <tt>"optimizationType" -&gt; "DISCRETE"</tt>,
+	 * which allows to benchmark the same topography with different model parameters. All attributes with the given
+	 * name (in any attributes object) are replaced.
+	 *
+	 * @param scenario      the path of the scenario file relative to the scenario directory
+	 * @param attributes    the replaced attribute values by attribute name
+	 * @return the scenario
+	 */
+	public static Scenario load(@NotNull final String scenario, @NotNull final Map<String, Object> attributes) {
+		try {
+			String json = IOUtils.readTextFile(resolve(scenario));
+			JsonNode node = StateJsonConverter.readTree(json);
+
+			for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+				List<JsonNode> parents = node.findParents(attribute.getKey());
+				if (parents.isEmpty()) {
+					throw new IllegalArgumentException("the scenario " + scenario + " has no attribute " + attribute.getKey());
+				}
+				for (JsonNode parent : parents) {
+					((ObjectNode) parent).set(attribute.getKey(), StateJsonConverter.toJsonNode(attribute.getValue()));
+				}
+			}
+
+			return ScenarioFactory.createScenarioWithScenarioJson(StateJsonConverter.serializeJsonNode(node));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns the path of a scenario file.
+	 *
+	 * @param scenario the path of the scenario file relative to the scenario directory
+	 * @return the path of a scenario file
+	 */
+	public static Path resolve(@NotNull final String scenario) {
+		String directory = System.getProperty(SCENARIO_DIRECTORY_PROPERTY);
+		if (directory != null) {
+			return Paths.get(directory).resolve(scenario);
+		}
+
+		for (Path dir = Paths.get("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+			Path path = dir.resolve(DEFAULT_SCENARIO_DIRECTORY).resolve(scenario);
+			if (Files.exists(path)) {
+				return path;
+			}
+		}
+
+		throw new IllegalArgumentException("could not find " + scenario + " in " + DEFAULT_SCENARIO_DIRECTORY
+				+ ", use -D" + SCENARIO_DIRECTORY_PROPERTY + "=<dir> to set the scenario directory.");
+	}
+
+	/**
+	 * Returns uniformly distributed random positions inside the bounds of the topography.
+	 *
+	 * @param topography    the topography
+	 * @param n             the number of positions
+	 * @param random        the random number generator
+	 * @return uniformly distributed random positions
+	 */
+	public static List<VPoint> randomPositions(@NotNull final Topography topography, final int n, @NotNull final Random random) {
+		return randomPositions(topography, n, random, p -> true);
+	}
+
+	/**
+	 * Returns uniformly distributed random positions inside the bounds of the topography which are accepted
+	 * by the given predicate, e.g. positions which are not inside an obstacle.
+	 *
+	 * @param topography    the topography
+	 * @param n             the number of positions
+	 * @param random        the random number generator
+	 * @param accept        the predicate a position has to fulfill
+	 * @return uniformly distributed random positions
+	 */
+	public static List<VPoint> randomPositions(
+			@NotNull final Topography topography,
+			final int n,
+			@NotNull final Random random,
+			@NotNull final Predicate<VPoint> accept) {
+		VRectangle bounds = new VRectangle(topography.getBounds());
+		List<VPoint> positions = new ArrayList<>(n);
+		while (positions.size() < n) {
+			VPoint position = new VPoint(
+					bounds.getMinX() + random.nextDouble() * bounds.getWidth(),
+					bounds.getMinY() + random.nextDouble() * bounds.getHeight());
+			if (accept.test(position)) {
+				positions.add(position);
+			}
+		}
+		return positions;
+	}
+}
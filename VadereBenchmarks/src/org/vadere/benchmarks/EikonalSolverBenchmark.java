@@ -0,0 +1,85 @@
+package org.vadere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.potential.solver.calculators.EikonalSolver;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.simulator.projects.Scenario;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.types.EikonalSolverType;
+import org.vadere.util.geometry.shapes.VShape;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computation of the target floor field of a topography by the grid based eikonal solvers, e.g.
+ * {@link org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFMM}.
+ * One operation solves the eikonal equation for the first target of the topography.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3) @Measurement(iterations = 10) @Fork(1)
+public class EikonalSolverBenchmark {
+
+	@Param({"TestOSM/scenarios/chicken_floorfield_ok.scenario", "TestOSM/scenarios/rimea_04_flow_osm1_550_up.scenario"})
+	public String scenario;
+
+	@Param({"HIGH_ACCURACY_FAST_MARCHING", "FAST_MARCHING", "FAST_ITERATIVE_METHOD", "FAST_SWEEPING_METHOD"})
+	public EikonalSolverType createMethod;
+
+	@Param({"0.1"})
+	public double potentialFieldResolution;
+
+	private Domain domain;
+	private int targetId;
+	private List<VShape> targetShapes;
+	private AttributesAgent attributesAgent;
+	private AttributesFloorField attributesFloorField;
+	private EikonalSolver eikonalSolver;
+
+	@Setup(Level.Trial)
+	public void setUpTopography() {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("createMethod", createMethod);
+		attributes.put("potentialFieldResolution", potentialFieldResolution);
+
+		Scenario benchmarkScenario = BenchmarkScenario.load(scenario, attributes);
+		Topography topography = benchmarkScenario.getTopography();
+
+		domain = new Domain(topography);
+		targetId = topography.getTargets().get(0).getId();
+		targetShapes = topography.getTargetShapes().get(targetId);
+		attributesAgent = topography.getAttributesPedestrian();
+		attributesFloorField = Model.findAttributes(benchmarkScenario.getModelAttributes(), AttributesFloorField.class);
+	}
+
+	/**
+	 * The solvers modify their grid, therefore, each operation requires a new solver.
+	 */
+	@Setup(Level.Invocation)
+	public void setUpSolver() {
+		eikonalSolver = new BenchmarkEikonalSolverProvider().provide(domain, targetId, targetShapes, attributesAgent, attributesFloorField);
+	}
+
+	@Benchmark
+	public EikonalSolver solve() {
+		eikonalSolver.solve();
+		return eikonalSolver;
+	}
+}
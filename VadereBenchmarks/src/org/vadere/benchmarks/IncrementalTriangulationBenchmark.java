@@ -0,0 +1,82 @@
+package org.vadere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vadere.meshing.mesh.gen.AMesh;
+import org.vadere.meshing.mesh.gen.IncrementalTriangulation;
+import org.vadere.meshing.mesh.gen.PMesh;
+import org.vadere.meshing.mesh.gen.SMesh;
+import org.vadere.meshing.mesh.inter.IFace;
+import org.vadere.meshing.mesh.inter.IHalfEdge;
+import org.vadere.meshing.mesh.inter.IMesh;
+import org.vadere.meshing.mesh.inter.IPointLocator;
+import org.vadere.meshing.mesh.inter.IVertex;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of a Delaunay triangulation of random points inside the bounds of a topography
+ * by {@link IncrementalTriangulation#insert(org.vadere.util.geometry.shapes.IPoint)}. One operation
+ * inserts all points into an empty triangulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2) @Measurement(iterations = 5, time = 2) @Fork(1)
+public class IncrementalTriangulationBenchmark {
+
+	@Param({"TestOSM/scenarios/chicken_floorfield_ok.scenario"})
+	public String scenario;
+
+	@Param({"1000", "10000", "100000"})
+	public int pointCount;
+
+	@Param({"JUMP_AND_WALK", "DELAUNAY_HIERARCHY", "DELAUNAY_TREE"})
+	public IPointLocator.Type pointLocator;
+
+	@Param({"AMesh", "PMesh", "SMesh"})
+	public String mesh;
+
+	private VRectangle bound;
+	private List<VPoint> points;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Topography topography = BenchmarkScenario.load(scenario).getTopography();
+		bound = new VRectangle(topography.getBounds());
+		points = BenchmarkScenario.randomPositions(topography, pointCount, new Random(0));
+	}
+
+	@Benchmark
+	public int insert() {
+		IMesh<?, ?, ?> emptyMesh;
+		switch (mesh) {
+			case "AMesh": emptyMesh = new AMesh(); break;
+			case "SMesh": emptyMesh = new SMesh(); break;
+			default: emptyMesh = new PMesh();
+		}
+		return insert(emptyMesh);
+	}
+
+	private <V extends IVertex, E extends IHalfEdge, F extends IFace> int insert(final IMesh<V, E, F> emptyMesh) {
+		IncrementalTriangulation<V, E, F> triangulation = new IncrementalTriangulation<>(emptyMesh, pointLocator, bound);
+		for (VPoint point : points) {
+			triangulation.insert(point);
+		}
+		return triangulation.getMesh().getNumberOfVertices();
+	}
+}
@@ -0,0 +1,97 @@
+package org.vadere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.LinkedCellsGrid;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbour queries of all agents using the spatial map of the topography, see
+ * {@link LinkedCellsGrid#getObjects(VPoint, double)}. One operation queries the
+ * neighbours of all agents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1) @Measurement(iterations = 5, time = 1) @Fork(1)
+public class LinkedCellsGridBenchmark {
+
+	@Param({"TestOSM/scenarios/chicken_floorfield_ok.scenario", "TestOSM/scenarios/rimea_04_flow_osm1_550_up.scenario"})
+	public String scenario;
+
+	@Param({"100", "1000", "10000"})
+	public int crowdSize;
+
+	/**
+	 * use the {@link org.vadere.util.geometry.ConcurrentLinkedCellsGrid} instead of the {@link LinkedCellsGrid}.
+	 */
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	/**
+	 * the radius of the queries, i.e. the typical radius of the pedestrian potential of the OSM.
+	 */
+	@Param({"1.5"})
+	public double radius;
+
+	private LinkedCellsGrid<Pedestrian> spatialMap;
+	private List<VPoint> positions;
+	private List<Pedestrian> buffer;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(0);
+		Topography topography = BenchmarkScenario.load(scenario).getTopography();
+		if (concurrent) {
+			topography.useConcurrentSpatialMap(Pedestrian.class);
+		}
+
+		positions = BenchmarkScenario.randomPositions(topography, crowdSize, random);
+		int id = 1;
+		for (VPoint position : positions) {
+			Pedestrian pedestrian = new Pedestrian(new AttributesAgent(id++), random);
+			pedestrian.setPosition(position);
+			topography.addElement(pedestrian);
+		}
+
+		spatialMap = topography.getSpatialMap(Pedestrian.class);
+		buffer = new ArrayList<>();
+	}
+
+	@Benchmark
+	public int getObjects() {
+		int count = 0;
+		for (VPoint position : positions) {
+			count += spatialMap.getObjects(position, radius).size();
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int getObjectsIntoBuffer() {
+		int count = 0;
+		for (VPoint position : positions) {
+			buffer.clear();
+			spatialMap.getObjects(position, radius, buffer);
+			count += buffer.size();
+		}
+		return count;
+	}
+}
@@ -0,0 +1,101 @@
+package org.vadere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vadere.meshing.mesh.gen.AMesh;
+import org.vadere.meshing.mesh.triangulation.improver.eikmesh.impl.AEikMesh;
+import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.potential.solver.calculators.EikonalSolver;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.simulator.projects.Scenario;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.scenario.Obstacle;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.types.EikonalSolverType;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.geometry.shapes.VShape;
+import org.vadere.util.math.DistanceFunction;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Computation of the target floor field of a topography by the mesh based eikonal solvers, e.g.
+ * {@link org.vadere.simulator.models.potential.solver.calculators.mesh.MeshEikonalSolverFMM}.
+ * The floor field mesh is generated once by {@link AEikMesh}, one operation solves the eikonal
+ * equation for the first target of the topography on a copy of this mesh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3) @Measurement(iterations = 10) @Fork(1)
+public class MeshEikonalSolverBenchmark {
+
+	@Param({"TestOSM/scenarios/chicken_floorfield_ok.scenario"})
+	public String scenario;
+
+	@Param({"FAST_MARCHING_TRI", "FAST_ITERATIVE_METHOD_TRI", "FAST_ITERATIVE_METHOD_TRI_LOCK_FREE", "INFORMED_FAST_ITERATIVE_METHOD_TRI"})
+	public EikonalSolverType createMethod;
+
+	/**
+	 * the initial edge length of the generated floor field mesh.
+	 */
+	@Param({"1.0"})
+	public double edgeLength;
+
+	private Topography topography;
+	private AMesh mesh;
+	private int targetId;
+	private List<VShape> targetShapes;
+	private AttributesAgent attributesAgent;
+	private AttributesFloorField attributesFloorField;
+	private EikonalSolver eikonalSolver;
+
+	@Setup(Level.Trial)
+	public void setUpMesh() {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("createMethod", createMethod);
+
+		Scenario benchmarkScenario = BenchmarkScenario.load(scenario, attributes);
+		topography = benchmarkScenario.getTopography();
+
+		VRectangle bound = new VRectangle(topography.getBounds());
+		List<VShape> obstacleShapes = topography.getObstacles().stream().map(Obstacle::getShape).collect(Collectors.toList());
+		AEikMesh meshImprover = new AEikMesh(new DistanceFunction(bound, obstacleShapes), p -> edgeLength, edgeLength, bound, obstacleShapes);
+		meshImprover.generate();
+		mesh = (AMesh) meshImprover.getMesh();
+
+		targetId = topography.getTargets().get(0).getId();
+		targetShapes = topography.getTargetShapes().get(targetId);
+		attributesAgent = topography.getAttributesPedestrian();
+		attributesFloorField = Model.findAttributes(benchmarkScenario.getModelAttributes(), AttributesFloorField.class);
+	}
+
+	/**
+	 * The solvers store the potential in the mesh, therefore, each operation requires a new solver and mesh.
+	 */
+	@Setup(Level.Invocation)
+	public void setUpSolver() {
+		Domain domain = new Domain(mesh.clone(), topography);
+		eikonalSolver = new BenchmarkEikonalSolverProvider().provide(domain, targetId, targetShapes, attributesAgent, attributesFloorField);
+	}
+
+	@Benchmark
+	public EikonalSolver solve() {
+		eikonalSolver.solve();
+		return eikonalSolver;
+	}
+}
@@ -0,0 +1,99 @@
+package org.vadere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vadere.simulator.control.scenarioelements.TopographyController;
+import org.vadere.simulator.models.MainModel;
+import org.vadere.simulator.models.MainModelBuilder;
+import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.osm.PedestrianOSM;
+import org.vadere.simulator.projects.Scenario;
+import org.vadere.simulator.projects.ScenarioStore;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Target;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.types.OptimizationType;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computation of the next position of all agents of the Optimal Steps Model by
+ * {@link PedestrianOSM#updateNextPosition()}, i.e. the evaluation of the target, obstacle and
+ * agent potentials by the step circle optimizer. The floor fields are computed once during the
+ * setup, one operation computes the next position of all agents without moving them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2) @Measurement(iterations = 5, time = 2) @Fork(1)
+public class StepCircleOptimizerBenchmark {
+
+	@Param({"TestOSM/scenarios/chicken_floorfield_ok.scenario", "TestOSM/scenarios/rimea_04_flow_osm1_550_up.scenario"})
+	public String scenario;
+
+	@Param({"DISCRETE", "NELDER_MEAD", "PSO"})
+	public OptimizationType optimizationType;
+
+	@Param({"100", "500", "1000"})
+	public int crowdSize;
+
+	private List<PedestrianOSM> pedestrians;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ClassNotFoundException, InstantiationException, IllegalAccessException {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("optimizationType", optimizationType);
+
+		Scenario benchmarkScenario = BenchmarkScenario.load(scenario, attributes);
+		ScenarioStore scenarioStore = benchmarkScenario.getScenarioStore();
+		scenarioStore.getAttributesSimulation().setUseFixedSeed(true);
+
+		MainModelBuilder modelBuilder = new MainModelBuilder(scenarioStore, null, null);
+		modelBuilder.createModelAndRandom();
+		MainModel mainModel = modelBuilder.getModel();
+		Random random = modelBuilder.getRandom();
+		Topography topography = modelBuilder.getDomain().getTopography();
+
+		new TopographyController(modelBuilder.getDomain(), mainModel, random).preLoop(0.0, scenarioStore.getAttributesList());
+
+		Target target = topography.getTargets().get(0);
+		double radius = topography.getAttributesPedestrian().getRadius();
+		List<VPoint> positions = BenchmarkScenario.randomPositions(topography, crowdSize, random,
+				p -> topography.distanceToObstacle(p) > radius && !target.getShape().contains(p));
+
+		pedestrians = new ArrayList<>(crowdSize);
+		for (VPoint position : positions) {
+			PedestrianOSM pedestrian = (PedestrianOSM) mainModel.createElement(position, -1, Pedestrian.class);
+			pedestrian.getTargets().add(target.getId());
+			topography.addElement(pedestrian);
+			pedestrians.add(pedestrian);
+		}
+
+		for (Model model : mainModel.getSubmodels()) {
+			model.preLoop(0.0);
+		}
+	}
+
+	@Benchmark
+	public List<PedestrianOSM> updateNextPosition() {
+		for (PedestrianOSM pedestrian : pedestrians) {
+			pedestrian.updateNextPosition();
+		}
+		return pedestrians;
+	}
+}
@@ -83,10 +83,10 @@ public abstract class SimulationModel<T extends DefaultSimulationConfig> extends
 
             VPoint gridPointCoord = potentialField.pointToCoord(gridPoint);
 
-            double z1 = potentialField.getValue(gridPoint).potential;
-            double z2 = potentialField.getValue(new Point(gridPoint.x + incX, gridPoint.y)).potential;
-            double z3 = potentialField.getValue(new Point(gridPoint.x + incX, gridPoint.y + incY)).potential;
-            double z4 = potentialField.getValue(new Point(gridPoint.x, gridPoint.y + incY)).potential;
+            double z1 = potentialField.getPotential(gridPoint);
+            double z2 = potentialField.getPotential(new Point(gridPoint.x + incX, gridPoint.y));
+            double z3 = potentialField.getPotential(new Point(gridPoint.x + incX, gridPoint.y + incY));
+            double z4 = potentialField.getPotential(new Point(gridPoint.x, gridPoint.y + incY));
 
             double t = (pos.x - gridPointCoord.x) / potentialField.getResolution();
             double u = (pos.y - gridPointCoord.y) / potentialField.getResolution();
@@ -1,6 +1,5 @@
 package org.vadere.gui.onlinevisualization;
 
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.vadere.gui.onlinevisualization.model.OnlineVisualizationModel;
 import org.vadere.gui.onlinevisualization.view.MainPanel;
@@ -14,39 +13,16 @@ import org.vadere.state.scenario.Agent;
 import org.vadere.state.scenario.Topography;
 import org.vadere.util.geometry.shapes.VRectangle;
 
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public class OnlineVisualization implements PassiveCallback {
 
 	/**
-	 * Holds a snapshot of the observation area of a frame. This class is used
-	 * to provide simulation data for visualization to the draw thread. To avoid
-	 * threading issues, the class holds a partial copy of the original
-	 * scenario.
+	 * The display refresh rate which is used if the refresh rate of the screen is unknown.
 	 */
-	public class ObservationAreaSnapshotData {
-		public final double simTimeInSec;
-		public final Domain domain;
-		public final IPotentialField potentialFieldTarget;
-		public final Agent selectedAgent;
-		public final IPotentialField potentialField;
-		public final Function<Agent, IMesh<?, ?, ?>> discretizations;
-
-		public ObservationAreaSnapshotData(
-				final double simTimeInSec,
-				@NotNull final Domain scenario,
-				@Nullable final IPotentialField potentialFieldTarget,
-				@Nullable final IPotentialField potentialField,
-				@Nullable final Agent selectedAgent,
-				@Nullable final Function<Agent, IMesh<?, ?, ?>> discretizations) {
-			this.simTimeInSec = simTimeInSec;
-			this.domain = scenario;
-			this.potentialFieldTarget = potentialFieldTarget;
-			this.potentialField = potentialField;
-			this.selectedAgent = selectedAgent;
-			this.discretizations = discretizations;
-		}
-	}
+	private static final int DEFAULT_REFRESH_RATE = 60;
 
 	private MainPanel window;
 	private OnlineVisualisationWindow onlineVisualisationPanel;
@@ -65,9 +41,18 @@ public class OnlineVisualization implements PassiveCallback {
 
 	private boolean enableVisualization;
 
+	/**
+	 * The minimal wall clock time between two snapshots. Snapshots are not taken more
+	 * often than the screen is refreshed.
+	 */
+	private final long snapshotIntervalInNanos;
+
+	private long lastSnapshotTimeInNanos;
+
 	public OnlineVisualization(boolean enableVisualization) {
 		this.enableVisualization = enableVisualization;
 		this.model = new OnlineVisualizationModel();
+		this.snapshotIntervalInNanos = TimeUnit.SECONDS.toNanos(1) / getRefreshRate();
 
 		this.window = new MainPanel(model);
 		this.window.setVisible(enableVisualization);
@@ -96,7 +81,8 @@ public class OnlineVisualization implements PassiveCallback {
 		// OnlineVisualisation renderer is initialized in window.preLoop()
 		// push pop DrawData once at the beginning. This will completely initialize the model
 		// (i.e. set Topography to correct value. Before this call it is null....)
-		pushDrawData(simTimeInSec);
+		model.setDomain(domain);
+		pushDrawData(simTimeInSec, true);
 		model.popDrawData();
 
 		// [issue 280] activate mouse listeners to allow zoom action in OnlineVisualisation
@@ -119,37 +105,49 @@ public class OnlineVisualization implements PassiveCallback {
 
 	@Override
 	public void postUpdate(double simTimeInSec) {
-		pushDrawData(simTimeInSec);
-		model.popDrawData();
+		// the draw thread pops the snapshot when it renders the next frame
+		pushDrawData(simTimeInSec, false);
 		model.notifyObservers();
 	}
 
 	/**
-	 * Pushes (by copy) required data from current simulation into data queues
-	 * for being displayed by draw thread (thread-safe). These may be for
-	 * example the physical world representation and potential field of
-	 * perception.
+	 * Pushes (by copy) required data from current simulation into the snapshot
+	 * buffer for being displayed by draw thread (thread-safe, lock-free). These
+	 * are the pedestrians and the potential field of perception. Unless forced,
+	 * a snapshot is skipped if the last one was taken less than a screen refresh
+	 * interval ago, since it could not be displayed anyway.
 	 */
-	private void pushDrawData(double simTimeInSec) {
+	private void pushDrawData(double simTimeInSec, boolean force) {
+		long now = System.nanoTime();
+		if (!force && now - lastSnapshotTimeInNanos < snapshotIntervalInNanos) {
+			return;
+		}
+
+		/* Push new snapshot of the observation area to the draw thread. */
+		IPotentialField pft = (model.config.isShowTargetPotentialField() && potentialFieldTarget != null) ? potentialFieldTarget.getSolution() : null;
+		Function<Agent, IMesh<?, ?, ?>> discretizations = (model.config.isShowTargetPotentielFieldMesh() && potentialFieldTarget != null) ? potentialFieldTarget.getDiscretization() : null;
+		IPotentialField pedPotentialField = null;
+		Agent selectedAgent = null;
 
-		synchronized (model.getDataSynchronizer()) {
-			/* Push new snapshot of the observation area to the draw thread. */
-			IPotentialField pft = (model.config.isShowTargetPotentialField() && potentialFieldTarget != null) ? potentialFieldTarget.getSolution() : null;
-			Function<Agent, IMesh<?, ?, ?>> discretizations = (model.config.isShowTargetPotentielFieldMesh() && potentialFieldTarget != null) ? potentialFieldTarget.getDiscretization() : null;
-			IPotentialField pedPotentialField = null;
-			Agent selectedAgent = null;
+		if(model.getSelectedElement() instanceof Agent){
+			selectedAgent = (Agent)model.getSelectedElement();
+		}
 
-			if(model.getSelectedElement() instanceof Agent){
-				selectedAgent = (Agent)model.getSelectedElement();
-			}
+		if(model.config.isShowPotentialField() && selectedAgent != null && potentialField != null) {
+			pedPotentialField = IPotentialField.copyAgentField(potentialField, selectedAgent, new VRectangle(model.getTopographyBound()), 0.1);
+		}
 
-			if(model.config.isShowPotentialField() && selectedAgent != null && potentialField != null) {
-				pedPotentialField = IPotentialField.copyAgentField(potentialField, selectedAgent, new VRectangle(model.getTopographyBound()), 0.1);
-			}
+		if (model.pushObservationAreaSnapshot(simTimeInSec, domain.getTopography(), pft, pedPotentialField, selectedAgent, discretizations)) {
+			lastSnapshotTimeInNanos = now;
+		}
+	}
 
-			ObservationAreaSnapshotData data = new ObservationAreaSnapshotData(simTimeInSec, domain.clone(), pft, pedPotentialField, selectedAgent, discretizations);
-			model.pushObservationAreaSnapshot(data);
+	private static int getRefreshRate() {
+		int refreshRate = DisplayMode.REFRESH_RATE_UNKNOWN;
+		if (!GraphicsEnvironment.isHeadless()) {
+			refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode().getRefreshRate();
 		}
+		return refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE;
 	}
 
 
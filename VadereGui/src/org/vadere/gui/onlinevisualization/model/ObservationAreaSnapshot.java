@@ -0,0 +1,287 @@
+package org.vadere.gui.onlinevisualization.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.vadere.meshing.mesh.inter.IMesh;
+import org.vadere.simulator.models.potential.fields.IPotentialField;
+import org.vadere.state.psychology.cognition.SelfCategory;
+import org.vadere.state.scenario.Agent;
+import org.vadere.state.scenario.Car;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.Vector2D;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.function.Function;
+
+/**
+ * Holds a snapshot of the observation area of a frame. This class is used to provide simulation data for
+ * visualization to the draw thread. Instead of a copy of the whole scenario, a snapshot contains only the
+ * state of the pedestrians which changes during the simulation and which is required for rendering, i.e.
+ * their positions, next targets, self categories and groups (which define their colors and shapes). This
+ * state is stored in arrays which are reused by subsequent snapshots, see {@link ObservationAreaSnapshotBuffer}.
+ *
+ * Each pedestrian is copied only once, when it appears for the first time. The copy is owned by the draw
+ * thread which updates it to the state of the snapshot via {@link #getPedestrian(int)}. Attributes which
+ * do not change, e.g. the radius of a pedestrian, are taken from the copy. Of the groups only the first
+ * group id and size are stored since only those are rendered. Cars are handled like pedestrians, only their
+ * positions and velocities (which define their orientation) change.
+ *
+ * The scenery, i.e. the static scenario elements, is copied only if it changed, see
+ * {@link Topography#getModCount()}. Each snapshot refers to the latest copy and its version.
+ */
+public class ObservationAreaSnapshot {
+
+	private static final int INITIAL_CAPACITY = 64;
+	/** marks a missing group id or group size */
+	private static final int NO_GROUP = -1;
+
+	private double simTimeInSec;
+	private IPotentialField potentialFieldTarget;
+	private IPotentialField potentialField;
+	private Agent selectedAgent;
+	private Function<Agent, IMesh<?, ?, ?>> discretizations;
+
+	private int size;
+	private Pedestrian[] pedestrians;
+	private double[] x;
+	private double[] y;
+	private int[] targetIds;
+	private SelfCategory[] selfCategories;
+	private int[] groupIds;
+	private int[] groupSizes;
+
+	private int carCount;
+	private Car[] cars;
+	private double[] carX;
+	private double[] carY;
+	private double[] carVelocityX;
+	private double[] carVelocityY;
+
+	private Topography scenery;
+	private int sceneryVersion;
+
+	ObservationAreaSnapshot() {
+		this.pedestrians = new Pedestrian[INITIAL_CAPACITY];
+		this.x = new double[INITIAL_CAPACITY];
+		this.y = new double[INITIAL_CAPACITY];
+		this.targetIds = new int[INITIAL_CAPACITY];
+		this.selfCategories = new SelfCategory[INITIAL_CAPACITY];
+		this.groupIds = new int[INITIAL_CAPACITY];
+		this.groupSizes = new int[INITIAL_CAPACITY];
+		this.cars = new Car[0];
+		this.carX = new double[0];
+		this.carY = new double[0];
+		this.carVelocityX = new double[0];
+		this.carVelocityY = new double[0];
+	}
+
+	/**
+	 * Clears the snapshot such that it can be refilled by the simulation thread.
+	 */
+	void clear(
+			final double simTimeInSec,
+			@Nullable final IPotentialField potentialFieldTarget,
+			@Nullable final IPotentialField potentialField,
+			@Nullable final Agent selectedAgent,
+			@Nullable final Function<Agent, IMesh<?, ?, ?>> discretizations) {
+		this.simTimeInSec = simTimeInSec;
+		this.potentialFieldTarget = potentialFieldTarget;
+		this.potentialField = potentialField;
+		this.selectedAgent = selectedAgent;
+		this.discretizations = discretizations;
+		Arrays.fill(pedestrians, 0, size, null);
+		this.size = 0;
+		Arrays.fill(cars, 0, carCount, null);
+		this.carCount = 0;
+	}
+
+	/**
+	 * Sets the latest copy of the scenery. The copy must not be modified by the simulation thread.
+	 *
+	 * @param scenery        the copy of the scenery, it does not contain any dynamic elements
+	 * @param sceneryVersion the version of the copy which increases with each new copy
+	 */
+	void setScenery(@NotNull final Topography scenery, final int sceneryVersion) {
+		this.scenery = scenery;
+		this.sceneryVersion = sceneryVersion;
+	}
+
+	/**
+	 * Adds the current state of <tt>car</tt> to the snapshot.
+	 *
+	 * @param copy the copy of the car owned by the draw thread
+	 * @param car  the car of the running simulation
+	 */
+	void add(@NotNull final Car copy, @NotNull final Car car) {
+		if (carCount == cars.length) {
+			int capacity = Math.max(INITIAL_CAPACITY, 2 * carCount);
+			cars = Arrays.copyOf(cars, capacity);
+			carX = Arrays.copyOf(carX, capacity);
+			carY = Arrays.copyOf(carY, capacity);
+			carVelocityX = Arrays.copyOf(carVelocityX, capacity);
+			carVelocityY = Arrays.copyOf(carVelocityY, capacity);
+		}
+
+		cars[carCount] = copy;
+		carX[carCount] = car.getPosition().getX();
+		carY[carCount] = car.getPosition().getY();
+		carVelocityX[carCount] = car.getVelocity().getX();
+		carVelocityY[carCount] = car.getVelocity().getY();
+		carCount++;
+	}
+
+	/**
+	 * Adds the current state of <tt>pedestrian</tt> to the snapshot.
+	 *
+	 * @param copy       the copy of the pedestrian owned by the draw thread
+	 * @param pedestrian the pedestrian of the running simulation
+	 */
+	void add(@NotNull final Pedestrian copy, @NotNull final Pedestrian pedestrian) {
+		if (size == pedestrians.length) {
+			int capacity = 2 * size;
+			pedestrians = Arrays.copyOf(pedestrians, capacity);
+			x = Arrays.copyOf(x, capacity);
+			y = Arrays.copyOf(y, capacity);
+			targetIds = Arrays.copyOf(targetIds, capacity);
+			selfCategories = Arrays.copyOf(selfCategories, capacity);
+			groupIds = Arrays.copyOf(groupIds, capacity);
+			groupSizes = Arrays.copyOf(groupSizes, capacity);
+		}
+
+		VPoint position = pedestrian.getPosition();
+		pedestrians[size] = copy;
+		x[size] = position.getX();
+		y[size] = position.getY();
+		targetIds[size] = pedestrian.hasNextTarget() ? pedestrian.getNextTargetId() : -1;
+		selfCategories[size] = pedestrian.getSelfCategory();
+		groupIds[size] = first(pedestrian.getGroupIds());
+		groupSizes[size] = first(pedestrian.getGroupSizes());
+		size++;
+	}
+
+	public double getSimTimeInSec() {
+		return simTimeInSec;
+	}
+
+	@Nullable
+	public IPotentialField getPotentialFieldTarget() {
+		return potentialFieldTarget;
+	}
+
+	@Nullable
+	public IPotentialField getPotentialField() {
+		return potentialField;
+	}
+
+	@Nullable
+	public Agent getSelectedAgent() {
+		return selectedAgent;
+	}
+
+	@Nullable
+	public Function<Agent, IMesh<?, ?, ?>> getDiscretizations() {
+		return discretizations;
+	}
+
+	/**
+	 * Returns the number of pedestrians of the snapshot.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the latest copy of the scenery. Since the draw thread adds its copies of the dynamic elements,
+	 * the copy is owned by the draw thread after it took it, i.e. if the version changed.
+	 */
+	public Topography getScenery() {
+		return scenery;
+	}
+
+	public int getSceneryVersion() {
+		return sceneryVersion;
+	}
+
+	/**
+	 * Returns the number of cars of the snapshot.
+	 */
+	public int carCount() {
+		return carCount;
+	}
+
+	public int getCarId(final int i) {
+		return cars[i].getId();
+	}
+
+	/**
+	 * Returns the copy of the <tt>i</tt>-th car updated to the state of this snapshot. Since the copy is
+	 * modified, this method must only be called by the draw thread.
+	 *
+	 * @param i the index of the car, <tt>0 &lt;= i &lt; carCount()</tt>
+	 * @return the copy of the car
+	 */
+	public Car getCar(final int i) {
+		Car car = cars[i];
+		VPoint position = car.getPosition();
+		if (position.getX() != carX[i] || position.getY() != carY[i]) {
+			car.setPosition(new VPoint(carX[i], carY[i]));
+		}
+		car.setVelocity(new Vector2D(carVelocityX[i], carVelocityY[i]));
+		return car;
+	}
+
+	public int getPedestrianId(final int i) {
+		return pedestrians[i].getId();
+	}
+
+	/**
+	 * Returns the copy of the <tt>i</tt>-th pedestrian updated to the state of this snapshot. Since the copy is
+	 * modified, this method must only be called by the draw thread.
+	 *
+	 * @param i the index of the pedestrian, <tt>0 &lt;= i &lt; size()</tt>
+	 * @return the copy of the pedestrian
+	 */
+	public Pedestrian getPedestrian(final int i) {
+		Pedestrian pedestrian = pedestrians[i];
+		VPoint position = pedestrian.getPosition();
+		if (position.getX() != x[i] || position.getY() != y[i]) {
+			pedestrian.setPosition(new VPoint(x[i], y[i]));
+		}
+
+		int targetId = pedestrian.hasNextTarget() ? pedestrian.getNextTargetId() : -1;
+		if (targetId != targetIds[i]) {
+			if (targetIds[i] == -1) {
+				pedestrian.setTargets(new LinkedList<>());
+				pedestrian.setNextTargetListIndex(0);
+			} else {
+				pedestrian.setSingleTarget(targetIds[i], pedestrian.isCurrentTargetAnAgent());
+			}
+		}
+
+		if (pedestrian.getSelfCategory() != selfCategories[i]) {
+			pedestrian.setSelfCategory(selfCategories[i]);
+		}
+
+		// groups change during the simulation, e.g. by the SIRGroupModel
+		if (first(pedestrian.getGroupIds()) != groupIds[i] || first(pedestrian.getGroupSizes()) != groupSizes[i]) {
+			pedestrian.setGroupIds(singletonOrEmpty(groupIds[i]));
+			pedestrian.setGroupSizes(singletonOrEmpty(groupSizes[i]));
+		}
+		return pedestrian;
+	}
+
+	private static int first(@Nullable final LinkedList<Integer> values) {
+		return values == null || values.isEmpty() ? NO_GROUP : values.getFirst();
+	}
+
+	private static LinkedList<Integer> singletonOrEmpty(final int value) {
+		LinkedList<Integer> values = new LinkedList<>();
+		if (value != NO_GROUP) {
+			values.add(value);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,152 @@
+package org.vadere.gui.onlinevisualization.model;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.vadere.meshing.mesh.inter.IMesh;
+import org.vadere.simulator.models.potential.fields.IPotentialField;
+import org.vadere.state.scenario.Agent;
+import org.vadere.state.scenario.Car;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A lock-free double buffer of {@link ObservationAreaSnapshot}s for the data exchange between the simulation
+ * thread (writer) and the draw thread (reader). Each of the two snapshots is either held by the writer, held
+ * by the reader, published (<tt>ready</tt>) or released by the reader (<tt>free</tt>). The writer fills the
+ * free snapshot or reclaims the published snapshot which the reader did not take yet, i.e. the writer never
+ * waits for the reader and the reader always gets the latest snapshot. Snapshots are reused, therefore a
+ * snapshot returned by {@link #read()} is only valid until the next call of {@link #read()}.
+ */
+public class ObservationAreaSnapshotBuffer {
+
+	private final AtomicReference<ObservationAreaSnapshot> free;
+	private final AtomicReference<ObservationAreaSnapshot> ready;
+
+	/**
+	 * The snapshot held by the reader. Only accessed by the draw thread.
+	 */
+	private ObservationAreaSnapshot front;
+
+	/**
+	 * The copies of the pedestrians of the last written snapshot by their id. Only accessed by the simulation
+	 * thread.
+	 */
+	private Int2ObjectOpenHashMap<Pedestrian> copies;
+	private Int2ObjectOpenHashMap<Pedestrian> lastCopies;
+	private Int2ObjectOpenHashMap<Car> carCopies;
+	private Int2ObjectOpenHashMap<Car> lastCarCopies;
+
+	/**
+	 * The latest copy of the scenery, the modification count of the topography it was copied at and its
+	 * version. Only accessed by the simulation thread.
+	 */
+	private Topography scenery;
+	private int sceneryModCount;
+	private int sceneryVersion;
+
+	public ObservationAreaSnapshotBuffer() {
+		this.free = new AtomicReference<>(new ObservationAreaSnapshot());
+		this.ready = new AtomicReference<>();
+		this.front = new ObservationAreaSnapshot();
+		this.copies = new Int2ObjectOpenHashMap<>();
+		this.lastCopies = new Int2ObjectOpenHashMap<>();
+		this.carCopies = new Int2ObjectOpenHashMap<>();
+		this.lastCarCopies = new Int2ObjectOpenHashMap<>();
+		this.sceneryVersion = 0;
+	}
+
+	/**
+	 * Copies the scenery of <tt>topography</tt>, i.e. everything except the dynamic elements and listeners.
+	 */
+	static Topography copyScenery(@NotNull final Topography topography) {
+		Topography scenery = topography.clone();
+		scenery.clearListeners(Pedestrian.class);
+		scenery.clearListeners(Car.class);
+		scenery.getPedestrianDynamicElements().clear();
+		scenery.getCarDynamicElements().clear();
+		return scenery;
+	}
+
+	/**
+	 * Captures the pedestrians and cars of <tt>topography</tt> and publishes the snapshot for the draw thread.
+	 * The scenery is copied again if it changed since the last copy. Must only be called by the simulation
+	 * thread.
+	 *
+	 * @return true if the snapshot was published, false if there was no snapshot to write into since the
+	 *         reader is just swapping its snapshot
+	 */
+	public boolean write(
+			final double simTimeInSec,
+			@NotNull final Topography topography,
+			@Nullable final IPotentialField potentialFieldTarget,
+			@Nullable final IPotentialField potentialField,
+			@Nullable final Agent selectedAgent,
+			@Nullable final Function<Agent, IMesh<?, ?, ?>> discretizations) {
+		ObservationAreaSnapshot back = free.getAndSet(null);
+		if (back == null) {
+			back = ready.getAndSet(null);
+		}
+		if (back == null) {
+			return false;
+		}
+
+		back.clear(simTimeInSec, potentialFieldTarget, potentialField, selectedAgent, discretizations);
+		Int2ObjectOpenHashMap<Pedestrian> tmp = lastCopies;
+		lastCopies = copies;
+		copies = tmp;
+		for (Pedestrian pedestrian : topography.getElements(Pedestrian.class)) {
+			Pedestrian copy = lastCopies.get(pedestrian.getId());
+			if (copy == null) {
+				copy = pedestrian.clone();
+			}
+			copies.put(pedestrian.getId(), copy);
+			back.add(copy, pedestrian);
+		}
+		lastCopies.clear();
+
+		Int2ObjectOpenHashMap<Car> carTmp = lastCarCopies;
+		lastCarCopies = carCopies;
+		carCopies = carTmp;
+		for (Car car : topography.getElements(Car.class)) {
+			Car copy = lastCarCopies.get(car.getId());
+			if (copy == null) {
+				// cars do not support clone, the attributes define everything except position and velocity
+				copy = new Car(car.getAttributes(), new Random(car.getId()));
+			}
+			carCopies.put(car.getId(), copy);
+			back.add(copy, car);
+		}
+		lastCarCopies.clear();
+
+		if (scenery == null || sceneryModCount != topography.getModCount()) {
+			scenery = copyScenery(topography);
+			sceneryModCount = topography.getModCount();
+			sceneryVersion++;
+		}
+		back.setScenery(scenery, sceneryVersion);
+
+		ready.set(back);
+		return true;
+	}
+
+	/**
+	 * Returns the latest published snapshot or <tt>null</tt> if there is no new snapshot since the last call.
+	 * Must only be called by the draw thread.
+	 */
+	@Nullable
+	public ObservationAreaSnapshot read() {
+		ObservationAreaSnapshot next = ready.getAndSet(null);
+		if (next == null) {
+			return null;
+		}
+		free.set(front);
+		front = next;
+		return next;
+	}
+}
@@ -6,14 +6,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.vadere.gui.components.model.AgentColoring;
 import org.vadere.gui.components.model.DefaultSimulationConfig;
 import org.vadere.gui.components.model.SimulationModel;
-import org.vadere.gui.onlinevisualization.OnlineVisualization;
 import org.vadere.meshing.mesh.gen.AMesh;
 import org.vadere.meshing.mesh.gen.PMesh;
 import org.vadere.meshing.mesh.inter.IMesh;
@@ -21,6 +26,7 @@ import org.vadere.simulator.models.potential.fields.IPotentialField;
 import org.vadere.simulator.projects.Domain;
 import org.vadere.state.scenario.*;
 import org.vadere.util.geometry.shapes.IPoint;
+import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.voronoi.VoronoiDiagram;
 
 public class OnlineVisualizationModel extends SimulationModel<DefaultSimulationConfig> {
@@ -29,7 +35,7 @@ public class OnlineVisualizationModel extends SimulationModel<DefaultSimulationC
 	 * Lists for thread safe data exchange between main and draw thread.
 	 */
 	private LinkedList<VoronoiDiagram> voronoiSnapshots;
-	private LinkedList<OnlineVisualization.ObservationAreaSnapshotData> observationAreaSnapshots;
+	private ObservationAreaSnapshotBuffer observationAreaSnapshots;
 
 	/**
 	 * Latest snapshot of the potential field to be displayed. This is a certain
@@ -58,21 +64,57 @@ public class OnlineVisualizationModel extends SimulationModel<DefaultSimulationC
 	 */
 	private Object drawDataSynchronizer;
 
+	/**
+	 * The ids of the pedestrians or cars of the latest snapshot. Used by popDrawData() to remove
+	 * pedestrians and cars which left the simulation.
+	 */
+	private final IntOpenHashSet aliveIds = new IntOpenHashSet();
+
 
 	/**
-	 * The observation area to display. Updated by popDrawData() with the latest
-	 * observation area snapshot.
+	 * The observation area to display. The scenery is copied by setDomain() and replaced if the
+	 * scenery of the simulation changed, the pedestrians and cars are updated by popDrawData()
+	 * with the latest observation area snapshot.
 	 */
 	private Domain domain;
 
+	/**
+	 * The version of the displayed scenery, see {@link ObservationAreaSnapshot#getSceneryVersion()}.
+	 */
+	private int sceneryVersion;
+
 	public OnlineVisualizationModel() {
 		super(new DefaultSimulationConfig());
 		this.drawDataSynchronizer = new Object();
 		this.voronoiSnapshots = new LinkedList<>();
-		this.observationAreaSnapshots = new LinkedList<>();
+		this.observationAreaSnapshots = new ObservationAreaSnapshotBuffer();
 		this.config.setInterpolatePositions(false);
 	}
 
+	/**
+	 * Copies the scenery, i.e. everything except the dynamic elements, of the simulated domain.
+	 * The copy is used until the scenery of the simulation changes, the pedestrians and cars of
+	 * a frame are taken from the observation area snapshots.
+	 */
+	public void setDomain(@NotNull final Domain simulatedDomain) {
+		synchronized (drawDataSynchronizer) {
+			AMesh floorFieldMesh = simulatedDomain.getFloorFieldMesh();
+			AMesh backgroundMesh = simulatedDomain.getBackgroundMesh();
+			domain = new Domain(floorFieldMesh == null ? null : floorFieldMesh.clone(),
+					backgroundMesh == null ? null : backgroundMesh.clone(),
+					ObservationAreaSnapshotBuffer.copyScenery(simulatedDomain.getTopography()));
+			sceneryVersion = 0;
+			Topography topography = domain.getTopography();
+
+			// recalculate GUI (fireChangeViewportEvent will synchronize on model which is also
+			// needed by some awt event. Therefore do this in EDT (Event Dispatching Thread)
+			EventQueue.invokeLater(() -> {
+				fireChangeViewportEvent(new Rectangle2D.Double(topography.getBounds().x, topography.getBounds().y,
+						topography.getBounds().width, topography.getBounds().height));
+			});
+		}
+	}
+
 	@Override
 	public Collection<Agent> getAgents() {
 		if (domain == null || domain.getTopography() == null) {
@@ -115,44 +157,36 @@ public class OnlineVisualizationModel extends SimulationModel<DefaultSimulationC
 	}
 
 	/**
-	 * Retrieve latest simulation data from data exchange structures. As these
-	 * structures may be accessed by the main thread at the same time, access is
-	 * controlled by drawDataSynchronizer.
+	 * Retrieve latest simulation data from data exchange structures. The latest observation
+	 * area snapshot is taken from the lock-free snapshot buffer, therefore this method should
+	 * be called by the draw thread. The access to the displayed data is controlled by
+	 * drawDataSynchronizer.
 	 */
 	public boolean popDrawData() {
 		synchronized (drawDataSynchronizer) {
-			if (observationAreaSnapshots.isEmpty()) {
+			ObservationAreaSnapshot observationAreaSnapshot = observationAreaSnapshots.read();
+			if (observationAreaSnapshot == null || domain == null) {
 				return false;
 			}
 
-			OnlineVisualization.ObservationAreaSnapshotData observationAreaSnapshot =
-					observationAreaSnapshots.getFirst();
-			simTimeInSec = observationAreaSnapshot.simTimeInSec;
+			simTimeInSec = observationAreaSnapshot.getSimTimeInSec();
 
 			// potentialFieldTarget might be null!
-            potentialFieldTarget = observationAreaSnapshot.potentialFieldTarget;
-			potentialField = observationAreaSnapshot.potentialField;
-			agent = observationAreaSnapshot.selectedAgent;
-
-			/*
-			 * if(topography == null ||
-			 * !topography.getBounds().equals(observationAreaSnapshot.scenario.getBounds())) {
-			 * setViewportBound(observationAreaSnapshot.scenario.getBounds());
-			 * }
-			 */
-
-			if (domain == null) {
-				domain = observationAreaSnapshot.domain;
-				// recalculate GUI (fireChangeViewportEvent will synchronize on model which is also
-				// needed by some awt event. Therefore do this in EDT (Event Dispatching Thread)
-				EventQueue.invokeLater(() -> {
-					fireChangeViewportEvent(new Rectangle2D.Double(getTopography().getBounds().x, getTopography().getBounds().y,
-							getTopography().getBounds().width, getTopography().getBounds().height));
-				});
-			} else {
-				domain = observationAreaSnapshot.domain;
+			potentialFieldTarget = observationAreaSnapshot.getPotentialFieldTarget();
+			potentialField = observationAreaSnapshot.getPotentialField();
+			agent = observationAreaSnapshot.getSelectedAgent();
+
+			if (observationAreaSnapshot.getSceneryVersion() != sceneryVersion) {
+				// the scenery changed, e.g. targets were added via TraCI. The new copy does not contain any dynamic elements.
+				domain = new Domain(domain.getFloorFieldMesh(), domain.getBackgroundMesh(), observationAreaSnapshot.getScenery());
+				sceneryVersion = observationAreaSnapshot.getSceneryVersion();
 			}
 
+			updateElements(domain.getTopography().getPedestrianDynamicElements(), observationAreaSnapshot.size(),
+					observationAreaSnapshot::getPedestrianId, observationAreaSnapshot::getPedestrian);
+			updateElements(domain.getTopography().getCarDynamicElements(), observationAreaSnapshot.carCount(),
+					observationAreaSnapshot::getCarId, observationAreaSnapshot::getCar);
+
 			if (getSelectedElement() instanceof Car) {
 				int carId = getSelectedElement().getId();
 				Car car = domain.getTopography().getElement(Car.class, carId);
@@ -174,22 +208,79 @@ public class OnlineVisualizationModel extends SimulationModel<DefaultSimulationC
 		}
 	}
 
-	public void pushObservationAreaSnapshot(final OnlineVisualization.ObservationAreaSnapshotData observationAreaSnapshotData) {
-        if (observationAreaSnapshots.size() > 0) {
-            observationAreaSnapshots.pop();
-        }
-        observationAreaSnapshots.push(observationAreaSnapshotData);
-        setChanged();
+	/**
+	 * Brings the pedestrians or cars of the displayed topography to the state of the snapshot, i.e. adds,
+	 * moves and removes the copies of the elements.
+	 *
+	 * @param elements the displayed elements
+	 * @param count    the number of elements of the snapshot
+	 * @param ids      the ids of the elements of the snapshot by index
+	 * @param copies   the copies of the elements of the snapshot updated to the state of the snapshot by index
+	 */
+	private <T extends Agent> void updateElements(
+			@NotNull final DynamicElementContainer<T> elements,
+			final int count,
+			@NotNull final IntUnaryOperator ids,
+			@NotNull final IntFunction<T> copies) {
+		aliveIds.clear();
+		for (int i = 0; i < count; i++) {
+			int id = ids.applyAsInt(i);
+			T displayed = elements.getElement(id);
+			VPoint oldPosition = displayed == null ? null : displayed.getPosition();
+			T element = copies.apply(i);
+
+			if (displayed == null) {
+				elements.addElement(element);
+			} else if (displayed != element) {
+				// the id was reused by a new element
+				elements.removeElement(displayed);
+				elements.addElement(element);
+			} else if (!oldPosition.equals(element.getPosition())) {
+				elements.moveElement(element, oldPosition);
+			}
+			aliveIds.add(id);
+		}
+
+		if (elements.getElements().size() > aliveIds.size()) {
+			List<T> removed = elements.getElements().stream()
+					.filter(element -> !aliveIds.contains(element.getId()))
+					.collect(Collectors.toList());
+			removed.forEach(elements::removeElement);
+		}
 	}
 
-	public void reset() {
-		voronoiSnapshots.clear();
-		observationAreaSnapshots.clear();
-		selectedElement = null;
+	/**
+	 * Publishes a snapshot of the pedestrians of the simulated topography for the draw thread.
+	 * This method is called by the simulation thread and does not block.
+	 *
+	 * @return true if the snapshot was published
+	 */
+	public boolean pushObservationAreaSnapshot(
+			final double simTimeInSec,
+			@NotNull final Topography topography,
+			@Nullable final IPotentialField potentialFieldTarget,
+			@Nullable final IPotentialField potentialField,
+			@Nullable final Agent selectedAgent,
+			@Nullable final Function<Agent, IMesh<?, ?, ?>> discretizations) {
+		if (observationAreaSnapshots.write(simTimeInSec, topography, potentialFieldTarget, potentialField, selectedAgent, discretizations)) {
+			setChanged();
+			return true;
+		}
+		return false;
+	}
 
-		voronoiDiagram = null;
-		domain = null;
-		simTimeInSec = 0.0;
+	public void reset() {
+		synchronized (drawDataSynchronizer) {
+			voronoiSnapshots.clear();
+			observationAreaSnapshots = new ObservationAreaSnapshotBuffer();
+			aliveIds.clear();
+			sceneryVersion = 0;
+			selectedElement = null;
+
+			voronoiDiagram = null;
+			domain = null;
+			simTimeInSec = 0.0;
+		}
 	}
 
 	/**
@@ -0,0 +1,264 @@
+package org.vadere.gui.postvisualization.model;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+
+/**
+ * A temporal index over the footsteps (rows) of a trajectory table which is build once after loading the
+ * table. It replaces full table scans by time slice queries which are answered in O(log n + k) (up to a
+ * logarithmic factor for the reported rows), where n is the number of footsteps and k the size of the result.
+ *
+ * <p>All footsteps are sorted by their start time and a max-tree over their end times is build on top of this
+ * order. A time slice query is a prefix of this order (<tt>fs.startTime</tt> bounded from above) of which only those
+ * subtrees are visited which contain at least one footstep ending late enough. In addition, the footsteps of each
+ * agent are sorted by their start time such that queries for a single agent are answered by binary search.</p>
+ *
+ * <p>All queries return row numbers of the indexed table.</p>
+ */
+class FootStepIntervalIndex {
+
+	private final double[] startTimes;
+	private final double[] endTimes;
+	private final int[] pedIds;
+
+	// all rows sorted by their start time
+	private final int[] rowsByStartTime;
+	private final double[] sortedStartTimes;
+	// implicit max-tree over the end times of rowsByStartTime, leaves start at leafOffset
+	private final double[] maxEndTimes;
+	private final int leafOffset;
+
+	// all rows sorted by (pedId, startTime), the rows of agent sortedPedIds[i] are [pedOffsets[i], pedOffsets[i+1])
+	private final int[] rowsByAgent;
+	private final double[] prefixMaxEndTimes;
+	private final int[] prefixMaxRows;
+	private final int[] sortedPedIds;
+	private final int[] pedOffsets;
+	private final Int2IntOpenHashMap pedIdToIndex;
+
+	FootStepIntervalIndex(@NotNull final IntColumn pedIdColumn, @NotNull final DoubleColumn startTimeColumn, @NotNull final DoubleColumn endTimeColumn) {
+		int n = pedIdColumn.size();
+		this.pedIds = new int[n];
+		this.startTimes = new double[n];
+		this.endTimes = new double[n];
+		for(int row = 0; row < n; row++) {
+			pedIds[row] = pedIdColumn.getInt(row);
+			startTimes[row] = startTimeColumn.getDouble(row);
+			endTimes[row] = endTimeColumn.getDouble(row);
+		}
+
+		// 1. time slice index
+		this.rowsByStartTime = identity(n);
+		IntArrays.mergeSort(rowsByStartTime, (r1, r2) -> Double.compare(startTimes[r1], startTimes[r2]));
+		this.sortedStartTimes = new double[n];
+		for(int i = 0; i < n; i++) {
+			sortedStartTimes[i] = startTimes[rowsByStartTime[i]];
+		}
+
+		int leaves = 1;
+		while (leaves < n) {
+			leaves <<= 1;
+		}
+		this.leafOffset = leaves;
+		this.maxEndTimes = new double[2 * leaves];
+		Arrays.fill(maxEndTimes, Double.NEGATIVE_INFINITY);
+		for(int i = 0; i < n; i++) {
+			maxEndTimes[leafOffset + i] = endTimes[rowsByStartTime[i]];
+		}
+		for(int node = leafOffset - 1; node > 0; node--) {
+			maxEndTimes[node] = Math.max(maxEndTimes[2 * node], maxEndTimes[2 * node + 1]);
+		}
+
+		// 2. agent index
+		this.rowsByAgent = identity(n);
+		IntArrays.mergeSort(rowsByAgent, (r1, r2) -> pedIds[r1] != pedIds[r2] ?
+				Integer.compare(pedIds[r1], pedIds[r2]) : Double.compare(startTimes[r1], startTimes[r2]));
+
+		IntArrayList pedIdList = new IntArrayList();
+		IntArrayList offsetList = new IntArrayList();
+		this.prefixMaxEndTimes = new double[n];
+		this.prefixMaxRows = new int[n];
+		for(int i = 0; i < n; i++) {
+			int row = rowsByAgent[i];
+			if(i == 0 || pedIds[row] != pedIds[rowsByAgent[i - 1]]) {
+				pedIdList.add(pedIds[row]);
+				offsetList.add(i);
+				prefixMaxEndTimes[i] = endTimes[row];
+				prefixMaxRows[i] = row;
+			} else {
+				prefixMaxEndTimes[i] = Math.max(prefixMaxEndTimes[i - 1], endTimes[row]);
+				prefixMaxRows[i] = Math.max(prefixMaxRows[i - 1], row);
+			}
+		}
+		offsetList.add(n);
+		this.sortedPedIds = pedIdList.toIntArray();
+		this.pedOffsets = offsetList.toIntArray();
+		this.pedIdToIndex = new Int2IntOpenHashMap(sortedPedIds.length);
+		this.pedIdToIndex.defaultReturnValue(-1);
+		for(int i = 0; i < sortedPedIds.length; i++) {
+			pedIdToIndex.put(sortedPedIds[i], i);
+		}
+	}
+
+	/**
+	 * Returns all rows <tt>fs</tt> for which <tt>fs.startTime &lt;= simTimeInSec &lt;= fs.endTime</tt> sorted by
+	 * the agent id (and by row number for the same agent).
+	 */
+	int[] getRows(final double simTimeInSec) {
+		IntArrayList rows = new IntArrayList();
+		collect(1, 0, leafOffset, upperBound(simTimeInSec), simTimeInSec, rows);
+		int[] result = rows.toIntArray();
+		IntArrays.quickSort(result, (r1, r2) -> pedIds[r1] != pedIds[r2] ? Integer.compare(pedIds[r1], pedIds[r2]) : Integer.compare(r1, r2));
+		return result;
+	}
+
+	/**
+	 * Returns all rows <tt>fs</tt> for which <tt>fs.startTime &lt; endTime</tt> and <tt>fs.endTime &gt;= startTime</tt>
+	 * in the order of the table.
+	 */
+	int[] getRows(final double startTime, final double endTime) {
+		IntArrayList rows = new IntArrayList();
+		collect(1, 0, leafOffset, lowerBound(endTime), startTime, rows);
+		int[] result = rows.toIntArray();
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Returns all rows of {@link #getRows(double, double)} of agents contained in <tt>pedIds</tt>.
+	 */
+	int[] getRows(final double startTime, final double endTime, @NotNull final IntSet pedIds) {
+		return Arrays.stream(getRows(startTime, endTime)).filter(row -> pedIds.contains(this.pedIds[row])).toArray();
+	}
+
+	/**
+	 * Returns all rows <tt>fs</tt> of the agent with <tt>pedId</tt> for which
+	 * <tt>fs.startTime &lt;= simTimeInSec &lt;= fs.endTime</tt> in the order of the table.
+	 */
+	int[] getRows(final double simTimeInSec, final int pedId) {
+		int index = pedIdToIndex.get(pedId);
+		if(index < 0) {
+			return new int[0];
+		}
+
+		IntArrayList rows = new IntArrayList();
+		int from = pedOffsets[index];
+		for(int i = lastStartedBefore(index, simTimeInSec); i >= from && prefixMaxEndTimes[i] >= simTimeInSec; i--) {
+			if(endTimes[rowsByAgent[i]] >= simTimeInSec) {
+				rows.add(rowsByAgent[i]);
+			}
+		}
+		int[] result = rows.toIntArray();
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Returns for each agent, which is not contained in <tt>excludedPedIds</tt>, the last row (with respect to the
+	 * table order) of all footsteps <tt>fs</tt> with <tt>fs.startTime &lt;= simTimeInSec</tt>. The rows are sorted by
+	 * the agent id.
+	 */
+	int[] getLastRows(final double simTimeInSec, @NotNull final IntSet excludedPedIds) {
+		IntArrayList rows = new IntArrayList();
+		for(int index = 0; index < sortedPedIds.length; index++) {
+			if(!excludedPedIds.contains(sortedPedIds[index])) {
+				int i = lastStartedBefore(index, simTimeInSec);
+				if(i >= pedOffsets[index]) {
+					rows.add(prefixMaxRows[i]);
+				}
+			}
+		}
+		return rows.toIntArray();
+	}
+
+	int getPedId(final int row) {
+		return pedIds[row];
+	}
+
+	/**
+	 * Reports all rows at leaf positions in <tt>[0, prefixLength)</tt> of the subtree <tt>node</tt>
+	 * (covering the positions <tt>[from, to)</tt>) which end at or after <tt>minEndTime</tt>.
+	 */
+	private void collect(final int node, final int from, final int to, final int prefixLength, final double minEndTime, @NotNull final IntArrayList rows) {
+		if(from >= prefixLength || maxEndTimes[node] < minEndTime) {
+			return;
+		}
+
+		if(node >= leafOffset) {
+			rows.add(rowsByStartTime[from]);
+		} else {
+			int mid = (from + to) >>> 1;
+			collect(2 * node, from, mid, prefixLength, minEndTime, rows);
+			collect(2 * node + 1, mid, to, prefixLength, minEndTime, rows);
+		}
+	}
+
+	/**
+	 * Returns the number of footsteps with <tt>fs.startTime &lt;= time</tt>.
+	 */
+	private int upperBound(final double time) {
+		int lo = 0;
+		int hi = sortedStartTimes.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(sortedStartTimes[mid] <= time) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Returns the number of footsteps with <tt>fs.startTime &lt; time</tt>.
+	 */
+	private int lowerBound(final double time) {
+		int lo = 0;
+		int hi = sortedStartTimes.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(sortedStartTimes[mid] < time) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Returns the position (in <tt>rowsByAgent</tt>) of the last footstep of agent <tt>index</tt> with
+	 * <tt>fs.startTime &lt;= time</tt> or a position in front of the agent's range if there is none.
+	 */
+	private int lastStartedBefore(final int index, final double time) {
+		int lo = pedOffsets[index];
+		int hi = pedOffsets[index + 1];
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(startTimes[rowsByAgent[mid]] <= time) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo - 1;
+	}
+
+	private static int[] identity(final int n) {
+		int[] rows = new int[n];
+		for(int i = 0; i < n; i++) {
+			rows[i] = i;
+		}
+		return rows;
+	}
+}
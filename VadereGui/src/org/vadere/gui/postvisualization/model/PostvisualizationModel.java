@@ -5,6 +5,8 @@ import org.vadere.gui.components.model.AgentColoring;
 import org.vadere.gui.components.model.SimulationModel;
 import org.vadere.gui.postvisualization.utils.PotentialFieldContainer;
 import org.vadere.simulator.projects.Scenario;
+import org.vadere.simulator.projects.io.IOOutput;
+import org.vadere.simulator.projects.io.MappedTrajectoryReader;
 import org.vadere.state.attributes.AttributesSimulation;
 import org.vadere.state.attributes.scenario.AttributesAgent;
 import org.vadere.state.psychology.cognition.GroupMembership;
@@ -24,6 +26,8 @@ import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.logging.Logger;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -41,6 +45,14 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 
 	private static Logger logger = Logger.getLogger(PostvisualizationModel.class);
 
+	/**
+	 * Trajectory files of at least this size are not loaded at once. Instead, the footsteps of a time window of
+	 * {@link #PAGE_LENGTH_IN_SEC} seconds containing the current time are paged in from a memory-mapped file.
+	 */
+	public static final long PAGED_LOADING_THRESHOLD_IN_BYTES = 256L << 20;
+
+	public static final double PAGE_LENGTH_IN_SEC = 120.0;
+
 	private boolean outputChanged;
 
 	//private Step step;
@@ -63,6 +75,15 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 
 	private TableTrajectoryFootStep trajectories;
 
+	/**
+	 * The reader of the current page of a large trajectory file or <tt>null</tt> if all trajectories are loaded.
+	 */
+	private MappedTrajectoryReader trajectoryReader;
+
+	private double pageStartTime;
+
+	private double pageEndTime;
+
 	private ContactData contactData;
 
 	private String outputPath;
@@ -85,6 +106,32 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 		this.outputChanged = false;
 	}
 
+	/**
+	 * Initialize the {@link PostvisualizationModel} by the trajectory file. Large files are paged in by time
+	 * windows, see {@link #PAGED_LOADING_THRESHOLD_IN_BYTES}, i.e. trajectories are shown from the beginning of the
+	 * current window only.
+	 *
+	 * @param trajectoryFilePath    the path to the trajectory file
+	 * @param contactTrajectories   the contact data or <tt>null</tt>
+	 * @param scenario              the scenario which was used to produce the output the PostVis will display.
+	 * @param projectPath           the path to the project.
+	 */
+	public synchronized void init(final Path trajectoryFilePath, final Table contactTrajectories, final Scenario scenario, final String projectPath) throws IOException {
+		if(Files.size(trajectoryFilePath) < PAGED_LOADING_THRESHOLD_IN_BYTES) {
+			init(IOOutput.readTrajectories(trajectoryFilePath), contactTrajectories, scenario, projectPath);
+		} else {
+			MappedTrajectoryReader reader = new MappedTrajectoryReader(trajectoryFilePath);
+			logger.infof("page in %d footsteps of %d agents by windows of %.1f s", reader.getNumberOfFootSteps(), reader.getNumberOfAgents(), PAGE_LENGTH_IN_SEC);
+			init(Table.create(), contactTrajectories, scenario, projectPath);
+			this.trajectoryReader = reader;
+			loadPage(reader.getMinStartTime());
+		}
+	}
+
+	public synchronized void init(final Path trajectoryFilePath, final Scenario scenario, final String projectPath) throws IOException {
+		init(trajectoryFilePath, null, scenario, projectPath);
+	}
+
 	public synchronized void init(final Table trajectories, final Table contactTrajectories, final Scenario scenario, final String projectPath) {
 		init(trajectories, contactTrajectories, scenario, projectPath, new AttributesAgent());
 	}
@@ -103,6 +150,7 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 		this.scenario = scenario;
 		this.simTimeStepLength = scenario.getAttributesSimulation().getSimTimeStepLength();
 		this.trajectories = new TableTrajectoryFootStep(trajectories);
+		this.trajectoryReader = null;
 		if (contactTrajectories != null) {
 			this.config.setContactsRecorded(true);
 			this.contactData = new ContactData(contactTrajectories);
@@ -123,6 +171,7 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 	public synchronized void init(final Scenario scenario, final String projectPath) {
 		this.scenario = scenario;
 		this.trajectories = new TableTrajectoryFootStep(Table.create());
+		this.trajectoryReader = null;
 		this.selectedElement = null;
 		this.outputPath = projectPath;
 		this.outputChanged = true;
@@ -297,6 +346,9 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 
 			if(this.visTime != validVisTime) {
 				visTime = validVisTime;
+				if(trajectoryReader != null && (visTime < pageStartTime || visTime >= pageEndTime)) {
+					loadPage(visTime);
+				}
 				trajectories.setSlice(trajectories.getMinStartTime(), visTime);
 
 				if (isVoronoiDiagramAvailable() && isVoronoiDiagramVisible()) {
@@ -394,7 +446,22 @@ public class PostvisualizationModel extends SimulationModel<PostvisualizationCon
 	}
 
 	public boolean isEmpty() {
-		return trajectories.isEmpty();
+		return trajectoryReader != null ? trajectoryReader.getNumberOfFootSteps() == 0 : trajectories.isEmpty();
+	}
+
+	/**
+	 * Replaces the trajectories by the footsteps of the page containing <tt>simTimeInSec</tt> and the last
+	 * footsteps of all agents which disappeared before the page.
+	 */
+	private void loadPage(final double simTimeInSec) {
+		double minStartTime = trajectoryReader.getMinStartTime();
+		pageStartTime = minStartTime + Math.floor((simTimeInSec - minStartTime) / PAGE_LENGTH_IN_SEC) * PAGE_LENGTH_IN_SEC;
+		pageEndTime = pageStartTime + PAGE_LENGTH_IN_SEC;
+		try {
+			trajectories = new TableTrajectoryFootStep(trajectoryReader.readTimeWindow(pageStartTime, pageEndTime, true), trajectoryReader.readAgents());
+		} catch (IOException e) {
+			logger.error("could not read the trajectories between " + pageStartTime + " and " + pageEndTime + ": " + e.getMessage());
+		}
 	}
 
 	@Override
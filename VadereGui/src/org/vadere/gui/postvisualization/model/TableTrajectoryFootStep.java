@@ -1,9 +1,11 @@
 package org.vadere.gui.postvisualization.model;
 
-import it.unimi.dsi.fastutil.ints.Int2IntAVLTreeMap;
-import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.vadere.simulator.projects.io.ColumnNames;
 import org.vadere.state.attributes.scenario.AttributesAgent;
 import org.vadere.state.psychology.cognition.GroupMembership;
@@ -39,6 +41,16 @@ public class TableTrajectoryFootStep {
 	 */
 	private final Table agentDataFrame;
 
+	/**
+	 * Temporal index of all footsteps which answers the time slice queries without scanning the whole table.
+	 */
+	private final FootStepIntervalIndex index;
+
+	/**
+	 * Maps the id of an agent to its row in {@link #agentDataFrame}.
+	 */
+	private final Int2IntOpenHashMap pedIdToAgentRow;
+
 	private final double startTime;
 	private final double endTime;
 
@@ -71,6 +83,19 @@ public class TableTrajectoryFootStep {
 	 * @param dataFrame the whole table containing all trajectories of all agents for all times
 	 */
 	public TableTrajectoryFootStep(@NotNull final Table dataFrame) {
+		this(dataFrame, null);
+	}
+
+	/**
+	 * Constructs the trajectories of a part of the output, e.g. a time window, for which the birth and death times
+	 * of all agents are known in advance.
+	 *
+	 * @param dataFrame         a table containing the trajectories of (a part of) the output
+	 * @param agentDataFrame    a table containing the id, the birth and the death time of all agents
+	 *                          (see {@link #getAgentDataFrame()}) or <tt>null</tt> if it should be computed
+	 *                          from <tt>dataFrame</tt>
+	 */
+	public TableTrajectoryFootStep(@NotNull final Table dataFrame, @Nullable final Table agentDataFrame) {
 		// get all ids of all columns
 		// 1. mandatory columns:
 		ColumnNames columnNames = ColumnNames.getInstance();
@@ -93,11 +118,19 @@ public class TableTrajectoryFootStep {
 
 		this.trajectoryDataFrame = dataFrame;
 		this.currentSlice = trajectoryDataFrame;
-		this.agentDataFrame = generateAgentDataFrame();
-
-		if(!isEmpty()) {
-			this.startTime = agentDataFrame.summarize(birthTimeColName, min).apply().doubleColumn(0).get(0);
-			this.endTime = agentDataFrame.summarize(deathTimeColName, max).apply().doubleColumn(0).get(0);
+		this.agentDataFrame = agentDataFrame != null ? agentDataFrame : generateAgentDataFrame();
+		this.index = isEmpty() ?
+				new FootStepIntervalIndex(IntColumn.create("pedestrianId"), DoubleColumn.create("simTime"), DoubleColumn.create("endTime")) :
+				new FootStepIntervalIndex(getPedId(dataFrame), getStartTime(dataFrame), getEndTime(dataFrame));
+
+		this.pedIdToAgentRow = new Int2IntOpenHashMap();
+		if(!this.agentDataFrame.isEmpty()) {
+			IntColumn pedIds = this.agentDataFrame.intColumn(agentDFPedIdCol);
+			for(int row = 0; row < pedIds.size(); row++) {
+				pedIdToAgentRow.put(pedIds.getInt(row), row);
+			}
+			this.startTime = getBirthTime().min();
+			this.endTime = getDeathTime().max();
 		} else {
 			this.startTime = 0.0;
 			this.endTime = 0.0;
@@ -179,8 +212,7 @@ public class TableTrajectoryFootStep {
 	 * @return multiple foosteps for each agent
 	 */
 	public Table getAgents(final double startTime, final double endTime) {
-		return currentSlice.where(getStartTime().isLessThan(endTime)
-				.and(getEndTime().isGreaterThanOrEqualTo(startTime)));
+		return toTable(index.getRows(startTime, endTime));
 	}
 
 	/**
@@ -193,10 +225,7 @@ public class TableTrajectoryFootStep {
 	 * @return multiple foosteps for each agent
 	 */
 	public Table getAliveAgents(final double startTime, final double endTime) {
-		Integer[] filteredPedIds = filterAgents(startTime, endTime);
-		return currentSlice.where(getPedId().isIn(filteredPedIds)
-				.and(getStartTime().isLessThan(endTime)
-						.and(getEndTime().isGreaterThanOrEqualTo(startTime))));
+		return toTable(index.getRows(startTime, endTime, filterAgents(startTime, endTime)));
 	}
 
 	/**
@@ -206,27 +235,28 @@ public class TableTrajectoryFootStep {
 	 * @return for all agent at most one footstep
 	 */
 	public Table getAgents(final double simTimeInSec) {
-		return currentSlice.where(
-				getStartTime().isLessThanOrEqualTo(simTimeInSec)
-						.and(getEndTime().isGreaterThanOrEqualTo(simTimeInSec)))
-				.sortAscendingOn(getColumnName(pedIdCol));
+		return toTable(index.getRows(simTimeInSec));
 	}
 
+	/**
+	 * Returns the footsteps of {@link #getAgents(double)} followed by the last footstep of all agents which
+	 * already appeared but are not walking at <tt>simTimeInSec</tt>, e.g. because they reached their target.
+	 *
+	 * @param simTimeInSec
+	 * @return for all agent at most one footstep
+	 */
 	public Table getAgentsWithDisappearedAgents(final double simTimeInSec) {
-		Table aliveAgents = getAgents(simTimeInSec);
-		Table deadAgents = currentSlice.where(getPedId().isNotIn(getPedId(aliveAgents).asObjectArray())
-						.and(getStartTime().isLessThanOrEqualTo(simTimeInSec)));
-
-		Int2IntMap idToRowNr = new Int2IntAVLTreeMap();
-
-		// get the last rows only, this might be computational expensive!
-		for(Row row : deadAgents) {
-			idToRowNr.put(row.getInt(pedIdCol), row.getRowNumber());
+		int[] aliveRows = index.getRows(simTimeInSec);
+		IntSet alivePedIds = new IntOpenHashSet(aliveRows.length);
+		for(int row : aliveRows) {
+			alivePedIds.add(index.getPedId(row));
 		}
+		int[] deadRows = index.getLastRows(simTimeInSec, alivePedIds);
 
-		idToRowNr.forEach((pedId, rowNr) -> Rows.appendRowToTable(rowNr, deadAgents, aliveAgents));
-
-		return aliveAgents;
+		int[] rows = new int[aliveRows.length + deadRows.length];
+		System.arraycopy(aliveRows, 0, rows, 0, aliveRows.length);
+		System.arraycopy(deadRows, 0, rows, aliveRows.length, deadRows.length);
+		return toTable(rows);
 	}
 
 	/**
@@ -238,17 +268,29 @@ public class TableTrajectoryFootStep {
 	 * @return at most one footstep
 	 */
 	public Table getAgent(final double simTimeInSec, final int pedId) {
-		return currentSlice.where(
-				getStartTime().isLessThanOrEqualTo(simTimeInSec)
-						.and(getEndTime().isGreaterThanOrEqualTo(simTimeInSec))
-						.and(getPedId().isEqualTo(pedId)));
+		return toTable(index.getRows(simTimeInSec, pedId));
 	}
 
-	private Integer[] filterAgents(final double startTime, final double endTime) {
-		return agentDataFrame
-				.where(getBirthTime().isGreaterThanOrEqualTo(startTime).and(getDeathTime().isGreaterThanOrEqualTo(endTime)))
-				.intColumn(agentDFPedIdCol)
-				.asObjectArray();
+	/**
+	 * Copies the rows in the given order (in contrast to {@link Table#rows(int...)} which keeps the table order).
+	 */
+	private Table toTable(@NotNull final int[] rows) {
+		Table table = trajectoryDataFrame.emptyCopy(rows.length);
+		Rows.copyRowsToTable(rows, trajectoryDataFrame, table);
+		return table;
+	}
+
+	private IntSet filterAgents(final double startTime, final double endTime) {
+		IntColumn pedIds = agentDataFrame.intColumn(agentDFPedIdCol);
+		DoubleColumn birthTimes = getBirthTime();
+		DoubleColumn deathTimes = getDeathTime();
+		IntSet filteredPedIds = new IntOpenHashSet();
+		for(int row = 0; row < agentDataFrame.rowCount(); row++) {
+			if(birthTimes.getDouble(row) >= startTime && deathTimes.getDouble(row) >= endTime) {
+				filteredPedIds.add(pedIds.getInt(row));
+			}
+		}
+		return filteredPedIds;
 	}
 
 	public Table getCurrentSlice() {
@@ -328,12 +370,18 @@ public class TableTrajectoryFootStep {
 	}
 
 	public double getBirthTime(final int pedId) {
-		return agentDataFrame.where(agentDataFrame.intColumn(pedIdCol).isEqualTo(pedId)).doubleColumn(birthTimeCol).get(0);
+		return getBirthTime().getDouble(getAgentRow(pedId));
 	}
 
 	public double getDeathTime(final int pedId) {
-		double deathTime = agentDataFrame.where(agentDataFrame.intColumn(pedIdCol).isEqualTo(pedId)).doubleColumn(deathTimeCol).get(0);
-		return deathTime;
+		return getDeathTime().getDouble(getAgentRow(pedId));
+	}
+
+	private int getAgentRow(final int pedId) {
+		if(!pedIdToAgentRow.containsKey(pedId)) {
+			throw new IllegalArgumentException("there is no agent with id " + pedId);
+		}
+		return pedIdToAgentRow.get(pedId);
 	}
 
 	public IntColumn getPedId() {
@@ -382,9 +382,9 @@ public class PostvisualizationWindow extends JPanel implements Observer, DropTar
 
 		try {
 			if (contactsTrajectoryFile != null) {
-				model.init(IOOutput.readTrajectories(trajectoryFile.toPath()), IOOutput.readContactData(contactsTrajectoryFile.toPath()), scenario, contactsTrajectoryFile.getParent());
+				model.init(trajectoryFile.toPath(), IOOutput.readContactData(contactsTrajectoryFile.toPath()), scenario, contactsTrajectoryFile.getParent());
 			} else {
-				model.init(IOOutput.readTrajectories(trajectoryFile.toPath()), scenario, trajectoryFile.getParent());
+				model.init(trajectoryFile.toPath(), scenario, trajectoryFile.getParent());
 			}
 			model.notifyObservers();
 		} catch (Exception ex) {
@@ -523,7 +523,7 @@ public class PostvisualizationWindow extends JPanel implements Observer, DropTar
 
 				if (trajectoryFile.isPresent() && scenarioFile.isPresent()) {
 					Scenario vadereScenario = IOOutput.readScenario(scenarioFile.get().toPath());
-					model.init(IOOutput.readTrajectories(trajectoryFile.get().toPath()), vadereScenario, trajectoryFile.get().getParent());
+					model.init(trajectoryFile.get().toPath(), vadereScenario, trajectoryFile.get().getParent());
 					model.notifyObservers();
 					dialog.dispose();
 				} else {
@@ -0,0 +1,193 @@
+package org.vadere.gui.onlinevisualization.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.attributes.scenario.AttributesCar;
+import org.vadere.state.attributes.scenario.AttributesTarget;
+import org.vadere.state.psychology.cognition.SelfCategory;
+import org.vadere.state.scenario.Car;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Target;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.geometry.shapes.Vector2D;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ObservationAreaSnapshotBufferTest {
+
+	private Topography topography;
+	private ObservationAreaSnapshotBuffer buffer;
+
+	@Before
+	public void setUp() {
+		topography = new Topography();
+		buffer = new ObservationAreaSnapshotBuffer();
+		for (int id = 1; id <= 3; id++) {
+			Pedestrian pedestrian = new Pedestrian(new AttributesAgent(id), new Random(id));
+			pedestrian.setPosition(new VPoint(id, id));
+			topography.addElement(pedestrian);
+		}
+	}
+
+	@Test
+	public void testReadReturnsLatestSnapshot() {
+		assertNull(buffer.read());
+
+		assertTrue(write(1.0));
+		assertTrue(write(2.0));
+		ObservationAreaSnapshot snapshot = buffer.read();
+		assertEquals(2.0, snapshot.getSimTimeInSec(), 0.0);
+		assertEquals(3, snapshot.size());
+		assertNull(buffer.read());
+	}
+
+	@Test
+	public void testPedestriansAreCopiedOnce() {
+		write(1.0);
+		ObservationAreaSnapshot snapshot = buffer.read();
+		Pedestrian pedestrian = topography.getElement(Pedestrian.class, 1);
+		Pedestrian copy = copyOf(snapshot, 1);
+		assertNotSame(pedestrian, copy);
+		assertEquals(pedestrian.getPosition(), copy.getPosition());
+
+		pedestrian.setPosition(new VPoint(5, 6));
+		pedestrian.setSelfCategory(SelfCategory.WAIT);
+		pedestrian.setSingleTarget(7, false);
+		write(2.0);
+
+		// the draw thread modifies its copy, not the pedestrian of the simulation
+		snapshot = buffer.read();
+		assertSame(copy, copyOf(snapshot, 1));
+		assertEquals(new VPoint(5, 6), copy.getPosition());
+		assertEquals(SelfCategory.WAIT, copy.getSelfCategory());
+		assertEquals(7, copy.getNextTargetId());
+	}
+
+	@Test
+	public void testGroupChangesAreCopied() {
+		Pedestrian pedestrian = topography.getElement(Pedestrian.class, 1);
+		pedestrian.addGroupId(0, 1);
+		write(1.0);
+		Pedestrian copy = copyOf(buffer.read(), 1);
+		assertEquals(Integer.valueOf(0), copy.getGroupIds().getFirst());
+		assertEquals(Integer.valueOf(1), copy.getGroupSizes().getFirst());
+
+		// e.g. the SIRGroupModel moves an infected pedestrian into another group
+		pedestrian.getGroupIds().clear();
+		pedestrian.getGroupSizes().clear();
+		pedestrian.addGroupId(2, 5);
+		write(2.0);
+
+		assertSame(copy, copyOf(buffer.read(), 1));
+		assertEquals(Integer.valueOf(2), copy.getGroupIds().getFirst());
+		assertEquals(Integer.valueOf(5), copy.getGroupSizes().getFirst());
+		assertEquals(1, copy.getGroupIds().size());
+
+		pedestrian.getGroupIds().clear();
+		pedestrian.getGroupSizes().clear();
+		write(3.0);
+
+		copyOf(buffer.read(), 1);
+		assertTrue(copy.getGroupIds().isEmpty());
+		assertTrue(copy.getGroupSizes().isEmpty());
+	}
+
+	@Test
+	public void testRemovedPedestriansAreNotInTheSnapshot() {
+		write(1.0);
+		topography.removeElement(topography.getElement(Pedestrian.class, 2));
+		write(2.0);
+
+		ObservationAreaSnapshot snapshot = buffer.read();
+		assertEquals(2, snapshot.size());
+		for (int i = 0; i < snapshot.size(); i++) {
+			assertFalse(snapshot.getPedestrianId(i) == 2);
+		}
+	}
+
+	@Test
+	public void testCarsAreCopiedOnce() {
+		Car car = new Car(new AttributesCar(4), new Random(4));
+		car.setPosition(new VPoint(1, 2));
+		topography.addElement(car);
+		write(1.0);
+		ObservationAreaSnapshot snapshot = buffer.read();
+		assertEquals(1, snapshot.carCount());
+		Car copy = snapshot.getCar(0);
+		assertNotSame(car, copy);
+		assertEquals(new VPoint(1, 2), copy.getPosition());
+
+		VPoint oldPosition = car.getPosition();
+		car.setPosition(new VPoint(3, 4));
+		topography.getCarDynamicElements().moveElement(car, oldPosition);
+		car.setVelocity(new Vector2D(1, 0));
+		write(2.0);
+
+		snapshot = buffer.read();
+		assertSame(copy, snapshot.getCar(0));
+		assertEquals(new VPoint(3, 4), copy.getPosition());
+		assertEquals(new Vector2D(1, 0), copy.getVelocity());
+
+		topography.removeElement(car);
+		write(3.0);
+		assertEquals(0, buffer.read().carCount());
+	}
+
+	@Test
+	public void testSceneryIsCopiedIfItChanged() {
+		write(1.0);
+		ObservationAreaSnapshot snapshot = buffer.read();
+		Topography scenery = snapshot.getScenery();
+		int version = snapshot.getSceneryVersion();
+		assertTrue(scenery.getPedestrianDynamicElements().getElements().isEmpty());
+
+		write(2.0);
+		snapshot = buffer.read();
+		assertSame(scenery, snapshot.getScenery());
+		assertEquals(version, snapshot.getSceneryVersion());
+
+		// e.g. a target is added via TraCI
+		topography.addTarget(new Target(new AttributesTarget(new VRectangle(0, 0, 1, 1), 5, true)));
+		write(3.0);
+		snapshot = buffer.read();
+		assertNotSame(scenery, snapshot.getScenery());
+		assertTrue(snapshot.getSceneryVersion() > version);
+		assertEquals(1, snapshot.getScenery().getTargets().size());
+		assertTrue(scenery.getTargets().isEmpty());
+	}
+
+	@Test
+	public void testSnapshotsAreReused() {
+		write(1.0);
+		ObservationAreaSnapshot first = buffer.read();
+		write(2.0);
+		ObservationAreaSnapshot second = buffer.read();
+		write(3.0);
+		assertSame(first, buffer.read());
+		write(4.0);
+		assertSame(second, buffer.read());
+	}
+
+	private boolean write(final double simTimeInSec) {
+		return buffer.write(simTimeInSec, topography, null, null, null, null);
+	}
+
+	private static Pedestrian copyOf(final ObservationAreaSnapshot snapshot, final int pedId) {
+		for (int i = 0; i < snapshot.size(); i++) {
+			if (snapshot.getPedestrianId(i) == pedId) {
+				return snapshot.getPedestrian(i);
+			}
+		}
+		throw new IllegalArgumentException("no pedestrian " + pedId);
+	}
+}
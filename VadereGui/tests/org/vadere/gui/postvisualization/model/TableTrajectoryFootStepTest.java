@@ -0,0 +1,151 @@
+package org.vadere.gui.postvisualization.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Row;
+import tech.tablesaw.api.Table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the indexed time slice queries of {@link TableTrajectoryFootStep} with full table scans.
+ */
+public class TableTrajectoryFootStepTest {
+
+	private Table dataFrame;
+	private TableTrajectoryFootStep trajectories;
+
+	@Before
+	public void setUp() {
+		Random random = new Random(42);
+		IntColumn pedIds = IntColumn.create("pedestrianId");
+		DoubleColumn startTimes = DoubleColumn.create("simTime");
+		DoubleColumn endTimes = DoubleColumn.create("endTime-PID1");
+		DoubleColumn startX = DoubleColumn.create("startX-PID1");
+		DoubleColumn startY = DoubleColumn.create("startY-PID1");
+		DoubleColumn endX = DoubleColumn.create("endX-PID1");
+		DoubleColumn endY = DoubleColumn.create("endY-PID1");
+
+		for(int pedId = 1; pedId <= 50; pedId++) {
+			double time = random.nextDouble() * 20;
+			int steps = 1 + random.nextInt(40);
+			for(int step = 0; step < steps; step++) {
+				// some steps are much longer, e.g. waiting agents
+				double duration = random.nextInt(10) == 0 ? 5 * random.nextDouble() : 0.2 + random.nextDouble();
+				pedIds.append(pedId);
+				startTimes.append(time);
+				endTimes.append(time + duration);
+				startX.append(step);
+				startY.append(pedId);
+				endX.append(step + 1);
+				endY.append(pedId);
+				time += duration;
+			}
+		}
+
+		// footsteps are written in the order of their start time
+		dataFrame = Table.create("trajectories", pedIds, startTimes, endTimes, startX, startY, endX, endY)
+				.sortAscendingOn("simTime");
+		trajectories = new TableTrajectoryFootStep(dataFrame);
+	}
+
+	@Test
+	public void testGetAgentsAtTime() {
+		for(double time = -1; time < 60; time += 0.37) {
+			Table expected = dataFrame.where(trajectories.getStartTime().isLessThanOrEqualTo(time)
+					.and(trajectories.getEndTime().isGreaterThanOrEqualTo(time)))
+					.sortAscendingOn("pedestrianId");
+			assertEquals(footSteps(expected), footSteps(trajectories.getAgents(time)));
+		}
+	}
+
+	@Test
+	public void testGetAgentsInInterval() {
+		for(double time = 0; time < 60; time += 1.3) {
+			Table expected = dataFrame.where(trajectories.getStartTime().isLessThan(time + 2.5)
+					.and(trajectories.getEndTime().isGreaterThanOrEqualTo(time)));
+			assertEquals(footSteps(expected), footSteps(trajectories.getAgents(time, time + 2.5)));
+		}
+		assertEquals(dataFrame.rowCount(), trajectories.getAgents(trajectories.getMinStartTime(), trajectories.getMaxEndTime() + 1).rowCount());
+	}
+
+	@Test
+	public void testGetAgent() {
+		for(double time = 0; time < 60; time += 0.7) {
+			for(int pedId = 0; pedId <= 51; pedId++) {
+				Table expected = dataFrame.where(trajectories.getStartTime().isLessThanOrEqualTo(time)
+						.and(trajectories.getEndTime().isGreaterThanOrEqualTo(time))
+						.and(trajectories.getPedId().isEqualTo(pedId)));
+				assertEquals(footSteps(expected), footSteps(trajectories.getAgent(time, pedId)));
+			}
+		}
+	}
+
+	@Test
+	public void testGetAgentsWithDisappearedAgents() {
+		for(double time = 0; time < 60; time += 1.1) {
+			Table agents = trajectories.getAgentsWithDisappearedAgents(time);
+			List<Integer> pedIds = agents.intColumn("pedestrianId").asList();
+			assertEquals(pedIds.size(), pedIds.stream().distinct().count());
+
+			for(Row row : agents) {
+				int pedId = row.getInt("pedestrianId");
+				assertTrue(trajectories.getBirthTime(pedId) <= time);
+				if(trajectories.getAgent(time, pedId).isEmpty()) {
+					// the agent disappeared, i.e. this has to be its last footstep until time
+					Table started = dataFrame.where(trajectories.getPedId().isEqualTo(pedId)
+							.and(trajectories.getStartTime().isLessThanOrEqualTo(time)));
+					assertEquals(started.doubleColumn("simTime").max(), row.getDouble("simTime"), 0.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBirthAndDeathTime() {
+		Table agents = trajectories.getAgentDataFrame();
+		for(Row row : agents) {
+			int pedId = row.getInt(TableTrajectoryFootStep.agentDFPedIdCol);
+			assertEquals(row.getDouble(TableTrajectoryFootStep.birthTimeCol), trajectories.getBirthTime(pedId), 0.0);
+			assertEquals(row.getDouble(TableTrajectoryFootStep.deathTimeCol), trajectories.getDeathTime(pedId), 0.0);
+		}
+	}
+
+	@Test
+	public void testPageWithKnownAgents() {
+		double pageStartTime = 20;
+		Table page = dataFrame.where(trajectories.getEndTime().isGreaterThanOrEqualTo(pageStartTime));
+		TableTrajectoryFootStep pageTrajectories = new TableTrajectoryFootStep(page, trajectories.getAgentDataFrame());
+
+		assertEquals(trajectories.getMinStartTime(), pageTrajectories.getMinStartTime(), 0.0);
+		assertEquals(trajectories.getMaxEndTime(), pageTrajectories.getMaxEndTime(), 0.0);
+		for(Row row : trajectories.getAgentDataFrame()) {
+			int pedId = row.getInt(TableTrajectoryFootStep.agentDFPedIdCol);
+			assertEquals(trajectories.getBirthTime(pedId), pageTrajectories.getBirthTime(pedId), 0.0);
+			assertEquals(trajectories.getDeathTime(pedId), pageTrajectories.getDeathTime(pedId), 0.0);
+		}
+		assertEquals(footSteps(trajectories.getAgents(25.0)), footSteps(pageTrajectories.getAgents(25.0)));
+	}
+
+	@Test
+	public void testEmptyTable() {
+		TableTrajectoryFootStep empty = new TableTrajectoryFootStep(Table.create());
+		assertTrue(empty.isEmpty());
+	}
+
+	private static List<String> footSteps(final Table table) {
+		List<String> footSteps = new ArrayList<>(table.rowCount());
+		for(Row row : table) {
+			footSteps.add(row.getInt("pedestrianId") + "@" + row.getDouble("simTime"));
+		}
+		return footSteps;
+	}
+}
@@ -1,5 +1,6 @@
 package org.vadere.manager;
 
+import org.vadere.manager.server.SimulationWorkerPool;
 import org.vadere.manager.traci.commandHandler.CommandExecutor;
 import org.vadere.manager.traci.commands.TraCICommand;
 import org.vadere.manager.traci.reader.TraCIPacketBuffer;
@@ -10,9 +11,12 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * //todo comment
+ * Handles the TraCI commands of one client (session). The simulation of the session is executed by
+ * the {@link SimulationWorkerPool} shared by all sessions of the server.
  */
 public class ClientHandler implements Runnable {
 
@@ -25,10 +29,10 @@ public class ClientHandler implements Runnable {
 	private String scenarioString;
 
 
-	public ClientHandler(ServerSocket serverSocket, TraCISocket traCISocket, Path basedir, boolean guiSupport) {
+	public ClientHandler(ServerSocket serverSocket, TraCISocket traCISocket, Path basedir, boolean guiSupport, SimulationWorkerPool workerPool) {
 		this.serverSocket = serverSocket;
 		this.traCISocket = traCISocket;
-		this.remoteManager = new RemoteManager(basedir, guiSupport);
+		this.remoteManager = new RemoteManager(basedir, guiSupport, workerPool);
 		this.cmdExecutor = new CommandExecutor(remoteManager);
 		this.scenarioString = ""; // traci will provide the scenario
 	}
@@ -39,6 +43,8 @@ public class ClientHandler implements Runnable {
 
 	@Override
 	public void run() {
+		RemoteManager session = remoteManager;
+		session.getThreadUsage().start();
 		try {
 			if (!scenarioString.equals("")){
 				// scenario provided in command line. Load it and then wait for traci commands
@@ -53,27 +59,36 @@ public class ClientHandler implements Runnable {
 					+ 9999 + " or listening for a connection", io);
 		} catch (Exception e) {
 			logger.error("Error while handling TraCI Message", e);
+		} finally {
+			session.getThreadUsage().stop();
+			logger.infof("%s closed: %s", session.getSessionId(), session.getSessionStatistics());
 		}
 	}
 
 	private void handleClient() throws IOException {
 		try {
-			logger.info("client connected...");
+			logger.infof("client connected... (%s)", remoteManager.getSessionId());
+			List<TraCIPacket> responses = new ArrayList<>();
 
 			while (true) {
 
 				TraCIPacketBuffer traCIPacketBuffer = traCISocket.receiveExact();
 
 				if (traCIPacketBuffer.hasRemaining()) {
+					// the responses to all commands of one packet are sent together
+					responses.clear();
 					TraCICommand cmd = traCIPacketBuffer.nextCommand();
 					while (cmd != null) {
 
 						TraCIPacket response = cmdExecutor.execute(cmd);
 						logger.debugf("send packet [%d byte]", response.size());
-						traCISocket.sendExact(response);
+						responses.add(response);
 
 						cmd = traCIPacketBuffer.nextCommand();
 					}
+					// all commands are executed and do not reference the received data anymore
+					traCIPacketBuffer.release();
+					traCISocket.sendExact(responses);
 				}
 
 			}
@@ -82,8 +97,6 @@ public class ClientHandler implements Runnable {
 			remoteManager.stopSimulationIfRunning();
 			cmdExecutor = null;
 			remoteManager = null;
-			// hint VM to call garbage collection. The current simulation is done.
-			System.gc();
 		}
 
 	}
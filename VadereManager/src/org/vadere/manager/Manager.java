@@ -6,13 +6,16 @@ import net.sourceforge.argparse4j.inf.Namespace;
 import net.sourceforge.argparse4j.internal.HelpScreenException;
 
 import org.vadere.manager.server.AbstractVadereServer;
+import org.vadere.manager.server.SimulationWorkerPool;
 import org.vadere.manager.server.VadereServer;
 import org.vadere.manager.server.VadereSingleClientServer;
 import org.vadere.util.io.VadereArgumentParser;
 import org.vadere.util.logging.Logger;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,14 +33,19 @@ public class Manager {
 		try {
 			ns = p.parseArgsAndProcessInitialOptions(args);
 
-			ServerSocket serverSocket = new ServerSocket(ns.getInt("port"), 50, InetAddress.getByName(ns.getString("bind")));
+			// sockets accepted by a channel based server socket provide a SocketChannel (see TraCISocket)
+			ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
+			serverSocketChannel.bind(new InetSocketAddress(InetAddress.getByName(ns.getString("bind")), ns.getInt("port")), 50);
+			ServerSocket serverSocket = serverSocketChannel.socket();
 			logger.infof("Start Server(%s) with Loglevel: %s", VadereServer.currentVersion.getVersionString(), logger.getLevel().toString());
 			AbstractVadereServer server;
 			if (ns.getBoolean("singleClient")) {
 				server = new VadereSingleClientServer(serverSocket, Paths.get(ns.getString("output-dir")), ns.getBoolean("guiMode"), ns.getBoolean("trace"), ns.getString("scenario"));
 			} else {
 				ExecutorService pool = Executors.newFixedThreadPool(ns.getInt("clientNum"));
-				server = new VadereServer(serverSocket, pool, Paths.get(ns.getString("output-dir")), ns.getBoolean("guiMode"), ns.getBoolean("trace"));
+				int maxSimulations = ns.getInt("maxSimulations") != null ? ns.getInt("maxSimulations") : ns.getInt("clientNum");
+				SimulationWorkerPool workerPool = new SimulationWorkerPool(maxSimulations);
+				server = new VadereServer(serverSocket, pool, workerPool, Paths.get(ns.getString("output-dir")), ns.getBoolean("guiMode"), ns.getBoolean("trace"));
 			}
 			server.run();
 
@@ -99,6 +107,12 @@ public class Manager {
 				.dest("clientNum")
 				.help("Set number of clients to manager. Important: Each client has a separate simulation. No communication between clients");
 
+		parser.addArgument("--max-simulations")
+				.required(false)
+				.type(Integer.class)
+				.dest("maxSimulations")
+				.help("Set the maximal number of simulations running at the same time (default: clientNum). Simulations of further clients wait for a free worker. All clients share floor fields with the same floor field hash.");
+
 		parser.addArgument("--trace")
 				.required(false)
 				.action(Arguments.storeTrue())
@@ -1,7 +1,10 @@
 package org.vadere.manager;
 
 import org.vadere.gui.onlinevisualization.OnlineVisualization;
+import org.vadere.manager.server.SimulationWorkerPool;
+import org.vadere.manager.server.ThreadUsage;
 import org.vadere.manager.traci.commandHandler.StateAccessHandler;
+import org.vadere.manager.traci.compound.object.SessionStatistics;
 import org.vadere.manager.traci.compound.object.SimulationCfg;
 import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.entrypoints.ScenarioFactory;
@@ -20,6 +23,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.FutureTask;
 
 /**
  * This class acts as interface between the TraCI handling and the actual simulation. All
@@ -29,14 +33,22 @@ import java.util.Map;
  *
  * Within the {@link StateAccessHandler#execute(RemoteManager, SimulationState)} method the {@link
  * SimulationState} is save to access and change. Be really careful what you change!
+ *
+ * Each client session has its own {@link RemoteManager}. The simulation runs of all sessions are
+ * executed by the {@link SimulationWorkerPool} of the server which also shares the floor fields
+ * between the sessions.
  */
 public class RemoteManager implements RunnableFinishedListener {
 
 
 	private static Logger logger = Logger.getLogger(RemoteManager.class);
 
+	private final SimulationWorkerPool workerPool;
+	private final String sessionId;
+	private final ThreadUsage threadUsage;
 	private RemoteScenarioRun currentSimulationRun;
-	private Thread currentSimulationThread;
+	private ScenarioCache currentScenarioCache;
+	private FutureTask<Void> currentSimulationTask;
 	private boolean simulationFinished;
 	private boolean clientCloseCommandReceived;
 	private Path defaultOutputdir;    // defined by command line parameter. May be overwritten by simCfg
@@ -47,6 +59,13 @@ public class RemoteManager implements RunnableFinishedListener {
 
 
 	public RemoteManager(Path defaultOutputdir, boolean guiSupport) {
+		this(defaultOutputdir, guiSupport, new SimulationWorkerPool(1));
+	}
+
+	public RemoteManager(Path defaultOutputdir, boolean guiSupport, SimulationWorkerPool workerPool) {
+		this.workerPool = workerPool;
+		this.sessionId = workerPool.nextSessionId();
+		this.threadUsage = new ThreadUsage();
 		this.defaultOutputdir = defaultOutputdir;
 		this.guiSupport = guiSupport;
 		this.subscriptions = new ArrayList<>();
@@ -84,6 +103,11 @@ public class RemoteManager implements RunnableFinishedListener {
 				logger.infof("received seed from traci client '%s'", Long.toString(simCfg.getSeed()));
 			}
 		}
+		if (currentScenarioCache != null && !isSimulationRunning()) {
+			// the previous scenario was never started or its run is finished
+			currentScenarioCache.releaseSharedCaches();
+		}
+		currentScenarioCache = scenarioCache;
 		currentSimulationRun = new RemoteScenarioRun(scenario, outputDir, this, scenarioPath, scenarioCache);
 	}
 
@@ -107,12 +131,13 @@ public class RemoteManager implements RunnableFinishedListener {
 			cacheData.forEach(scenarioCache::addReadOnlyCache);
 		}
 
-		return scenarioCache;
+		// floor fields with the same hash are computed or loaded only once for all sessions
+		return scenarioCache.shareWith(workerPool.getSharedFloorFieldCache());
 	}
 
 	public boolean stopSimulationIfRunning() {
-		if (currentSimulationThread != null && currentSimulationThread.isAlive()) {
-			currentSimulationThread.interrupt();
+		if (isSimulationRunning()) {
+			currentSimulationTask.cancel(true);
 			return true;
 		}
 
@@ -173,14 +198,12 @@ public class RemoteManager implements RunnableFinishedListener {
 		if (currentSimulationRun == null)
 			throw new TraCIExceptionInternal("RemoteScenarioRun object must not be null");
 
-		if (currentSimulationThread != null && currentSimulationThread.isAlive())
+		if (isSimulationRunning())
 			throw new TraCIExceptionInternal("A simulation is already running. Stop current simulation before starting new one.");
 
 		simulationFinished = false;
-		currentSimulationThread = new Thread(currentSimulationRun);
-		currentSimulationThread.setUncaughtExceptionHandler((t, ex) -> {
-			currentSimulationRun.simulationFailed(ex);
-		});
+		RemoteScenarioRun simulationRun = currentSimulationRun;
+		ScenarioCache scenarioCache = currentScenarioCache;
 
 		if (guiSupport) {
 			OnlineVisualization onlineVisualization = new OnlineVisualization(true);
@@ -188,8 +211,41 @@ public class RemoteManager implements RunnableFinishedListener {
 			ServerView.startServerGui(onlineVisualization);
 		}
 
-		logger.infof("Start Scenario %s with remote control...", currentSimulationRun.getScenario().getName());
-		currentSimulationThread.start();
+		logger.infof("Start Scenario %s with remote control... (%s)", currentSimulationRun.getScenario().getName(), sessionId);
+		currentSimulationTask = workerPool.submit(() -> {
+			try {
+				simulationRun.run();
+			} catch (Throwable ex) {
+				simulationRun.simulationFailed(ex);
+			} finally {
+				scenarioCache.releaseSharedCaches();
+			}
+		}, threadUsage);
+	}
+
+	private boolean isSimulationRunning() {
+		return currentSimulationTask != null && !currentSimulationTask.isDone();
+	}
+
+	public String getSessionId() {
+		return sessionId;
+	}
+
+	/**
+	 * Returns the accounting of all threads working for this session.
+	 */
+	public ThreadUsage getThreadUsage() {
+		return threadUsage;
+	}
+
+	public SessionStatistics getSessionStatistics() {
+		return new SessionStatistics(sessionId,
+				threadUsage.getCpuTimeNanos() * 1e-9,
+				threadUsage.getAllocatedBytes(),
+				workerPool.getNumberOfRunningSimulations(),
+				workerPool.getNumberOfQueuedSimulations(),
+				workerPool.getMaxSimulations(),
+				workerPool.getSharedFloorFieldCache().size());
 	}
 
 	public SimulationCfg getSimCfg() {
@@ -1,27 +1,41 @@
 package org.vadere.manager;
 
+import org.vadere.manager.traci.reader.TraCIBufferPool;
 import org.vadere.manager.traci.reader.TraCIPacketBuffer;
 import org.vadere.manager.traci.response.TraCIResponse;
 import org.vadere.manager.traci.writer.TraCIPacket;
 import org.vadere.util.logging.Logger;
 
 import java.io.Closeable;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
 
 /**
- * //todo comment
+ * Blocking TraCI transport based on NIO channels. Received packets are read into direct buffers
+ * taken from a {@link TraCIBufferPool} and parsed without copying, see {@link TraCIPacketBuffer#release()}.
+ * Packets are sent from views of the packet data, responses to the commands of one request are sent
+ * with a single gathering write (see {@link #sendExact(List)}). The wire protocol is unchanged.
+ *
+ * If the given {@link Socket} was not created by a {@link SocketChannel} (e.g. on the client side)
+ * its streams are used as channels.
  */
 public class TraCISocket implements Closeable {
 
 	private final static int TRACI_LEN_LENGTH = 4;
 	private static Logger logger = Logger.getLogger(TraCISocket.class);
 	private final Socket socket;
-	private final DataOutputStream outStream;
-	private final DataInputStream inStream;
+	private final ReadableByteChannel inChannel;
+	private final WritableByteChannel outChannel;
+	private final ByteBuffer lengthBuffer;
+	private final TraCIBufferPool bufferPool;
 	private final boolean tracePackets;
 	private String host;
 	private int port;
@@ -30,8 +44,18 @@ public class TraCISocket implements Closeable {
 		this.socket = socket;
 		this.host = this.socket.getInetAddress().toString();
 		this.port = this.socket.getPort();
-		this.outStream = new DataOutputStream(socket.getOutputStream());
-		this.inStream = new DataInputStream(socket.getInputStream());
+		SocketChannel channel = socket.getChannel();
+		if (channel != null) {
+			this.inChannel = channel;
+			this.outChannel = channel;
+		} else {
+			this.inChannel = Channels.newChannel(socket.getInputStream());
+			this.outChannel = Channels.newChannel(socket.getOutputStream());
+		}
+		// request-response protocol: do not wait for further data (Nagle's algorithm) before sending a response
+		this.socket.setTcpNoDelay(true);
+		this.lengthBuffer = ByteBuffer.allocateDirect(TRACI_LEN_LENGTH);
+		this.bufferPool = TraCIBufferPool.getDefault();
 		this.tracePackets = tracePackets;
 		if (this.tracePackets)
 			logger.infof("TraCISocket is in TRACE-MODE. Ensure the correct Loglevel to see all Information.");
@@ -55,25 +79,65 @@ public class TraCISocket implements Closeable {
 
 	// send //
 
-	private void send(final byte[] buf) throws IOException {
-		outStream.write(buf);
+	private void send(ByteBuffer buf) throws IOException {
+		while (buf.hasRemaining()) {
+			outChannel.write(buf);
+		}
 	}
 
-	private void send(ByteBuffer buf) throws IOException {
-		outStream.write(buf.array(), buf.arrayOffset(), buf.array().length);
+	private void send(ByteBuffer[] bufs) throws IOException {
+		if (outChannel instanceof GatheringByteChannel) {
+			GatheringByteChannel gatheringChannel = (GatheringByteChannel) outChannel;
+			while (bufs[bufs.length - 1].hasRemaining()) {
+				gatheringChannel.write(bufs);
+			}
+		} else {
+			for (ByteBuffer buf : bufs) {
+				send(buf);
+			}
+		}
 	}
 
 	public void sendExact(final TraCIPacket packet) throws IOException {
 		if (tracePackets)
 			logger.tracef("send packet [%d byte]: %s", packet.size(), packet.asHexString());
-		send(packet.send());
+		send(packet.sendBuffer());
+	}
+
+	/**
+	 * Sends the given packets in the given order with as few system calls as possible.
+	 */
+	public void sendExact(final List<TraCIPacket> packets) throws IOException {
+		if (packets.size() == 1) {
+			sendExact(packets.get(0));
+			return;
+		}
+
+		ByteBuffer[] bufs = new ByteBuffer[packets.size()];
+		for (int i = 0; i < bufs.length; i++) {
+			TraCIPacket packet = packets.get(i);
+			if (tracePackets)
+				logger.tracef("send packet [%d byte]: %s", packet.size(), packet.asHexString());
+			bufs[i] = packet.sendBuffer();
+		}
+		if (bufs.length > 0) {
+			send(bufs);
+		}
 	}
 
 
 	// receive //
 
+	private void receiveComplete(ByteBuffer buf) throws IOException {
+		while (buf.hasRemaining()) {
+			if (inChannel.read(buf) < 0) {
+				throw new EOFException();
+			}
+		}
+	}
+
 	public void receiveComplete(byte[] buf, int len) throws IOException {
-		inStream.readFully(buf, 0, len);
+		receiveComplete(ByteBuffer.wrap(buf, 0, len));
 	}
 
 	public byte[] receive(int bufSize) throws IOException {
@@ -82,23 +146,40 @@ public class TraCISocket implements Closeable {
 		return buf;
 	}
 
+	/**
+	 * Receives the next packet. The returned buffer should be released after all its commands are
+	 * executed to reuse its memory for the next packet.
+	 */
 	public TraCIPacketBuffer receiveExact() throws IOException {
 
 		// read first 4 bytes (containing TracCI packet length)
-		ByteBuffer msgLength = ByteBuffer.wrap(receive(TRACI_LEN_LENGTH));
-		int data_length = msgLength.getInt() - TRACI_LEN_LENGTH;
+		lengthBuffer.clear();
+		receiveComplete(lengthBuffer);
+		int data_length = lengthBuffer.getInt(0) - TRACI_LEN_LENGTH;
 
 		if (data_length <= 0) {
 			return TraCIPacketBuffer.empty();
 		} else {
-			byte[] data = receive(data_length);
-			return TraCIPacketBuffer.wrap(data);
+			ByteBuffer data = bufferPool.acquire(data_length);
+			try {
+				receiveComplete(data);
+			} catch (IOException e) {
+				bufferPool.release(data);
+				throw e;
+			}
+			data.flip();
+			return TraCIPacketBuffer.wrap(data, bufferPool);
 		}
 	}
 
 	public TraCIResponse receiveResponse() throws IOException {
+		// responses are parsed completely, i.e. they do not reference the buffer
 		TraCIPacketBuffer buf = receiveExact();
-		return buf.nextResponse();
+		try {
+			return buf.nextResponse();
+		} finally {
+			buf.release();
+		}
 	}
 
 	@Override
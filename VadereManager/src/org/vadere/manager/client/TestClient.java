@@ -355,6 +355,42 @@ public class TestClient extends org.vadere.manager.client.AbstractTestClient imp
 		printGet(res);
 	}
 
+	@Override
+	public void personapi_getIdArray(String[] args) throws IOException {
+		TraCIResponse res = personapi.getIdArray();
+		printGet(res);
+	}
+
+	@Override
+	public void personapi_getPositionXArray(String[] args) throws IOException {
+		TraCIResponse res = personapi.getPositionXArray();
+		printGet(res);
+	}
+
+	@Override
+	public void personapi_getPositionYArray(String[] args) throws IOException {
+		TraCIResponse res = personapi.getPositionYArray();
+		printGet(res);
+	}
+
+	@Override
+	public void personapi_getVelocityXArray(String[] args) throws IOException {
+		TraCIResponse res = personapi.getVelocityXArray();
+		printGet(res);
+	}
+
+	@Override
+	public void personapi_getVelocityYArray(String[] args) throws IOException {
+		TraCIResponse res = personapi.getVelocityYArray();
+		printGet(res);
+	}
+
+	@Override
+	public void personapi_getTargetIdArray(String[] args) throws IOException {
+		TraCIResponse res = personapi.getTargetIdArray();
+		printGet(res);
+	}
+
 	@Override
 	public void personapi_getLength(String[] args) throws IOException {
 
@@ -659,6 +695,12 @@ public class TestClient extends org.vadere.manager.client.AbstractTestClient imp
 		System.out.println(res.toString());
 	}
 
+	@Override
+	public void miscapi_getSessionStatistics(String[] args) throws IOException {
+		TraCIResponse res = miscapi.getSessionStatistics();
+		System.out.println(res.toString());
+	}
+
 	@Override
 	public void miscapi_createTargetChanger(String[] args) throws IOException {
 		if (args.length < 2) {
@@ -0,0 +1,115 @@
+package org.vadere.manager.server;
+
+import org.vadere.simulator.utils.cache.ScenarioCache;
+import org.vadere.simulator.utils.cache.SharedFloorFieldCache;
+import org.vadere.util.logging.Logger;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide resources of all client sessions of a server: a bounded pool of worker threads which
+ * execute the simulation runs of the sessions and the floor fields shared by all sessions.
+ *
+ * At most <tt>maxSimulations</tt> simulations run at the same time. The simulation of a session which is
+ * started while all workers are busy waits until a simulation of another session is finished, i.e. its
+ * client blocks on its first command which needs the simulation state.
+ *
+ * Sessions whose scenarios have the same floor field hash share their cell grid floor fields (if caching is
+ * activated in the scenario), see {@link ScenarioCache#shareWith(SharedFloorFieldCache)}.
+ */
+public class SimulationWorkerPool {
+
+	private static Logger logger = Logger.getLogger(SimulationWorkerPool.class);
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private final ThreadPoolExecutor workers;
+	private final SharedFloorFieldCache sharedFloorFieldCache;
+	private final int maxSimulations;
+	private final AtomicInteger runningSimulations;
+	private final AtomicInteger sessionCounter;
+
+	/**
+	 * @param maxSimulations the maximal number of concurrently running simulations
+	 */
+	public SimulationWorkerPool(final int maxSimulations) {
+		if (maxSimulations < 1) {
+			throw new IllegalArgumentException("maxSimulations has to be positive: " + maxSimulations);
+		}
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		this.workers = new ThreadPoolExecutor(maxSimulations, maxSimulations, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "VadereSimulation-" + threadCounter.incrementAndGet()));
+		// idle workers terminate, i.e. the pool does not keep the process alive
+		this.workers.allowCoreThreadTimeOut(true);
+		this.sharedFloorFieldCache = new SharedFloorFieldCache();
+		this.maxSimulations = maxSimulations;
+		this.runningSimulations = new AtomicInteger(0);
+		this.sessionCounter = new AtomicInteger(0);
+	}
+
+	/**
+	 * Returns a new id which is unique within this pool.
+	 */
+	public String nextSessionId() {
+		return "session-" + sessionCounter.incrementAndGet();
+	}
+
+	/**
+	 * Queues the simulation run. The CPU time and the allocated memory of the worker executing the
+	 * simulation are accounted to <tt>usage</tt>.
+	 *
+	 * @param simulation    the simulation run
+	 * @param usage         the accounting of the session
+	 * @return the task of the simulation which can be used to wait for or to cancel the simulation
+	 */
+	public FutureTask<Void> submit(final Runnable simulation, final ThreadUsage usage) {
+		FutureTask<Void> task = new FutureTask<>(() -> {
+			runningSimulations.incrementAndGet();
+			usage.start();
+			try {
+				simulation.run();
+			} finally {
+				usage.stop();
+				runningSimulations.decrementAndGet();
+			}
+		}, null);
+		if (runningSimulations.get() >= maxSimulations) {
+			logger.infof("all %d simulation workers are busy, the simulation waits for a free worker", maxSimulations);
+		}
+		workers.execute(task);
+		return task;
+	}
+
+	public SharedFloorFieldCache getSharedFloorFieldCache() {
+		return sharedFloorFieldCache;
+	}
+
+	public int getMaxSimulations() {
+		return maxSimulations;
+	}
+
+	/**
+	 * Returns the number of simulations which are currently executed by a worker (queued simulations are not counted).
+	 */
+	public int getNumberOfRunningSimulations() {
+		return runningSimulations.get();
+	}
+
+	/**
+	 * Returns the number of simulations waiting for a free worker.
+	 */
+	public int getNumberOfQueuedSimulations() {
+		return workers.getQueue().size();
+	}
+
+	/**
+	 * Rejects new simulations, already submitted simulations are still executed.
+	 */
+	public void shutdown() {
+		workers.shutdown();
+	}
+}
@@ -0,0 +1,87 @@
+package org.vadere.manager.server;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accounts the CPU time and the allocated heap memory of the threads working for one session. Pooled
+ * threads are shared by sessions over time, therefore, only the usage between {@link #start()} and
+ * {@link #stop()} of the current thread is accounted. Multiple threads (e.g. the client handler and the
+ * simulation worker) may account to the same instance at the same time.
+ *
+ * If the JVM does not support measuring the CPU time or the allocated memory of threads the
+ * respective values stay 0.
+ */
+public class ThreadUsage {
+
+	private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	private final Map<Long, long[]> activeThreads; // thread id -> (cpu time, allocated bytes) at start
+	private long stoppedCpuTime;
+	private long stoppedAllocatedBytes;
+
+	public ThreadUsage() {
+		this.activeThreads = new HashMap<>();
+		this.stoppedCpuTime = 0;
+		this.stoppedAllocatedBytes = 0;
+	}
+
+	/**
+	 * Starts accounting the usage of the current thread.
+	 */
+	public synchronized void start() {
+		long threadId = Thread.currentThread().getId();
+		activeThreads.put(threadId, new long[]{cpuTime(threadId), allocatedBytes(threadId)});
+	}
+
+	/**
+	 * Stops accounting the usage of the current thread.
+	 */
+	public synchronized void stop() {
+		long threadId = Thread.currentThread().getId();
+		long[] start = activeThreads.remove(threadId);
+		if (start == null)
+			return;
+		stoppedCpuTime += Math.max(0, cpuTime(threadId) - start[0]);
+		stoppedAllocatedBytes += Math.max(0, allocatedBytes(threadId) - start[1]);
+	}
+
+	/**
+	 * Returns the accounted CPU time in nanoseconds including the threads which are still active.
+	 */
+	public synchronized long getCpuTimeNanos() {
+		long sum = stoppedCpuTime;
+		for (Map.Entry<Long, long[]> active : activeThreads.entrySet()) {
+			sum += Math.max(0, cpuTime(active.getKey()) - active.getValue()[0]);
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the accounted allocated heap memory in bytes including the threads which are still active.
+	 */
+	public synchronized long getAllocatedBytes() {
+		long sum = stoppedAllocatedBytes;
+		for (Map.Entry<Long, long[]> active : activeThreads.entrySet()) {
+			sum += Math.max(0, allocatedBytes(active.getKey()) - active.getValue()[1]);
+		}
+		return sum;
+	}
+
+	private static long cpuTime(final long threadId) {
+		if (!threadMXBean.isThreadCpuTimeSupported() || !threadMXBean.isThreadCpuTimeEnabled())
+			return 0;
+		return Math.max(0, threadMXBean.getThreadCpuTime(threadId));
+	}
+
+	private static long allocatedBytes(final long threadId) {
+		if (!(threadMXBean instanceof com.sun.management.ThreadMXBean))
+			return 0;
+		com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+		if (!sunThreadMXBean.isThreadAllocatedMemorySupported() || !sunThreadMXBean.isThreadAllocatedMemoryEnabled())
+			return 0;
+		return Math.max(0, sunThreadMXBean.getThreadAllocatedBytes(threadId));
+	}
+}
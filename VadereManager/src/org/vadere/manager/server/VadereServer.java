@@ -11,19 +11,26 @@ import java.nio.file.Path;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Accepts many clients. Each client is a separate session with its own simulation, all sessions
+ * share the simulation workers and the floor fields of the {@link SimulationWorkerPool}.
+ */
 public class VadereServer extends AbstractVadereServer {
 
 	private final ExecutorService handlerPool;
+	private final SimulationWorkerPool workerPool;
 
-	public VadereServer(ServerSocket serverSocket, ExecutorService handlerPool, Path baseDir, boolean guiSupport, boolean trace) {
+	public VadereServer(ServerSocket serverSocket, ExecutorService handlerPool, SimulationWorkerPool workerPool, Path baseDir, boolean guiSupport, boolean trace) {
 		super(serverSocket, baseDir, guiSupport, trace);
 		this.handlerPool = handlerPool;
+		this.workerPool = workerPool;
 	}
 
 	@Override
 	public void run() {
 		try {
-			logger.infof("listening on port %d... (gui-mode: %s)", serverSocket.getLocalPort(), Boolean.toString(guiSupport));
+			logger.infof("listening on port %d... (gui-mode: %s, max. concurrent simulations: %d)",
+					serverSocket.getLocalPort(), Boolean.toString(guiSupport), workerPool.getMaxSimulations());
 			if (VadereConfig.getConfig().getBoolean("Vadere.cache.useGlobalCacheBaseDir")) {
 				logger.infof("Cache location lookup searches at: %s",
 						VadereConfig.getConfig().getString("Vadere.cache.globalCacheBaseDir"));
@@ -31,7 +38,7 @@ public class VadereServer extends AbstractVadereServer {
 
 			while (true) {
 				Socket clientSocket = serverSocket.accept();
-				handlerPool.execute(new ClientHandler(serverSocket, new TraCISocket(clientSocket, trace), baseDir, guiSupport));
+				handlerPool.execute(new ClientHandler(serverSocket, new TraCISocket(clientSocket, trace), baseDir, guiSupport, workerPool));
 			}
 		} catch (IOException e) {
 			e.printStackTrace();
@@ -39,6 +46,7 @@ public class VadereServer extends AbstractVadereServer {
 		} finally {
 			logger.info("Shutdown Vadere Server ...");
 			handlerPool.shutdown();
+			workerPool.shutdown();
 			try {
 				handlerPool.awaitTermination(4L, TimeUnit.SECONDS);
 				if (!serverSocket.isClosed()) {
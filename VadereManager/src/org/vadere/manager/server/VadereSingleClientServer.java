@@ -17,10 +17,12 @@ public class VadereSingleClientServer extends AbstractVadereServer {
 
 
 	private String scenarioPath;
+	private final SimulationWorkerPool workerPool;
 
 	public VadereSingleClientServer(ServerSocket serverSocket, Path baseDir, boolean guiSupport, boolean trace, String scenarioPath) {
 		super(serverSocket, baseDir, guiSupport, trace);
 		this.scenarioPath = scenarioPath;
+		this.workerPool = new SimulationWorkerPool(1);
 	}
 
 	@Override
@@ -29,7 +31,7 @@ public class VadereSingleClientServer extends AbstractVadereServer {
 			logger.infof("listening on port %d... (gui-mode: %s) Single Simulation", serverSocket.getLocalPort(), Boolean.toString(guiSupport));
 			Socket clientSocket = serverSocket.accept();
 
-			ClientHandler handler = new ClientHandler(serverSocket, new TraCISocket(clientSocket, trace), baseDir, guiSupport);
+			ClientHandler handler = new ClientHandler(serverSocket, new TraCISocket(clientSocket, trace), baseDir, guiSupport, workerPool);
 			if (scenarioPath != null){
 				if (!scenarioPath.equals("")){
 					handler.setScenario(IOUtils.readTextFile(scenarioPath));
@@ -46,6 +48,7 @@ public class VadereSingleClientServer extends AbstractVadereServer {
 
 		} finally {
 			logger.info("Shutdown Vadere Server ...");
+			workerPool.shutdown();
 			if (!serverSocket.isClosed()) {
 				try {
 					serverSocket.close();
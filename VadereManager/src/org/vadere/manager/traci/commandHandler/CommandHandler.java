@@ -1,6 +1,5 @@
 package org.vadere.manager.traci.commandHandler;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.vadere.manager.RemoteManager;
 import org.vadere.manager.Subscription;
 import org.vadere.manager.traci.TraCICmd;
@@ -11,12 +10,6 @@ import org.vadere.manager.traci.response.StatusResponse;
 import org.vadere.manager.traci.response.TraCIGetResponse;
 import org.vadere.manager.traci.response.TraCIStatusResponse;
 import org.vadere.manager.traci.writer.TraCIPacket;
-import org.vadere.util.logging.Logger;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.HashMap;
 
 
 /**
@@ -25,6 +18,10 @@ import java.util.HashMap;
  * See {@link CommandExecutor} on how commands are dispatched to the correct {@link CommandHandler}
  * subclass. These classes implement methods which adhere to the TraCICmdHandler Interface. These
  * methods are used by the {@link CommandExecutor} for dispatching.
+ *
+ * Handlers annotated with {@link org.vadere.annotation.traci.client.TraCIApi} get a generated
+ * <tt>&lt;Handler&gt;Dispatcher</tt> class which calls the method annotated for a given command and
+ * variable directly (see <tt>CommandDispatchProcessor</tt> in VadereAnnotation).
  */
 public abstract class CommandHandler<VAR extends Enum> {
 
@@ -35,57 +32,6 @@ public abstract class CommandHandler<VAR extends Enum> {
 	public static final String COULD_NOT_MAP_OBJECT_FROM_JSON = "Could not map object from given json ";
 	public static final String COULD_NOT_SERIALIZE_OBJECT = "Could not serialize object ";
 	public static final String NO_MAIN_MODEL = "Main Model is not present.";
-	private static Logger logger = Logger.getLogger(CommandHandler.class);
-	private final Method processNotImplemented;
-	protected HashMap<Pair<TraCICmd, VAR>, Method> handler;
-
-	public CommandHandler() {
-		handler = new HashMap<>();
-		Method tmp = null;
-		for (Method m : CommandHandler.class.getMethods()) {
-			if (m.getName().equals("process_NotImplemented")) {
-				tmp = m;
-				break;
-			}
-		}
-		assert (tmp != null) : "No Method found with name 'process_NotImplemented'";
-		processNotImplemented = tmp;
-	}
-
-	protected Method getHandler(TraCICmd cmd, VAR var) {
-		return handler.getOrDefault(Pair.of(cmd, var), processNotImplemented);
-	}
-
-	protected abstract void init_HandlerSingle(Method m);
-
-	protected abstract void init_HandlerMult(Method m);
-
-	protected void putHandler(TraCICmd cmd, VAR var, Method m) {
-		logger.debugf("Pair: %s | %s Method: %s", cmd.name(), var.name(), m.getName());
-		handler.put(Pair.of(cmd, var), m);
-	}
-
-	protected void init(Class<? extends Annotation> singleAnnotation, Class<? extends Annotation> multAnnotation) {
-		for (Method m : this.getClass().getDeclaredMethods()) {
-			logger.tracef(m.getName());
-			if (m.isAnnotationPresent(singleAnnotation)) {
-				init_HandlerSingle(m);
-			}
-			if (m.isAnnotationPresent(multAnnotation)) {
-				init_HandlerMult(m);
-			}
-		}
-	}
-
-	protected TraCICommand invokeHandler(Method m, Object obj, TraCICommand cmd, RemoteManager manager) {
-		try {
-			return (TraCICommand) m.invoke(obj, cmd, manager);
-		} catch (IllegalAccessException | InvocationTargetException e) {
-			e.printStackTrace();
-		}
-		return process_UnknownCommand(cmd, manager);
-	}
-
 
 	public TraCICommand process_NotImplemented(TraCICommand cmd, RemoteManager remoteManager) {
 		return cmd.setNOK_response(TraCIPacket.sendStatus(cmd.getTraCICmd(),
@@ -24,12 +24,14 @@ import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.logging.Logger;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 
@@ -61,21 +63,6 @@ public class PersonCommandHandler extends CommandHandler<PersonVar> {
 
 	private PersonCommandHandler() {
 		super();
-		init(PersonHandler.class, PersonHandlers.class);
-	}
-
-	@Override
-	protected void init_HandlerSingle(Method m) {
-		PersonHandler an = m.getAnnotation(PersonHandler.class);
-		putHandler(an.cmd(), an.var(), m);
-	}
-
-	@Override
-	protected void init_HandlerMult(Method m) {
-		PersonHandler[] ans = m.getAnnotation(PersonHandlers.class).value();
-		for (PersonHandler a : ans) {
-			putHandler(a.cmd(), a.var(), m);
-		}
 	}
 
 	public TraCIGetResponse responseOK(TraCIDataType responseDataType, Object responseData) {
@@ -336,6 +323,68 @@ public class PersonCommandHandler extends CommandHandler<PersonVar> {
 		return cmd;
 	}
 
+	/*
+	 * Column variables of all persons. Subscribed with element id '-1' a client receives the state of
+	 * the whole crowd in one subscription response per step, i.e. one packed array per variable instead
+	 * of one subscription per person. All columns are in the order of ID_ARRAY.
+	 */
+
+	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.ID_ARRAY, name = "getIdArray", ignoreElementId = true)
+	public TraCICommand process_getIdArray(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		return processIntColumn(cmd, remoteManager, PersonVar.ID_ARRAY, Pedestrian::getId);
+	}
+
+	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.POSITION_X_ARRAY, name = "getPositionXArray", ignoreElementId = true)
+	public TraCICommand process_getPositionXArray(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		return processDoubleColumn(cmd, remoteManager, PersonVar.POSITION_X_ARRAY, p -> p.getPosition().x);
+	}
+
+	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.POSITION_Y_ARRAY, name = "getPositionYArray", ignoreElementId = true)
+	public TraCICommand process_getPositionYArray(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		return processDoubleColumn(cmd, remoteManager, PersonVar.POSITION_Y_ARRAY, p -> p.getPosition().y);
+	}
+
+	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.VELOCITY_X_ARRAY, name = "getVelocityXArray", ignoreElementId = true)
+	public TraCICommand process_getVelocityXArray(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		return processDoubleColumn(cmd, remoteManager, PersonVar.VELOCITY_X_ARRAY, p -> p.getVelocity().x);
+	}
+
+	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.VELOCITY_Y_ARRAY, name = "getVelocityYArray", ignoreElementId = true)
+	public TraCICommand process_getVelocityYArray(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		return processDoubleColumn(cmd, remoteManager, PersonVar.VELOCITY_Y_ARRAY, p -> p.getVelocity().y);
+	}
+
+	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.TARGET_ID_ARRAY, name = "getTargetIdArray", ignoreElementId = true)
+	public TraCICommand process_getTargetIdArray(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		return processIntColumn(cmd, remoteManager, PersonVar.TARGET_ID_ARRAY, p -> p.hasNextTarget() ? p.getNextTargetId() : -1);
+	}
+
+	private TraCICommand processIntColumn(TraCIGetCommand cmd, RemoteManager remoteManager, PersonVar var, ToIntFunction<Pedestrian> column) {
+		remoteManager.accessState((manager, state) -> {
+			Collection<Pedestrian> peds = state.getTopography().getPedestrianDynamicElements().getElements();
+			int[] data = new int[peds.size()];
+			int i = 0;
+			for (Pedestrian ped : peds) {
+				data[i++] = column.applyAsInt(ped);
+			}
+			cmd.setResponse(responseOK(var.type, data));
+		});
+		return cmd;
+	}
+
+	private TraCICommand processDoubleColumn(TraCIGetCommand cmd, RemoteManager remoteManager, PersonVar var, ToDoubleFunction<Pedestrian> column) {
+		remoteManager.accessState((manager, state) -> {
+			Collection<Pedestrian> peds = state.getTopography().getPedestrianDynamicElements().getElements();
+			double[] data = new double[peds.size()];
+			int i = 0;
+			for (Pedestrian ped : peds) {
+				data[i++] = column.applyAsDouble(ped);
+			}
+			cmd.setResponse(responseOK(var.type, data));
+		});
+		return cmd;
+	}
+
 	@PersonHandler(cmd = TraCICmd.GET_PERSON_VALUE, var = PersonVar.LENGTH, name = "getLength")
 	public TraCICommand process_getLength(TraCIGetCommand cmd, RemoteManager remoteManager) {
 
@@ -500,22 +549,14 @@ public class PersonCommandHandler extends CommandHandler<PersonVar> {
 		TraCIGetCommand getCmd = (TraCIGetCommand) cmd;
 
 		PersonVar var = PersonVar.fromId(getCmd.getVariableIdentifier());
-		Method m = getHandler(getCmd.getTraCICmd(), var);
-
-		logger.tracef("invokeHandler: PersonCommandHandler.%s [CMD: %s VAR: %s]",
-				m.getName(),
-				cmd.getTraCICmd().logShort(),
-				var.toString());
-		return invokeHandler(m, this, getCmd, remoteManager);
+		return PersonCommandHandlerDispatcher.dispatch(this, getCmd, var, remoteManager);
 	}
 
 	public TraCICommand processSet(TraCICommand cmd, RemoteManager remoteManager) {
 		TraCISetCommand setCmd = (TraCISetCommand) cmd;
 
 		PersonVar var = PersonVar.fromId(setCmd.getVariableId());
-		Method m = getHandler(setCmd.getTraCICmd(), var);
-
-		return invokeHandler(m, this, setCmd, remoteManager);
+		return PersonCommandHandlerDispatcher.dispatch(this, setCmd, var, remoteManager);
 	}
 
 }
@@ -18,7 +18,6 @@ import org.vadere.util.logging.Logger;
 
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -54,21 +53,6 @@ public class PolygonCommandHandler extends CommandHandler<PolygonVar> {
 
 	public PolygonCommandHandler() {
 		super();
-		init(PolygonHandler.class, PolygonHandlers.class);
-	}
-
-	@Override
-	protected void init_HandlerSingle(Method m) {
-		PolygonHandler an = m.getAnnotation(PolygonHandler.class);
-		putHandler(an.cmd(), an.var(), m);
-	}
-
-	@Override
-	protected void init_HandlerMult(Method m) {
-		PolygonHandler[] ans = m.getAnnotation(PolygonHandlers.class).value();
-		for (PolygonHandler a : ans) {
-			putHandler(a.cmd(), a.var(), m);
-		}
 	}
 
 
@@ -242,32 +226,6 @@ public class PolygonCommandHandler extends CommandHandler<PolygonVar> {
 		TraCIGetCommand getCmd = (TraCIGetCommand) cmd;
 
 		PolygonVar var = PolygonVar.fromId(getCmd.getVariableIdentifier());
-
-		switch (var) {
-			case TOPOGRAPHY_BOUNDS:
-				return process_getTopographyBounds(getCmd, remoteManager, var);
-			case ID_LIST:
-				return process_getIDList(getCmd, remoteManager, var);
-			case COUNT:
-				return process_getIDCount(getCmd, remoteManager, var);
-			case TYPE:
-				return process_getType(getCmd, remoteManager, var);
-			case SHAPE:
-				return process_getShape(getCmd, remoteManager, var);
-			case CENTROID:
-				return process_getCentroid(getCmd, remoteManager, var);
-			case COLOR:
-				return process_getColor(getCmd, remoteManager, var);
-			case POSITION:
-				return process_getPosition2D(getCmd, remoteManager, var);
-			case DISTANCE:
-				return process_getDistance(getCmd, remoteManager);
-			case IMAGEFILE:
-			case WIDTH:
-			case HEIGHT:
-			case ANGLE:
-			default:
-				return process_UnknownCommand(getCmd, remoteManager);
-		}
+		return PolygonCommandHandlerDispatcher.dispatch(this, getCmd, var, remoteManager);
 	}
 }
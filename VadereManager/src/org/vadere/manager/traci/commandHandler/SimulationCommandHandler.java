@@ -31,7 +31,6 @@ import org.vadere.util.logging.Logger;
 
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
@@ -73,26 +72,11 @@ public class SimulationCommandHandler extends CommandHandler<SimulationVar> {
 
 	private SimulationCommandHandler() {
 		super();
-		init(SimulationHandler.class, SimulationHandlers.class);
 		allPrevious = Pair.create(-1.0, new HashSet<>()); // never called.
 		departedCache = Pair.create(-1.0, new ArrayList<>());
 		arrivedCache = Pair.create(-1.0, new ArrayList<>());
 	}
 
-	@Override
-	protected void init_HandlerSingle(Method m) {
-		SimulationHandler an = m.getAnnotation(SimulationHandler.class);
-		putHandler(an.cmd(), an.var(), m);
-	}
-
-	@Override
-	protected void init_HandlerMult(Method m) {
-		SimulationHandler[] ans = m.getAnnotation(SimulationHandlers.class).value();
-		for (SimulationHandler a : ans) {
-			putHandler(a.cmd(), a.var(), m);
-		}
-	}
-
 	public TraCIGetResponse responseOK(TraCIDataType responseDataType, Object responseData) {
 		return responseOK(responseDataType, responseData, TraCICmd.GET_SIMULATION_VALUE, TraCICmd.RESPONSE_GET_SIMULATION_VALUE);
 	}
@@ -311,14 +295,7 @@ public class SimulationCommandHandler extends CommandHandler<SimulationVar> {
 		TraCIGetCommand cmd = (TraCIGetCommand) rawCmd;
 		SimulationVar var = SimulationVar.fromId(cmd.getVariableIdentifier());
 
-		Method m = getHandler(cmd.getTraCICmd(), var);
-
-		logger.tracef("invokeHandler: SimulationCommandHandler.%s [CMD: %s VAR: %s]",
-				m.getName(),
-				cmd.getTraCICmd().logShort(),
-				var.toString());
-		return  invokeHandler(m, this, cmd, remoteManager);
-
+		return SimulationCommandHandlerDispatcher.dispatch(this, cmd, var, remoteManager);
 	}
 
 	public TraCICommand processSet(TraCICommand rawCmd, RemoteManager remoteManager) {
@@ -326,10 +303,7 @@ public class SimulationCommandHandler extends CommandHandler<SimulationVar> {
 		TraCISetCommand cmd = (TraCISetCommand) rawCmd;
 		SimulationVar var = SimulationVar.fromId(cmd.getVariableId());
 
-		Method m = getHandler(cmd.getTraCICmd(), var);
-
-		return invokeHandler(m, this, cmd, remoteManager);
-
+		return SimulationCommandHandlerDispatcher.dispatch(this, cmd, var, remoteManager);
 	}
 
 }
@@ -21,12 +21,11 @@ import org.vadere.state.attributes.scenario.AttributesTargetChanger;
 import org.vadere.state.psychology.perception.json.StimulusInfo;
 import org.vadere.state.psychology.perception.json.StimulusInfoStore;
 import org.vadere.state.scenario.TargetChanger;
+import org.vadere.state.scenario.Topography;
 import org.vadere.state.types.ScenarioElementType;
 import org.vadere.state.util.StateJsonConverter;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
@@ -60,21 +59,6 @@ public class VadereCommandHandler extends CommandHandler<VadereVar> {
 
 	public VadereCommandHandler() {
 		super();
-		init(VadereHandler.class, VadereHandlers.class);
-	}
-
-	@Override
-	protected void init_HandlerSingle(Method m) {
-		VadereHandler an = m.getAnnotation(VadereHandler.class);
-		putHandler(an.cmd(), an.var(), m);
-	}
-
-	@Override
-	protected void init_HandlerMult(Method m) {
-		VadereHandler[] ans = m.getAnnotation(VadereHandlers.class).value();
-		for (VadereHandler a : ans) {
-			putHandler(a.cmd(), a.var(), m);
-		}
 	}
 
 	public TraCIGetResponse responseOK(TraCIDataType responseDataType, Object responseData) {
@@ -148,14 +132,25 @@ public class VadereCommandHandler extends CommandHandler<VadereVar> {
 		return cmd;
 	}
 
+	/**
+	 * Returns the resource usage of the client session (see {@link org.vadere.manager.traci.compound.object.SessionStatistics}).
+	 * The simulation state is not accessed, i.e. the statistics are available before and after the simulation.
+	 */
+	@VadereHandler(cmd = TraCICmd.GET_VADERE_VALUE, var = VadereVar.SESSION_STATISTICS, name = "getSessionStatistics", ignoreElementId = true)
+	public TraCICommand process_getSessionStatistics(TraCIGetCommand cmd, RemoteManager remoteManager) {
+		cmd.setResponse(responseOK(VadereVar.SESSION_STATISTICS.type, remoteManager.getSessionStatistics().asCompoundObject()));
+		return cmd;
+	}
+
 	@VadereHandler(cmd = TraCICmd.SET_VADERE_STATE, var = VadereVar.REMOVE_TARGET_CHANGER, name = "removeTargetChanger")
 	public TraCICommand process_removeTargetChanger(TraCISetCommand cmd, RemoteManager remoteManager) {
 		remoteManager.accessState((manager, state) -> {
-			LinkedList<TargetChanger> lltc = (LinkedList<TargetChanger>) state.getTopography().getTargetChangers();
-			if (lltc.remove(lltc
+			Topography topography = state.getTopography();
+			TargetChanger targetChanger = topography.getTargetChangers()
 					.stream()
 					.filter(p -> p.getId() == Integer.parseInt(cmd.getElementId()))
-					.findFirst().orElse(null)))
+					.findFirst().orElse(null);
+			if (targetChanger != null && topography.removeTargetChanger(targetChanger))
 				cmd.setOK();
 			else
 				cmd.setErr("ID not found.");
@@ -173,30 +168,14 @@ public class VadereCommandHandler extends CommandHandler<VadereVar> {
 		TraCIGetCommand getCmd = (TraCIGetCommand) cmd;
 
 		VadereVar var = VadereVar.fromId(getCmd.getVariableIdentifier());
-		switch (var) {
-			case GET_ALL_STIMULUS_INFOS:
-				return process_getAllStimulusInfos(getCmd, remoteManager);
-			default:
-				return process_UnknownCommand(getCmd, remoteManager);
-		}
+		return VadereCommandHandlerDispatcher.dispatch(this, getCmd, var, remoteManager);
 	}
 
 	public TraCICommand processSet(TraCICommand cmd, RemoteManager remoteManager) {
 		TraCISetCommand setCmd = (TraCISetCommand) cmd;
 
 		VadereVar var = VadereVar.fromId(setCmd.getVariableId());
-
-		switch (var) {
-			case ADD_TARGET_CHANGER:
-				return process_addTargetChanger(setCmd, remoteManager);
-			case REMOVE_TARGET_CHANGER:
-				return process_removeTargetChanger(setCmd, remoteManager);
-			case ADD_STIMULUS_INFOS:
-				return process_addStimulusInfos(setCmd, remoteManager);
-			default:
-				return process_UnknownCommand(setCmd, remoteManager);
-
-		}
+		return VadereCommandHandlerDispatcher.dispatch(this, setCmd, var, remoteManager);
 	}
 
 }
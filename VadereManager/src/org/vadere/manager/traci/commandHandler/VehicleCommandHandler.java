@@ -3,14 +3,11 @@ package org.vadere.manager.traci.commandHandler;
 import org.vadere.manager.RemoteManager;
 import org.vadere.manager.traci.TraCICmd;
 import org.vadere.state.traci.TraCIDataType;
-import org.vadere.manager.traci.commandHandler.annotation.VehicleHandler;
-import org.vadere.manager.traci.commandHandler.annotation.VehicleHandlers;
 import org.vadere.manager.traci.commandHandler.variables.VehicleVar;
 import org.vadere.manager.traci.commands.TraCICommand;
 import org.vadere.manager.traci.commands.TraCIGetCommand;
 import org.vadere.manager.traci.response.TraCIGetResponse;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 
 public class VehicleCommandHandler extends CommandHandler<VehicleVar> {
@@ -25,21 +22,6 @@ public class VehicleCommandHandler extends CommandHandler<VehicleVar> {
 
 	public VehicleCommandHandler() {
 		super();
-		init(VehicleHandler.class, VehicleHandlers.class);
-	}
-
-	@Override
-	protected void init_HandlerSingle(Method m) {
-		VehicleHandler an = m.getAnnotation(VehicleHandler.class);
-		putHandler(an.cmd(), an.var(), m);
-	}
-
-	@Override
-	protected void init_HandlerMult(Method m) {
-		VehicleHandler[] ans = m.getAnnotation(VehicleHandlers.class).value();
-		for (VehicleHandler a : ans) {
-			putHandler(a.cmd(), a.var(), m);
-		}
 	}
 
 	public TraCIGetResponse responseOK(TraCIDataType responseDataType, Object responseData) {
@@ -10,12 +10,11 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Experimental annotation interface which removes long manually create switch statements by
- * creating a dynamic HashMap connecting commands(using variableIDs) to the corresponding handler
- * methods.
+ * Annotation interface which removes long manually create switch statements by connecting
+ * commands(using variableIDs) to the corresponding handler methods.
  *
- * Reflection is minimized to a single startup routine at object creation. At runtime only HashMap
- * access is performed.
+ * The switch statements are generated at compile time (see CommandDispatchProcessor in
+ * VadereAnnotation), i.e. no reflection is performed at runtime.
  */
 
 @Target(ElementType.METHOD)
@@ -36,7 +36,14 @@ public enum PersonVar {
 	ADD(0x80, TraCIDataType.STRING),
 	REMOVE_STAGE(0xc5, TraCIDataType.INTEGER), // set
 	TARGET_LIST(0xfe, TraCIDataType.STRING_LIST), // get, set
-	INFORMATION_ITEM(0xfd, TraCIDataType.COMPOUND_OBJECT)
+	INFORMATION_ITEM(0xfd, TraCIDataType.COMPOUND_OBJECT),
+	// columns of all persons (element id '-1'), all in the order of ID_ARRAY
+	ID_ARRAY(0xf0, TraCIDataType.INTEGER_LIST), // get
+	POSITION_X_ARRAY(0xf1, TraCIDataType.DOUBLE_LIST), // get
+	POSITION_Y_ARRAY(0xf2, TraCIDataType.DOUBLE_LIST), // get
+	VELOCITY_X_ARRAY(0xf3, TraCIDataType.DOUBLE_LIST), // get
+	VELOCITY_Y_ARRAY(0xf4, TraCIDataType.DOUBLE_LIST), // get
+	TARGET_ID_ARRAY(0xf5, TraCIDataType.INTEGER_LIST), // get (-1 if a person has no next target)
 	;
 
 
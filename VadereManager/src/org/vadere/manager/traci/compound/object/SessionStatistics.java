@@ -0,0 +1,96 @@
+package org.vadere.manager.traci.compound.object;
+
+import org.vadere.state.traci.CompoundObject;
+import org.vadere.state.traci.CompoundObjectBuilder;
+import org.vadere.state.traci.TraCIDataType;
+import org.vadere.state.traci.TraCIException;
+
+/**
+ * Resource usage of one client session and the load of the server shared by all sessions.
+ * The CPU time and the allocated memory contain the simulation worker and the client handler
+ * of the session.
+ */
+public class SessionStatistics {
+
+	private String sessionId;
+	private double cpuTime;            // in seconds
+	private double allocatedBytes;
+	private int runningSimulations;    // all sessions of the server
+	private int queuedSimulations;     // all sessions of the server
+	private int maxSimulations;
+	private int sharedFloorFields;     // floor fields held for the loaded or running scenarios of all sessions
+
+	public SessionStatistics(CompoundObject obj) {
+		if (obj.size() != 7) {
+			throw new TraCIException("Expected 7 elements for SessionStatistics");
+		}
+		sessionId = (String) obj.getData(0, TraCIDataType.STRING);
+		cpuTime = (Double) obj.getData(1, TraCIDataType.DOUBLE);
+		allocatedBytes = (Double) obj.getData(2, TraCIDataType.DOUBLE);
+		runningSimulations = (Integer) obj.getData(3, TraCIDataType.INTEGER);
+		queuedSimulations = (Integer) obj.getData(4, TraCIDataType.INTEGER);
+		maxSimulations = (Integer) obj.getData(5, TraCIDataType.INTEGER);
+		sharedFloorFields = (Integer) obj.getData(6, TraCIDataType.INTEGER);
+	}
+
+	public SessionStatistics(String sessionId, double cpuTime, double allocatedBytes, int runningSimulations,
+							 int queuedSimulations, int maxSimulations, int sharedFloorFields) {
+		this.sessionId = sessionId;
+		this.cpuTime = cpuTime;
+		this.allocatedBytes = allocatedBytes;
+		this.runningSimulations = runningSimulations;
+		this.queuedSimulations = queuedSimulations;
+		this.maxSimulations = maxSimulations;
+		this.sharedFloorFields = sharedFloorFields;
+	}
+
+	public CompoundObject asCompoundObject() {
+		return CompoundObjectBuilder.builder()
+				.rest()
+				.add(TraCIDataType.STRING)
+				.add(TraCIDataType.DOUBLE, 2)
+				.add(TraCIDataType.INTEGER, 4)
+				.build(sessionId, cpuTime, allocatedBytes, runningSimulations, queuedSimulations, maxSimulations, sharedFloorFields);
+	}
+
+	public String getSessionId() {
+		return sessionId;
+	}
+
+	public double getCpuTime() {
+		return cpuTime;
+	}
+
+	public double getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	public int getRunningSimulations() {
+		return runningSimulations;
+	}
+
+	public int getQueuedSimulations() {
+		return queuedSimulations;
+	}
+
+	public int getMaxSimulations() {
+		return maxSimulations;
+	}
+
+	public int getSharedFloorFields() {
+		return sharedFloorFields;
+	}
+
+	@Override
+	public String toString() {
+		return "SessionStatistics{" +
+				"sessionId='" + sessionId + '\'' +
+				", cpuTime=" + cpuTime +
+				", allocatedBytes=" + allocatedBytes +
+				", runningSimulations=" + runningSimulations +
+				", queuedSimulations=" + queuedSimulations +
+				", maxSimulations=" + maxSimulations +
+				", sharedFloorFields=" + sharedFloorFields +
+				'}';
+	}
+}
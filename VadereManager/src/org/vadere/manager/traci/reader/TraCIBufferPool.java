@@ -0,0 +1,98 @@
+package org.vadere.manager.traci.reader;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct {@link ByteBuffer}s used to receive TraCI packets without allocating (and
+ * zeroing) a new array for each packet. The buffers are grouped in size classes of powers of two
+ * from {@link #MIN_BUFFER_SIZE} to {@link #MAX_BUFFER_SIZE}. Larger packets (e.g. scenario files)
+ * get a heap buffer which is not pooled.
+ *
+ * The pool is thread-safe, i.e. all connections of a server share one pool, see {@link #getDefault()}.
+ */
+public class TraCIBufferPool {
+
+	public static final int MIN_BUFFER_SIZE = 1 << 10;
+	public static final int MAX_BUFFER_SIZE = 1 << 24;
+	private static final int DEFAULT_BUFFERS_PER_CLASS = 16;
+	private static final TraCIBufferPool defaultPool = new TraCIBufferPool(DEFAULT_BUFFERS_PER_CLASS);
+
+	private final ConcurrentLinkedQueue<ByteBuffer>[] freeBuffers;
+	private final AtomicInteger[] numberOfFreeBuffers;
+	private final int buffersPerClass;
+
+	/**
+	 * @param buffersPerClass the maximal number of free buffers kept per size class
+	 */
+	@SuppressWarnings("unchecked")
+	public TraCIBufferPool(final int buffersPerClass) {
+		int numberOfClasses = sizeClass(MAX_BUFFER_SIZE) + 1;
+		this.freeBuffers = new ConcurrentLinkedQueue[numberOfClasses];
+		this.numberOfFreeBuffers = new AtomicInteger[numberOfClasses];
+		for (int i = 0; i < numberOfClasses; i++) {
+			freeBuffers[i] = new ConcurrentLinkedQueue<>();
+			numberOfFreeBuffers[i] = new AtomicInteger(0);
+		}
+		this.buffersPerClass = buffersPerClass;
+	}
+
+	public static TraCIBufferPool getDefault() {
+		return defaultPool;
+	}
+
+	/**
+	 * Returns a cleared buffer whose limit is set to <tt>size</tt>. The capacity of the buffer may be larger.
+	 */
+	public ByteBuffer acquire(final int size) {
+		if (size > MAX_BUFFER_SIZE) {
+			return ByteBuffer.allocate(size);
+		}
+
+		int sizeClass = sizeClass(size);
+		ByteBuffer buffer = freeBuffers[sizeClass].poll();
+		if (buffer == null) {
+			buffer = ByteBuffer.allocateDirect(MIN_BUFFER_SIZE << sizeClass);
+		} else {
+			numberOfFreeBuffers[sizeClass].decrementAndGet();
+		}
+		buffer.clear().limit(size);
+		return buffer;
+	}
+
+	/**
+	 * Returns the buffer to the pool. The buffer must not be used afterwards.
+	 */
+	public void release(final ByteBuffer buffer) {
+		if (!buffer.isDirect() || Integer.bitCount(buffer.capacity()) != 1
+				|| buffer.capacity() < MIN_BUFFER_SIZE || buffer.capacity() > MAX_BUFFER_SIZE) {
+			return;
+		}
+
+		int sizeClass = sizeClass(buffer.capacity());
+		if (numberOfFreeBuffers[sizeClass].incrementAndGet() <= buffersPerClass) {
+			freeBuffers[sizeClass].offer(buffer);
+		} else {
+			numberOfFreeBuffers[sizeClass].decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of free buffers of all size classes.
+	 */
+	public int getNumberOfFreeBuffers() {
+		int sum = 0;
+		for (AtomicInteger n : numberOfFreeBuffers) {
+			sum += n.get();
+		}
+		return sum;
+	}
+
+	private static int sizeClass(final int size) {
+		if (size <= MIN_BUFFER_SIZE) {
+			return 0;
+		}
+		return 32 - Integer.numberOfLeadingZeros(size - 1) - Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+	}
+}
@@ -64,6 +64,18 @@ public class TraCIByteBuffer implements TraCIReader {
 		return data;
 	}
 
+	/**
+	 * Returns a view of the next <tt>num</tt> bytes, i.e. the bytes are not copied.
+	 */
+	@Override
+	public ByteBuffer readByteBuffer(int num) {
+		ensureBytes(num);
+		ByteBuffer view = byteBuffer.slice();
+		view.limit(num);
+		byteBuffer.position(byteBuffer.position() + num);
+		return view;
+	}
+
 	@Override
 	public void readBytes(byte[] data) {
 		byteBuffer.get(data, 0, data.length);
@@ -114,6 +126,26 @@ public class TraCIByteBuffer implements TraCIReader {
 		return stringList;
 	}
 
+	@Override
+	public int[] readIntArray() {
+		ensureBytes(4); // 1x int
+		int[] values = new int[byteBuffer.getInt()];
+		ensureBytes(values.length * 4);
+		byteBuffer.asIntBuffer().get(values);
+		byteBuffer.position(byteBuffer.position() + values.length * 4);
+		return values;
+	}
+
+	@Override
+	public double[] readDoubleArray() {
+		ensureBytes(4); // 1x int
+		double[] values = new double[byteBuffer.getInt()];
+		ensureBytes(values.length * 8);
+		byteBuffer.asDoubleBuffer().get(values);
+		byteBuffer.position(byteBuffer.position() + values.length * 8);
+		return values;
+	}
+
 	@Override
 	public VPoint read2DPosition() {
 		// id already consumed
@@ -275,6 +307,10 @@ public class TraCIByteBuffer implements TraCIReader {
 				return readTrafficLightPhaseList();
 			case COLOR:
 				return readColor();
+			case INTEGER_LIST:
+				return readIntArray();
+			case DOUBLE_LIST:
+				return readDoubleArray();
 			case COMPOUND_OBJECT:
 				return readCompoundObject();
 			case NULL:
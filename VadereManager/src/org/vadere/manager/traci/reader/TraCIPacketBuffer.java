@@ -15,11 +15,17 @@ import java.nio.ByteBuffer;
  *
  * The class expects that the given buffer only contains commands. The packet length filed (int)
  * must be removed before!
+ *
+ * Commands and responses are read from views of the buffer, i.e. a buffer taken from a
+ * {@link TraCIBufferPool} must only be released after all commands of the packet are executed.
  */
 public class TraCIPacketBuffer extends TraCIByteBuffer {
 
 	private static Logger logger = Logger.getLogger(TraCIPacketBuffer.class);
 
+	private TraCIBufferPool pool;
+	private ByteBuffer pooledBuffer;
+
 	protected TraCIPacketBuffer(byte[] buf) {
 		super(buf);
 	}
@@ -28,6 +34,12 @@ public class TraCIPacketBuffer extends TraCIByteBuffer {
 		super(buf);
 	}
 
+	protected TraCIPacketBuffer(ByteBuffer buf, TraCIBufferPool pool) {
+		super(buf);
+		this.pool = pool;
+		this.pooledBuffer = buf;
+	}
+
 	public static TraCIPacketBuffer wrap(byte[] buf) {
 		return new TraCIPacketBuffer(buf);
 	}
@@ -36,6 +48,13 @@ public class TraCIPacketBuffer extends TraCIByteBuffer {
 		return new TraCIPacketBuffer(buf);
 	}
 
+	/**
+	 * Wraps a buffer acquired from the given pool. The buffer is returned to the pool by {@link #release()}.
+	 */
+	public static TraCIPacketBuffer wrap(ByteBuffer buf, TraCIBufferPool pool) {
+		return new TraCIPacketBuffer(buf, pool);
+	}
+
 	public static TraCIPacketBuffer empty() {
 		return new TraCIPacketBuffer(new byte[0]);
 	}
@@ -76,6 +95,18 @@ public class TraCIPacketBuffer extends TraCIByteBuffer {
 		}
 	}
 
+	/**
+	 * Returns the underlying buffer to its pool (if any). Neither this packet buffer nor the commands
+	 * read from it must be used afterwards.
+	 */
+	public void release() {
+		if (pool != null) {
+			pool.release(pooledBuffer);
+			pool = null;
+			pooledBuffer = null;
+		}
+	}
+
 	private int getCommandDataLen() {
 		int cmdLen = readUnsignedByte();
 		if (cmdLen == 0) {
@@ -47,6 +47,10 @@ public interface TraCIReader {
 
 	List<String> readStringList();
 
+	int[] readIntArray();
+
+	double[] readDoubleArray();
+
 	VPoint read2DPosition();
 
 	Map<String, VPoint> read2DPositionList();
@@ -81,7 +81,7 @@ public class TraCIGetResponse extends TraCIResponse {
 		if (o == null || getClass() != o.getClass()) return false;
 		TraCIGetResponse that = (TraCIGetResponse) o;
 		return responseDataType == that.responseDataType &&
-				responseData.equals(that.responseData);
+				Objects.deepEquals(responseData, that.responseData);
 	}
 
 	@Override
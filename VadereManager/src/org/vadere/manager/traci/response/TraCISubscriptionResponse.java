@@ -168,7 +168,7 @@ public class TraCISubscriptionResponse extends TraCIResponse {
 			return variableId == that.variableId &&
 					status == that.status &&
 					variableDataType == that.variableDataType &&
-					variableValue.equals(that.variableValue);
+					Objects.deepEquals(variableValue, that.variableValue);
 		}
 
 		@Override
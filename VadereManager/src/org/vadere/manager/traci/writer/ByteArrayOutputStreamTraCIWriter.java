@@ -24,11 +24,13 @@ public class ByteArrayOutputStreamTraCIWriter implements TraCIWriter {
 
 	private static Logger logger = Logger.getLogger(ByteArrayOutputStreamTraCIWriter.class);
 
-	ByteArrayOutputStream data;
+	ViewableByteArrayOutputStream data;
+	private final byte[] scratch;
 
 
 	public ByteArrayOutputStreamTraCIWriter() {
-		data = new ByteArrayOutputStream();
+		data = new ViewableByteArrayOutputStream();
+		scratch = new byte[8];
 	}
 
 	@Override
@@ -36,6 +38,14 @@ public class ByteArrayOutputStreamTraCIWriter implements TraCIWriter {
 		return ByteBuffer.wrap(data.toByteArray());
 	}
 
+	/**
+	 * Returns a view of the written bytes, i.e. the bytes are not copied. The view must not be used
+	 * after further writes.
+	 */
+	public ByteBuffer asByteBufferView() {
+		return data.view();
+	}
+
 	@Override
 	public byte[] asByteArray() {
 		return data.toByteArray();
@@ -96,6 +106,12 @@ public class ByteArrayOutputStreamTraCIWriter implements TraCIWriter {
 			case COLOR:
 				writeColor((Color) data);
 				break;
+			case INTEGER_LIST:
+				writeIntArrayWithId((int[]) data);
+				break;
+			case DOUBLE_LIST:
+				writeDoubleArrayWithId((double[]) data);
+				break;
 			case COMPOUND_OBJECT:
 				writeCompoundObject((CompoundObject) data);
 			case NULL:
@@ -126,6 +142,32 @@ public class ByteArrayOutputStreamTraCIWriter implements TraCIWriter {
 		return this;
 	}
 
+	@Override
+	public TraCIWriter writeBytes(ByteBuffer buf) {
+		data.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+		return this;
+	}
+
+	@Override
+	public TraCIWriter writeInt(int val) {
+		scratch[0] = (byte) (val >>> 24);
+		scratch[1] = (byte) (val >>> 16);
+		scratch[2] = (byte) (val >>> 8);
+		scratch[3] = (byte) val;
+		data.write(scratch, 0, 4);
+		return this;
+	}
+
+	@Override
+	public TraCIWriter writeDouble(double val) {
+		long bits = Double.doubleToRawLongBits(val);
+		for (int i = 0; i < 8; i++) {
+			scratch[i] = (byte) (bits >>> (56 - 8 * i));
+		}
+		data.write(scratch, 0, 8);
+		return this;
+	}
+
 
 	@Override
 	public TraCIWriter writeUnsignedByteWithId(int val) {
@@ -169,6 +211,34 @@ public class ByteArrayOutputStreamTraCIWriter implements TraCIWriter {
 		return this;
 	}
 
+	@Override
+	public TraCIWriter writeIntArrayWithId(int[] val) {
+		writeUnsignedByte(TraCIDataType.INTEGER_LIST.id);
+		writeIntArray(val);
+		return this;
+	}
+
+	@Override
+	public TraCIWriter writeDoubleArrayWithId(double[] val) {
+		writeUnsignedByte(TraCIDataType.DOUBLE_LIST.id);
+		writeDoubleArray(val);
+		return this;
+	}
+
+	@Override
+	public TraCIWriter writeIntArray(int[] val) {
+		writeInt(val.length);
+		data.append(val.length * 4).asIntBuffer().put(val);
+		return this;
+	}
+
+	@Override
+	public TraCIWriter writeDoubleArray(double[] val) {
+		writeInt(val.length);
+		data.append(val.length * 8).asDoubleBuffer().put(val);
+		return this;
+	}
+
 	@Override
 	public TraCIWriter writeString(String val) {
 		writeString(val, StandardCharsets.US_ASCII);
@@ -351,4 +421,27 @@ public class ByteArrayOutputStreamTraCIWriter implements TraCIWriter {
 	public int size() {
 		return data.size();
 	}
+
+	/**
+	 * Gives access to the internal array to avoid copying the written bytes.
+	 */
+	static class ViewableByteArrayOutputStream extends ByteArrayOutputStream {
+
+		ByteBuffer view() {
+			return ByteBuffer.wrap(buf, 0, count);
+		}
+
+		/**
+		 * Appends <tt>len</tt> bytes and returns a (big-endian) view of them, i.e. packed arrays are
+		 * written directly into the internal array.
+		 */
+		ByteBuffer append(int len) {
+			if (count + len > buf.length) {
+				buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + len));
+			}
+			ByteBuffer appended = ByteBuffer.wrap(buf, count, len).slice();
+			count += len;
+			return appended;
+		}
+	}
 }
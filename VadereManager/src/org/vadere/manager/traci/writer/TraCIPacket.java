@@ -102,6 +102,18 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 		}
 	}
 
+	/**
+	 * Returns the packet as a view of the written bytes (with the correct packet length), i.e. without
+	 * copying it like {@link #send()}. The view must not be used after further writes to the packet.
+	 */
+	public ByteBuffer sendBuffer() {
+		ByteBuffer packet = asByteBufferView();
+		if (!finalized && emptyLengthField) {
+			packet.putInt(0, packet.remaining());
+		}
+		return packet;
+	}
+
 	public List<TraCICommand> getCommands() {
 		ByteBuffer buf = ByteBuffer.wrap(send());
 		buf.getInt(); // remove packet length.
@@ -113,20 +125,20 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 		return commands;
 	}
 
-	private TraCIWriter getCmdBuilder() {
+	private ByteArrayOutputStreamTraCIWriter getCmdBuilder() {
 		return new ByteArrayOutputStreamTraCIWriter();
 	}
 
 	public TraCIPacket wrapCommand(TraCICmd commandIdentifier, String elementIdentifier,
 								   int variableIdentifier, TraCIDataType dataType, Object data) {
 
-		TraCIWriter cmdBuilder = getCmdBuilder();
+		ByteArrayOutputStreamTraCIWriter cmdBuilder = getCmdBuilder();
 		cmdBuilder.writeUnsignedByte(commandIdentifier.id)
 				.writeUnsignedByte(variableIdentifier)
 				.writeString(elementIdentifier)
 				.writeObjectWithId(dataType, data);
 
-		addCommandWithoutLen(cmdBuilder.asByteArray());
+		addCommandWithoutLen(cmdBuilder.asByteBufferView());
 
 		return this;
 	}
@@ -138,13 +150,13 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 		if (!res.getStatusResponse().getResponse().equals(TraCIStatusResponse.OK))
 			return this; // ERR or NOT_IMPLEMENTED --> only StatusResponse
 
-		TraCIWriter cmdBuilder = getCmdBuilder();
+		ByteArrayOutputStreamTraCIWriter cmdBuilder = getCmdBuilder();
 		cmdBuilder.writeUnsignedByte(res.getResponseIdentifier().id)
 				.writeUnsignedByte(res.getVariableIdentifier())
 				.writeString(res.getElementIdentifier())
 				.writeObjectWithId(res.getResponseDataType(), res.getResponseData());
 
-		addCommandWithoutLen(cmdBuilder.asByteArray());
+		addCommandWithoutLen(cmdBuilder.asByteBufferView());
 
 		return this;
 	}
@@ -161,7 +173,7 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 	}
 
 	private void wrapSubscription(TraCISubscriptionResponse res) {
-		TraCIWriter cmdBuilder = getCmdBuilder();
+		ByteArrayOutputStreamTraCIWriter cmdBuilder = getCmdBuilder();
 		cmdBuilder.writeUnsignedByte(res.getResponseIdentifier().id) // (i.e. TraCICmd.RESPONSE_SUB_PERSON_VARIABLE)
 				.writeString(res.getElementId())
 				.writeUnsignedByte(res.getNumberOfVariables());
@@ -171,7 +183,7 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 					.writeObjectWithId(var.getVariableDataType(), var.getVariableValue());
 		});
 
-		addCommandWithExtendedLenField(cmdBuilder.asByteArray());
+		addCommandWithExtendedLenField(cmdBuilder.asByteBufferView());
 	}
 
 	public TraCIPacket wrapGetVersionCommand(TraCIGetVersionCommand cmd) {
@@ -182,13 +194,13 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 		else
 			addStatusResponse(res.getStatusResponse());
 
-		TraCIWriter cmdBuilder = getCmdBuilder();
+		ByteArrayOutputStreamTraCIWriter cmdBuilder = getCmdBuilder();
 		// ResponseIdentifier needed by implementation in Veins/OMNeT++
 		cmdBuilder.writeUnsignedByte(res.getResponseIdentifier().id)
 				.writeInt(res.getVersionId())
 				.writeString(res.getVersionString());
 
-		addCommandWithoutLen(cmdBuilder.asByteArray());
+		addCommandWithoutLen(cmdBuilder.asByteBufferView());
 
 		return this;
 	}
@@ -228,19 +240,27 @@ public class TraCIPacket extends ByteArrayOutputStreamTraCIWriter {
 	}
 
 	public void addCommandWithExtendedLenField(byte[] buffer) {
+		addCommandWithExtendedLenField(ByteBuffer.wrap(buffer));
+	}
+
+	public void addCommandWithExtendedLenField(ByteBuffer buffer) {
 		writeUnsignedByte(0);
-		writeInt(buffer.length + 5); // 1 + 4 length field
+		writeInt(buffer.remaining() + 5); // 1 + 4 length field
 		writeBytes(buffer);
 	}
 
 
 	public void addCommandWithoutLen(byte[] buffer) {
-		if (buffer.length > 254) {
+		addCommandWithoutLen(ByteBuffer.wrap(buffer));
+	}
+
+	public void addCommandWithoutLen(ByteBuffer buffer) {
+		if (buffer.remaining() > 254) {
 			writeUnsignedByte(0);
-			writeInt(buffer.length + 5); // 1 + 4 length field
+			writeInt(buffer.remaining() + 5); // 1 + 4 length field
 			writeBytes(buffer);
 		} else {
-			writeUnsignedByte(buffer.length + 1); // 1 length field
+			writeUnsignedByte(buffer.remaining() + 1); // 1 length field
 			writeBytes(buffer);
 		}
 	}
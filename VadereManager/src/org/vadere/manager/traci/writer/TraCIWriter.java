@@ -38,6 +38,10 @@ public interface TraCIWriter {
 
 	TraCIWriter write2DPositionListWithId(Map<String, VPoint> data);
 
+	TraCIWriter writeIntArrayWithId(int[] val);
+
+	TraCIWriter writeDoubleArrayWithId(double[] val);
+
 	TraCIWriter writeByte(int val);
 
 	default TraCIWriter writeUnsignedByte(int val) {
@@ -78,6 +82,10 @@ public interface TraCIWriter {
 
 	TraCIWriter writeStringList(List<String> val);
 
+	TraCIWriter writeIntArray(int[] val);
+
+	TraCIWriter writeDoubleArray(double[] val);
+
 	TraCIWriter write2DPosition(VPoint val);
 
 	TraCIWriter write2DPositionList(Map<String, VPoint> data);
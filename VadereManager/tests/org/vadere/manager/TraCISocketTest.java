@@ -1,6 +1,26 @@
 package org.vadere.manager;
 
 import org.junit.Test;
+import org.vadere.manager.traci.TraCICmd;
+import org.vadere.manager.traci.commandHandler.variables.PersonVar;
+import org.vadere.manager.traci.commands.TraCICommand;
+import org.vadere.manager.traci.commands.TraCIGetCommand;
+import org.vadere.manager.traci.reader.TraCIPacketBuffer;
+import org.vadere.manager.traci.response.TraCIResponse;
+import org.vadere.manager.traci.response.TraCIStatusResponse;
+import org.vadere.manager.traci.writer.TraCIPacket;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class TraCISocketTest {
 
@@ -16,4 +36,49 @@ public class TraCISocketTest {
 		System.out.println("xxx");
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void roundTripOverChannel() throws IOException {
+		try (ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+			serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			Socket clientSocket = new Socket(InetAddress.getLoopbackAddress(), serverChannel.socket().getLocalPort());
+
+			try (TraCISocket client = new TraCISocket(clientSocket);
+				 TraCISocket server = new TraCISocket(serverChannel.socket().accept())) {
+
+				// client -> server: read into a pooled direct buffer
+				client.sendExact(TraCIGetCommand.build(TraCICmd.GET_PERSON_VALUE, PersonVar.POSITION.id, "42"));
+				TraCIPacketBuffer received = server.receiveExact();
+				TraCIGetCommand cmd = (TraCIGetCommand) received.nextCommand();
+				assertEquals(TraCICmd.GET_PERSON_VALUE, cmd.getTraCICmd());
+				assertEquals(PersonVar.POSITION.id, cmd.getVariableIdentifier());
+				assertEquals("42", cmd.getElementIdentifier());
+				assertNull(received.nextCommand());
+				received.release();
+
+				// server -> client: one gathering write, the bytes are the same as sending each packet
+				TraCIPacket first = TraCIPacket.sendStatus(TraCICmd.SIM_STEP, TraCIStatusResponse.OK, "first");
+				TraCIPacket second = TraCIPacket.sendStatus(TraCICmd.GET_VERSION, TraCIStatusResponse.ERR, "second");
+				server.sendExact(List.of(first, second));
+
+				TraCIResponse firstResponse = client.receiveResponse();
+				assertEquals(TraCIStatusResponse.OK, firstResponse.getStatusResponse().getResponse());
+				assertEquals("first", firstResponse.getStatusResponse().getDescription());
+				byte[] secondBytes = second.send();
+				assertArrayEquals(secondBytes, client.receive(secondBytes.length));
+			}
+		}
+	}
+
+	@Test
+	public void sendBufferEqualsSend() {
+		TraCIPacket packet = TraCIGetCommand.build(TraCICmd.GET_PERSON_VALUE, PersonVar.ID_LIST.id, "-1");
+		byte[] expected = packet.send();
+		ByteBuffer buffer = packet.sendBuffer();
+		byte[] actual = new byte[buffer.remaining()];
+		buffer.get(actual);
+		assertArrayEquals(expected, actual);
+
+		List<TraCICommand> commands = packet.getCommands();
+		assertEquals(1, commands.size());
+	}
+}
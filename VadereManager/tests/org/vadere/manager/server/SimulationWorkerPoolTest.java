@@ -0,0 +1,94 @@
+package org.vadere.manager.server;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimulationWorkerPoolTest {
+
+	@Test
+	public void atMostMaxSimulationsRunConcurrently() throws Exception {
+		SimulationWorkerPool pool = new SimulationWorkerPool(2);
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		Runnable simulation = () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		FutureTask<Void> first = pool.submit(simulation, new ThreadUsage());
+		FutureTask<Void> second = pool.submit(simulation, new ThreadUsage());
+		FutureTask<Void> third = pool.submit(simulation, new ThreadUsage());
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		assertEquals(2, pool.getNumberOfRunningSimulations());
+		assertEquals(1, pool.getNumberOfQueuedSimulations());
+		assertFalse(third.isDone());
+
+		release.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		second.get(10, TimeUnit.SECONDS);
+		third.get(10, TimeUnit.SECONDS);
+		assertEquals(0, pool.getNumberOfRunningSimulations());
+		pool.shutdown();
+	}
+
+	@Test
+	public void cancelInterruptsSimulation() throws Exception {
+		SimulationWorkerPool pool = new SimulationWorkerPool(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		FutureTask<Void> task = pool.submit(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+		}, new ThreadUsage());
+
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		task.cancel(true);
+		assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+		assertTrue(task.isDone());
+		pool.shutdown();
+	}
+
+	@Test
+	public void sessionIdsAreUnique() {
+		SimulationWorkerPool pool = new SimulationWorkerPool(1);
+		assertNotEquals(pool.nextSessionId(), pool.nextSessionId());
+	}
+
+	@Test
+	public void usageOfSimulationIsAccounted() throws Exception {
+		SimulationWorkerPool pool = new SimulationWorkerPool(1);
+		ThreadUsage usage = new ThreadUsage();
+		pool.submit(() -> {
+			double[] values = new double[1 << 16];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = Math.sqrt(i);
+			}
+		}, usage).get(10, TimeUnit.SECONDS);
+
+		// the worker is idle again, i.e. later work of the thread is not accounted to this session
+		long cpuTime = usage.getCpuTimeNanos();
+		long allocatedBytes = usage.getAllocatedBytes();
+		assertTrue(cpuTime >= 0);
+		assertTrue(allocatedBytes >= 0);
+		pool.submit(() -> { }, new ThreadUsage()).get(10, TimeUnit.SECONDS);
+		assertEquals(cpuTime, usage.getCpuTimeNanos());
+		assertEquals(allocatedBytes, usage.getAllocatedBytes());
+		pool.shutdown();
+	}
+}
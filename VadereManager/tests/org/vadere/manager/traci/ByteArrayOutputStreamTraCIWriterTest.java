@@ -8,6 +8,8 @@ import org.vadere.manager.traci.sumo.LightPhase;
 import org.vadere.manager.traci.sumo.RoadMapPosition;
 import org.vadere.manager.traci.sumo.TrafficLightPhase;
 import org.vadere.manager.traci.writer.ByteArrayOutputStreamTraCIWriter;
+import org.vadere.state.traci.CompoundObject;
+import org.vadere.state.traci.CompoundObjectBuilder;
 import org.vadere.state.traci.TraCIDataType;
 import org.vadere.util.geometry.Vector3D;
 import org.vadere.util.geometry.shapes.VPoint;
@@ -328,6 +330,31 @@ public class ByteArrayOutputStreamTraCIWriterTest {
 		checkEmpty(buf);
 	}
 
+	@Test
+	public void writeCompoundObjectWithId() {
+		CompoundObject obj = CompoundObjectBuilder.builder()
+				.add(TraCIDataType.INTEGER)
+				.build(42);
+		writer.writeObjectWithId(TraCIDataType.COMPOUND_OBJECT, obj);
+		ByteBuffer buf = writer.asByteBuffer();
+
+		// id (ubyte)
+		checkIdentifier(buf.get(), TraCIDataType.COMPOUND_OBJECT.id);
+
+		// check number of items
+		assertThat(buf.getInt(), equalTo(1));
+
+		// check item with id
+		checkIdentifier(buf.get(), TraCIDataType.INTEGER.id);
+		assertThat(buf.getInt(), equalTo(42));
+
+		// clients expect the NULL identifier after a compound object (part of the wire format)
+		checkIdentifier(buf.get(), TraCIDataType.NULL.id);
+
+		// buf must be empty
+		checkEmpty(buf);
+	}
+
 	@Test
 	public void writeColor() {
 		writer.writeColor(new Color(10, 20, 40, 50));
@@ -122,6 +122,44 @@ public class TraCIReaderTest {
 		checkEmpty();
 	}
 
+	@Test
+	public void readIntArray() {
+		int[] ids = new int[1000];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = i - 500;
+		}
+		writer.writeIntArrayWithId(ids);
+		writer.writeIntArrayWithId(new int[0]);
+		createReader();
+
+		checkIdentifier(TraCIDataType.INTEGER_LIST.id);
+		assertThat(reader.readIntArray(), equalTo(ids));
+		assertThat(reader.readTypeValue(TraCIDataType.fromId(reader.readUnsignedByte())), equalTo(new int[0]));
+
+		// buf must be empty
+		checkEmpty();
+	}
+
+	@Test
+	public void readDoubleArray() {
+		writer.writeByte(3);
+		double[] xs = new double[1000];
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = i * 0.25 - 3.1415;
+		}
+		writer.writeDoubleArrayWithId(xs);
+		writer.writeInt(42);
+		createReader();
+
+		assertThat(reader.readByte(), equalTo((byte) 3));
+		checkIdentifier(TraCIDataType.DOUBLE_LIST.id);
+		assertThat(reader.readDoubleArray(), equalTo(xs));
+		assertThat(reader.readInt(), equalTo(42));
+
+		// buf must be empty
+		checkEmpty();
+	}
+
 	@Test
 	public void read2DPosition() {
 		writer.write2DPosition(new VPoint(22.3, 4.0));
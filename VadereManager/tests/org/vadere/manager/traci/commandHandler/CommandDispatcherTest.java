@@ -0,0 +1,128 @@
+package org.vadere.manager.traci.commandHandler;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.vadere.manager.RemoteManager;
+import org.vadere.manager.traci.TraCICmd;
+import org.vadere.manager.traci.commandHandler.annotation.PersonHandler;
+import org.vadere.manager.traci.commandHandler.annotation.PolygonHandler;
+import org.vadere.manager.traci.commandHandler.annotation.SimulationHandler;
+import org.vadere.manager.traci.commandHandler.annotation.VadereHandler;
+import org.vadere.manager.traci.commandHandler.variables.PersonVar;
+import org.vadere.manager.traci.commandHandler.variables.PolygonVar;
+import org.vadere.manager.traci.commandHandler.variables.SimulationVar;
+import org.vadere.manager.traci.commandHandler.variables.VadereVar;
+import org.vadere.manager.traci.commands.TraCICommand;
+import org.vadere.manager.traci.commands.TraCIGetCommand;
+import org.vadere.manager.traci.commands.TraCISetCommand;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the generated dispatchers against the handler annotations.
+ */
+public class CommandDispatcherTest extends CommandHandlerTest {
+
+	@Test
+	public void dispatchersContainAllAnnotatedMethods() {
+		Set<String> expected = new HashSet<>();
+		for (Method m : PersonCommandHandler.class.getDeclaredMethods()) {
+			for (PersonHandler an : m.getAnnotationsByType(PersonHandler.class)) {
+				expected.add(an.cmd().name() + "-" + an.var().name());
+			}
+		}
+		assertEquals(expected, implemented(PersonCommandHandler.class, PersonVar.values(), PersonCommandHandlerDispatcher::dispatch));
+
+		expected.clear();
+		for (Method m : SimulationCommandHandler.class.getDeclaredMethods()) {
+			for (SimulationHandler an : m.getAnnotationsByType(SimulationHandler.class)) {
+				expected.add(an.cmd().name() + "-" + an.var().name());
+			}
+		}
+		assertEquals(expected, implemented(SimulationCommandHandler.class, SimulationVar.values(), SimulationCommandHandlerDispatcher::dispatch));
+
+		expected.clear();
+		for (Method m : VadereCommandHandler.class.getDeclaredMethods()) {
+			for (VadereHandler an : m.getAnnotationsByType(VadereHandler.class)) {
+				expected.add(an.cmd().name() + "-" + an.var().name());
+			}
+		}
+		assertEquals(expected, implemented(VadereCommandHandler.class, VadereVar.values(), VadereCommandHandlerDispatcher::dispatch));
+
+		expected.clear();
+		for (Method m : PolygonCommandHandler.class.getDeclaredMethods()) {
+			for (PolygonHandler an : m.getAnnotationsByType(PolygonHandler.class)) {
+				expected.add(an.cmd().name() + "-" + an.var().name());
+			}
+		}
+		assertEquals(expected, implemented(PolygonCommandHandler.class, PolygonVar.values(), PolygonCommandHandlerDispatcher::dispatch));
+	}
+
+	@Test
+	public void processGetCallsAnnotatedMethod() {
+		PersonCommandHandler handler = spy(PersonCommandHandler.instance);
+		RemoteManager rm = mock(RemoteManager.class);
+		TraCIGetCommand cmd = (TraCIGetCommand) getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_PERSON_VALUE, PersonVar.ID_LIST.id, "-1"));
+		doReturn(cmd).when(handler).process_getIDList(cmd, rm);
+
+		handler.processGet(cmd, rm);
+		verify(handler).process_getIDList(cmd, rm);
+	}
+
+	@Test
+	public void processGetWithoutAnnotatedMethodIsNotImplemented() {
+		VadereCommandHandler handler = spy(VadereCommandHandler.instance);
+		RemoteManager rm = mock(RemoteManager.class);
+		TraCICommand cmd = getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_VADERE_VALUE, VadereVar.ADD_TARGET_CHANGER.id, "-1"));
+
+		handler.processGet(cmd, rm);
+		verify(handler).process_NotImplemented(cmd, rm);
+	}
+
+	/**
+	 * Dispatches all combinations of commands and variables to a mocked handler and returns those which
+	 * do not end in the fallback <tt>process_NotImplemented(TraCICommand, RemoteManager)</tt>.
+	 */
+	private <H extends CommandHandler<VAR>, VAR extends Enum<VAR>> Set<String> implemented(
+			Class<H> handlerClass, VAR[] vars, Dispatcher<H, VAR> dispatcher) {
+		H handler = mock(handlerClass);
+		RemoteManager rm = mock(RemoteManager.class);
+		TraCIGetCommand getCmd = mock(TraCIGetCommand.class);
+		TraCISetCommand setCmd = mock(TraCISetCommand.class);
+
+		Set<String> implemented = new HashSet<>();
+		for (TraCICmd cmd : TraCICmd.values()) {
+			TraCICommand traCICommand = cmd.name().startsWith("SET_") ? setCmd : getCmd;
+			when(traCICommand.getTraCICmd()).thenReturn(cmd);
+			for (VAR var : vars) {
+				clearInvocations(handler);
+				dispatcher.dispatch(handler, traCICommand, var, rm);
+				boolean fallback = mockingDetails(handler).getInvocations().stream()
+						.map(InvocationOnMock::getMethod)
+						.anyMatch(m -> m.getName().equals("process_NotImplemented")
+								&& m.getParameterTypes()[0].equals(TraCICommand.class));
+				if (!fallback) {
+					implemented.add(cmd.name() + "-" + var.name());
+				}
+			}
+		}
+		return implemented;
+	}
+
+	private interface Dispatcher<H, VAR> {
+		TraCICommand dispatch(H handler, TraCICommand cmd, VAR var, RemoteManager remoteManager);
+	}
+}
@@ -364,6 +364,55 @@ public class PersonCommandHandlerTest extends CommandHandlerTest {
 		testGetValue(ret, varID, varType, elementID, retVal);
 	}
 
+	@Test
+	public void process_getColumnArrays() {
+		String elementID = "-1";
+		int[] ids = new int[]{3, 1, 2};
+		VPoint[] positions = new VPoint[]{new VPoint(0.0, 1.0), new VPoint(2.0, 3.0), new VPoint(4.0, 5.0)};
+		Vector2D[] velocities = new Vector2D[]{new Vector2D(0.5, 0.0), new Vector2D(0.0, -0.5), new Vector2D(1.0, 1.0)};
+		RemoteManager rm = new TestRemoteManager() {
+			@Override
+			protected void mockIt() {
+				ArrayList<Pedestrian> pedEls = new ArrayList<>();
+				for (int i = 0; i < ids.length; i++) {
+					Pedestrian ped = mock(Pedestrian.class, Mockito.RETURNS_DEEP_STUBS);
+					when(ped.getId()).thenReturn(ids[i]);
+					when(ped.getPosition()).thenReturn(positions[i]);
+					when(ped.getVelocity()).thenReturn(velocities[i]);
+					when(ped.hasNextTarget()).thenReturn(i != 0);
+					when(ped.getNextTargetId()).thenReturn(10 + i);
+					pedEls.add(ped);
+				}
+				when(simState.getTopography().getPedestrianDynamicElements().getElements()).thenReturn(pedEls);
+			}
+		};
+
+		TraCIGetCommand cmd = (TraCIGetCommand) getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_PERSON_VALUE, PersonVar.ID_ARRAY.id, elementID));
+		TraCICommand ret = persCmdHandler.process_getIdArray(cmd, rm);
+		testTraCICommand(ret, TraCICmd.GET_PERSON_VALUE, CmdType.VALUE_GET);
+		checkGET_OK(ret);
+		testGetValue(ret, PersonVar.ID_ARRAY.id, PersonVar.ID_ARRAY.type, elementID, ids);
+
+		cmd = (TraCIGetCommand) getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_PERSON_VALUE, PersonVar.POSITION_Y_ARRAY.id, elementID));
+		ret = persCmdHandler.process_getPositionYArray(cmd, rm);
+		checkGET_OK(ret);
+		testGetValue(ret, PersonVar.POSITION_Y_ARRAY.id, PersonVar.POSITION_Y_ARRAY.type, elementID, new double[]{1.0, 3.0, 5.0});
+
+		cmd = (TraCIGetCommand) getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_PERSON_VALUE, PersonVar.VELOCITY_X_ARRAY.id, elementID));
+		ret = persCmdHandler.process_getVelocityXArray(cmd, rm);
+		checkGET_OK(ret);
+		testGetValue(ret, PersonVar.VELOCITY_X_ARRAY.id, PersonVar.VELOCITY_X_ARRAY.type, elementID, new double[]{0.5, 0.0, 1.0});
+
+		cmd = (TraCIGetCommand) getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_PERSON_VALUE, PersonVar.TARGET_ID_ARRAY.id, elementID));
+		ret = persCmdHandler.process_getTargetIdArray(cmd, rm);
+		checkGET_OK(ret);
+		testGetValue(ret, PersonVar.TARGET_ID_ARRAY.id, PersonVar.TARGET_ID_ARRAY.type, elementID, new int[]{-1, 11, 12});
+	}
+
 	@Test
 	public void process_getVelocity() {
 		PersonVar var = PersonVar.VELOCITY;
@@ -11,12 +11,14 @@ import org.vadere.manager.traci.commandHandler.variables.VadereVar;
 import org.vadere.manager.traci.commands.TraCICommand;
 import org.vadere.manager.traci.commands.TraCIGetCommand;
 import org.vadere.manager.traci.commands.TraCISetCommand;
+import org.vadere.manager.traci.compound.object.SessionStatistics;
 import org.vadere.simulator.context.VadereContext;
 import org.vadere.simulator.control.psychology.perception.StimulusController;
 import org.vadere.state.psychology.perception.json.StimulusInfo;
 import org.vadere.state.psychology.perception.json.StimulusInfoStore;
 import org.vadere.state.scenario.TargetChanger;
 import org.vadere.state.scenario.Topography;
+import org.vadere.state.traci.CompoundObject;
 import org.vadere.state.util.StateJsonConverter;
 import org.vadere.util.io.IOUtils;
 
@@ -25,9 +27,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class VadereCommandHandlerTest extends CommandHandlerTest {
@@ -70,6 +74,27 @@ public class VadereCommandHandlerTest extends CommandHandlerTest {
 		testGetValue(ret, varID, varType, elementID, retVal);
 	}
 
+	@Test
+	public void process_getSessionStatistics() {
+		VadereVar var = VadereVar.SESSION_STATISTICS;
+		String elementID = "-1";
+		TraCIGetCommand cmd = (TraCIGetCommand) getFirstCommand(TraCIGetCommand.build(
+				TraCICmd.GET_VADERE_VALUE, var.id, elementID));
+		SessionStatistics statistics = new SessionStatistics("session-7", 1.5, 1024.0, 2, 1, 4, 3);
+		RemoteManager rm = mock(RemoteManager.class);
+		when(rm.getSessionStatistics()).thenReturn(statistics);
+
+		TraCICommand ret = vaCmdHandler.process_getSessionStatistics(cmd, rm);
+		checkGET_OK(ret);
+		testGetValue(ret, var.id, var.type, elementID, statistics.asCompoundObject());
+
+		SessionStatistics received = new SessionStatistics((CompoundObject) ((TraCIGetCommand) ret).getResponse().getResponseData());
+		assertEquals("session-7", received.getSessionId());
+		assertEquals(1.5, received.getCpuTime(), 0.0);
+		assertEquals(4, received.getMaxSimulations());
+		assertEquals(3, received.getSharedFloorFields());
+	}
+
 
 	// Set
 
@@ -122,17 +147,21 @@ public class VadereCommandHandlerTest extends CommandHandlerTest {
 		}
 		TraCISetCommand cmd = (TraCISetCommand) getFirstCommand(TraCISetCommand.build(
 				TraCICmd.SET_VADERE_STATE, elementID, varID, varType, dataPath));
+		TargetChanger tc = mock(TargetChanger.class, Mockito.RETURNS_DEEP_STUBS);
+		when(tc.getId()).thenReturn(Integer.parseInt(elementID));
+		Topography topo = mock(Topography.class);
+		when(topo.getTargetChangers()).thenReturn(new LinkedList<>(List.of(tc)));
+		when(topo.removeTargetChanger(tc)).thenReturn(true);
 		RemoteManager rm = new TestRemoteManager() {
 			@Override
 			protected void mockIt() {
-				TargetChanger tc = mock(TargetChanger.class, Mockito.RETURNS_DEEP_STUBS);
-				when(tc.getId()).thenReturn(Integer.parseInt(elementID));
-				LinkedList<TargetChanger> lltc = new LinkedList<>(List.of(tc));
-				when(simState.getTopography().getTargetChangers()).thenReturn(lltc);
+				when(simState.getTopography()).thenReturn(topo);
 			}
 		};
 		TraCICommand ret = vaCmdHandler.process_removeTargetChanger(cmd, rm);
 		checkSET_OK(ret);
+		// the topography has to count the modification, see Topography#getModCount()
+		verify(topo).removeTargetChanger(tc);
 		((TraCISetCommand)ret).getVariableValue();
 		testSetValue(ret, varID, varType, elementID, null);
 	}
@@ -0,0 +1,86 @@
+package org.vadere.manager.traci.reader;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TraCIBufferPoolTest {
+
+	@Test
+	public void acquireReturnsDirectBufferOfPowerOfTwoCapacity() {
+		TraCIBufferPool pool = new TraCIBufferPool(2);
+
+		ByteBuffer small = pool.acquire(10);
+		assertTrue(small.isDirect());
+		assertEquals(TraCIBufferPool.MIN_BUFFER_SIZE, small.capacity());
+		assertEquals(0, small.position());
+		assertEquals(10, small.limit());
+
+		ByteBuffer large = pool.acquire(TraCIBufferPool.MIN_BUFFER_SIZE + 1);
+		assertEquals(2 * TraCIBufferPool.MIN_BUFFER_SIZE, large.capacity());
+		assertEquals(TraCIBufferPool.MIN_BUFFER_SIZE + 1, large.limit());
+	}
+
+	@Test
+	public void releasedBufferIsReused() {
+		TraCIBufferPool pool = new TraCIBufferPool(2);
+		ByteBuffer buffer = pool.acquire(100);
+		buffer.putInt(42);
+		pool.release(buffer);
+		assertEquals(1, pool.getNumberOfFreeBuffers());
+
+		ByteBuffer reused = pool.acquire(200);
+		assertSame(buffer, reused);
+		assertEquals(0, reused.position());
+		assertEquals(200, reused.limit());
+		assertEquals(0, pool.getNumberOfFreeBuffers());
+	}
+
+	@Test
+	public void poolIsBounded() {
+		TraCIBufferPool pool = new TraCIBufferPool(2);
+		ByteBuffer b1 = pool.acquire(100);
+		ByteBuffer b2 = pool.acquire(100);
+		ByteBuffer b3 = pool.acquire(100);
+		pool.release(b1);
+		pool.release(b2);
+		pool.release(b3);
+		assertEquals(2, pool.getNumberOfFreeBuffers());
+	}
+
+	@Test
+	public void hugeBuffersAreNotPooled() {
+		TraCIBufferPool pool = new TraCIBufferPool(2);
+		ByteBuffer huge = pool.acquire(TraCIBufferPool.MAX_BUFFER_SIZE + 1);
+		assertFalse(huge.isDirect());
+		pool.release(huge);
+		assertEquals(0, pool.getNumberOfFreeBuffers());
+		assertNotSame(huge, pool.acquire(TraCIBufferPool.MAX_BUFFER_SIZE + 1));
+	}
+
+	@Test
+	public void packetBufferReadsViewsOfPooledBuffer() {
+		TraCIBufferPool pool = new TraCIBufferPool(2);
+		ByteBuffer buffer = pool.acquire(9);
+		buffer.put((byte) 1).putInt(7).putInt(8).flip();
+
+		TraCIPacketBuffer packetBuffer = TraCIPacketBuffer.wrap(buffer, pool);
+		assertEquals(1, packetBuffer.readByte());
+		ByteBuffer view = packetBuffer.readByteBuffer(4);
+		assertTrue(view.isDirect());
+		assertEquals(7, view.getInt());
+		assertEquals(8, packetBuffer.readInt());
+		assertFalse(packetBuffer.hasRemaining());
+
+		packetBuffer.release();
+		assertEquals(1, pool.getNumberOfFreeBuffers());
+		packetBuffer.release();
+		assertEquals(1, pool.getNumberOfFreeBuffers());
+	}
+}
@@ -1,10 +1,17 @@
 package org.vadere.meshing;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.NotNull;
 import org.vadere.util.geometry.shapes.IPoint;
 import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.geometry.shapes.VRectangle;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
 /**
  * @author Benedikt Zoennchen
  */
@@ -13,6 +20,12 @@ public class SpaceFillingCurve {
     private final VRectangle bbox;
     private static final int precision = 10;
 
+    /**
+     * The order of the Hilbert curve used by {@link #sort(Collection, boolean)}, i.e. the curve covers a grid of
+     * <tt>2^order x 2^order</tt> cells. The index of a cell fits into 30 bits.
+     */
+    private static final int hilbertOrder = 15;
+
     private enum State {
         TopLeft, TopRight, BottomLeft, BottomRight;
     }
@@ -60,6 +73,92 @@ public class SpaceFillingCurve {
     }
 */
 
+    /**
+     * <p>Sorts the points along a Hilbert curve covering their bounding box, i.e. consecutive points of the result
+     * are close to each other. The curve is discretized by a grid of <tt>2^15 x 2^15</tt> cells, points of the same
+     * cell keep their relative order. In contrast to {@link #compute(IPoint)} this uses integer arithmetic only
+     * and is intended for large point sets.</p>
+     *
+     * @param points    the points
+     * @param parallel  if true the indices are computed and sorted in parallel
+     * @param <P>       the type of the points
+     *
+     * @return a new list containing the points in the order of the Hilbert curve
+     */
+    public static <P extends IPoint> List<P> sort(@NotNull final Collection<P> points, final boolean parallel) {
+        List<P> list = new ArrayList<>(points);
+        int n = list.size();
+        if(n <= 1) {
+            return list;
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for(P point : list) {
+            minX = Math.min(minX, point.getX());
+            minY = Math.min(minY, point.getY());
+            maxX = Math.max(maxX, point.getX());
+            maxY = Math.max(maxY, point.getY());
+        }
+
+        int cells = 1 << hilbertOrder;
+        double x0 = minX;
+        double y0 = minY;
+        double scale = (cells - 1) / Math.max(Math.max(maxX - minX, maxY - minY), Double.MIN_NORMAL);
+
+        // each key contains the index on the curve in the upper and the position in the list in the lower 32 bits
+        long[] keys = new long[n];
+        IntStream indices = IntStream.range(0, n);
+        if(parallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            P point = list.get(i);
+            int x = (int) ((point.getX() - x0) * scale);
+            int y = (int) ((point.getY() - y0) * scale);
+            keys[i] = ((long) hilbertIndex(x, y) << 32) | i;
+        });
+
+        if(parallel) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+
+        List<P> sorted = new ArrayList<>(n);
+        for(long key : keys) {
+            sorted.add(list.get((int) key));
+        }
+        return sorted;
+    }
+
+    /**
+     * Returns the index of the cell (x, y) on the Hilbert curve of order {@link #hilbertOrder}.
+     */
+    private static int hilbertIndex(int x, int y) {
+        int n = 1 << hilbertOrder;
+        int index = 0;
+        for(int s = n >> 1; s > 0; s >>= 1) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            index += s * s * ((3 * rx) ^ ry);
+
+            // rotate the quadrant
+            if(ry == 0) {
+                if(rx == 1) {
+                    x = n - 1 - x;
+                    y = n - 1 - y;
+                }
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+        }
+        return index;
+    }
+
     private double byteCodeToDouble(final byte[] code) {
         double sum = 0.0;
         for(int i = 0; i < code.length; i++) {
@@ -11,6 +11,7 @@ import org.vadere.meshing.mesh.inter.IPointLocator;
 import org.vadere.meshing.mesh.inter.IIncrementalTriangulation;
 import org.vadere.meshing.mesh.inter.ITriEventListener;
 import org.vadere.meshing.mesh.inter.IVertex;
+import org.vadere.meshing.SpaceFillingCurve;
 import org.vadere.meshing.mesh.iterators.EdgeIterator;
 import org.vadere.meshing.mesh.iterators.FaceIterator;
 import org.vadere.meshing.mesh.triangulation.BowyerWatsonSlow;
@@ -629,6 +630,45 @@ public class IncrementalTriangulation<V extends IVertex, E extends IHalfEdge, F
 		}
 	}
 
+	/**
+	 * <p>Inserts the points in the order of a Hilbert curve (see {@link SpaceFillingCurve#sort(Collection, boolean)}).
+	 * Consecutive points are close to each other, therefore each point is located by a straight walk starting at
+	 * the face of the previously inserted point instead of the point location algorithm. The walk visits only a
+	 * few faces which makes the insertion of large point sets much faster. The point location algorithm is still
+	 * informed about all changes of the triangulation and is used if the walk fails.</p>
+	 *
+	 * <p>Note that the triangulation is unique only if no four points are co-circular, i.e. the result might differ
+	 * from the insertion in the original order.</p>
+	 *
+	 * @param points    the points
+	 * @param parallel  if true, the points are sorted in parallel
+	 */
+	@Override
+	public void insertBatch(final Collection<? extends IPoint> points, final boolean parallel) {
+		if(!initialized) {
+			init();
+		}
+
+		F hint = null;
+		for(IPoint p : SpaceFillingCurve.sort(points, parallel)) {
+			if(!contains(p)) {
+				throw new IllegalArgumentException(p + " is not contained in " + bound);
+			}
+
+			F face = null;
+			if(hint != null && mesh.isAlive(hint) && !mesh.isBoundary(hint)) {
+				face = locateMarch(p.getX(), p.getY(), hint).filter(f -> !mesh.isBoundary(f)).orElse(null);
+			}
+
+			if(face == null) {
+				face = pointLocator.locatePoint(p);
+			}
+
+			E edge = insert(p, face);
+			hint = mesh.isBoundary(edge) ? mesh.getTwinFace(edge) : mesh.getFace(edge);
+		}
+	}
+
 	protected IPointLocator<V, E, F> getPointLocator() {
 	    return pointLocator;
     }
@@ -0,0 +1,45 @@
+package org.vadere.meshing.mesh.gen;
+
+import org.vadere.meshing.mesh.inter.IFace;
+
+/**
+ * A struct-of-arrays implementation of {@link IFace}. The face is only a handle containing its
+ * array-index, one of its half-edges and its border flag are stored in the arrays of the {@link SMesh}.
+ * The border of the mesh has the array-index <tt>-1</tt>.
+ */
+public class SFace implements IFace {
+
+	/**
+	 * The array-index of this face
+	 */
+	private int id;
+
+	SFace(final int id) {
+		this.id = id;
+	}
+
+	/**
+	 * Returns the array-index of this face.
+	 *
+	 * @return the array-index of this face
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Sets the array-index of this face. Note that this method should
+	 * only be called by the garbage collector in {@link SMesh} which
+	 * adjust indices to remove destroyed base elements.
+	 *
+	 * @param id the new array-index of this face
+	 */
+	void setId(final int id) {
+		this.id = id;
+	}
+
+	@Override
+	public String toString() {
+		return id + "(f)";
+	}
+}
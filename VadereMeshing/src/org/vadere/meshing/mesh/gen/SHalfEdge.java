@@ -0,0 +1,40 @@
+package org.vadere.meshing.mesh.gen;
+
+import org.vadere.meshing.mesh.inter.IHalfEdge;
+
+/**
+ * A struct-of-arrays implementation of {@link IHalfEdge}. The half-edge is only a handle containing its
+ * array-index, its end vertex, next, previous and twin half-edge and its face are stored in the arrays
+ * of the {@link SMesh}.
+ */
+public class SHalfEdge implements IHalfEdge {
+
+	/**
+	 * The array-index of this half-edge
+	 */
+	private int id;
+
+	SHalfEdge(final int id) {
+		this.id = id;
+	}
+
+	int getId() {
+		return id;
+	}
+
+	/**
+	 * Sets the array-index of this half-edge. Note that this method should
+	 * only be called by the garbage collector in {@link SMesh} which
+	 * adjust indices to remove destroyed base elements.
+	 *
+	 * @param id the new array-index of this half-edge
+	 */
+	void setId(final int id) {
+		this.id = id;
+	}
+
+	@Override
+	public String toString() {
+		return id + "(e)";
+	}
+}
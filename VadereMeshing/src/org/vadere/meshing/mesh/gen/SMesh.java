@@ -0,0 +1,1213 @@
+package org.vadere.meshing.mesh.gen;
+
+import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.vadere.meshing.mesh.inter.IEdgeContainerBoolean;
+import org.vadere.meshing.mesh.inter.IEdgeContainerDouble;
+import org.vadere.meshing.mesh.inter.IEdgeContainerObject;
+import org.vadere.meshing.mesh.inter.IIncrementalTriangulation;
+import org.vadere.meshing.mesh.inter.IMesh;
+import org.vadere.meshing.mesh.inter.IPointLocator;
+import org.vadere.meshing.mesh.inter.IVertexContainerBoolean;
+import org.vadere.meshing.mesh.inter.IVertexContainerDouble;
+import org.vadere.meshing.mesh.inter.IVertexContainerObject;
+import org.vadere.util.geometry.shapes.IPoint;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>A struct-of-arrays implementation of {@link IMesh}. In contrast to {@link AMesh}, which holds one object
+ * per vertex, half-edge and face containing the array-indices of its neighbours, this mesh stores the whole
+ * connectivity in flat primitive arrays indexed by the array-index of the element: <tt>end</tt>, <tt>next</tt>,
+ * <tt>prev</tt>, <tt>twin</tt> and <tt>face</tt> for half-edges, the half-edge and the coordinates (interleaved
+ * in one <tt>double[]</tt>) for vertices and the half-edge for faces. A traversal, e.g. of the
+ * {@link org.vadere.meshing.mesh.inter.ITriConnectivity} or a point location, reads consecutive memory instead
+ * of chasing object references and a mesh requires considerably less memory since vertices neither own a
+ * point nor a lock.</p>
+ *
+ * <p>The elements {@link SVertex}, {@link SHalfEdge} and {@link SFace} are light-weight handles which only
+ * contain their array-index. There is exactly one handle per element, i.e. elements can be compared by
+ * reference as for the other implementations. Vertices store only their coordinates, therefore
+ * {@link #getPoint(SVertex)} returns a new {@link VPoint} and special {@link IPoint} implementations passed
+ * to {@link #createVertex(IPoint)} are not preserved. {@link #tryLock(SVertex)} uses a fixed number of
+ * striped locks, i.e. it might fail even if the vertex itself is not locked.</p>
+ */
+public class SMesh implements IMesh<SVertex, SHalfEdge, SFace>, Cloneable {
+
+	private static final int INITIAL_CAPACITY = 16;
+	private static final int NUMBER_OF_LOCKS = 64;
+
+	// half-edges
+	private int[] end;
+	private int[] next;
+	private int[] prev;
+	private int[] twin;
+	private int[] face;
+	private SHalfEdge[] edges;
+	private int edgeSize;
+	private BitSet destroyedEdges;
+
+	// vertices, the coordinates are stored interleaved: x0, y0, x1, y1, ...
+	private double[] coords;
+	private int[] vertexEdge;
+	private SVertex[] vertices;
+	private int vertexSize;
+	private BitSet insertedVertices;
+	private BitSet destroyedVertices;
+
+	// faces
+	private int[] faceEdge;
+	private SFace[] faces;
+	private int faceSize;
+	private BitSet borderFaces;
+	private BitSet destroyedFaces;
+	private IntArrayList holes;
+	private SFace boundary;
+	private int boundaryEdge;
+
+	private int numberOfVertices;
+	private int numberOfEdges;
+	private int numberOfFaces;
+	private int numberOfHoles;
+
+	private ReentrantLock[] locks;
+
+	private PropertyData verticesData;
+	private PropertyData halfEdgesData;
+	private PropertyData facesData;
+	private ArrayList<DoubleArrayList> verticesIndexedDoubleData;
+
+	public SMesh() {
+		clear();
+	}
+
+	@Override
+	public void clear() {
+		this.end = new int[INITIAL_CAPACITY];
+		this.next = new int[INITIAL_CAPACITY];
+		this.prev = new int[INITIAL_CAPACITY];
+		this.twin = new int[INITIAL_CAPACITY];
+		this.face = new int[INITIAL_CAPACITY];
+		this.edges = new SHalfEdge[INITIAL_CAPACITY];
+		this.edgeSize = 0;
+		this.destroyedEdges = new BitSet();
+
+		this.coords = new double[2 * INITIAL_CAPACITY];
+		this.vertexEdge = new int[INITIAL_CAPACITY];
+		this.vertices = new SVertex[INITIAL_CAPACITY];
+		this.vertexSize = 0;
+		this.insertedVertices = new BitSet();
+		this.destroyedVertices = new BitSet();
+
+		this.faceEdge = new int[INITIAL_CAPACITY];
+		this.faces = new SFace[INITIAL_CAPACITY];
+		this.faceSize = 0;
+		this.borderFaces = new BitSet();
+		this.destroyedFaces = new BitSet();
+		this.holes = new IntArrayList();
+		this.boundary = new SFace(-1);
+		this.boundaryEdge = -1;
+
+		this.numberOfVertices = 0;
+		this.numberOfEdges = 0;
+		this.numberOfFaces = 0;
+		this.numberOfHoles = 0;
+
+		this.locks = new ReentrantLock[NUMBER_OF_LOCKS];
+		for(int i = 0; i < NUMBER_OF_LOCKS; i++) {
+			locks[i] = new ReentrantLock();
+		}
+
+		this.verticesData = new PropertyData();
+		this.halfEdgesData = new PropertyData();
+		this.facesData = new PropertyData();
+		this.verticesIndexedDoubleData = new ArrayList<>();
+	}
+
+	@Override
+	public IMesh<SVertex, SHalfEdge, SFace> construct() {
+		return new SMesh();
+	}
+
+	@Override
+	public SHalfEdge getNext(@NotNull final SHalfEdge halfEdge) {
+		int id = next[halfEdge.getId()];
+		return id == -1 ? null : edges[id];
+	}
+
+	@Override
+	public SHalfEdge getPrev(@NotNull final SHalfEdge halfEdge) {
+		int id = prev[halfEdge.getId()];
+		return id == -1 ? null : edges[id];
+	}
+
+	@Override
+	public SHalfEdge getTwin(@NotNull final SHalfEdge halfEdge) {
+		int id = twin[halfEdge.getId()];
+		return id == -1 ? null : edges[id];
+	}
+
+	@Override
+	public SFace getFace(@NotNull final SHalfEdge halfEdge) {
+		int id = face[halfEdge.getId()];
+		if(id == -1) {
+			if(isDestroyed(halfEdge)) {
+				throw new IllegalArgumentException(halfEdge + " is already destroyed.");
+			}
+			return boundary;
+		}
+		return faces[id];
+	}
+
+	@Override
+	public SHalfEdge getEdge(@NotNull final SVertex vertex) {
+		int id = vertexEdge[vertex.getId()];
+		return id == -1 ? null : edges[id];
+	}
+
+	@Override
+	public double getX(@NotNull final SVertex vertex) {
+		return coords[2 * vertex.getId()];
+	}
+
+	@Override
+	public double getY(@NotNull final SVertex vertex) {
+		return coords[2 * vertex.getId() + 1];
+	}
+
+	double getX(final int vertexId) {
+		return coords[2 * vertexId];
+	}
+
+	double getY(final int vertexId) {
+		return coords[2 * vertexId + 1];
+	}
+
+	@Override
+	public void setCoords(@NotNull final SVertex vertex, final double x, final double y) {
+		coords[2 * vertex.getId()] = x;
+		coords[2 * vertex.getId() + 1] = y;
+	}
+
+	@Override
+	public SHalfEdge getEdge(@NotNull final SFace face) {
+		return edges[face.getId() == -1 ? boundaryEdge : faceEdge[face.getId()]];
+	}
+
+	@Override
+	public IPoint getPoint(@NotNull final SHalfEdge halfEdge) {
+		return getPoint(getVertex(halfEdge));
+	}
+
+	@Override
+	public SVertex getVertex(@NotNull final SHalfEdge halfEdge) {
+		int id = end[halfEdge.getId()];
+		return id == -1 ? null : vertices[id];
+	}
+
+	// the vertex should not be contained in vertices, only the up/down
+	@Override
+	public SVertex getDown(@NotNull final SVertex vertex) {
+		return vertex.getDown();
+	}
+
+	// the vertex should not be contained in vertices, only the up/down
+	@Override
+	public void setDown(@NotNull final SVertex up, @NotNull final SVertex down) {
+		up.setDown(down);
+	}
+
+	@Override
+	public IPoint getPoint(@NotNull final SVertex vertex) {
+		return new VPoint(getX(vertex), getY(vertex));
+	}
+
+	@Override
+	public boolean getBooleanData(@NotNull final SVertex vertex, @NotNull final String name) {
+		return verticesData.getBoolean(name, vertex.getId());
+	}
+
+	@Override
+	public double getDoubleData(@NotNull final SVertex vertex, @NotNull final String name) {
+		return verticesData.getDouble(name, vertex.getId());
+	}
+
+	@Override
+	public double getDoubleData(@NotNull final SVertex vertex, @NotNull final int index) {
+		if(verticesIndexedDoubleData.size() <= index) {
+			return 0.0;
+		}
+		return verticesIndexedDoubleData.get(index).getDouble(vertex.getId());
+	}
+
+	@Override
+	public boolean getBooleanData(@NotNull final SHalfEdge edge, @NotNull final String name) {
+		return halfEdgesData.getBoolean(name, edge.getId());
+	}
+
+	@Override
+	public double getDoubleData(@NotNull final SHalfEdge edge, @NotNull final String name) {
+		return halfEdgesData.getDouble(name, edge.getId());
+	}
+
+	@Override
+	public boolean getBooleanData(@NotNull final SFace face, @NotNull final String name) {
+		return facesData.getBoolean(name, face.getId());
+	}
+
+	@Override
+	public double getDoubleData(@NotNull final SFace face, @NotNull final String name) {
+		return facesData.getDouble(name, face.getId());
+	}
+
+	@Override
+	public <CV> Optional<CV> getData(@NotNull final SVertex vertex, @NotNull final String name, @NotNull final Class<CV> clazz) {
+		return verticesData.getObject(name, vertex.getId());
+	}
+
+	@Override
+	public <CV> void setData(@NotNull final SVertex vertex, @NotNull final String name, @Nullable final CV data) {
+		verticesData.<CV>getObjectArray(name, vertexSize).set(vertex.getId(), data);
+	}
+
+	@Override
+	public <CE> Optional<CE> getData(@NotNull final SHalfEdge edge, @NotNull final String name, @NotNull final Class<CE> clazz) {
+		return halfEdgesData.getObject(name, edge.getId());
+	}
+
+	@Override
+	public <CE> void setData(@NotNull final SHalfEdge edge, @NotNull final String name, @Nullable final CE data) {
+		halfEdgesData.<CE>getObjectArray(name, edgeSize).set(edge.getId(), data);
+	}
+
+	@Override
+	public <CF> Optional<CF> getData(@NotNull final SFace face, @NotNull final String name, @NotNull final Class<CF> clazz) {
+		return facesData.getObject(name, face.getId());
+	}
+
+	@Override
+	public <CF> void setData(@NotNull final SFace face, @NotNull final String name, @Nullable final CF data) {
+		facesData.<CF>getObjectArray(name, faceSize).set(face.getId(), data);
+	}
+
+	@Override
+	public void setDoubleData(@NotNull final SFace face, @NotNull final String name, final double data) {
+		facesData.getDoubleArray(name, faceSize).set(face.getId(), data);
+	}
+
+	@Override
+	public void setDoubleData(@NotNull final SVertex vertex, @NotNull final String name, final double data) {
+		verticesData.getDoubleArray(name, vertexSize).set(vertex.getId(), data);
+	}
+
+	@Override
+	public void setDoubleData(@NotNull final SVertex vertex, @NotNull final int index, final double data) {
+		for(int i = verticesIndexedDoubleData.size(); i <= index; i++) {
+			DoubleArrayList dataArray = new DoubleArrayList(vertexSize);
+			dataArray.size(vertexSize);
+			verticesIndexedDoubleData.add(dataArray);
+		}
+		verticesIndexedDoubleData.get(index).set(vertex.getId(), data);
+	}
+
+	@Override
+	public void setDoubleData(@NotNull final SHalfEdge edge, @NotNull final String name, final double data) {
+		halfEdgesData.getDoubleArray(name, edgeSize).set(edge.getId(), data);
+	}
+
+	@Override
+	public void setBooleanData(@NotNull final SFace face, @NotNull final String name, final boolean data) {
+		facesData.getBooleanArray(name, faceSize).set(face.getId(), data);
+	}
+
+	@Override
+	public void setBooleanData(@NotNull final SVertex vertex, @NotNull final String name, final boolean data) {
+		verticesData.getBooleanArray(name, vertexSize).set(vertex.getId(), data);
+	}
+
+	@Override
+	public void setBooleanData(@NotNull final SHalfEdge edge, @NotNull final String name, final boolean data) {
+		halfEdgesData.getBooleanArray(name, edgeSize).set(edge.getId(), data);
+	}
+
+	@Override
+	public SFace getFace() {
+		for(int i = 0; i < faceSize; i++) {
+			if(!destroyedFaces.get(i) && !borderFaces.get(i)) {
+				return faces[i];
+			}
+		}
+		throw new NoSuchElementException("there is no face");
+	}
+
+	@Override
+	public boolean isBoundary(@NotNull final SFace face) {
+		return face.getId() == -1 || borderFaces.get(face.getId());
+	}
+
+	@Override
+	public boolean isBoundary(@NotNull final SHalfEdge halfEdge) {
+		return face[halfEdge.getId()] == -1 || isBoundary(getFace(halfEdge));
+	}
+
+	@Override
+	public boolean isHole(@NotNull final SFace face) {
+		return isBoundary(face) && face != boundary;
+	}
+
+	@Override
+	public boolean isDestroyed(@NotNull final SFace face) {
+		return face.getId() != -1 && destroyedFaces.get(face.getId());
+	}
+
+	@Override
+	public boolean isDestroyed(@NotNull final SHalfEdge edge) {
+		return destroyedEdges.get(edge.getId());
+	}
+
+	@Override
+	public boolean isDestroyed(@NotNull final SVertex vertex) {
+		return destroyedVertices.get(vertex.getId());
+	}
+
+	@Override
+	public void setTwin(@NotNull final SHalfEdge halfEdge, @NotNull final SHalfEdge twin) {
+		this.twin[halfEdge.getId()] = twin.getId();
+		this.twin[twin.getId()] = halfEdge.getId();
+	}
+
+	@Override
+	public void setNext(@NotNull final SHalfEdge halfEdge, @NotNull final SHalfEdge next) {
+		this.next[halfEdge.getId()] = next.getId();
+		this.prev[next.getId()] = halfEdge.getId();
+	}
+
+	@Override
+	public void setPrev(@NotNull final SHalfEdge halfEdge, @NotNull final SHalfEdge prev) {
+		this.prev[halfEdge.getId()] = prev.getId();
+		this.next[prev.getId()] = halfEdge.getId();
+	}
+
+	@Override
+	public void setFace(@NotNull final SHalfEdge halfEdge, @NotNull final SFace face) {
+		this.face[halfEdge.getId()] = face.getId();
+	}
+
+	@Override
+	public void setEdge(@NotNull final SFace face, @NotNull final SHalfEdge edge) {
+		if(face.getId() == -1) {
+			boundaryEdge = edge.getId();
+		} else {
+			faceEdge[face.getId()] = edge.getId();
+		}
+	}
+
+	@Override
+	public void setEdge(@NotNull final SVertex vertex, @NotNull final SHalfEdge edge) {
+		if(end[edge.getId()] != vertex.getId()) {
+			throw new IllegalArgumentException("end of the edge is not equals to the vertex:" + vertex.getId() + " != " + end[edge.getId()]);
+		}
+		vertexEdge[vertex.getId()] = edge.getId();
+	}
+
+	@Override
+	public void setVertex(@NotNull final SHalfEdge halfEdge, @NotNull final SVertex vertex) {
+		end[halfEdge.getId()] = vertex.getId();
+	}
+
+	@Override
+	public SHalfEdge createEdge(@NotNull final SVertex vertex) {
+		return createEdge(vertex.getId(), -1);
+	}
+
+	@Override
+	public SHalfEdge createEdge(@NotNull final SVertex vertex, @NotNull final SFace face) {
+		return createEdge(vertex.getId(), face.getId());
+	}
+
+	private SHalfEdge createEdge(final int vertexId, final int faceId) {
+		int id = edgeSize;
+		if(id == edges.length) {
+			int capacity = 2 * edges.length;
+			end = Arrays.copyOf(end, capacity);
+			next = Arrays.copyOf(next, capacity);
+			prev = Arrays.copyOf(prev, capacity);
+			twin = Arrays.copyOf(twin, capacity);
+			face = Arrays.copyOf(face, capacity);
+			edges = Arrays.copyOf(edges, capacity);
+		}
+		end[id] = vertexId;
+		next[id] = -1;
+		prev[id] = -1;
+		twin[id] = -1;
+		face[id] = faceId;
+		edges[id] = new SHalfEdge(id);
+		halfEdgesData.add();
+		edgeSize++;
+		numberOfEdges++;
+		return edges[id];
+	}
+
+	@Override
+	public SFace createFace() {
+		return createFace(false);
+	}
+
+	@Override
+	public SFace createFace(final boolean hole) {
+		int id = faceSize;
+		if(id == faces.length) {
+			int capacity = 2 * faces.length;
+			faceEdge = Arrays.copyOf(faceEdge, capacity);
+			faces = Arrays.copyOf(faces, capacity);
+		}
+		faceEdge[id] = -1;
+		faces[id] = new SFace(id);
+		borderFaces.set(id, hole);
+		facesData.add();
+		faceSize++;
+
+		if(!hole) {
+			numberOfFaces++;
+		}
+		else {
+			holes.add(id);
+			numberOfHoles++;
+		}
+		return faces[id];
+	}
+
+	@Override
+	public IPoint createPoint(final double x, final double y) {
+		return new VPoint(x, y);
+	}
+
+	/**
+	 * Creates a new vertex which is not jet part of the mesh, i.e. it has to be inserted via
+	 * {@link #insertVertex(SVertex)}. The storage of the vertex is reserved at creation.
+	 */
+	@Override
+	public SVertex createVertex(final double x, final double y) {
+		int id = vertexSize;
+		if(id == vertices.length) {
+			int capacity = 2 * vertices.length;
+			coords = Arrays.copyOf(coords, 2 * capacity);
+			vertexEdge = Arrays.copyOf(vertexEdge, capacity);
+			vertices = Arrays.copyOf(vertices, capacity);
+		}
+		coords[2 * id] = x;
+		coords[2 * id + 1] = y;
+		vertexEdge[id] = -1;
+		vertices[id] = new SVertex(this, id);
+		verticesData.add();
+		for(DoubleArrayList dataArray : verticesIndexedDoubleData) {
+			dataArray.add(0.0);
+		}
+		vertexSize++;
+		return vertices[id];
+	}
+
+	@Override
+	public SVertex createVertex(@NotNull final IPoint point) {
+		return createVertex(point.getX(), point.getY());
+	}
+
+	@Override
+	public SFace getBorder() {
+		return boundary;
+	}
+
+	@Override
+	public void insertVertex(@NotNull final SVertex vertex) {
+		if(vertex.getId() >= vertexSize || vertices[vertex.getId()] != vertex) {
+			throw new IllegalArgumentException(vertex + " was not created by this mesh.");
+		} else if(insertedVertices.get(vertex.getId())) {
+			throw new IllegalArgumentException(vertex + " is already inserted.");
+		} else {
+			numberOfVertices++;
+			insertedVertices.set(vertex.getId());
+		}
+	}
+
+	@Override
+	public void toHole(@NotNull final SFace face) {
+		assert !isDestroyed(face);
+		if(!isHole(face)) {
+			holes.add(face.getId());
+			borderFaces.set(face.getId());
+			numberOfHoles++;
+			numberOfFaces--;
+		}
+	}
+
+	// these methods assume that all elements are contained in the mesh!
+	@Override
+	public void destroyFace(@NotNull final SFace face) {
+		if(!isDestroyed(face)) {
+			numberOfFaces--;
+			if(isHole(face)) {
+				numberOfHoles--;
+			}
+			faceEdge[face.getId()] = -1;
+			destroyedFaces.set(face.getId());
+		}
+	}
+
+	@Override
+	public void destroyEdge(@NotNull final SHalfEdge edge) {
+		if(!isDestroyed(edge)) {
+			numberOfEdges--;
+			next[edge.getId()] = -1;
+			prev[edge.getId()] = -1;
+			face[edge.getId()] = -1;
+			destroyedEdges.set(edge.getId());
+		}
+	}
+
+	@Override
+	public void destroyVertex(@NotNull final SVertex vertex) {
+		if(!isDestroyed(vertex)) {
+			numberOfVertices--;
+			destroyedVertices.set(vertex.getId());
+		}
+	}
+
+	@Override
+	public void setPoint(@NotNull final SVertex vertex, @NotNull final IPoint point) {
+		setCoords(vertex, point.getX(), point.getY());
+	}
+
+	@Override
+	public Stream<SFace> streamFaces(@NotNull final Predicate<SFace> predicate) {
+		return IntStream.range(0, faceSize).filter(i -> !destroyedFaces.get(i)).mapToObj(i -> faces[i]).filter(predicate);
+	}
+
+	@Override
+	public Stream<SFace> streamHoles() {
+		return IntStream.range(0, holes.size()).map(holes::getInt).filter(i -> !destroyedFaces.get(i)).mapToObj(i -> faces[i]);
+	}
+
+	@Override
+	public Stream<SHalfEdge> streamEdges() {
+		return IntStream.range(0, edgeSize).filter(i -> !destroyedEdges.get(i)).mapToObj(i -> edges[i]);
+	}
+
+	@Override
+	public Stream<SHalfEdge> streamEdgesParallel() {
+		return streamEdges().parallel();
+	}
+
+	@Override
+	public Stream<SVertex> streamVertices() {
+		return IntStream.range(0, vertexSize).filter(i -> isAlive(i)).mapToObj(i -> vertices[i]);
+	}
+
+	@Override
+	public Stream<SVertex> streamVerticesParallel() {
+		return streamVertices().parallel();
+	}
+
+	private boolean isAlive(final int vertexId) {
+		return insertedVertices.get(vertexId) && !destroyedVertices.get(vertexId);
+	}
+
+	@Override
+	public Iterable<SHalfEdge> getEdgeIt() {
+		return () -> streamEdges().iterator();
+	}
+
+	@Override
+	public SVertex getRandomVertex(@NotNull final Random random) {
+		int startIndex = random.nextInt(vertexSize);
+		int index = startIndex;
+
+		// look above
+		while (index < vertexSize && !isAlive(index)) {
+			index++;
+		}
+
+		// look below
+		if(index == vertexSize) {
+			index = startIndex - 1;
+			while (index >= 0 && !isAlive(index)) {
+				index--;
+			}
+		}
+
+		return vertices[index];
+	}
+
+	@Override
+	public int getNumberOfVertices() {
+		return numberOfVertices;
+	}
+
+	@Override
+	public int getNumberOfFaces() {
+		return numberOfFaces;
+	}
+
+	@Override
+	public int getNumberOfEdges() {
+		return numberOfEdges;
+	}
+
+	@Override
+	public int getNumberOfHoles() {
+		return numberOfHoles;
+	}
+
+	@Override
+	public boolean tryLock(@NotNull final SVertex vertex) {
+		return locks[vertex.getId() & (NUMBER_OF_LOCKS - 1)].tryLock();
+	}
+
+	@Override
+	public void unlock(@NotNull final SVertex vertex) {
+		locks[vertex.getId() & (NUMBER_OF_LOCKS - 1)].unlock();
+	}
+
+	@Override
+	public synchronized SMesh clone() {
+		try {
+			SMesh clone = (SMesh)super.clone();
+			clone.end = end.clone();
+			clone.next = next.clone();
+			clone.prev = prev.clone();
+			clone.twin = twin.clone();
+			clone.face = face.clone();
+			clone.edges = new SHalfEdge[edges.length];
+			for(int i = 0; i < edgeSize; i++) {
+				clone.edges[i] = new SHalfEdge(i);
+			}
+			clone.destroyedEdges = (BitSet) destroyedEdges.clone();
+
+			clone.coords = coords.clone();
+			clone.vertexEdge = vertexEdge.clone();
+			clone.vertices = new SVertex[vertices.length];
+			for(int i = 0; i < vertexSize; i++) {
+				clone.vertices[i] = new SVertex(clone, i);
+				clone.vertices[i].setDown(vertices[i].getDown());
+			}
+			clone.insertedVertices = (BitSet) insertedVertices.clone();
+			clone.destroyedVertices = (BitSet) destroyedVertices.clone();
+
+			clone.faceEdge = faceEdge.clone();
+			clone.faces = new SFace[faces.length];
+			for(int i = 0; i < faceSize; i++) {
+				clone.faces[i] = new SFace(i);
+			}
+			clone.borderFaces = (BitSet) borderFaces.clone();
+			clone.destroyedFaces = (BitSet) destroyedFaces.clone();
+			clone.holes = holes.clone();
+			clone.boundary = new SFace(-1);
+
+			clone.locks = new ReentrantLock[NUMBER_OF_LOCKS];
+			for(int i = 0; i < NUMBER_OF_LOCKS; i++) {
+				clone.locks[i] = new ReentrantLock();
+			}
+
+			// no deep copy of object properties
+			clone.verticesData = verticesData.clone();
+			clone.halfEdgesData = halfEdgesData.clone();
+			clone.facesData = facesData.clone();
+			clone.verticesIndexedDoubleData = new ArrayList<>();
+			for(DoubleArrayList dataArray : verticesIndexedDoubleData) {
+				clone.verticesIndexedDoubleData.add(dataArray.clone());
+			}
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new InternalError(e.getMessage());
+		}
+	}
+
+	@Override
+	public IIncrementalTriangulation<SVertex, SHalfEdge, SFace> toTriangulation(@NotNull final IPointLocator.Type type) {
+		return IIncrementalTriangulation.createSTriangulation(type, this);
+	}
+
+	/**
+	 * <p>Rearranges all indices of faces, vertices and halfEdges of the mesh according to
+	 * the {@link Iterable} faceOrder. All indices start at 0 and will be incremented one by one.
+	 * For example, the vertices of the first face of faceOrder will receive id 0,1 and 2.
+	 * Destroyed elements are removed.</p>
+	 *
+	 * <p>Invariant: the geometry i.e. the connectivity and the vertex positions will not change.</p>
+	 *
+	 * @param faceOrder the new order
+	 */
+	@Override
+	public void arrangeMemory(@NotNull final Iterable<SFace> faceOrder) {
+		int[] faceMap = new int[faceSize];
+		int[] edgeMap = new int[edgeSize];
+		int[] vertexMap = new int[vertexSize];
+		Arrays.fill(faceMap, -1);
+		Arrays.fill(edgeMap, -1);
+		Arrays.fill(vertexMap, -1);
+		int[] sizes = new int[3];
+
+		for(SFace face : faceOrder) {
+			arrangeFace(face.getId(), faceMap, edgeMap, vertexMap, sizes);
+		}
+
+		// elements not contained in faceOrder in any order
+		for(int i = 0; i < faceSize; i++) {
+			arrangeFace(i, faceMap, edgeMap, vertexMap, sizes);
+		}
+		for(int i = 0; i < edgeSize; i++) {
+			if(edgeMap[i] == -1 && !destroyedEdges.get(i)) {
+				edgeMap[i] = sizes[1]++;
+			}
+		}
+		for(int i = 0; i < vertexSize; i++) {
+			if(vertexMap[i] == -1 && isAlive(i)) {
+				vertexMap[i] = sizes[2]++;
+			}
+		}
+
+		rearrange(faceMap, sizes[0], edgeMap, sizes[1], vertexMap, sizes[2]);
+	}
+
+	private void arrangeFace(final int faceId, @NotNull final int[] faceMap, @NotNull final int[] edgeMap, @NotNull final int[] vertexMap, @NotNull final int[] sizes) {
+		if(faceId == -1 || faceMap[faceId] != -1 || destroyedFaces.get(faceId)) {
+			return;
+		}
+
+		faceMap[faceId] = sizes[0]++;
+		int start = faceEdge[faceId];
+		if(start == -1) {
+			return;
+		}
+
+		int edge = start;
+		do {
+			if(vertexMap[end[edge]] == -1) {
+				vertexMap[end[edge]] = sizes[2]++;
+			}
+			if(edgeMap[edge] == -1) {
+				edgeMap[edge] = sizes[1]++;
+			}
+			if(twin[edge] != -1 && edgeMap[twin[edge]] == -1) {
+				edgeMap[twin[edge]] = sizes[1]++;
+			}
+			edge = next[edge];
+		} while (edge != start);
+	}
+
+	/**
+	 * <p>Removes all destroyed elements from this mesh and re-arranges all indices.</p>
+	 *
+	 * <p>Note: that any mapping id to vertex or id to halfEdge or id to face has to be recomputed!</p>
+	 */
+	@Override
+	public void garbageCollection() {
+		int[] faceMap = new int[faceSize];
+		int[] edgeMap = new int[edgeSize];
+		int[] vertexMap = new int[vertexSize];
+
+		int j = 0;
+		for(int i = 0; i < faceSize; i++) {
+			faceMap[i] = destroyedFaces.get(i) ? -1 : j++;
+		}
+		int numberOfFaceSlots = j;
+
+		j = 0;
+		for(int i = 0; i < edgeSize; i++) {
+			edgeMap[i] = destroyedEdges.get(i) ? -1 : j++;
+		}
+		int numberOfEdgeSlots = j;
+
+		j = 0;
+		for(int i = 0; i < vertexSize; i++) {
+			vertexMap[i] = isAlive(i) ? j++ : -1;
+		}
+		int numberOfVertexSlots = j;
+
+		rearrange(faceMap, numberOfFaceSlots, edgeMap, numberOfEdgeSlots, vertexMap, numberOfVertexSlots);
+		assert (getNumberOfVertices() == vertexSize) && (getNumberOfEdges() == edgeSize);
+	}
+
+	/**
+	 * Moves each element <tt>i</tt> to the index <tt>map[i]</tt> and removes all elements with <tt>map[i] == -1</tt>.
+	 * The handles of the remaining elements are kept but receive their new index. The data containers are
+	 * rearranged in-place such that containers acquired before stay valid.
+	 */
+	private void rearrange(
+			@NotNull final int[] faceMap, final int newFaceSize,
+			@NotNull final int[] edgeMap, final int newEdgeSize,
+			@NotNull final int[] vertexMap, final int newVertexSize) {
+
+		// 1. half-edges
+		int edgeCapacity = Math.max(INITIAL_CAPACITY, newEdgeSize);
+		int[] nEnd = new int[edgeCapacity];
+		int[] nNext = new int[edgeCapacity];
+		int[] nPrev = new int[edgeCapacity];
+		int[] nTwin = new int[edgeCapacity];
+		int[] nFace = new int[edgeCapacity];
+		SHalfEdge[] nEdges = new SHalfEdge[edgeCapacity];
+		for(int i = 0; i < edgeSize; i++) {
+			int id = edgeMap[i];
+			if(id != -1) {
+				nEnd[id] = remap(vertexMap, end[i]);
+				nNext[id] = remap(edgeMap, next[i]);
+				nPrev[id] = remap(edgeMap, prev[i]);
+				nTwin[id] = remap(edgeMap, twin[i]);
+				nFace[id] = remap(faceMap, face[i]);
+				nEdges[id] = edges[i];
+				nEdges[id].setId(id);
+			}
+		}
+		end = nEnd;
+		next = nNext;
+		prev = nPrev;
+		twin = nTwin;
+		face = nFace;
+		edges = nEdges;
+		edgeSize = newEdgeSize;
+		destroyedEdges = new BitSet();
+		boundaryEdge = remap(edgeMap, boundaryEdge);
+
+		// 2. vertices
+		int vertexCapacity = Math.max(INITIAL_CAPACITY, newVertexSize);
+		double[] nCoords = new double[2 * vertexCapacity];
+		int[] nVertexEdge = new int[vertexCapacity];
+		SVertex[] nVertices = new SVertex[vertexCapacity];
+		for(int i = 0; i < vertexSize; i++) {
+			int id = vertexMap[i];
+			if(id != -1) {
+				nCoords[2 * id] = coords[2 * i];
+				nCoords[2 * id + 1] = coords[2 * i + 1];
+				nVertexEdge[id] = remap(edgeMap, vertexEdge[i]);
+				nVertices[id] = vertices[i];
+				nVertices[id].setId(id);
+			}
+		}
+		coords = nCoords;
+		vertexEdge = nVertexEdge;
+		vertices = nVertices;
+		vertexSize = newVertexSize;
+		insertedVertices = new BitSet();
+		insertedVertices.set(0, newVertexSize);
+		destroyedVertices = new BitSet();
+
+		// 3. faces
+		int faceCapacity = Math.max(INITIAL_CAPACITY, newFaceSize);
+		int[] nFaceEdge = new int[faceCapacity];
+		SFace[] nFaces = new SFace[faceCapacity];
+		BitSet nBorderFaces = new BitSet();
+		for(int i = 0; i < faceSize; i++) {
+			int id = faceMap[i];
+			if(id != -1) {
+				nFaceEdge[id] = remap(edgeMap, faceEdge[i]);
+				nFaces[id] = faces[i];
+				nFaces[id].setId(id);
+				nBorderFaces.set(id, borderFaces.get(i));
+			}
+		}
+		faceEdge = nFaceEdge;
+		faces = nFaces;
+		faceSize = newFaceSize;
+		borderFaces = nBorderFaces;
+		destroyedFaces = new BitSet();
+		IntArrayList nHoles = new IntArrayList();
+		for(int i = 0; i < holes.size(); i++) {
+			if(faceMap[holes.getInt(i)] != -1) {
+				nHoles.add(faceMap[holes.getInt(i)]);
+			}
+		}
+		holes = nHoles;
+
+		// 4. properties
+		facesData.rearrange(faceMap, newFaceSize);
+		halfEdgesData.rearrange(edgeMap, newEdgeSize);
+		verticesData.rearrange(vertexMap, newVertexSize);
+		for(DoubleArrayList dataArray : verticesIndexedDoubleData) {
+			PropertyData.rearrange(dataArray, vertexMap, newVertexSize);
+		}
+	}
+
+	private static int remap(@NotNull final int[] map, final int id) {
+		return id < 0 ? id : map[id];
+	}
+
+	@Override
+	public <CV> IVertexContainerObject<SVertex, SHalfEdge, SFace, CV> getObjectVertexContainer(@NotNull final String name, final Class<CV> clazz) {
+		return new IVertexContainerObject<>() {
+			private final AObjectArrayList<CV> list = verticesData.getObjectArray(name, vertexSize);
+
+			@Override
+			public CV getValue(@NotNull final SVertex vertex) {
+				return list.get(vertex.getId());
+			}
+
+			@Override
+			public void setValue(@NotNull final SVertex vertex, final CV value) {
+				list.set(vertex.getId(), value);
+			}
+		};
+	}
+
+	@Override
+	public <CV> IEdgeContainerObject<SVertex, SHalfEdge, SFace, CV> getObjectEdgeContainer(@NotNull final String name, final Class<CV> clazz) {
+		return new IEdgeContainerObject<>() {
+			private final AObjectArrayList<CV> list = halfEdgesData.getObjectArray(name, edgeSize);
+
+			@Override
+			public CV getValue(@NotNull final SHalfEdge edge) {
+				return list.get(edge.getId());
+			}
+
+			@Override
+			public void setValue(@NotNull final SHalfEdge edge, final CV value) {
+				list.set(edge.getId(), value);
+			}
+		};
+	}
+
+	@Override
+	public IEdgeContainerBoolean<SVertex, SHalfEdge, SFace> getBooleanEdgeContainer(@NotNull final String name) {
+		return new IEdgeContainerBoolean<>() {
+			private final BooleanArrayList list = halfEdgesData.getBooleanArray(name, edgeSize);
+
+			@Override
+			public boolean getValue(@NotNull final SHalfEdge edge) {
+				return list.getBoolean(edge.getId());
+			}
+
+			@Override
+			public void setValue(@NotNull final SHalfEdge edge, final boolean value) {
+				list.set(edge.getId(), value);
+			}
+		};
+	}
+
+	@Override
+	public IEdgeContainerDouble<SVertex, SHalfEdge, SFace> getDoubleEdgeContainer(@NotNull final String name) {
+		return new IEdgeContainerDouble<>() {
+			private final DoubleArrayList list = halfEdgesData.getDoubleArray(name, edgeSize);
+
+			@Override
+			public double getValue(@NotNull final SHalfEdge edge) {
+				return list.getDouble(edge.getId());
+			}
+
+			@Override
+			public void setValue(@NotNull final SHalfEdge edge, final double value) {
+				list.set(edge.getId(), value);
+			}
+		};
+	}
+
+	@Override
+	public IVertexContainerDouble<SVertex, SHalfEdge, SFace> getDoubleVertexContainer(@NotNull final String name) {
+		return new IVertexContainerDouble<>() {
+			private DoubleArrayList list = verticesData.getDoubleArray(name, vertexSize);
+
+			@Override
+			public double getValue(@NotNull final SVertex vertex) {
+				return list.getDouble(vertex.getId());
+			}
+
+			@Override
+			public void setValue(@NotNull final SVertex vertex, final double value) {
+				list.set(vertex.getId(), value);
+			}
+
+			@Override
+			public void reset() {
+				verticesData.removeDouble(name);
+				list = verticesData.getDoubleArray(name, vertexSize);
+			}
+		};
+	}
+
+	@Override
+	public IVertexContainerBoolean<SVertex, SHalfEdge, SFace> getBooleanVertexContainer(@NotNull final String name) {
+		return new IVertexContainerBoolean<>() {
+			private final BooleanArrayList list = verticesData.getBooleanArray(name, vertexSize);
+
+			@Override
+			public boolean getValue(@NotNull final SVertex vertex) {
+				return list.getBoolean(vertex.getId());
+			}
+
+			@Override
+			public void setValue(@NotNull final SVertex vertex, final boolean value) {
+				list.set(vertex.getId(), value);
+			}
+		};
+	}
+
+	/**
+	 * <p>Creates a very simple mesh consisting of two triangles ((-100, 0), (100, 0), (0, 1)) and ((0, -1), (-100, 0), (100, 0)).</p>
+	 *
+	 * @return the created mesh
+	 */
+	public static SMesh createSimpleTriMesh() {
+		SMesh mesh = new SMesh();
+		IMesh.createSimpleTriMesh(mesh);
+		return mesh;
+	}
+
+	/**
+	 * The named properties of one kind of mesh elements, i.e. one list per property containing the value of
+	 * each element at the array-index of the element. Lists are created lazily, unset values are
+	 * <tt>null</tt>, <tt>0.0</tt> or <tt>false</tt>.
+	 */
+	private static class PropertyData implements Cloneable {
+		private Map<String, AObjectArrayList<?>> objectData = new HashMap<>();
+		private Map<String, DoubleArrayList> doubleData = new HashMap<>();
+		private Map<String, BooleanArrayList> booleanData = new HashMap<>();
+
+		private <C> Optional<C> getObject(@NotNull final String name, final int id) {
+			AObjectArrayList<C> dataArray = (AObjectArrayList<C>) objectData.get(name);
+			return dataArray == null ? Optional.empty() : Optional.ofNullable(dataArray.get(id));
+		}
+
+		private double getDouble(@NotNull final String name, final int id) {
+			DoubleArrayList dataArray = doubleData.get(name);
+			return dataArray == null ? 0.0 : dataArray.getDouble(id);
+		}
+
+		private boolean getBoolean(@NotNull final String name, final int id) {
+			BooleanArrayList dataArray = booleanData.get(name);
+			return dataArray != null && dataArray.getBoolean(id);
+		}
+
+		private <C> AObjectArrayList<C> getObjectArray(@NotNull final String name, final int size) {
+			return (AObjectArrayList<C>) objectData.computeIfAbsent(name, key -> {
+				AObjectArrayList<C> dataArray = new AObjectArrayList<>();
+				dataArray.size(size);
+				return dataArray;
+			});
+		}
+
+		private DoubleArrayList getDoubleArray(@NotNull final String name, final int size) {
+			return doubleData.computeIfAbsent(name, key -> {
+				DoubleArrayList dataArray = new DoubleArrayList(size);
+				dataArray.size(size);
+				return dataArray;
+			});
+		}
+
+		private BooleanArrayList getBooleanArray(@NotNull final String name, final int size) {
+			return booleanData.computeIfAbsent(name, key -> {
+				BooleanArrayList dataArray = new BooleanArrayList(size);
+				dataArray.size(size);
+				return dataArray;
+			});
+		}
+
+		private void removeDouble(@NotNull final String name) {
+			doubleData.remove(name);
+		}
+
+		/**
+		 * Adds the default values for a new element.
+		 */
+		private void add() {
+			for(AObjectArrayList<?> dataArray : objectData.values()) {
+				dataArray.add(null);
+			}
+			for(DoubleArrayList dataArray : doubleData.values()) {
+				dataArray.add(0.0);
+			}
+			for(BooleanArrayList dataArray : booleanData.values()) {
+				dataArray.add(false);
+			}
+		}
+
+		private void rearrange(@NotNull final int[] map, final int size) {
+			for(AObjectArrayList<?> dataArray : objectData.values()) {
+				rearrange(dataArray, map, size);
+			}
+			for(DoubleArrayList dataArray : doubleData.values()) {
+				rearrange(dataArray, map, size);
+			}
+			for(BooleanArrayList dataArray : booleanData.values()) {
+				rearrange(dataArray, map, size);
+			}
+		}
+
+		private static <C> void rearrange(@NotNull final AObjectArrayList<C> dataArray, @NotNull final int[] map, final int size) {
+			Object[] values = new Object[size];
+			for(int i = 0; i < map.length; i++) {
+				if(map[i] != -1) {
+					values[map[i]] = dataArray.get(i);
+				}
+			}
+			dataArray.size(size);
+			for(int i = 0; i < size; i++) {
+				dataArray.set(i, (C) values[i]);
+			}
+			dataArray.trim();
+		}
+
+		private static void rearrange(@NotNull final DoubleArrayList dataArray, @NotNull final int[] map, final int size) {
+			double[] values = new double[size];
+			for(int i = 0; i < map.length; i++) {
+				if(map[i] != -1) {
+					values[map[i]] = dataArray.getDouble(i);
+				}
+			}
+			dataArray.size(size);
+			System.arraycopy(values, 0, dataArray.elements(), 0, size);
+			dataArray.trim();
+		}
+
+		private static void rearrange(@NotNull final BooleanArrayList dataArray, @NotNull final int[] map, final int size) {
+			boolean[] values = new boolean[size];
+			for(int i = 0; i < map.length; i++) {
+				if(map[i] != -1) {
+					values[map[i]] = dataArray.getBoolean(i);
+				}
+			}
+			dataArray.size(size);
+			System.arraycopy(values, 0, dataArray.elements(), 0, size);
+			dataArray.trim();
+		}
+
+		/**
+		 * Returns a copy containing copies of the lists, the object values are not copied.
+		 */
+		@Override
+		protected PropertyData clone() {
+			try {
+				PropertyData clone = (PropertyData) super.clone();
+				clone.objectData = new HashMap<>();
+				for(var entry : objectData.entrySet()) {
+					AObjectArrayList<Object> dataArray = new AObjectArrayList<>();
+					dataArray.addAll(entry.getValue());
+					clone.objectData.put(entry.getKey(), dataArray);
+				}
+				clone.doubleData = new HashMap<>();
+				for(var entry : doubleData.entrySet()) {
+					clone.doubleData.put(entry.getKey(), entry.getValue().clone());
+				}
+				clone.booleanData = new HashMap<>();
+				for(var entry : booleanData.entrySet()) {
+					clone.booleanData.put(entry.getKey(), entry.getValue().clone());
+				}
+				return clone;
+			} catch (CloneNotSupportedException e) {
+				throw new InternalError(e.getMessage());
+			}
+		}
+	}
+}
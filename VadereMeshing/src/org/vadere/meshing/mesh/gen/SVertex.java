@@ -0,0 +1,114 @@
+package org.vadere.meshing.mesh.gen;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.meshing.mesh.inter.IVertex;
+import org.vadere.util.geometry.shapes.IPoint;
+import org.vadere.util.geometry.shapes.VPoint;
+
+/**
+ * A struct-of-arrays implementation of {@link IVertex}. The vertex is only a handle containing its
+ * array-index, its coordinates and its connectivity are stored in the arrays of the {@link SMesh}.
+ */
+public class SVertex implements IVertex {
+
+	/**
+	 * The mesh containing the coordinates of this vertex.
+	 */
+	private final SMesh mesh;
+
+	/**
+	 * The array-index of this vertex.
+	 */
+	private int id;
+
+	/**
+	 * The vertex of the next lower level. This is only required if one uses the {@link DelaunayHierarchy}
+	 * and refers to a vertex of another mesh, therefore it is not stored in the arrays of the {@link SMesh}.
+	 */
+	private SVertex down;
+
+	SVertex(@NotNull final SMesh mesh, final int id) {
+		this.mesh = mesh;
+		this.id = id;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Sets the array-index of this vertex. Note that this method should
+	 * only be called by the garbage collector in {@link SMesh} which
+	 * adjust indices to remove destroyed base elements.
+	 *
+	 * @param id the new array-index of this vertex
+	 */
+	void setId(final int id) {
+		this.id = id;
+	}
+
+	SVertex getDown() {
+		return down;
+	}
+
+	void setDown(final SVertex down) {
+		this.down = down;
+	}
+
+	/**
+	 * Returns a copy of the coordinates of this vertex.
+	 *
+	 * @return a copy of the coordinates of this vertex
+	 */
+	@Override
+	public IPoint getPoint() {
+		return new VPoint(getX(), getY());
+	}
+
+	@Override
+	public double getX() {
+		return mesh.getX(id);
+	}
+
+	@Override
+	public double getY() {
+		return mesh.getY(id);
+	}
+
+	@Override
+	public IPoint add(double x, double y) {
+		return new VPoint(getX() + x, getY() + y);
+	}
+
+	@Override
+	public IPoint norm(double len) {
+		return getPoint().norm(len);
+	}
+
+	@Override
+	public double distanceSq(IPoint other) {
+		return distanceSq(other.getX(), other.getY());
+	}
+
+	@Override
+	public double distanceSq(double x, double y) {
+		double dx = getX() - x;
+		double dy = getY() - y;
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Returns a copy of the coordinates, the vertex itself is owned by its mesh.
+	 *
+	 * @return a copy of the coordinates of this vertex
+	 */
+	@Override
+	public IPoint clone() {
+		return getPoint();
+	}
+
+	@Override
+	public String toString() {
+		return id+"";
+	}
+}
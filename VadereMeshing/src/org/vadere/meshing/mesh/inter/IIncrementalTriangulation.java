@@ -13,6 +13,10 @@ import org.vadere.meshing.mesh.gen.PFace;
 import org.vadere.meshing.mesh.gen.PHalfEdge;
 import org.vadere.meshing.mesh.gen.PMesh;
 import org.vadere.meshing.mesh.gen.PVertex;
+import org.vadere.meshing.mesh.gen.SFace;
+import org.vadere.meshing.mesh.gen.SHalfEdge;
+import org.vadere.meshing.mesh.gen.SMesh;
+import org.vadere.meshing.mesh.gen.SVertex;
 import org.vadere.meshing.mesh.impl.PSLG;
 import org.vadere.meshing.mesh.impl.PTriangulation;
 import org.vadere.meshing.mesh.triangulation.triangulator.gen.GenRuppertsTriangulator;
@@ -98,6 +102,21 @@ public interface IIncrementalTriangulation<V extends IVertex, E extends IHalfEdg
 
 	void insert(final Collection<? extends IPoint> points);
 
+	/**
+	 * Inserts a batch of points. In contrast to {@link #insert(Collection)} the points might be inserted in
+	 * a different order, which is chosen to speed up the point location.
+	 *
+	 * @param points    the points
+	 * @param parallel  if true, the preparation of the batch may use multiple threads
+	 */
+	default void insertBatch(final Collection<? extends IPoint> points, final boolean parallel) {
+		insert(points);
+	}
+
+	default void insertBatch(final Collection<? extends IPoint> points) {
+		insertBatch(points, false);
+	}
+
 	void remove(final IPoint point);
 
 	void setPointLocator(@NotNull final IPointLocator.Type type);
@@ -190,6 +209,27 @@ public interface IIncrementalTriangulation<V extends IVertex, E extends IHalfEdg
         return triangulation;
     }
 
+	static IIncrementalTriangulation<SVertex, SHalfEdge, SFace> createSTriangulation(
+			@NotNull final IPointLocator.Type type,
+			@NotNull final VRectangle bound) {
+		IMesh<SVertex, SHalfEdge, SFace> mesh = new SMesh();
+		return new IncrementalTriangulation<>(mesh, type, bound);
+	}
+
+	static IIncrementalTriangulation<SVertex, SHalfEdge, SFace> createSTriangulation(
+			@NotNull final IPointLocator.Type type,
+			@NotNull final IMesh<SVertex, SHalfEdge, SFace> mesh) {
+		return new IncrementalTriangulation<>(mesh, type);
+	}
+
+	static IIncrementalTriangulation<SVertex, SHalfEdge, SFace> createSTriangulation(
+			@NotNull final IPointLocator.Type type,
+			@NotNull final Collection<? extends IPoint> points) {
+		IIncrementalTriangulation<SVertex, SHalfEdge, SFace> triangulation = createSTriangulation(type, GeometryUtils.boundRelative(points));
+		triangulation.insert(points);
+		return triangulation;
+	}
+
 	static IIncrementalTriangulation<PVertex, PHalfEdge, PFace> createUniformTriangulation(
 			final IPointLocator.Type type,
 			final VRectangle bound,
@@ -871,6 +871,22 @@ public interface ITriConnectivity<V extends IVertex, E extends IHalfEdge, F exte
 	 * @param edge the edge which will be flipped.
 	 */
 	default void flip(@NotNull final E edge) {
+		flip(edge, true);
+	}
+
+	/**
+	 * <p>Flips an edge in the triangulation assuming the egdge which will be created is not jet there.
+	 * If <tt>notify</tt> is false listeners are not informed via {@link #flipEdgeEvent(IFace, IFace)}.
+	 * In that case the caller has to fire the event for the two faces of the edge (which are
+	 * the same before and after the flip). This way edges of distinct faces can be flipped
+	 * concurrently while the listeners are informed sequentially.</p>
+	 *
+	 * <p>Mesh changing method.</p>
+	 *
+	 * @param edge      the edge which will be flipped.
+	 * @param notify    if true {@link #flipEdgeEvent(IFace, IFace)} is fired
+	 */
+	default void flip(@NotNull final E edge, final boolean notify) {
 
 		IMesh<V, E, F> mesh = getMesh();
 
@@ -926,7 +942,9 @@ public interface ITriConnectivity<V extends IVertex, E extends IHalfEdge, F exte
 		mesh.setFace(a1, fb);
 		mesh.setFace(b1, fa);
 
-		flipEdgeEvent(fa, fb);
+		if(notify) {
+			flipEdgeEvent(fa, fb);
+		}
 	}
 
 	/**
@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.DoubleAccumulator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -64,7 +65,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 	private static final int MAX_STEPS = Parameters.MAX_NUMBER_OF_STEPS;
 	private int nSteps;
 	private double initialEdgeLen;
-	private double maxMovement;
+	private final DoubleAccumulator maxMovement = new DoubleAccumulator(Double::max, Double.NEGATIVE_INFINITY);
 	private double quality;
 	private double dQuality = Double.POSITIVE_INFINITY;
 
@@ -131,12 +132,15 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 	private static final String propVelocityX = "velocityX";
 	private static final String propVelocityY = "velocityY";
 	private static final String propAbsVelocity = "absVelocity";
+	private static final String propBlocked = "blocked";
+	private static final String propFlipClaimed = "flipClaimed";
 
 	private final IVertexContainerBoolean<V, E, F> fixpointC;
 	private final IEdgeContainerBoolean<V, E, F> constraintC;
 	private final IVertexContainerDouble<V, E, F> velocityXC;
 	private final IVertexContainerDouble<V, E, F> velocityYC;
 	private final IVertexContainerDouble<V, E, F> absVelocityC;
+	private final IVertexContainerBoolean<V, E, F> blockedC;
 
 	/**
 	 * Constructor to use EikMesh on an existing {@link org.vadere.meshing.mesh.inter.ITriangulation}, that is
@@ -166,6 +170,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		this.velocityXC = triangulation.getMesh().getDoubleVertexContainer(propVelocityX);
 		this.velocityYC = triangulation.getMesh().getDoubleVertexContainer(propVelocityY);
 		this.absVelocityC = triangulation.getMesh().getDoubleVertexContainer(propAbsVelocity);
+		this.blockedC = triangulation.getMesh().getBooleanVertexContainer(propBlocked);
 		this.shapes = new ArrayList<>();
 		this.bound = null;
 		this.edgeLengthFunc = edgeLengthFunc;
@@ -181,7 +186,6 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		//this.frozenVertices = new HashSet<>();
 		//this.poorFaces = new LinkedList<>();
 		this.triangulation.setCanIllegalPredicate(e -> true);
-		this.maxMovement = Double.NEGATIVE_INFINITY;
 		this.triangulation.getMesh().streamBoundaryEdges().map(e -> triangulation.getMesh().getVertex(e)).forEach(v -> setFixPoint(v, true));
 
 		if(refine) {
@@ -248,7 +252,6 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		this.nonEmptyBaseMode = true;
 		this.fixPoints = Collections.EMPTY_LIST;
 		this.pointToSlidingLine = new HashMap<>();
-		this.maxMovement = Double.NEGATIVE_INFINITY;
 
 
 		if(refine) {
@@ -265,6 +268,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		this.velocityXC = triangulation.getMesh().getDoubleVertexContainer(propVelocityX);
 		this.velocityYC = triangulation.getMesh().getDoubleVertexContainer(propVelocityY);
 		this.absVelocityC = triangulation.getMesh().getDoubleVertexContainer(propAbsVelocity);
+		this.blockedC = triangulation.getMesh().getBooleanVertexContainer(propBlocked);
 	}
 
 	/**
@@ -315,6 +319,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		this.velocityXC = refiner.getMesh().getDoubleVertexContainer(propVelocityX);
 		this.velocityYC = refiner.getMesh().getDoubleVertexContainer(propVelocityY);
 		this.absVelocityC = refiner.getMesh().getDoubleVertexContainer(propAbsVelocity);
+		this.blockedC = refiner.getMesh().getBooleanVertexContainer(propBlocked);
 	}
 
 	public GenEikMesh(
@@ -347,7 +352,8 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 	 * This should be called if the edge length function or the distance function changes.
 	 */
 	private void reset() {
-		this.maxMovement = Double.POSITIVE_INFINITY;
+		this.maxMovement.reset();
+		this.maxMovement.accumulate(Double.POSITIVE_INFINITY);
 		this.nSteps = 0;
 		this.dQuality = Double.POSITIVE_INFINITY;
 	}
@@ -429,7 +435,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 	public boolean isFinished() {
 		synchronized (getMesh()) {
 			boolean converged = dQuality < Parameters.qualityConvergence;
-			return isInitialized() && quality >= Parameters.qualityMeasurement && converged || (maxMovement > 0 && maxMovement / initialEdgeLen < Parameters.DPTOL) || nSteps >= MAX_STEPS;
+			return isInitialized() && quality >= Parameters.qualityMeasurement && converged || (maxMovement.get() > 0 && maxMovement.get() / initialEdgeLen < Parameters.DPTOL) || nSteps >= MAX_STEPS;
 		}
 	}
 
@@ -456,7 +462,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 				initialize();
 			}
 			else {
-				maxMovement = Double.NEGATIVE_INFINITY;
+				maxMovement.reset();
 				// geometry is defined by a PSLG
 				if(removeLowBoundaryTriangles) {
 					removeFacesAtBoundary();
@@ -581,6 +587,11 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		IPoint p1 = getMesh().getPoint(vertex);
 		boolean isAtBoundary = isBoundary(vertex);
 
+		// the forces are accumulated locally and written once, i.e. each vertex is only written by the thread computing its force
+		double velocityX = getVelocityX(vertex);
+		double velocityY = getVelocityY(vertex);
+		double absVelocity = getAbsVelocity(vertex);
+
 		for(E edge : getMesh().getEdgeIt(vertex)) {
 
 			// (1) force computation for "real" edges
@@ -588,8 +599,9 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 			IPoint p2 = getMesh().getPoint(v2);
 			VPoint force = getForce(getMesh().toPoint(p1), getMesh().toPoint(p2));
 
-			increaseVelocity(vertex, force);
-			increaseAbsVelocity(vertex, force.distanceToOrigin());
+			velocityX += force.getX();
+			velocityY += force.getY();
+			absVelocity += force.distanceToOrigin();
 
 			// (2) force computation for "virtual edges"
 			if(useVirtualEdges && !isAtBoundary) {
@@ -615,13 +627,18 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 					VPoint q3 = getMesh().toPoint(p1).add(dir);
 					VPoint virtualForce = getForce(getMesh().toPoint(p1), q3);*/
 
-					increaseVelocity(vertex, virtualForce);
-					increaseAbsVelocity(vertex, virtualForce.distanceToOrigin());
+					velocityX += virtualForce.getX();
+					velocityY += virtualForce.getY();
+					absVelocity += virtualForce.distanceToOrigin();
 
 				}
 			}
 
 		}
+
+		setVelocityX(vertex, velocityX);
+		setVelocityY(vertex, velocityY);
+		setAbsVelocity(vertex, absVelocity);
 	}
 
 	/**
@@ -713,7 +730,74 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 	 * if the forces acting on an boundary vertex are to strong.
 	 */
 	private void updateVertices() {
-		streamVertices().forEach(v -> updateVertex(v));
+		if(runParallel) {
+			updateVerticesParallel();
+		}
+		else {
+			streamVertices().forEach(v -> updateVertex(v));
+		}
+	}
+
+	/**
+	 * The parallel version of {@link #updateVertices()}. Vertices which break are collapsed sequentially
+	 * since this changes the connectivity. The remaining vertices are split into independent sets, i.e. no
+	 * two vertices of a set are adjacent, and the vertices of each set are moved in parallel. Since the
+	 * displacement of a vertex only depends on its 1-ring the result is the same as if the vertices were
+	 * moved sequentially in the order of the sets.
+	 */
+	private void updateVerticesParallel() {
+		List<V> vertices = new ArrayList<>(getMesh().getNumberOfVertices());
+		for(V vertex : getMesh().getVertices()) {
+			if(canBreak(vertex) && isBreaking(vertex)) {
+				updateVertex(vertex);
+			}
+			else {
+				vertices.add(vertex);
+			}
+		}
+
+		for(List<V> independentSet : toIndependentSets(vertices)) {
+			independentSet.parallelStream().forEach(v -> displaceVertex(v));
+		}
+	}
+
+	/**
+	 * Splits the vertices into independent sets, i.e. no two vertices of a set are adjacent.
+	 * The sets are computed greedily: each round adds all vertices of which no neighbour was
+	 * added before in this round, the others are deferred to the next round.
+	 *
+	 * @param vertices the vertices
+	 * @return a list of independent sets containing all vertices
+	 */
+	private List<List<V>> toIndependentSets(@NotNull final List<V> vertices) {
+		List<List<V>> independentSets = new ArrayList<>();
+		List<V> remaining = vertices;
+		while(!remaining.isEmpty()) {
+			List<V> independentSet = new ArrayList<>();
+			List<V> deferred = new ArrayList<>();
+			for(V vertex : remaining) {
+				if(isBlocked(vertex)) {
+					deferred.add(vertex);
+				}
+				else {
+					independentSet.add(vertex);
+					setBlocked(vertex, true);
+					for(V neighbour : getMesh().getAdjacentVertexIt(vertex)) {
+						setBlocked(neighbour, true);
+					}
+				}
+			}
+
+			for(V vertex : independentSet) {
+				setBlocked(vertex, false);
+				for(V neighbour : getMesh().getAdjacentVertexIt(vertex)) {
+					setBlocked(neighbour, false);
+				}
+			}
+			independentSets.add(independentSet);
+			remaining = deferred;
+		}
+		return independentSets;
 	}
 
 	/**
@@ -731,8 +815,21 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		if(canBreak(vertex) && isBreaking(vertex)) {
 			// TODO: if the algorithm runs in parallel this might lead to unexpected results! synchronized required!
 			getTriangulation().collapse3DVertex(vertex, true);
+			resetVelocity(vertex);
 		}
-		else if(!isFixPoint(vertex)) {
+		else {
+			displaceVertex(vertex);
+		}
+	}
+
+	/**
+	 * Displaces a vertex which is not a fix point according to its force and resets its force. This changes
+	 * only the position and the force of the vertex and depends only on its 1-ring.
+	 *
+	 * @param vertex the vertex
+	 */
+	private void displaceVertex(final V vertex) {
+		if(!isFixPoint(vertex)) {
 			/*
 			 * (2.1) if it is a sliding point which slides on the boundary, then let the point only move on its sliding line.
 			 */
@@ -753,6 +850,10 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 				}
 			}
 		}
+		resetVelocity(vertex);
+	}
+
+	private void resetVelocity(final V vertex) {
 		setVelocityX(vertex, 0);
 		setVelocityY(vertex, 0);
 		setAbsVelocity(vertex, 0);
@@ -769,9 +870,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		if(isLegalMove(vertex, newX, newY)) {
 			double distance = GeometryUtils.length(vertex.getX() - newX, vertex.getY() - newY);
 			getMesh().setCoords(vertex, newX, newY);
-			if(maxMovement < distance) {
-				maxMovement = distance;
-			}
+			maxMovement.accumulate(distance);
 			return true;
 		}
 		return false;
@@ -1314,10 +1413,7 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 	 */
 	private boolean flipEdges() {
 		if(runParallel) {
-			streamEdges()
-					.filter(e -> getTriangulation().isIllegal(e))
-					.filter(e -> !isConstrained(e))
-					.forEach(e -> getTriangulation().flipSync(e));
+			flipEdgesParallel();
 		}
 		else {
 			streamEdges()
@@ -1328,6 +1424,51 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		return false;
 	}
 
+	/**
+	 * The parallel version of {@link #flipEdges()}. The illegal edges are flipped in rounds. Each round
+	 * flips a set of edges which do not share any face in parallel, an edge sharing a face with an
+	 * edge flipped in this round is deferred to the next round and flipped if it is still illegal.
+	 * Since a flip only changes the two faces of the edge, the flips of a round are independent.
+	 * The listeners of the triangulation are informed sequentially after each round.
+	 */
+	private void flipEdgesParallel() {
+		List<E> illegalEdges = streamEdges()
+				.filter(e -> getTriangulation().isIllegal(e))
+				.filter(e -> !isConstrained(e))
+				.collect(Collectors.toList());
+
+		while(!illegalEdges.isEmpty()) {
+			List<E> independentEdges = new ArrayList<>();
+			List<E> deferred = new ArrayList<>();
+			for(E edge : illegalEdges) {
+				F face = getMesh().getFace(edge);
+				F twinFace = getMesh().getTwinFace(edge);
+				if(isFlipClaimed(face) || isFlipClaimed(twinFace)) {
+					deferred.add(edge);
+				}
+				else {
+					setFlipClaimed(face, true);
+					setFlipClaimed(twinFace, true);
+					independentEdges.add(edge);
+				}
+			}
+
+			independentEdges.parallelStream().forEach(e -> getTriangulation().flip(e, false));
+
+			for(E edge : independentEdges) {
+				F face = getMesh().getFace(edge);
+				F twinFace = getMesh().getTwinFace(edge);
+				setFlipClaimed(face, false);
+				setFlipClaimed(twinFace, false);
+				getTriangulation().flipEdgeEvent(face, twinFace);
+			}
+
+			illegalEdges = deferred.parallelStream()
+					.filter(e -> getTriangulation().isIllegal(e))
+					.collect(Collectors.toList());
+		}
+	}
+
 	/**
 	 * Computation of the factor which transforms relative edge length into absolute ones.
 	 */
@@ -1608,6 +1749,22 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		return fixpointC.getValue(vertex);
 	}
 
+	private boolean isBlocked(V vertex) {
+		return blockedC.getValue(vertex);
+	}
+
+	private void setBlocked(V vertex, boolean blocked) {
+		blockedC.setValue(vertex, blocked);
+	}
+
+	private boolean isFlipClaimed(F face) {
+		return getMesh().getBooleanData(face, propFlipClaimed);
+	}
+
+	private void setFlipClaimed(F face, boolean claimed) {
+		getMesh().setBooleanData(face, propFlipClaimed, claimed);
+	}
+
 	private void setVelocity(V vertex, IPoint velocity) {
 		velocityXC.setValue(vertex, velocity.getX());
 		velocityYC.setValue(vertex, velocity.getY());
@@ -1670,6 +1827,17 @@ public class GenEikMesh<V extends IVertex, E extends IHalfEdge, F extends IFace>
 		this.allowVertexCollapse = allowVertexCollapse;
 	}
 
+	/**
+	 * Enables the parallel computation of the forces, the vertex displacements and the edge flips,
+	 * see {@link #updateVerticesParallel()} and {@link #flipEdgesParallel()}. The edge length and
+	 * distance function have to be thread-safe.
+	 *
+	 * @param runParallel if true the algorithm uses multiple threads
+	 */
+	public void setRunParallel(final boolean runParallel) {
+		this.runParallel = runParallel;
+	}
+
 	public void setUseVirtualEdges(final boolean useVirtualEdges) {
 		this.useVirtualEdges = useVirtualEdges;
 	}
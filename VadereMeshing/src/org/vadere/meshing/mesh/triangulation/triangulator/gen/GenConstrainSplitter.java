@@ -180,7 +180,7 @@ public class GenConstrainSplitter<V extends IVertex, E extends IHalfEdge, F exte
 		triangulation.init();
 		IMesh<V, E, F> mesh = triangulation.getMesh();
 
-		triangulation.insert(points);
+		triangulation.insertBatch(points);
 
 		for(VLine constrain : constrains) {
 			boolean insertPair = true;
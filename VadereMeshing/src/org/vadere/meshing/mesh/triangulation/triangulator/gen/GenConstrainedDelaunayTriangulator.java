@@ -299,7 +299,7 @@ public class GenConstrainedDelaunayTriangulator<V extends IVertex, E extends IHa
 		triangulation.init();
 		IMesh<V, E, F> mesh = triangulation.getMesh();
 
-		triangulation.insert(points);
+		triangulation.insertBatch(points);
 
 		for(VLine constrain : constrains) {
 			boolean insertPair = true;
@@ -66,7 +66,7 @@ public class GenPointSetTriangulator<V extends IVertex, E extends IHalfEdge, F e
 	public IIncrementalTriangulation<V, E, F> generate(boolean finalize) {
 		if(!generated) {
 			triangulation.init();
-			triangulation.insert(points);
+			triangulation.insertBatch(points);
 
 			if(finalize) {
 				triangulation.finish();
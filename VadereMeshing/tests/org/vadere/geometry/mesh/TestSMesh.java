@@ -0,0 +1,140 @@
+package org.vadere.geometry.mesh;
+
+import org.junit.Test;
+import org.vadere.meshing.mesh.gen.PFace;
+import org.vadere.meshing.mesh.gen.PHalfEdge;
+import org.vadere.meshing.mesh.gen.PVertex;
+import org.vadere.meshing.mesh.gen.SFace;
+import org.vadere.meshing.mesh.gen.SHalfEdge;
+import org.vadere.meshing.mesh.gen.SMesh;
+import org.vadere.meshing.mesh.gen.SVertex;
+import org.vadere.meshing.mesh.inter.IFace;
+import org.vadere.meshing.mesh.inter.IHalfEdge;
+import org.vadere.meshing.mesh.inter.IIncrementalTriangulation;
+import org.vadere.meshing.mesh.inter.IMesh;
+import org.vadere.meshing.mesh.inter.IPointLocator;
+import org.vadere.meshing.mesh.inter.IVertex;
+import org.vadere.util.geometry.GeometryUtils;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TestSMesh {
+
+	private static List<VPoint> randomPoints(final int n) {
+		Random random = new Random(0);
+		List<VPoint> points = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			points.add(new VPoint(random.nextDouble() * 100, random.nextDouble() * 100));
+		}
+		return points;
+	}
+
+	// VLine#hashCode depends on the orientation of the line
+	private static <V extends IVertex, E extends IHalfEdge, F extends IFace> Set<Set<VPoint>> edges(final IMesh<V, E, F> mesh) {
+		return mesh.streamEdges()
+				.map(e -> new HashSet<>(Arrays.asList(mesh.toPoint(mesh.getVertex(e)), mesh.toPoint(mesh.getTwinVertex(e)))))
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	public void testSameTriangulationAsPMesh() {
+		List<VPoint> points = randomPoints(2000);
+		for (IPointLocator.Type type : new IPointLocator.Type[]{IPointLocator.Type.JUMP_AND_WALK, IPointLocator.Type.DELAUNAY_HIERARCHY, IPointLocator.Type.DELAUNAY_TREE}) {
+			IIncrementalTriangulation<SVertex, SHalfEdge, SFace> sTriangulation = IIncrementalTriangulation.createSTriangulation(type, points);
+			IIncrementalTriangulation<PVertex, PHalfEdge, PFace> pTriangulation = IIncrementalTriangulation.createPTriangulation(type, points);
+			sTriangulation.finish();
+			pTriangulation.finish();
+
+			IMesh<SVertex, SHalfEdge, SFace> sMesh = sTriangulation.getMesh();
+			IMesh<PVertex, PHalfEdge, PFace> pMesh = pTriangulation.getMesh();
+			assertTrue(sMesh.isValid());
+			assertEquals(pMesh.getNumberOfVertices(), sMesh.getNumberOfVertices());
+			assertEquals(pMesh.getNumberOfFaces(), sMesh.getNumberOfFaces());
+			assertEquals(pMesh.getNumberOfEdges(), sMesh.getNumberOfEdges());
+			assertEquals(edges(pMesh), edges(sMesh));
+		}
+	}
+
+	@Test
+	public void testDelaunayHierarchyDownLinks() {
+		List<VPoint> points = randomPoints(2000);
+		IIncrementalTriangulation<SVertex, SHalfEdge, SFace> triangulation = IIncrementalTriangulation.createSTriangulation(IPointLocator.Type.DELAUNAY_HIERARCHY, GeometryUtils.boundRelative(points));
+		triangulation.insertBatch(points);
+		triangulation.finish();
+
+		IIncrementalTriangulation<PVertex, PHalfEdge, PFace> pTriangulation = IIncrementalTriangulation.createPTriangulation(IPointLocator.Type.DELAUNAY_HIERARCHY, points);
+		pTriangulation.finish();
+
+		assertTrue(triangulation.getMesh().isValid());
+		assertEquals(edges(pTriangulation.getMesh()), edges(triangulation.getMesh()));
+	}
+
+	@Test
+	public void testGarbageCollectionKeepsTopologyAndData() {
+		IIncrementalTriangulation<SVertex, SHalfEdge, SFace> triangulation = IIncrementalTriangulation.createSTriangulation(IPointLocator.Type.JUMP_AND_WALK, randomPoints(500));
+		triangulation.finish();
+		SMesh mesh = (SMesh) triangulation.getMesh();
+		mesh.streamVertices().forEach(v -> mesh.setDoubleData(v, "x", mesh.getX(v)));
+		mesh.streamVertices().forEach(v -> mesh.setData(v, "point", mesh.toPoint(v)));
+		Set<Set<VPoint>> edges = edges(mesh);
+		SVertex vertex = mesh.getVertices().get(100);
+		VPoint point = mesh.toPoint(vertex);
+
+		mesh.garbageCollection();
+
+		assertTrue(mesh.isValid());
+		assertEquals(edges, edges(mesh));
+		assertEquals(point, mesh.toPoint(vertex));
+		assertSame(vertex, mesh.getVertices().get(vertex.getId()));
+		assertEquals(mesh.getNumberOfVertices(), mesh.getVertices().size());
+		assertTrue(mesh.streamVertices().allMatch(v -> mesh.getX(v) == mesh.getDoubleData(v, "x")));
+		assertTrue(mesh.streamVertices().allMatch(v -> mesh.toPoint(v).equals(mesh.getData(v, "point", VPoint.class).get())));
+	}
+
+	@Test
+	public void testArrangeMemory() {
+		IIncrementalTriangulation<SVertex, SHalfEdge, SFace> triangulation = IIncrementalTriangulation.createSTriangulation(IPointLocator.Type.JUMP_AND_WALK, randomPoints(500));
+		triangulation.finish();
+		SMesh mesh = (SMesh) triangulation.getMesh();
+		Set<Set<VPoint>> edges = edges(mesh);
+		List<SFace> faces = mesh.getFaces();
+		Collections.shuffle(faces, new Random(1));
+
+		mesh.arrangeMemory(faces);
+
+		assertTrue(mesh.isValid());
+		assertEquals(edges, edges(mesh));
+		assertEquals(0, faces.get(0).getId());
+		assertEquals(faces, mesh.getFaces());
+	}
+
+	@Test
+	public void testClone() {
+		SMesh mesh = SMesh.createSimpleTriMesh();
+		SMesh clone = mesh.clone();
+		SVertex vertex = mesh.getVertices().get(0);
+		SVertex cVertex = clone.getVertices().get(0);
+		assertNotEquals(vertex, cVertex);
+		assertEquals(mesh.toPoint(vertex), clone.toPoint(cVertex));
+
+		clone.setCoords(cVertex, 5, 5);
+		assertEquals(new VPoint(5, 5), clone.toPoint(cVertex));
+		assertEquals(new VPoint(5, 5), cVertex.getPoint());
+		assertFalse(mesh.toPoint(vertex).equals(new VPoint(5, 5)));
+		assertTrue(clone.isValid());
+	}
+}
@@ -0,0 +1,96 @@
+package org.vadere.geometry.triangulation;
+
+import org.junit.Test;
+import org.vadere.meshing.SpaceFillingCurve;
+import org.vadere.meshing.mesh.gen.PFace;
+import org.vadere.meshing.mesh.gen.PHalfEdge;
+import org.vadere.meshing.mesh.gen.PVertex;
+import org.vadere.meshing.mesh.inter.IIncrementalTriangulation;
+import org.vadere.meshing.mesh.inter.IMesh;
+import org.vadere.meshing.mesh.inter.IPointLocator;
+import org.vadere.util.geometry.GeometryUtils;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestBatchInsertion {
+
+	private static List<VPoint> randomPoints(final int n) {
+		Random random = new Random(0);
+		List<VPoint> points = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			points.add(new VPoint(random.nextDouble() * 100, random.nextDouble() * 50));
+		}
+		return points;
+	}
+
+	// VLine#hashCode depends on the orientation of the line
+	private static Set<Set<VPoint>> edges(final IMesh<PVertex, PHalfEdge, PFace> mesh) {
+		return mesh.streamEdges()
+				.map(e -> new HashSet<>(Arrays.asList(mesh.toPoint(mesh.getVertex(e)), mesh.toPoint(mesh.getTwinVertex(e)))))
+				.collect(Collectors.toSet());
+	}
+
+	private static double pathLength(final List<VPoint> points) {
+		double length = 0;
+		for (int i = 1; i < points.size(); i++) {
+			length += points.get(i - 1).distance(points.get(i));
+		}
+		return length;
+	}
+
+	@Test
+	public void testBatchInsertionEqualsInsertion() {
+		List<VPoint> points = randomPoints(5000);
+		VRectangle bound = GeometryUtils.boundRelative(points);
+		for (IPointLocator.Type type : new IPointLocator.Type[]{IPointLocator.Type.JUMP_AND_WALK, IPointLocator.Type.DELAUNAY_HIERARCHY, IPointLocator.Type.DELAUNAY_TREE}) {
+			IIncrementalTriangulation<PVertex, PHalfEdge, PFace> triangulation = IIncrementalTriangulation.createPTriangulation(type, bound);
+			triangulation.insert(points);
+			triangulation.finish();
+
+			IIncrementalTriangulation<PVertex, PHalfEdge, PFace> batchTriangulation = IIncrementalTriangulation.createPTriangulation(type, bound);
+			batchTriangulation.insertBatch(points, type == IPointLocator.Type.DELAUNAY_TREE);
+			batchTriangulation.finish();
+
+			assertTrue(batchTriangulation.getMesh().isValid());
+			assertEquals(triangulation.getMesh().getNumberOfVertices(), batchTriangulation.getMesh().getNumberOfVertices());
+			assertEquals(edges(triangulation.getMesh()), edges(batchTriangulation.getMesh()));
+		}
+	}
+
+	@Test
+	public void testBatchInsertionAfterInsertion() {
+		List<VPoint> points = randomPoints(2000);
+		IIncrementalTriangulation<PVertex, PHalfEdge, PFace> triangulation = IIncrementalTriangulation.createPTriangulation(IPointLocator.Type.JUMP_AND_WALK, GeometryUtils.boundRelative(points));
+		triangulation.insert(points.subList(0, 1000));
+		triangulation.insertBatch(points.subList(1000, 2000));
+		triangulation.finish();
+
+		IIncrementalTriangulation<PVertex, PHalfEdge, PFace> expected = IIncrementalTriangulation.createPTriangulation(IPointLocator.Type.JUMP_AND_WALK, points);
+		expected.finish();
+
+		assertTrue(triangulation.getMesh().isValid());
+		assertEquals(edges(expected.getMesh()), edges(triangulation.getMesh()));
+	}
+
+	@Test
+	public void testHilbertSort() {
+		List<VPoint> points = randomPoints(10000);
+		List<VPoint> sorted = SpaceFillingCurve.sort(points, false);
+
+		assertEquals(points.size(), sorted.size());
+		assertEquals(new HashSet<>(points), new HashSet<>(sorted));
+		assertEquals(sorted, SpaceFillingCurve.sort(points, true));
+		assertTrue(pathLength(sorted) < 0.05 * pathLength(points));
+	}
+}
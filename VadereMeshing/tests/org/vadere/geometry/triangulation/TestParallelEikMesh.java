@@ -0,0 +1,46 @@
+package org.vadere.geometry.triangulation;
+
+import org.junit.Test;
+import org.vadere.meshing.mesh.triangulation.edgeLengthFunctions.IEdgeLengthFunction;
+import org.vadere.meshing.mesh.triangulation.improver.eikmesh.impl.AEikMesh;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.math.IDistanceFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the meshes generated by the parallel EikMesh with the meshes of the sequential EikMesh.
+ */
+public class TestParallelEikMesh {
+
+	private static final VRectangle bound = new VRectangle(-11, -11, 22, 22);
+
+	// a disc with a disc shaped hole
+	private static final IDistanceFunction distanceFunc = p -> Math.max(Math.abs(p.distanceToOrigin() - 6) - 4, -1);
+
+	@Test
+	public void testUniformMesh() {
+		assertSameQuality(0.5, p -> 1.0);
+	}
+
+	@Test
+	public void testAdaptiveMesh() {
+		assertSameQuality(0.3, p -> 1.0 + 0.5 * Math.abs(distanceFunc.apply(p)));
+	}
+
+	private void assertSameQuality(final double initialEdgeLen, final IEdgeLengthFunction edgeLengthFunc) {
+		AEikMesh sequential = new AEikMesh(distanceFunc, edgeLengthFunc, initialEdgeLen, bound);
+		sequential.generate();
+
+		AEikMesh parallel = new AEikMesh(distanceFunc, edgeLengthFunc, initialEdgeLen, bound);
+		parallel.setRunParallel(true);
+		parallel.generate();
+
+		assertTrue(parallel.getMesh().isValid());
+		assertEquals(sequential.getQuality(), parallel.getQuality(), 0.02);
+		assertEquals(sequential.getMinQuality(), parallel.getMinQuality(), 0.1);
+		assertEquals(sequential.getMesh().getNumberOfVertices(), parallel.getMesh().getNumberOfVertices(),
+				0.02 * sequential.getMesh().getNumberOfVertices());
+	}
+}
@@ -8,7 +8,7 @@ import org.vadere.meshing.mesh.gen.IncrementalTriangulation;
 import org.vadere.meshing.mesh.inter.IIncrementalTriangulation;
 import org.vadere.meshing.mesh.triangulation.DistanceFunctionApproxBF;
 import org.vadere.simulator.context.VadereContext;
-import org.vadere.simulator.models.potential.fields.PotentialFieldDistancesBruteForce;
+import org.vadere.simulator.models.potential.fields.PotentialFieldDistancesQuadTree;
 import org.vadere.simulator.models.potential.solver.calculators.mesh.MeshEikonalSolverFMM;
 import org.vadere.simulator.models.potential.solver.timecost.UnitTimeCostFunction;
 import org.vadere.simulator.projects.Domain;
@@ -70,14 +70,14 @@ public class OfflineTopographyController {
 		} else {
 			// add distance function
 			ScenarioCache cache = (ScenarioCache) VadereContext.get(getTopography()).getOrDefault("cache", ScenarioCache.empty());
-			PotentialFieldDistancesBruteForce distanceField = new PotentialFieldDistancesBruteForce(
+			PotentialFieldDistancesQuadTree distanceField = new PotentialFieldDistancesQuadTree(
 					getTopography().getObstacles().stream().map(obs -> obs.getShape()).collect(Collectors.toList()),
 					new VRectangle(getTopography().getBounds()),
 					attributesFloorField, cache);
 
 			getTopography().setObstacleDistanceFunction(iPoint -> -distanceField.getPotential(iPoint, null));
 
-			// use PotentialFieldDistancesBruteForce as distance function
+			// use PotentialFieldDistancesQuadTree as distance function
 			getTopography().setReachablePointProvider(SimpleReachablePointProvider.uniform(
 					random,
 					getTopography().getBounds(),
@@ -0,0 +1,245 @@
+package org.vadere.simulator.control.simulation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.vadere.simulator.entrypoints.ScenarioFactory;
+import org.vadere.simulator.projects.Scenario;
+import org.vadere.simulator.projects.SimulationResult;
+import org.vadere.simulator.utils.cache.ScenarioCache;
+import org.vadere.simulator.utils.cache.SharedFloorFieldCache;
+import org.vadere.util.io.IOUtils;
+import org.vadere.util.logging.Logger;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many scenarios concurrently, e.g. all scenarios of a project or the variants of a parameter study.
+ * At most <tt>parallelism</tt> {@link ScenarioRun}s are executed at the same time and each run writes into
+ * its own output directory <tt>outputDir/&lt;scenario file name&gt;</tt>.
+ *
+ * Runs whose floor field hash is equal share their floor fields (if caching is activated in the scenario),
+ * i.e. each floor field is computed or loaded only once for the whole batch, see
+ * {@link ScenarioCache#shareWith(SharedFloorFieldCache)}.
+ */
+public class ScenarioBatchRun {
+
+	private static Logger logger = Logger.getLogger(ScenarioBatchRun.class);
+
+	private final Path outputDir;
+	private final int parallelism;
+	private final Path cacheParentDir;
+	private final SharedFloorFieldCache sharedCache;
+
+	/**
+	 * @param outputDir         the directory containing the output directories of all runs
+	 * @param parallelism       the maximal number of concurrent runs
+	 * @param cacheParentDir    the directory which contains the floor field caches, if <tt>null</tt> the directory of each scenario file is used
+	 */
+	public ScenarioBatchRun(@NotNull final Path outputDir, final int parallelism, @Nullable final Path cacheParentDir) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism has to be positive: " + parallelism);
+		}
+		this.outputDir = outputDir;
+		this.parallelism = parallelism;
+		this.cacheParentDir = cacheParentDir;
+		this.sharedCache = new SharedFloorFieldCache();
+	}
+
+	/**
+	 * Runs all scenarios and waits until all runs are finished. A failing run does not affect the other runs.
+	 *
+	 * @param scenarioFiles the scenario files to run
+	 * @return the results of all runs in the order of the scenario files
+	 */
+	public BatchResult run(@NotNull final List<Path> scenarioFiles) throws InterruptedException {
+		List<Path> outputPaths = createOutputPaths(scenarioFiles);
+		AtomicInteger finished = new AtomicInteger(0);
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "ScenarioBatchRun-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		logger.info(String.format("run %d scenarios with parallelism %d", scenarioFiles.size(), parallelism));
+		Instant start = Instant.now();
+		List<Future<RunResult>> futures = new ArrayList<>(scenarioFiles.size());
+		try {
+			for (int i = 0; i < scenarioFiles.size(); i++) {
+				Path scenarioFile = scenarioFiles.get(i);
+				Path outputPath = outputPaths.get(i);
+				futures.add(executor.submit(() -> {
+					RunResult result = runScenario(scenarioFile, outputPath);
+					logger.info(String.format("%d/%d finished %s (%s)", finished.incrementAndGet(), scenarioFiles.size(),
+							scenarioFile.getFileName(), result.isSuccessful() ? "completed" : "failed"));
+					return result;
+				}));
+			}
+
+			List<RunResult> results = new ArrayList<>(futures.size());
+			for (Future<RunResult> future : futures) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("scenario run did not return a result", e.getCause());
+				}
+			}
+			BatchResult batchResult = new BatchResult(results, Duration.between(start, Instant.now()));
+			logger.info(batchResult.toString());
+			return batchResult;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private RunResult runScenario(@NotNull final Path scenarioFile, @NotNull final Path outputPath) {
+		Instant start = Instant.now();
+		ScenarioCache cache = ScenarioCache.empty();
+		SimulationResult simulationResult = null;
+		try {
+			Scenario scenario = ScenarioFactory.createScenarioWithScenarioFilePath(scenarioFile);
+			Path cacheDir = cacheParentDir != null ? cacheParentDir : scenarioFile.toAbsolutePath().getParent();
+			cache = ScenarioCache.load(scenario, cacheDir).shareWith(sharedCache);
+
+			ScenarioRun scenarioRun = new ScenarioRun(scenario, outputPath.toString(), true, null, scenarioFile, cache);
+			simulationResult = scenarioRun.getSimulationResult();
+			scenarioRun.run();
+			return new RunResult(scenarioFile, outputPath, simulationResult, null, Duration.between(start, Instant.now()));
+		} catch (Throwable e) {
+			logger.error(String.format("Error while executing scenario %s.", scenarioFile), e);
+			return new RunResult(scenarioFile, outputPath, simulationResult, e, Duration.between(start, Instant.now()));
+		} finally {
+			cache.releaseSharedCaches();
+		}
+	}
+
+	/**
+	 * Uses the scenario file names (without extension) as names of the output directories, equal names
+	 * get a numeric suffix.
+	 */
+	private List<Path> createOutputPaths(@NotNull final List<Path> scenarioFiles) {
+		Set<String> names = new HashSet<>();
+		List<Path> outputPaths = new ArrayList<>(scenarioFiles.size());
+		for (Path scenarioFile : scenarioFiles) {
+			String baseName = scenarioFile.getFileName().toString();
+			if (baseName.endsWith(IOUtils.SCENARIO_FILE_EXTENSION)) {
+				baseName = baseName.substring(0, baseName.length() - IOUtils.SCENARIO_FILE_EXTENSION.length());
+			}
+			String name = baseName;
+			for (int i = 1; !names.add(name); i++) {
+				name = baseName + "_" + i;
+			}
+			outputPaths.add(outputDir.resolve(name));
+		}
+		return outputPaths;
+	}
+
+	/**
+	 * The result of a single run of a batch.
+	 */
+	public static class RunResult {
+		private final Path scenarioFile;
+		private final Path outputPath;
+		private final SimulationResult simulationResult;
+		private final Throwable error;
+		private final Duration runTime;
+
+		private RunResult(Path scenarioFile, Path outputPath, SimulationResult simulationResult, Throwable error, Duration runTime) {
+			this.scenarioFile = scenarioFile;
+			this.outputPath = outputPath;
+			this.simulationResult = simulationResult;
+			this.error = error;
+			this.runTime = runTime;
+		}
+
+		public Path getScenarioFile() {
+			return scenarioFile;
+		}
+
+		public Path getOutputPath() {
+			return outputPath;
+		}
+
+		/**
+		 * Returns the result of the simulation or <tt>null</tt> if the scenario could not be loaded.
+		 */
+		public SimulationResult getSimulationResult() {
+			return simulationResult;
+		}
+
+		/**
+		 * Returns the reason why the run failed or <tt>null</tt> if it was successful.
+		 */
+		public Throwable getError() {
+			return error;
+		}
+
+		public boolean isSuccessful() {
+			return error == null;
+		}
+
+		public Duration getRunTime() {
+			return runTime;
+		}
+	}
+
+	/**
+	 * The results of all runs of a batch and its aggregate throughput.
+	 */
+	public static class BatchResult {
+		private final List<RunResult> runResults;
+		private final Duration wallTime;
+
+		private BatchResult(List<RunResult> runResults, Duration wallTime) {
+			this.runResults = Collections.unmodifiableList(runResults);
+			this.wallTime = wallTime;
+		}
+
+		public List<RunResult> getRunResults() {
+			return runResults;
+		}
+
+		public Duration getWallTime() {
+			return wallTime;
+		}
+
+		public long getNumberOfFailedRuns() {
+			return runResults.stream().filter(r -> !r.isSuccessful()).count();
+		}
+
+		/**
+		 * Returns the number of finished runs per hour of wall time.
+		 */
+		public double getRunsPerHour() {
+			double hours = wallTime.toMillis() / 3600_000.0;
+			return hours > 0 ? runResults.size() / hours : 0;
+		}
+
+		/**
+		 * Returns the sum of the run times of all runs divided by the wall time, i.e. the average number of
+		 * concurrently running simulations.
+		 */
+		public double getAverageConcurrency() {
+			long totalMillis = runResults.stream().mapToLong(r -> r.getRunTime().toMillis()).sum();
+			return wallTime.toMillis() > 0 ? (double) totalMillis / wallTime.toMillis() : 0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d runs (%d failed) in %.1f s: %.1f runs/h, average concurrency %.2f",
+					runResults.size(), getNumberOfFailedRuns(), wallTime.toMillis() / 1000.0, getRunsPerHour(), getAverageConcurrency());
+		}
+	}
+}
@@ -47,6 +47,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages single simulation runs.
@@ -58,6 +59,9 @@ public class ScenarioRun implements Runnable {
 
 	protected static Logger logger = Logger.getLogger(ScenarioRun.class);
 
+	/** makes the context ids of concurrent runs of scenarios with the same name unique. */
+	private static final AtomicLong contextCounter = new AtomicLong(0);
+
 	protected final ScenarioCache scenarioCache;
 
 	protected Path outputPath;
@@ -113,8 +117,8 @@ public class ScenarioRun implements Runnable {
 
 
 	private void initializeVadereContext(){
-		String scenarioName = scenario.getName();
-		this.scenarioStore.getTopography().setContextId(scenarioName);
+		String contextId = scenario.getName() + "#" + contextCounter.incrementAndGet();
+		this.scenarioStore.getTopography().setContextId(contextId);
 		VadereContext ctx = new VadereContext();
 
 		if (scenarioCache.isNotEmpty())
@@ -122,7 +126,7 @@ public class ScenarioRun implements Runnable {
 
 		ctx.put("cache", scenarioCache);
 
-		VadereContext.add(scenarioName, ctx);
+		VadereContext.add(contextId, ctx);
 		logger.info("scenario context initialized.");
 	}
 
@@ -15,7 +15,7 @@ public class SimulationState {
 	private final String name;
 	private final MainModel mainModel;
 	private final ControllerProvider controllerProvider;
-	private boolean simStop = false;
+	private volatile boolean simStop = false;
 
 	protected SimulationState(final String name,
 							  final Topography topography,
@@ -70,8 +70,9 @@ public class SimulationState {
 	}
 
 	public  void setSimStop(boolean stop){
-		if (!this.simStop)
-			this.simStop = stop;
+		// only ever set to true, processors might be updated in parallel
+		if (stop)
+			this.simStop = true;
 	}
 
 	public boolean isSimStop() {
@@ -8,6 +8,7 @@ import net.sourceforge.argparse4j.inf.Subparser;
 import net.sourceforge.argparse4j.inf.Subparsers;
 
 import org.vadere.util.version.Version;
+import org.vadere.simulator.entrypoints.cmd.commands.BatchRunSubCommand;
 import org.vadere.simulator.entrypoints.cmd.commands.MigrationSubCommand;
 import org.vadere.simulator.entrypoints.cmd.commands.ProjectRunSubCommand;
 import org.vadere.simulator.entrypoints.cmd.commands.ScenarioRunSubCommand;
@@ -76,6 +77,12 @@ public class VadereConsole {
 				.choices(ScenarioChecker.CHECKER_ON, ScenarioChecker.CHECKER_OFF)
 				.setDefault(ScenarioChecker.CHECKER_OFF)
 				.help("Turn Scenario Checker on or off.");
+		projectRun.addArgument("--parallelism")
+				.required(false)
+				.type(Integer.class)
+				.dest("parallelism")
+				.setDefault(1)
+				.help("Number of scenarios which are run concurrently. If larger than 1, each scenario writes into the output directory named like its scenario file.");
 
 		// Run Scenario
 		Subparser scenarioRun = subparsers
@@ -127,6 +134,33 @@ public class VadereConsole {
 				.dest("scenario-file")
 				.help("Scenario files to run.");
 
+		// Run many scenarios concurrently
+		Subparser batchRun = subparsers
+				.addParser(SubCommand.BATCH_RUN.getCmdName())
+				.help("Run many scenario files concurrently, e.g. the variants of a parameter study. Runs with equal floor fields share them.")
+				.setDefault("func", new BatchRunSubCommand());
+
+		batchRun.addArgument("--output-dir", "-o")
+				.required(false)
+				.setDefault("output")
+				.dest("output-dir") // set name in namespace
+				.type(String.class)
+				.help("Output directory which contains the output directory of each scenario file.");
+
+		batchRun.addArgument("--parallelism")
+				.required(false)
+				.type(Integer.class)
+				.dest("parallelism")
+				.setDefault(Runtime.getRuntime().availableProcessors())
+				.help("Maximal number of scenarios which are run concurrently (default: number of processors).");
+
+		batchRun.addArgument("--scenario-files", "-f")
+				.required(true)
+				.nargs("+")
+				.type(String.class)
+				.dest("scenario-files")
+				.help("Scenario files or directories containing scenario files to run.");
+
 
 		// Run Migration Assistant
 		Subparser migrationAssistant = subparsers
@@ -0,0 +1,64 @@
+package org.vadere.simulator.entrypoints.cmd.commands;
+
+import net.sourceforge.argparse4j.inf.ArgumentParser;
+import net.sourceforge.argparse4j.inf.Namespace;
+
+import org.vadere.simulator.control.simulation.ScenarioBatchRun;
+import org.vadere.simulator.entrypoints.cmd.SubCommandRunner;
+import org.vadere.util.io.IOUtils;
+import org.vadere.util.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs many scenario files concurrently, see {@link ScenarioBatchRun}. Directories are searched
+ * recursively for scenario files.
+ */
+public class BatchRunSubCommand implements SubCommandRunner {
+	private final static Logger logger = Logger.getLogger(BatchRunSubCommand.class);
+
+	@Override
+	public void run(Namespace ns, ArgumentParser parser) throws Exception {
+		Locale.setDefault(Locale.ENGLISH);
+		Path outputDir = Paths.get(ns.getString("output-dir"));
+		int parallelism = ns.getInt("parallelism");
+
+		List<Path> scenarioFiles = new ArrayList<>();
+		for (String file : ns.<String>getList("scenario-files")) {
+			Path path = Paths.get(file);
+			if (Files.isDirectory(path)) {
+				try (Stream<Path> files = Files.walk(path)) {
+					scenarioFiles.addAll(files
+							.filter(f -> Files.isRegularFile(f) && f.toString().endsWith(IOUtils.SCENARIO_FILE_EXTENSION))
+							.sorted()
+							.collect(Collectors.toList()));
+				}
+			} else if (Files.isRegularFile(path)) {
+				scenarioFiles.add(path);
+			} else {
+				logger.error("scenario file does not exist or is not a regular file: " + path);
+				System.exit(-1);
+			}
+		}
+
+		if (scenarioFiles.isEmpty()) {
+			throw new IOException("no scenarios found.");
+		}
+
+		Files.createDirectories(outputDir);
+		logger.info("Use output directory: " + outputDir.toAbsolutePath());
+
+		ScenarioBatchRun.BatchResult result = new ScenarioBatchRun(outputDir, parallelism, null).run(scenarioFiles);
+		if (result.getNumberOfFailedRuns() > 0) {
+			System.exit(-1);
+		}
+	}
+}
@@ -6,6 +6,7 @@ import net.sourceforge.argparse4j.inf.Namespace;
 import org.vadere.simulator.entrypoints.ScenarioFactory;
 import org.vadere.simulator.entrypoints.cmd.SubCommandRunner;
 import org.vadere.simulator.projects.Scenario;
+import org.vadere.simulator.control.simulation.ScenarioBatchRun;
 import org.vadere.simulator.control.simulation.ScenarioRun;
 import org.vadere.simulator.utils.cache.ScenarioCache;
 import org.vadere.util.io.IOUtils;
@@ -61,6 +62,17 @@ public class ProjectRunSubCommand implements SubCommandRunner {
 			throw new IOException("no scenarios found in project");
 		}
 
+		int parallelism = ns.getInt("parallelism");
+		if (parallelism > 1) {
+			List<Path> scenarioFiles = scenarioFileNames.stream().map(scenarioFilePath::resolve).collect(Collectors.toList());
+			ScenarioBatchRun.BatchResult result = new ScenarioBatchRun(projectDirectory.resolve(IOUtils.OUTPUT_DIR), parallelism, scenarioFilePath.toAbsolutePath().getParent())
+					.run(scenarioFiles);
+			if (result.getNumberOfFailedRuns() > 0) {
+				System.exit(-1);
+			}
+			return;
+		}
+
 		int i = 0;
 		for (String scenarioFileName : scenarioFileNames) {
 			i++;
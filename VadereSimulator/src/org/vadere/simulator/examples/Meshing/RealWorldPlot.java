@@ -11,7 +11,7 @@ import org.vadere.meshing.mesh.triangulation.edgeLengthFunctions.IEdgeLengthFunc
 import org.vadere.meshing.utils.io.poly.PSLGGenerator;
 import org.vadere.meshing.utils.io.tex.TexGraphGenerator;
 import org.vadere.simulator.models.potential.fields.IPotentialField;
-import org.vadere.simulator.models.potential.fields.PotentialFieldDistancesBruteForce;
+import org.vadere.simulator.models.potential.fields.PotentialFieldDistancesQuadTree;
 import org.vadere.simulator.utils.cache.ScenarioCache;
 import org.vadere.state.attributes.models.AttributesFloorField;
 import org.vadere.state.scenario.Obstacle;
@@ -2898,7 +2898,7 @@ public class RealWorldPlot {
 
 		IDistanceFunction distanceFunc = new DistanceFunction(bound, shapes);
 
-		/*IPotentialField distanceField = new PotentialFieldDistancesBruteForce(
+		/*IPotentialField distanceField = new PotentialFieldDistancesQuadTree(
 				topography.getObstacles().stream().map(obs -> obs.getShape()).collect(Collectors.toList()),
 				new VRectangle(topography.getBounds()),
 				new AttributesFloorField());
@@ -2908,7 +2908,7 @@ public class RealWorldPlot {
 
 		double maxSize = Math.max(bound.getWidth(), bound.getHeight());
 		CellGrid cellGrid = new CellGrid(maxSize, maxSize, 0.1, new CellState(), bound.getMinX(), bound.getMinY());
-		cellGrid.pointStream().forEach(p -> cellGrid.setValue(p, new CellState(distanceFunc.apply(cellGrid.pointToCoord(p)), PathFindingTag.Reachable)));
+		cellGrid.pointStream().forEach(p -> cellGrid.setValue(p, distanceFunc.apply(cellGrid.pointToCoord(p)), PathFindingTag.Reachable));
 		Function<IPoint, Double> interpolationFunction = cellGrid.getInterpolationFunction();
 		IDistanceFunction approxDistance = p -> interpolationFunction.apply(p);*/
 
@@ -2982,7 +2982,7 @@ public class RealWorldPlot {
 
 		IDistanceFunction distanceFunc = new DistanceFunction(bound, shapes);
 
-		IPotentialField distanceField = new PotentialFieldDistancesBruteForce(
+		IPotentialField distanceField = new PotentialFieldDistancesQuadTree(
 				topography.getObstacles().stream().map(obs -> obs.getShape()).collect(Collectors.toList()),
 				new VRectangle(topography.getBounds()),
 				new AttributesFloorField(),
@@ -2993,7 +2993,7 @@ public class RealWorldPlot {
 
 		double maxSize = Math.max(bound.getWidth(), bound.getHeight());
 		CellGrid cellGrid = new CellGrid(maxSize, maxSize, 0.1, new CellState(), bound.getMinX(), bound.getMinY());
-		cellGrid.pointStream().forEach(p -> cellGrid.setValue(p, new CellState(distanceFunc.apply(cellGrid.pointToCoord(p)), PathFindingTag.Reachable)));
+		cellGrid.pointStream().forEach(p -> cellGrid.setValue(p, distanceFunc.apply(cellGrid.pointToCoord(p)), PathFindingTag.Reachable));
 		Function<IPoint, Double> interpolationFunction = cellGrid.getInterpolationFunction();
 		IDistanceFunction approxDistance = p -> interpolationFunction.apply(p);
 
@@ -3061,7 +3061,7 @@ public class RealWorldPlot {
 
 		IDistanceFunction distanceFunc = new DistanceFunction(bound, shapes);
 
-		IPotentialField distanceField = new PotentialFieldDistancesBruteForce(
+		IPotentialField distanceField = new PotentialFieldDistancesQuadTree(
 				topography.getObstacles().stream().map(obs -> obs.getShape()).collect(Collectors.toList()),
 				new VRectangle(topography.getBounds()),
 				new AttributesFloorField(),
@@ -3071,7 +3071,7 @@ public class RealWorldPlot {
 
 
 		CellGrid cellGrid = new CellGrid(bound.getWidth(), bound.getHeight(), 0.1, new CellState(), bound.getMinX(), bound.getMinY());
-		cellGrid.pointStream().forEach(p -> cellGrid.setValue(p, new CellState(distanceFunc.apply(cellGrid.pointToCoord(p)), PathFindingTag.Reachable)));
+		cellGrid.pointStream().forEach(p -> cellGrid.setValue(p, distanceFunc.apply(cellGrid.pointToCoord(p)), PathFindingTag.Reachable));
 		Function<IPoint, Double> interpolationFunction = cellGrid.getInterpolationFunction();
 		IDistanceFunction approxDistance = p -> interpolationFunction.apply(p);
 
@@ -1,6 +1,7 @@
 package org.vadere.simulator.models.groups.sir;
 
 
+import org.jetbrains.annotations.NotNull;
 import org.vadere.annotation.factories.models.ModelClass;
 import org.vadere.simulator.models.Model;
 import org.vadere.simulator.models.groups.AbstractGroupModel;
@@ -17,9 +18,11 @@ import org.vadere.state.attributes.scenario.AttributesAgent;
 import org.vadere.state.scenario.DynamicElementContainer;
 import org.vadere.state.scenario.Pedestrian;
 import org.vadere.state.scenario.Topography;
-import org.vadere.util.geometry.LinkedCellsGrid;
+import org.vadere.util.geometry.ConcurrentLinkedCellsGrid;
 
+import java.awt.geom.Rectangle2D;
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of groups for a susceptible / infected / removed (SIR) model.
@@ -37,9 +40,22 @@ public class SIRGroupModel extends AbstractGroupModel<SIRGroup> {
 	private int totalInfected = 0;
 	private double timeStep = 0;
 
+	/**
+	 * the minimal cell size of the spatial map, avoids huge grids for small infection distances.
+	 */
+	private static final double MIN_CELL_SIZE = 1.0;
+	private ConcurrentLinkedCellsGrid<Pedestrian> spatialMap;
+	private Map<Integer, Random> randomByPedestrianId;
+
+	/**
+	 * buffer for the neighbour queries, one per thread of the parallel infection step.
+	 */
+	private final ThreadLocal<List<Pedestrian>> neighbours = ThreadLocal.withInitial(ArrayList::new);
+
 	public SIRGroupModel() {
 		this.groupsById = new LinkedHashMap<>();
 		this.sourceNextGroups = new HashMap<>();
+		this.randomByPedestrianId = new HashMap<>();
 	}
 
 	@Override
@@ -49,6 +65,8 @@ public class SIRGroupModel extends AbstractGroupModel<SIRGroup> {
 		this.topography = domain.getTopography();
 		this.random = random;
         this.totalInfected = 0;
+		this.spatialMap = null;
+		this.randomByPedestrianId.clear();
 	}
 
 	@Override
@@ -213,6 +231,11 @@ public class SIRGroupModel extends AbstractGroupModel<SIRGroup> {
 
 	@Override
 	public void elementRemoved(Pedestrian pedestrian) {
+		removeFromGroup(pedestrian);
+		randomByPedestrianId.remove(pedestrian.getId());
+	}
+
+	private void removeFromGroup(Pedestrian pedestrian) {
 		Group group = groupsById.get(pedestrian.getGroupIds().getFirst());
 		if (group.removeMember(pedestrian)) { // if true pedestrian was last member.
 			groupsById.remove(group.getID());
@@ -239,45 +262,94 @@ public class SIRGroupModel extends AbstractGroupModel<SIRGroup> {
 			this.timeStep = simTimeInSec;
 		}
 		DynamicElementContainer<Pedestrian> elements = topography.getPedestrianDynamicElements();
-		LinkedCellsGrid<Pedestrian> c = new LinkedCellsGrid<>(
-				topography.getBounds().x,
-				topography.getBounds().y,
-				topography.getBounds().width,
-				topography.getBounds().height,
-				topography.getBounds().width	// FIXME: What if the area is not a square?
-		);
 
 		if (elements.getElements().size() > 0) {
-			for(Pedestrian p : elements.getElements()) {
-				c.addObject(p);
+			List<Pedestrian> pedestrians = new ArrayList<>(elements.getElements());
+			pedestrians.sort(Comparator.comparingInt(Pedestrian::getId));
+			rebuildSpatialMap(pedestrians);
+
+			// the random streams of new pedestrians are created sequentially (in the order of their ids)
+			Random[] randoms = new Random[pedestrians.size()];
+			for (int i = 0; i < randoms.length; i++) {
+				randoms[i] = getRandom(pedestrians.get(i));
 			}
-			for(Pedestrian p : c.getElements()) {
-				// If person is recovered, continue
-				if (getGroup(p).getID() == SIRType.ID_RECOVERED.ordinal()){
-					continue;
+
+			// all pedestrians see the groups at the beginning of the time step, therefore, they can be computed in parallel
+			double timeStepFactor = this.timeStep != 0 ? timeStep / 0.4 : 1;
+			int[] nextGroupIds = IntStream.range(0, pedestrians.size())
+					.parallel()
+					.map(i -> computeNextGroupId(pedestrians.get(i), randoms[i], timeStepFactor))
+					.toArray();
+
+			for (int i = 0; i < pedestrians.size(); i++) {
+				Pedestrian p = pedestrians.get(i);
+				if (nextGroupIds[i] != getGroupId(p)) {
+					removeFromGroup(p);
+					assignToGroup(p, nextGroupIds[i]);
 				}
-				// Probability for an infected person to become recovered
-				if(getGroup(p).getID() == SIRType.ID_INFECTED.ordinal() && this.random.nextDouble() < attributesSIRG.getRecoveryRate() *  (this.timeStep != 0 ? timeStep / 0.4 : 1)){
-					elementRemoved(p);
-					assignToGroup(p, SIRType.ID_RECOVERED.ordinal());
+			}
+		}
+	}
+
+	/**
+	 * Computes the group of the pedestrian after this time step. An infected pedestrian recovers with probability
+	 * recoveryRate. A susceptible pedestrian gets infected by each infected pedestrian closer than
+	 * infectionMaxDistance with probability infectionRate (both scaled by the time step), i.e. with probability
+	 * 1 - (1 - infectionRate)^k for k infected neighbours. Only the pedestrian's own random stream is used.
+	 */
+	private int computeNextGroupId(@NotNull final Pedestrian p, @NotNull final Random random, final double timeStepFactor) {
+		int groupId = getGroupId(p);
+		if (groupId == SIRType.ID_INFECTED.ordinal()) {
+			if (random.nextDouble() < attributesSIRG.getRecoveryRate() * timeStepFactor) {
+				return SIRType.ID_RECOVERED.ordinal();
+			}
+		} else if (groupId == SIRType.ID_SUSCEPTIBLE.ordinal()) {
+			List<Pedestrian> neighbours = this.neighbours.get();
+			neighbours.clear();
+			spatialMap.getObjects(p.getPosition(), attributesSIRG.getInfectionMaxDistance(), neighbours);
+			int infectedNeighbours = 0;
+			for (Pedestrian neighbour : neighbours) {
+				if (neighbour != p && getGroupId(neighbour) == SIRType.ID_INFECTED.ordinal()) {
+					infectedNeighbours++;
 				}
-				else{
-					// loop over neighbors and set infected if we are close
-					for(Pedestrian p_neighbor : c.getObjects(p.getPosition(),5)) {
-						if(p == p_neighbor || getGroup(p_neighbor).getID() != SIRType.ID_INFECTED.ordinal())
-							continue;
-						double dist = p.getPosition().distance(p_neighbor.getPosition());
-						if (dist < attributesSIRG.getInfectionMaxDistance() &&
-								this.random.nextDouble() < attributesSIRG.getInfectionRate() * (this.timeStep != 0 ? timeStep / 0.4 : 1) ) {
-							SIRGroup g = getGroup(p);
-							if (g.getID() == SIRType.ID_SUSCEPTIBLE.ordinal()) {
-								elementRemoved(p);
-								assignToGroup(p, SIRType.ID_INFECTED.ordinal());
-							}
-						}
-					}
+			}
+
+			if (infectedNeighbours > 0) {
+				double notInfected = Math.pow(1 - Math.min(1, attributesSIRG.getInfectionRate() * timeStepFactor), infectedNeighbours);
+				if (random.nextDouble() < 1 - notInfected) {
+					return SIRType.ID_INFECTED.ordinal();
 				}
 			}
 		}
+		return groupId;
+	}
+
+	/**
+	 * Inserts all pedestrians into a grid whose cells are about as large as the infection distance, such that
+	 * each neighbour query only looks at pedestrians close by. The grid is read without locking by the parallel queries.
+	 */
+	private void rebuildSpatialMap(@NotNull final List<Pedestrian> pedestrians) {
+		if (spatialMap == null) {
+			double cellSize = Math.max(MIN_CELL_SIZE, attributesSIRG.getInfectionMaxDistance());
+			Rectangle2D.Double bounds = topography.getBounds();
+			spatialMap = new ConcurrentLinkedCellsGrid<>(bounds.x, bounds.y, bounds.width, bounds.height, cellSize);
+		}
+		spatialMap.clear();
+		for (Pedestrian p : pedestrians) {
+			spatialMap.addObject(p);
+		}
+		spatialMap.rebuild();
+	}
+
+	/**
+	 * Each pedestrian has its own random stream, seeded by the model's random when the pedestrian is seen
+	 * the first time. Therefore, the result does not depend on the thread scheduling.
+	 */
+	private Random getRandom(@NotNull final Pedestrian pedestrian) {
+		return randomByPedestrianId.computeIfAbsent(pedestrian.getId(), id -> new Random(random.nextLong()));
+	}
+
+	private int getGroupId(@NotNull final Pedestrian pedestrian) {
+		return pedestrian.getGroupIds().getFirst();
 	}
-}
\ No newline at end of file
+}
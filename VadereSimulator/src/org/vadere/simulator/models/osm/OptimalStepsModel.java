@@ -29,8 +29,6 @@ import org.vadere.util.geometry.shapes.VShape;
 import org.vadere.util.logging.Logger;
 
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @ModelClass(isMainModel = true)
 public class OptimalStepsModel implements MainModel, PotentialFieldModel {
@@ -49,7 +47,6 @@ public class OptimalStepsModel implements MainModel, PotentialFieldModel {
 	private List<StepSizeAdjuster> stepSizeAdjusters;
 	private Domain domain;
 	private double lastSimTimeInSec;
-	private ExecutorService executorService;
 	private List<Model> models = new LinkedList<>();
 
 	public OptimalStepsModel() {
@@ -117,12 +114,6 @@ public class OptimalStepsModel implements MainModel, PotentialFieldModel {
 			//this.speedAdjusters.add(new SpeedAdjusterWeidmann());
 		}
 
-		if (attributesOSM.getUpdateType() == UpdateType.PARALLEL) {
-			this.executorService = Executors.newFixedThreadPool(8);
-		} else {
-			this.executorService = null;
-		}
-
 		this.updateSchemeOSM = createUpdateScheme(modelAttributesList, domain.getTopography(), attributesOSM);
 		this.domain.getTopography().addElementAddedListener(Pedestrian.class, updateSchemeOSM);
 		this.domain.getTopography().addElementRemovedListener(Pedestrian.class, updateSchemeOSM);
@@ -192,7 +183,7 @@ public class OptimalStepsModel implements MainModel, PotentialFieldModel {
 								cellGrid.pointStream().forEach(p -> {
 									double distance = topography.distanceToObstacle(cellGrid.pointToCoord(p));
 									PathFindingTag tag = distance >= 0 ? PathFindingTag.Reached : PathFindingTag.Obstacle;
-									cellGrid.setValue(p, new CellState(distance, tag));
+									cellGrid.setValue(p, distance, tag);
 								});
 							}
 
@@ -264,11 +255,24 @@ public class OptimalStepsModel implements MainModel, PotentialFieldModel {
 		PedestrianOSM pedestrian = new PedestrianOSM(attributesOSM,
 				attributesAgent, domain.getTopography(), random, potentialFieldTarget,
 				potentialFieldObstacle.copy(), potentialFieldPedestrian,
-				speedAdjusters, stepCircleOptimizer.clone());
+				speedAdjusters, createStepCircleOptimizer());
 		pedestrian.setPosition(position);
 		return pedestrian;
 	}
 
+	/**
+	 * For the {@link UpdateType#PARALLEL_FORK_JOIN} each agent gets its own random stream (seeded by the model's
+	 * random in the order of creation). Otherwise, the order in which the agents draw random numbers depends on
+	 * the thread scheduling and the simulation is not reproducible.
+	 */
+	private StepCircleOptimizer createStepCircleOptimizer() {
+		if (attributesOSM.getUpdateType() == UpdateType.PARALLEL_FORK_JOIN) {
+			return StepCircleOptimizer.create(attributesOSM, new Random(random.nextLong()), domain.getTopography(),
+					(IPotentialFieldTargetGrid) potentialFieldTarget);
+		}
+		return stepCircleOptimizer.clone();
+	}
+
 	@Override
 	public List<Model> getSubmodels() {
 		return models;
@@ -292,6 +292,19 @@ public class PedestrianOSM extends Pedestrian {
 		return combinedPotentialStrategy.getValue(newPos, this, relevantPedestrians);
 	}
 
+	/**
+	 * Computes the potential at the first <tt>n</tt> positions (x[i], y[i]) and writes it into potentials[i].
+	 * The result is equal to calling {@link #getPotential(IPoint)} for each position.
+	 *
+	 * @param x             the x-coordinates of the positions
+	 * @param y             the y-coordinates of the positions
+	 * @param n             the number of positions
+	 * @param potentials    the array the potentials will be written to
+	 */
+	public void getPotentials(final double[] x, final double[] y, final int n, final double[] potentials) {
+		combinedPotentialStrategy.getValues(x, y, n, this, relevantPedestrians, potentials);
+	}
+
 	public void clearStrides() {
 		strides.clear();
 	}
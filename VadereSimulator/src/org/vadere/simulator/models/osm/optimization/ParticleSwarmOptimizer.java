@@ -65,7 +65,7 @@ public class ParticleSwarmOptimizer extends StepCircleOptimizer {
 			circleSector = circle;
 		}
 
-		PSO pso = new PSO(p -> getValue(p, pedestrian, stepSize), circleSector, anchorAngle, anchorAngle + 2 * angle, random, stepSize, positions);
+		PSO pso = new PSO((x, y, n, values) -> getValues(x, y, n, values, pedestrian, stepSize), circleSector, anchorAngle, anchorAngle + 2 * angle, random, stepSize, positions);
 
 		VPoint curPos = pedestrian.getPosition();
 		double curPosPotential = pedestrian.getPotential(curPos);
@@ -81,19 +81,43 @@ public class ParticleSwarmOptimizer extends StepCircleOptimizer {
 	}
 
 	private double getValue(@NotNull final VPoint newPos, @NotNull final PedestrianOSM ped, final double stepSize) {
-		VPoint pedPos = ped.getPosition();
 		double result = 100000;
 
-		// step is not too small nor too large?
-		if (Math.pow(newPos.x - pedPos.x, 2) + Math.pow(newPos.y - pedPos.y, 2) <= Math.pow(stepSize, 2) + 0.00001
-				&& Math.pow(newPos.x - pedPos.x, 2) + Math.pow(newPos.y - pedPos.y, 2) >= Math.pow(ped.getMinStepLength(), 2)
-				- 0.00001) {
+		if (isValidStep(newPos.x, newPos.y, ped, stepSize)) {
 			result = ped.getPotential(newPos);
 		}
 
 		return result;
 	}
 
+	/**
+	 * Evaluates all positions by one call of {@link PedestrianOSM#getPotentials(double[], double[], int, double[])}
+	 * if all steps are valid, otherwise each position is evaluated by {@link #getValue(VPoint, PedestrianOSM, double)}.
+	 */
+	private void getValues(@NotNull final double[] x, @NotNull final double[] y, final int n, @NotNull final double[] values,
+	                       @NotNull final PedestrianOSM ped, final double stepSize) {
+		boolean validSteps = true;
+		for (int i = 0; i < n && validSteps; i++) {
+			validSteps = isValidStep(x[i], y[i], ped, stepSize);
+		}
+
+		if (validSteps) {
+			ped.getPotentials(x, y, n, values);
+		} else {
+			for (int i = 0; i < n; i++) {
+				values[i] = getValue(new VPoint(x[i], y[i]), ped, stepSize);
+			}
+		}
+	}
+
+	// step is not too small nor too large?
+	private boolean isValidStep(final double x, final double y, @NotNull final PedestrianOSM ped, final double stepSize) {
+		VPoint pedPos = ped.getPosition();
+		return Math.pow(x - pedPos.x, 2) + Math.pow(y - pedPos.y, 2) <= Math.pow(stepSize, 2) + 0.00001
+				&& Math.pow(x - pedPos.x, 2) + Math.pow(y - pedPos.y, 2) >= Math.pow(ped.getMinStepLength(), 2)
+				- 0.00001;
+	}
+
 	@Override
 	public StepCircleOptimizer clone() {
 		return new ParticleSwarmOptimizer(movementThreshold, random);
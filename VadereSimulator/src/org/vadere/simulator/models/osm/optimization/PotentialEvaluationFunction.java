@@ -10,6 +10,7 @@ import org.vadere.state.scenario.Pedestrian;
 import org.vadere.util.geometry.shapes.VLine;
 import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.logging.Logger;
+import org.vadere.util.math.IBatchFunction;
 
 import java.util.List;
 
@@ -18,10 +19,14 @@ import java.util.List;
  * 
  */
 public class PotentialEvaluationFunction implements UnivariateRealFunction,
-		MultivariateRealFunction, MultivariateFunction {
+		MultivariateRealFunction, MultivariateFunction, IBatchFunction {
 
 	private static Logger logger = Logger.getLogger(PotentialEvaluationFunction.class);
 
+	// the step has to be inside the circle with radius stepSize (the tolerance relaxes floating point comparisons
+	// on equality of the circle around the disk)
+	private static final double tolInsideCircle = 0.00001;
+
 	/** The pedestrian. */
 	private final PedestrianOSM pedestrian;
 
@@ -148,9 +153,6 @@ public class PotentialEvaluationFunction implements UnivariateRealFunction,
 		final double sqy = (newPos.y-pedPos.y)*(newPos.y-pedPos.y); // Math.pow(newPos.y - pedPos.y, 2)
 		final double sqss = stepSize * stepSize; 					// Math.pow(stepSize, 2)
 
-		// the step has to be inside the circle with radius stepSize (the tolerance relaxes floating point comparisons
-		// on equality of the circle around the disk)
-		final double tolInsideCircle = 0.00001;
 		if (sqx + sqy <= sqss + tolInsideCircle) {
 			result = pedestrian.getPotential(newPos);
 			evaluationCounter++;
@@ -162,6 +164,40 @@ public class PotentialEvaluationFunction implements UnivariateRealFunction,
 		return result;
 	}
 
+	/**
+	 * Computes the values of the aggregated potential at the first <tt>n</tt> positions
+	 * (x[i], y[i]). The values are equal to {@link #value(double[])} of each position but,
+	 * if all positions are inside the step circle, they are evaluated by one call of
+	 * {@link PedestrianOSM#getPotentials(double[], double[], int, double[])}.
+	 *
+	 * @param x         the x-coordinates of the positions
+	 * @param y         the y-coordinates of the positions
+	 * @param n         the number of positions
+	 * @param values    the array the values will be written to
+	 */
+	@Override
+	public void apply(final double[] x, final double[] y, final int n, final double[] values) {
+		final VPoint pedPos = pedestrian.getPosition();
+		final double sqss = stepSize * stepSize;
+		boolean insideStepCircle = true;
+
+		for (int i = 0; i < n && insideStepCircle; i++) {
+			final double sqx = (x[i]-pedPos.x)*(x[i]-pedPos.x);
+			final double sqy = (y[i]-pedPos.y)*(y[i]-pedPos.y);
+			insideStepCircle = sqx + sqy <= sqss + tolInsideCircle;
+		}
+
+		if (!insideStepCircle || pedestrian.getAttributesOSM().isSeeSmallWalls()) {
+			for (int i = 0; i < n; i++) {
+				values[i] = value(new double[]{x[i], y[i]});
+			}
+		} else {
+			pedestrian.getPotentials(x, y, n, values);
+			evaluationCounter += n;
+			counter += n;
+		}
+	}
+
 	/**
 	 * Returns the value of the aggregated potential. Auxiliary method for
 	 * optimization.
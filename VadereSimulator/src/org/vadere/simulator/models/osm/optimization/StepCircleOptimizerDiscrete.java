@@ -52,19 +52,28 @@ public class StepCircleOptimizerDiscrete extends StepCircleOptimizer {
 		VPoint nextPos = curPos.clone();
 		double curPosPotential = pedestrian.getPotential(curPos);
 		double potential = curPosPotential;
-		double currentPotential;
 
-		for (VPoint currentPosition : positions) {
-			try {
-				currentPotential = potentialEvaluationFunction.getPotential(currentPosition);
+		// all positions are evaluated at once
+		int n = positions.size();
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] potentials = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = positions.get(i).getX();
+			y[i] = positions.get(i).getY();
+		}
+
+		try {
+			potentialEvaluationFunction.apply(x, y, n, potentials);
 
-				if(currentPotential < potential) {
-					potential = currentPotential;
-					nextPos = currentPosition;
+			for (int i = 0; i < n; i++) {
+				if(potentials[i] < potential) {
+					potential = potentials[i];
+					nextPos = positions.get(i);
 				}
-			} catch (Exception e) {
-				Logger.getLogger(StepCircleOptimizerDiscrete.class).error("Potential evaluation threw an error: " + e.getMessage());
 			}
+		} catch (Exception e) {
+			Logger.getLogger(StepCircleOptimizerDiscrete.class).error("Potential evaluation threw an error: " + e.getMessage());
 		}
 
 		// pedestrian.getTargetPotential(nextPos) > 0 => agent is not jet on his target otherwise the agent would wait forever
@@ -2,6 +2,7 @@ package org.vadere.simulator.models.osm.optimization;
 
 import java.awt.Shape;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -50,14 +51,9 @@ public class StepCircleOptimizerEvolStrat extends StepCircleOptimizer {
 		for (int i = 0; i < numberOfParents; i++) {
 			EvolStratIndividual indiv = new EvolStratIndividual(
 					positions.get(i));
-			try {
-				indiv.setFitness(potentialEvaluationFunction.getPotential(indiv
-						.getPosition()));
-			} catch (Exception e) {
-				System.out.println(e);
-			}
 			parents.add(indiv);
 		}
+		evaluate(parents, potentialEvaluationFunction);
 
 		int index;
 		List<EvolStratIndividual> children;
@@ -73,10 +69,11 @@ public class StepCircleOptimizerEvolStrat extends StepCircleOptimizer {
 			for (int i = 0; i < numberOfChildren; i++) {
 				index = random.nextInt(numberOfParents);
 
-				child = mutate(parents.get(index), potentialEvaluationFunction);
+				child = mutate(parents.get(index));
 
 				children.add(child);
 			}
+			evaluate(children, potentialEvaluationFunction);
 			Collections.sort(children);
 
 			parents = children.subList(0, numberOfParents);
@@ -101,10 +98,34 @@ public class StepCircleOptimizerEvolStrat extends StepCircleOptimizer {
 	}
 
 	/**
-	 * Mutate the individual.
+	 * Sets the fitness of all individuals by one evaluation of their positions.
 	 */
-	private EvolStratIndividual mutate(EvolStratIndividual indiv,
+	private void evaluate(List<EvolStratIndividual> individuals,
 			PotentialEvaluationFunction potentialEvaluationFunction) {
+		int n = individuals.size();
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] fitness = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = individuals.get(i).getPosition().x;
+			y[i] = individuals.get(i).getPosition().y;
+		}
+
+		try {
+			potentialEvaluationFunction.apply(x, y, n, fitness);
+		} catch (Exception e) {
+			Arrays.fill(fitness, 100000);
+		}
+
+		for (int i = 0; i < n; i++) {
+			individuals.get(i).setFitness(fitness[i]);
+		}
+	}
+
+	/**
+	 * Mutate the individual. The fitness of the mutation has to be evaluated afterwards.
+	 */
+	private EvolStratIndividual mutate(EvolStratIndividual indiv) {
 		EvolStratIndividual newIndiv = new EvolStratIndividual(indiv);
 		double x = indiv.getPosition().x + random.nextGaussian()
 				* indiv.getSigma().x * random.nextInt(2);
@@ -112,12 +133,6 @@ public class StepCircleOptimizerEvolStrat extends StepCircleOptimizer {
 				* indiv.getSigma().y * random.nextInt(2);
 		VPoint mutation = new VPoint(x, y);
 		newIndiv.setPosition(mutation);
-		try {
-			newIndiv.setFitness(potentialEvaluationFunction
-					.getPotential(mutation));
-		} catch (Exception e) {
-			newIndiv.setFitness(100000);
-		}
 		x = indiv.getSigma().x
 				* Math.exp(0.1 * startrandom + 0.2 * random.nextGaussian());
 		y = indiv.getSigma().y
@@ -53,7 +53,11 @@ public class UpdateSchemeEventDrivenParallel extends UpdateSchemeEventDriven {
 
 	@Override
 	public void update(final double timeStepInSec, final double currentTimeInSec) {
-		topography.getElements(PedestrianOSM.class).parallelStream().forEach(pedestrianOSM -> pedestrianOSM.clearStrides());
+		// like the other update schemes, keep only the foot steps of the current step
+		topography.getElements(PedestrianOSM.class).parallelStream().forEach(pedestrianOSM -> {
+			pedestrianOSM.clearStrides();
+			pedestrianOSM.clearFootSteps();
+		});
 
 		double maxStepSize = topography.getElements(PedestrianOSM.class).parallelStream().mapToDouble(ped -> ped.getDesiredStepSize()).max().orElse(0);
 		double maxDesiredSpeed = topography.getElements(PedestrianOSM.class).parallelStream().mapToDouble(ped -> ped.getDesiredSpeed()).max().orElse(0);
@@ -0,0 +1,269 @@
+package org.vadere.simulator.models.osm.updateScheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.simulator.models.osm.OSMBehaviorController;
+import org.vadere.simulator.models.osm.PedestrianOSM;
+import org.vadere.state.psychology.cognition.SelfCategory;
+import org.vadere.state.psychology.perception.types.ElapsedTime;
+import org.vadere.state.scenario.Agent;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.ConcurrentLinkedCellsGrid;
+import org.vadere.util.geometry.LinkedCellsGrid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * The parallel update scheme of {@link UpdateSchemeParallel} (seitz-2014b) executed on a work-stealing
+ * {@link ForkJoinPool} which is sized to the number of available processors.
+ *
+ * Instead of one task per agent, the agents are sorted by the cell of the pedestrian {@link LinkedCellsGrid}
+ * of the topography they are in and split into contiguous, i.e. spatially coherent, chunks. Each chunk owns its
+ * move and undo buffers which are reused in all steps, therefore, no synchronization is required while the
+ * agents are computed. All operations which change the spatial map of the topography (moving and undoing steps)
+ * are carried out sequentially in the order of the chunks such that, for a fixed seed, the result does not
+ * depend on the thread scheduling. To be deterministic each agent has to use its own random stream
+ * (see {@link org.vadere.simulator.models.osm.OptimalStepsModel}).
+ *
+ * Since agents are only moved in between the parallel phases, the topography uses a
+ * {@link ConcurrentLinkedCellsGrid} which answers the neighbour queries of the parallel phases without locking.
+ */
+public class UpdateSchemeForkJoin implements UpdateSchemeOSM {
+
+	/**
+	 * the number of chunks per thread, more chunks give a better load balancing by work-stealing.
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private final Topography topography;
+	private final ForkJoinPool forkJoinPool;
+	private final OSMBehaviorController osmBehaviorController;
+	private final List<Chunk> chunks;
+	private final List<PedestrianOSM> pedestrians;
+
+	/**
+	 * the maximal radius of all agents, is used to find overlapping agents.
+	 */
+	private double maxRadius;
+
+	public UpdateSchemeForkJoin(@NotNull final Topography topography) {
+		this(topography, Runtime.getRuntime().availableProcessors());
+	}
+
+	public UpdateSchemeForkJoin(@NotNull final Topography topography, final int parallelism) {
+		this.topography = topography;
+		this.forkJoinPool = new ForkJoinPool(parallelism);
+		this.osmBehaviorController = new OSMBehaviorController();
+		this.pedestrians = new ArrayList<>();
+		this.chunks = new ArrayList<>();
+		this.maxRadius = 0;
+		topography.useConcurrentSpatialMap(Pedestrian.class);
+		for (int i = 0; i < parallelism * CHUNKS_PER_THREAD; i++) {
+			chunks.add(new Chunk());
+		}
+	}
+
+	@Override
+	public void update(double timeStepInSec, double currentTimeInSec) {
+		clearStrides(topography);
+		splitIntoChunks();
+
+		boolean moved;
+		do {
+			// SEEK: compute the next positions based on the current situation
+			rebuildSpatialMap();
+			forEachChunk(chunk -> chunk.seek(currentTimeInSec));
+
+			// MOVE: changes the spatial map, therefore it is done in a fixed order
+			moved = false;
+			for (Chunk chunk : chunks) {
+				for (PedestrianOSM pedestrian : chunk.movePedestrians) {
+					osmBehaviorController.makeStep(pedestrian, topography, timeStepInSec);
+					moved = true;
+				}
+			}
+
+			// CONFLICTS: find agents which have to undo their step
+			rebuildSpatialMap();
+			forEachChunk(chunk -> chunk.resolveConflicts());
+
+			// STEPS: undo steps in a fixed order and advance the time of all other moved agents
+			for (Chunk chunk : chunks) {
+				for (PedestrianOSM pedestrian : chunk.undoPedestrians) {
+					osmBehaviorController.undoStep(pedestrian, topography);
+				}
+			}
+			forEachChunk(chunk -> chunk.advanceTime());
+		} while (moved);
+	}
+
+	/**
+	 * Sorts the agents by their cell (and id) and assigns contiguous ranges of agents to the chunks.
+	 */
+	private void splitIntoChunks() {
+		final LinkedCellsGrid<Pedestrian> grid = topography.getSpatialMap(Pedestrian.class);
+		final int gridWidth = grid.getGridWidth();
+
+		pedestrians.clear();
+		pedestrians.addAll(topography.getElements(PedestrianOSM.class));
+		maxRadius = pedestrians.stream().mapToDouble(Agent::getRadius).max().orElse(0);
+		pedestrians.sort(Comparator.<PedestrianOSM>comparingInt(ped -> {
+			int[] gridPos = grid.gridPos(ped.getPosition());
+			// serpentine order such that consecutive cells are neighbours
+			int x = gridPos[1] % 2 == 0 ? gridPos[0] : gridWidth - 1 - gridPos[0];
+			return gridPos[1] * gridWidth + x;
+		}).thenComparingInt(Pedestrian::getId));
+
+		int chunkSize = (pedestrians.size() + chunks.size() - 1) / chunks.size();
+		for (int i = 0; i < chunks.size(); i++) {
+			int from = Math.min(pedestrians.size(), i * chunkSize);
+			int to = Math.min(pedestrians.size(), from + chunkSize);
+			chunks.get(i).setPedestrians(pedestrians.subList(from, to));
+		}
+	}
+
+	/**
+	 * Rebuilds the spatial map after agents have been moved such that the parallel queries do not have to wait for it.
+	 */
+	private void rebuildSpatialMap() {
+		LinkedCellsGrid<Pedestrian> spatialMap = topography.getSpatialMap(Pedestrian.class);
+		if (spatialMap instanceof ConcurrentLinkedCellsGrid) {
+			((ConcurrentLinkedCellsGrid<Pedestrian>) spatialMap).rebuild();
+		}
+	}
+
+	private void forEachChunk(@NotNull final Consumer<Chunk> action) {
+		forkJoinPool.invoke(new ChunkAction(action, 0, chunks.size()));
+	}
+
+	@Override
+	public void elementAdded(Pedestrian element) {}
+
+	@Override
+	public void elementRemoved(Pedestrian element) {}
+
+	@Override
+	public void shutdown() {
+		forkJoinPool.shutdown();
+	}
+
+	/**
+	 * Splits the range of chunks until a single chunk remains which is processed by the worker.
+	 */
+	private class ChunkAction extends RecursiveAction {
+		private final Consumer<Chunk> action;
+		private final int from;
+		private final int to;
+
+		private ChunkAction(@NotNull final Consumer<Chunk> action, final int from, final int to) {
+			this.action = action;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= 1) {
+				if (from < to) {
+					action.accept(chunks.get(from));
+				}
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new ChunkAction(action, from, mid), new ChunkAction(action, mid, to));
+			}
+		}
+	}
+
+	/**
+	 * A spatially coherent set of agents with its own move and undo buffers. A chunk is only
+	 * accessed by one thread at a time.
+	 */
+	private class Chunk {
+		private List<PedestrianOSM> pedestrians;
+
+		/**
+		 * agents that will move in the time span.
+		 */
+		private final List<PedestrianOSM> movePedestrians;
+
+		/**
+		 * agents which have to move back because of conflicts.
+		 */
+		private final Set<PedestrianOSM> undoPedestrians;
+
+		/**
+		 * buffer for the neighbour queries.
+		 */
+		private final List<Pedestrian> neighbours;
+
+		private Chunk() {
+			this.pedestrians = new ArrayList<>();
+			this.movePedestrians = new ArrayList<>();
+			this.undoPedestrians = new LinkedHashSet<>();
+			this.neighbours = new ArrayList<>();
+		}
+
+		private void setPedestrians(@NotNull final List<PedestrianOSM> pedestrians) {
+			this.pedestrians = pedestrians;
+			this.movePedestrians.clear();
+			this.undoPedestrians.clear();
+		}
+
+		private void seek(final double currentTimeInSec) {
+			movePedestrians.clear();
+			undoPedestrians.clear();
+
+			for (PedestrianOSM pedestrian : pedestrians) {
+				// At the moment no other events are supported for the parallel update scheme!
+				assert pedestrian.getMostImportantStimulus() instanceof ElapsedTime && pedestrian.getSelfCategory() == SelfCategory.TARGET_ORIENTED;
+
+				if (pedestrian.getTimeOfNextStep() == Pedestrian.INVALID_NEXT_EVENT_TIME) {
+					pedestrian.setTimeOfNextStep(currentTimeInSec);
+				} else if (pedestrian.getTimeOfNextStep() < currentTimeInSec) {
+					pedestrian.updateNextPosition();
+					movePedestrians.add(pedestrian);
+				}
+			}
+		}
+
+		/**
+		 * If there is any overlapping agent with a smaller time of the next step (or the same time and a smaller id)
+		 * the step of the agent will be undone.
+		 */
+		private void resolveConflicts() {
+			final LinkedCellsGrid<Pedestrian> spatialMap = topography.getSpatialMap(Pedestrian.class);
+
+			for (PedestrianOSM pedestrian : movePedestrians) {
+				double timeOfNextEvent = pedestrian.getTimeOfNextStep();
+				neighbours.clear();
+				spatialMap.getObjects(pedestrian.getPosition(), pedestrian.getRadius() + maxRadius, neighbours);
+
+				for (Pedestrian ped : neighbours) {
+					if (!ped.equals(pedestrian) && ped.getRadius() + pedestrian.getRadius() > ped.getPosition().distance(pedestrian.getPosition())) {
+						double otherTimeOfNextEvent = ((PedestrianOSM) ped).getTimeOfNextStep();
+
+						if (otherTimeOfNextEvent < timeOfNextEvent || (otherTimeOfNextEvent == timeOfNextEvent && ped.getId() < pedestrian.getId())) {
+							undoPedestrians.add(pedestrian);
+							break;
+						}
+					}
+				}
+			}
+		}
+
+		private void advanceTime() {
+			for (PedestrianOSM pedestrian : movePedestrians) {
+				if (!undoPedestrians.contains(pedestrian)) {
+					pedestrian.setTimeOfNextStep(pedestrian.getTimeOfNextStep() + pedestrian.getDurationNextStep());
+				}
+			}
+		}
+	}
+}
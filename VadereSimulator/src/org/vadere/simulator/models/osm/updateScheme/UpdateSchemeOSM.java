@@ -50,6 +50,7 @@ public interface UpdateSchemeOSM extends DynamicElementRemoveListener<Pedestrian
 		switch (updateType) {
 			case SEQUENTIAL: return new UpdateSchemeSequential(topography);
 			case PARALLEL: return new UpdateSchemeParallel(topography);
+			case PARALLEL_FORK_JOIN: return new UpdateSchemeForkJoin(topography);
 			case EVENT_DRIVEN: return new UpdateSchemeEventDriven(topography);
 			case SHUFFLE: return new UpdateSchemeShuffle(topography, random);
 			//TODO: magic number!
@@ -2,6 +2,7 @@ package org.vadere.simulator.models.potential;
 
 import org.vadere.annotation.factories.models.ModelClass;
 import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.potential.fields.ObstaclePotentialRaster;
 import org.vadere.simulator.models.potential.fields.PotentialFieldObstacle;
 import org.vadere.simulator.projects.Domain;
 import org.vadere.state.attributes.Attributes;
@@ -28,6 +29,7 @@ public class PotentialFieldObstacleCompact implements PotentialFieldObstacle {
 	private double height;
 	private Collection<Obstacle> obstacles;
 	private Domain domain;
+	private ObstaclePotentialRaster raster;
 
 	public PotentialFieldObstacleCompact() {
 
@@ -37,6 +39,12 @@ public class PotentialFieldObstacleCompact implements PotentialFieldObstacle {
 	public void initialize(List<Attributes> attributesList, Domain domain,
 	                       AttributesAgent attributesPedestrian, Random random) {
 		init(Model.findAttributes(attributesList, AttributesPotentialCompact.class), domain, random);
+
+		// the width of the potential is drawn for each agent if it deviates, which can not be rastered
+		if (attributes.isObstaclePotentialRaster() && attributes.getObstDistanceDeviation() == 0) {
+			this.raster = new ObstaclePotentialRaster(domain, this::getObstaclePotential,
+					attributes.getObstaclePotentialRasterResolution(), attributes);
+		}
 	}
 
 	private void init(final AttributesPotentialCompact attributes, final Domain domain, final Random random) {
@@ -51,24 +59,16 @@ public class PotentialFieldObstacleCompact implements PotentialFieldObstacle {
 
 	@Override
 	public double getObstaclePotential(IPoint pos, Agent pedestrian) {
+		if (raster != null) {
+			return raster.getPotential(pos.getX(), pos.getY(), pedestrian.getRadius());
+		}
 
 		double potential = 0;
 		//for (Obstacle obstacle : obstacles) {
 
 			//double distance = obstacle.getShape().distance(pos);
 			double distance = domain.getTopography().distanceToObstacle(pos);
-
-			if (attributes.isUseHardBodyShell()) {
-				distance = distance - pedestrian.getRadius();
-			}
-
-			double currentPotential = 0;
-
-			if (distance <= 0) {
-				currentPotential = 1000000;
-			} else if (distance < this.width) {
-				currentPotential = this.height * Math.exp(1 / (Math.pow(distance / this.width, 2) - 1));
-			}
+			double currentPotential = getObstaclePotential(distance, pedestrian.getRadius());
 
 			if (potential < currentPotential)
 				potential = currentPotential;
@@ -78,6 +78,42 @@ public class PotentialFieldObstacleCompact implements PotentialFieldObstacle {
 		return potential;
 	}
 
+	private double getObstaclePotential(double distance, final double radius) {
+		if (attributes.isUseHardBodyShell()) {
+			distance = distance - radius;
+		}
+
+		double currentPotential = 0;
+
+		if (distance <= 0) {
+			currentPotential = 1000000;
+		} else if (distance < this.width) {
+			currentPotential = this.height * Math.exp(1 / (Math.pow(distance / this.width, 2) - 1));
+		}
+		return currentPotential;
+	}
+
+	@Override
+	public void addObstaclePotentials(final double[] x, final double[] y, final int n, final Agent pedestrian, final double[] potentials) {
+		VPoint pos = new VPoint();
+
+		if (raster != null) {
+			for (int i = 0; i < n; i++) {
+				potentials[i] += raster.getPotential(x[i], y[i], pedestrian.getRadius());
+			}
+			return;
+		}
+
+		for (int i = 0; i < n; i++) {
+			pos.x = x[i];
+			pos.y = y[i];
+			double currentPotential = getObstaclePotential(domain.getTopography().distanceToObstacle(pos), pedestrian.getRadius());
+			if (currentPotential > 0) {
+				potentials[i] += currentPotential;
+			}
+		}
+	}
+
 	@Override
 	public Vector2D getObstaclePotentialGradient(VPoint pos,
 			Agent pedestrian) {
@@ -133,6 +169,7 @@ public class PotentialFieldObstacleCompact implements PotentialFieldObstacle {
 	public PotentialFieldObstacle copy() {
 		PotentialFieldObstacleCompact potentialFieldObstacleCompact = new PotentialFieldObstacleCompact();
 		potentialFieldObstacleCompact.init(attributes, domain, random);
+		potentialFieldObstacleCompact.raster = raster;
 		return potentialFieldObstacleCompact;
 	}
 
@@ -2,6 +2,7 @@ package org.vadere.simulator.models.potential;
 
 import org.vadere.annotation.factories.models.ModelClass;
 import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.potential.fields.ObstaclePotentialRaster;
 import org.vadere.simulator.models.potential.fields.PotentialFieldObstacle;
 import org.vadere.simulator.projects.Domain;
 import org.vadere.state.attributes.Attributes;
@@ -30,6 +31,7 @@ public class PotentialFieldObstacleCompactSoftshell implements PotentialFieldObs
 	private double height;
 	private Collection<Obstacle> obstacles;
 	private Domain domain;
+	private ObstaclePotentialRaster raster;
 
 	public PotentialFieldObstacleCompactSoftshell() {}
 
@@ -37,6 +39,10 @@ public class PotentialFieldObstacleCompactSoftshell implements PotentialFieldObs
 	public void initialize(List<Attributes> attributesList, Domain domain,
 	                       AttributesAgent attributesPedestrian, Random random) {
 		init(Model.findAttributes(attributesList, AttributesPotentialCompactSoftshell.class), domain, random);
+		if (attributes.isObstaclePotentialRaster()) {
+			this.raster = new ObstaclePotentialRaster(domain, this::getObstaclePotential,
+					attributes.getObstaclePotentialRasterResolution(), attributes);
+		}
 	}
 
 	private void init(AttributesPotentialCompactSoftshell attributes, Domain domain, Random random){
@@ -51,6 +57,9 @@ public class PotentialFieldObstacleCompactSoftshell implements PotentialFieldObs
 
 	@Override
 	public double getObstaclePotential(IPoint pos, Agent pedestrian) {
+		if (raster != null) {
+			return raster.getPotential(pos.getX(), pos.getY(), pedestrian.getRadius());
+		}
 
 		double potential = 0;
 		//for (Obstacle obstacle : obstacles) {
@@ -63,14 +72,7 @@ public class PotentialFieldObstacleCompactSoftshell implements PotentialFieldObs
 			}*/
 
 			double radius = pedestrian.getRadius();
-			double currentPotential = 0;
-
-			if (distance < this.width) {
-				currentPotential = this.height * Math.exp(2 / (Math.pow(distance / (this.width), 2) - 1));
-			}
-			if (distance < radius) {
-				currentPotential += 100000 * Math.exp(1 / (Math.pow(distance / radius, 2) - 1));
-			}
+			double currentPotential = getObstaclePotential(distance, radius);
 
 			if (potential < currentPotential)
 				potential = currentPotential;
@@ -79,6 +81,41 @@ public class PotentialFieldObstacleCompactSoftshell implements PotentialFieldObs
 		return potential;
 	}
 
+	private double getObstaclePotential(final double distance, final double radius) {
+		double currentPotential = 0;
+
+		if (distance < this.width) {
+			currentPotential = this.height * Math.exp(2 / (Math.pow(distance / (this.width), 2) - 1));
+		}
+		if (distance < radius) {
+			currentPotential += 100000 * Math.exp(1 / (Math.pow(distance / radius, 2) - 1));
+		}
+		return currentPotential;
+	}
+
+	@Override
+	public void addObstaclePotentials(final double[] x, final double[] y, final int n, final Agent pedestrian, final double[] potentials) {
+		VPoint pos = new VPoint();
+		double radius = pedestrian.getRadius();
+
+		if (raster != null) {
+			for (int i = 0; i < n; i++) {
+				potentials[i] += raster.getPotential(x[i], y[i], radius);
+			}
+			return;
+		}
+
+		for (int i = 0; i < n; i++) {
+			pos.x = x[i];
+			pos.y = y[i];
+			double distance = domain.getTopography().distanceToObstacle(pos, pedestrian);
+			double currentPotential = getObstaclePotential(distance, radius);
+			if (currentPotential > 0) {
+				potentials[i] += currentPotential;
+			}
+		}
+	}
+
 	@Override
 	public Vector2D getObstaclePotentialGradient(VPoint pos, Agent pedestrian) {
 		throw new UnsupportedOperationException("not jet implemented.");
@@ -97,6 +134,7 @@ public class PotentialFieldObstacleCompactSoftshell implements PotentialFieldObs
 	public PotentialFieldObstacle copy() {
 		PotentialFieldObstacleCompactSoftshell potentialFieldObstacle = new PotentialFieldObstacleCompactSoftshell();
 		potentialFieldObstacle.init(attributes, domain, random);
+		potentialFieldObstacle.raster = raster;
 		return potentialFieldObstacle;
 	}
 }
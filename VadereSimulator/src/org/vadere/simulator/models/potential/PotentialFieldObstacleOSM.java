@@ -2,6 +2,7 @@ package org.vadere.simulator.models.potential;
 
 import org.vadere.annotation.factories.models.ModelClass;
 import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.potential.fields.ObstaclePotentialRaster;
 import org.vadere.simulator.models.potential.fields.PotentialFieldObstacle;
 import org.vadere.simulator.projects.Domain;
 import org.vadere.state.attributes.Attributes;
@@ -25,6 +26,7 @@ public class PotentialFieldObstacleOSM implements PotentialFieldObstacle {
 	private AttributesPotentialOSM attributes;
 	private Collection<Obstacle> obstacles;
 	private Domain domain;
+	private ObstaclePotentialRaster raster;
 
 	public PotentialFieldObstacleOSM() {}
 
@@ -35,32 +37,27 @@ public class PotentialFieldObstacleOSM implements PotentialFieldObstacle {
 		this.attributes = attributesPotentialOSM;
 		this.domain = domain;
 		this.obstacles = new ArrayList<>(domain.getTopography().getObstacles());
+		if (attributesPotentialOSM.isObstaclePotentialRaster()) {
+			this.raster = new ObstaclePotentialRaster(domain, this::getObstaclePotential,
+					attributesPotentialOSM.getObstaclePotentialRasterResolution(), attributesPotentialOSM);
+		}
 	}
 
 	@Override
 	public double getObstaclePotential(IPoint pos, Agent pedestrian) {
+		if (raster != null) {
+			return raster.getPotential(pos.getX(), pos.getY(), pedestrian.getRadius());
+		}
 
 		double potential = 0;
-		double repulsion = 0;
 		//for (Obstacle obstacle : obstacles) {
 
-			double distance = domain.getTopography().distanceToObstacle(pos, pedestrian) - pedestrian.getRadius();
+			double repulsion = getObstaclePotential(domain.getTopography().distanceToObstacle(pos, pedestrian), pedestrian.getRadius());
 
 			// Shapes of pedestrians are assumed to be circles.
 			/*double distance = obstacle.getShape().distance(pos)
 					- pedestrian.getRadius();*/
 
-			if (distance <= 0) {
-				repulsion = attributes.getObstacleBodyPotential();
-			} else if (distance < attributes.getObstacleRepulsionWidth()) {
-
-				// See [seitz and koester, 2012], formula (2)
-				repulsion = Math.exp(-Math.pow(distance,
-						attributes.getBObsOSM())
-						* attributes.getAObsOSM())
-						* attributes.getObstacleRepulsionStrength();
-			}
-
 			if (repulsion > potential) {
 				potential = repulsion;
 			}
@@ -69,6 +66,23 @@ public class PotentialFieldObstacleOSM implements PotentialFieldObstacle {
 		return potential;
 	}
 
+	private double getObstaclePotential(final double obstacleDistance, final double radius) {
+		double distance = obstacleDistance - radius;
+		double repulsion = 0;
+
+		if (distance <= 0) {
+			repulsion = attributes.getObstacleBodyPotential();
+		} else if (distance < attributes.getObstacleRepulsionWidth()) {
+
+			// See [seitz and koester, 2012], formula (2)
+			repulsion = Math.exp(-Math.pow(distance,
+					attributes.getBObsOSM())
+					* attributes.getAObsOSM())
+					* attributes.getObstacleRepulsionStrength();
+		}
+		return repulsion;
+	}
+
 	@Override
 	public Vector2D getObstaclePotentialGradient(VPoint pos,
 			Agent pedestrian) {
@@ -134,6 +148,7 @@ public class PotentialFieldObstacleOSM implements PotentialFieldObstacle {
 		potentialFieldObstacleOSM.attributes = attributes;
 		potentialFieldObstacleOSM.domain = domain;
 		potentialFieldObstacleOSM.obstacles = domain.getTopography().getObstacles();
+		potentialFieldObstacleOSM.raster = raster;
 		return potentialFieldObstacleOSM;
 	}
 }
@@ -16,6 +16,7 @@ import org.vadere.util.geometry.shapes.VCircle;
 import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.geometry.shapes.Vector2D;
 
+import java.awt.geom.Point2D;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -89,12 +90,14 @@ public class PotentialFieldPedestrianCompact implements PotentialFieldAgent {
 	public double getAgentPotential(IPoint pos, Agent pedestrian,
 	                                Agent otherPedestrian) {
 		double distance = otherPedestrian.getPosition().distance(pos);
+		return getAgentPotential(distance, pedestrian.getRadius(), otherPedestrian.getRadius());
+	}
 
-
+	private double getAgentPotential(double distance, final double radius, final double otherRadius) {
 		double potential = 0;
 
 		if (attributes.isUseHardBodyShell()) {
-			distance = distance - pedestrian.getRadius() - otherPedestrian.getRadius();
+			distance = distance - radius - otherRadius;
 		}
 
 		if (distance < 0) {
@@ -120,6 +123,31 @@ public class PotentialFieldPedestrianCompact implements PotentialFieldAgent {
 		return potential;
 	}
 
+	@Override
+	public void addAgentPotentials(final double[] x, final double[] y, final int n, final Agent pedestrian,
+			final Collection<? extends Agent> otherPedestrians, final double[] potentials) {
+		double[] neighbors = new double[3 * otherPedestrians.size()];
+		int size = 0;
+
+		for (Agent neighbor : otherPedestrians) {
+			if (neighbor.getId() != pedestrian.getId()) {
+				neighbors[3 * size] = neighbor.getPosition().getX();
+				neighbors[3 * size + 1] = neighbor.getPosition().getY();
+				neighbors[3 * size + 2] = neighbor.getRadius();
+				size++;
+			}
+		}
+
+		for (int i = 0; i < n; i++) {
+			double potential = 0;
+			for (int j = 0; j < size; j++) {
+				double distance = Point2D.distance(neighbors[3 * j], neighbors[3 * j + 1], x[i], y[i]);
+				potential += getAgentPotential(distance, pedestrian.getRadius(), neighbors[3 * j + 2]);
+			}
+			potentials[i] += potential;
+		}
+	}
+
 	@Override
 	public Vector2D getAgentPotentialGradient(IPoint pos,
 			Vector2D velocity, Agent pedestrian,
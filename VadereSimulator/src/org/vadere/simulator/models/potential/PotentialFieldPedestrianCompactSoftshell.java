@@ -14,6 +14,7 @@ import org.vadere.util.geometry.shapes.IPoint;
 import org.vadere.util.geometry.shapes.VCircle;
 import org.vadere.util.geometry.shapes.Vector2D;
 
+import java.awt.geom.Point2D;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
@@ -60,12 +61,16 @@ public class PotentialFieldPedestrianCompactSoftshell implements PotentialFieldA
 	                                Agent otherPedestrian) {
 
 		double radii = pedestrian.getRadius() + otherPedestrian.getRadius(); // 2* r_p (sivers-2016b)
-		double potential = 0;
 		double distanceSq = otherPedestrian.getPosition().distanceSq(pos);
+		return getAgentPotential(distanceSq, radii);
+	}
+
+	private double getAgentPotential(final double distanceSq, final double radii) {
+		double potential = 0;
 		double maxDistanceSq = (Math.max(personalWidth, intimateWidth)  + radii) * (Math.max(personalWidth, intimateWidth)  + radii);
 
 		if (distanceSq < maxDistanceSq) {
-			double distance = otherPedestrian.getPosition().distance(pos); // Euclidean distance d_j(x) between agent j and position x
+			double distance = Math.sqrt(distanceSq); // Euclidean distance d_j(x) between agent j and position x
 
 			int intPower = this.attributes.getIntimateSpacePower(); // b_p
 			int perPower = this.attributes.getPersonalSpacePower(); // not defined in sivers-2016b (perPower = 1)
@@ -136,6 +141,36 @@ public class PotentialFieldPedestrianCompactSoftshell implements PotentialFieldA
 		return potential;
 	}
 
+	/**
+	 * Walks the neighbors only once and copies their positions and radii into a primitive array
+	 * such that the contributions of all neighbors to a position are summed up in the same order
+	 * as in {@link #getAgentPotential(IPoint, Agent, Collection)}.
+	 */
+	@Override
+	public void addAgentPotentials(final double[] x, final double[] y, final int n, final Agent pedestrian,
+			final Collection<? extends Agent> otherPedestrians, final double[] potentials) {
+		double[] neighbors = new double[3 * otherPedestrians.size()];
+		int size = 0;
+
+		for (Agent neighbor : otherPedestrians) {
+			if (neighbor.getId() != pedestrian.getId()) {
+				neighbors[3 * size] = neighbor.getPosition().getX();
+				neighbors[3 * size + 1] = neighbor.getPosition().getY();
+				neighbors[3 * size + 2] = pedestrian.getRadius() + neighbor.getRadius();
+				size++;
+			}
+		}
+
+		for (int i = 0; i < n; i++) {
+			double potential = 0;
+			for (int j = 0; j < size; j++) {
+				double distanceSq = Point2D.distanceSq(x[i], y[i], neighbors[3 * j], neighbors[3 * j + 1]);
+				potential += getAgentPotential(distanceSq, neighbors[3 * j + 2]);
+			}
+			potentials[i] += potential;
+		}
+	}
+
 	@Override
 	public Vector2D getAgentPotentialGradient(IPoint pos,
 			Vector2D velocity, Agent pedestrian,
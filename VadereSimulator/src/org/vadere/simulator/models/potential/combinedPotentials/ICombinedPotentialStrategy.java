@@ -2,6 +2,7 @@ package org.vadere.simulator.models.potential.combinedPotentials;
 
  import org.vadere.state.scenario.Agent;
  import org.vadere.util.geometry.shapes.IPoint;
+ import org.vadere.util.geometry.shapes.VPoint;
 
  import java.util.Collection;
 
@@ -30,4 +31,16 @@ public interface ICombinedPotentialStrategy {
      * Get the combined potential at given position.
      */
     public double getValue(IPoint newPos, Agent thisAgent, Collection<? extends Agent> otherAgents);
+
+    /**
+     * Get the combined potential at the first <tt>n</tt> positions (x[i], y[i]) and write
+     * it into values[i]. The result is equal to calling {@link #getValue(IPoint, Agent, Collection)}
+     * for each position but implementations evaluate the target, obstacle and agent potential
+     * each over all positions at once.
+     */
+    default void getValues(double[] x, double[] y, int n, Agent thisAgent, Collection<? extends Agent> otherAgents, double[] values) {
+        for (int i = 0; i < n; i++) {
+            values[i] = getValue(new VPoint(x[i], y[i]), thisAgent, otherAgents);
+        }
+    }
 }
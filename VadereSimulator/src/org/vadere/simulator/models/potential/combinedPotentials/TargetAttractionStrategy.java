@@ -6,6 +6,7 @@ import org.vadere.simulator.models.potential.fields.PotentialFieldObstacle;
 import org.vadere.state.scenario.Agent;
 import org.vadere.util.geometry.shapes.IPoint;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -30,4 +31,13 @@ public class TargetAttractionStrategy implements ICombinedPotentialStrategy {
 
         return targetPotential + agentPotential + obstaclePotential;
     }
+
+    // the summation order of getValue is kept such that both methods return exactly the same values
+    @Override
+    public void getValues(double[] x, double[] y, int n, Agent thisAgent, Collection<? extends Agent> otherAgents, double[] values) {
+        Arrays.fill(values, 0, n, 0.0);
+        potentialFieldTarget.addPotentials(x, y, n, thisAgent, values);
+        potentialFieldAgent.addAgentPotentials(x, y, n, thisAgent, otherAgents, values);
+        potentialFieldObstacle.addObstaclePotentials(x, y, n, thisAgent, values);
+    }
 }
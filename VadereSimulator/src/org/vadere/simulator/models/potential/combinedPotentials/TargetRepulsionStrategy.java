@@ -6,6 +6,7 @@ import org.vadere.simulator.models.potential.fields.PotentialFieldObstacle;
 import org.vadere.state.scenario.Agent;
 import org.vadere.util.geometry.shapes.IPoint;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -37,4 +38,20 @@ public class TargetRepulsionStrategy implements ICombinedPotentialStrategy {
 
         return targetPotential + agentPotential + obstaclePotential;
     }
+
+    // the summation order of getValue is kept such that both methods return exactly the same values
+    @Override
+    public void getValues(double[] x, double[] y, int n, Agent thisAgent, Collection<? extends Agent> otherAgents, double[] values) {
+        Arrays.fill(values, 0, n, 0.0);
+        potentialFieldTarget.addPotentials(x, y, n, thisAgent, values);
+
+        // The target potential is intialized with "Double.MAX_VALUE" in obstacle regions!
+        for (int i = 0; i < n; i++) {
+            if (values[i] != Double.MAX_VALUE) {
+                values[i] *= -1;
+            }
+        }
+        potentialFieldAgent.addAgentPotentials(x, y, n, thisAgent, otherAgents, values);
+        potentialFieldObstacle.addObstaclePotentials(x, y, n, thisAgent, values);
+    }
 }
@@ -39,6 +39,23 @@ public interface IPotentialField {
      */
     double getPotential(final IPoint pos, final Agent agent);
 
+	/**
+	 * Adds the potential at the first <tt>n</tt> positions (x[i], y[i]) for the agent to
+	 * potentials[i]. Implementations should override this method if they can evaluate many
+	 * positions at once without creating a point object for each position.
+	 *
+	 * @param x             the x-coordinates of the positions
+	 * @param y             the y-coordinates of the positions
+	 * @param n             the number of positions
+	 * @param agent         the agent for which the potential will be evaluated
+	 * @param potentials    the array the potentials will be added to
+	 */
+	default void addPotentials(final double[] x, final double[] y, final int n, final Agent agent, final double[] potentials) {
+		for(int i = 0; i < n; i++) {
+			potentials[i] += getPotential(new VPoint(x[i], y[i]), agent);
+		}
+	}
+
     Logger logger = Logger.getLogger(IPotentialField.class);
 
     /**
@@ -0,0 +1,215 @@
+package org.vadere.simulator.models.potential.fields;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jetbrains.annotations.NotNull;
+import org.vadere.simulator.context.VadereContext;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.simulator.utils.cache.CacheException;
+import org.vadere.simulator.utils.cache.ICellGridCacheObject;
+import org.vadere.simulator.utils.cache.ScenarioCache;
+import org.vadere.state.attributes.Attributes;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.util.StateJsonConverter;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.data.cellgrid.CellState;
+import org.vadere.util.data.cellgrid.PathFindingTag;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.logging.Logger;
+import org.vadere.util.math.InterpolationUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * A static obstacle potential sampled on a Cartesian grid. The obstacle potentials of the
+ * optimal steps models only depend on the distance to the closest obstacle and the radius of
+ * the agent: (distance, radius) -> potential. Since obstacles are static, the potential is
+ * sampled once for each agent radius, i.e. evaluating it costs a bicubic interpolation of
+ * 4 x 4 grid points instead of a distance function evaluation. The samples are cached via the
+ * {@link ScenarioCache} like the target floor fields.
+ *
+ * The radii are rounded to {@link #RADIUS_BUCKET} and at most {@link #MAX_RASTERS} grids are
+ * sampled, agents with other radii use the exact potential.
+ *
+ * The raster is an approximation: the bicubic interpolation smooths the potential at
+ * discontinuities, e.g. at the body of an agent touching an obstacle, with an error depending on
+ * the resolution. It is activated by the attributes of the obstacle potential, e.g.
+ * <tt>AttributesPotentialOSM#isObstaclePotentialRaster()</tt>.
+ */
+public class ObstaclePotentialRaster {
+
+	private static Logger logger = Logger.getLogger(ObstaclePotentialRaster.class);
+
+	/**
+	 * Potentials are clamped to this value such that the interpolation of potentials deep
+	 * inside obstacles does not overflow.
+	 */
+	private static final double MAX_POTENTIAL = 1.0E10;
+
+	/**
+	 * Radii are rounded to multiples of this width (in m), i.e. agents with similar radii share a grid.
+	 */
+	private static final double RADIUS_BUCKET = 0.01;
+
+	/**
+	 * The maximal number of sampled grids, each grid has the size of the topography.
+	 */
+	private static final int MAX_RASTERS = 16;
+
+	private final Domain domain;
+	private final DoubleBinaryOperator potential;
+	private final double resolution;
+	private final String name;
+	private final String parameters;
+	private final Map<Double, CellGrid> cellGrids;
+
+	/**
+	 * The raster of the last requested radius, since most agents have the same radius this avoids the map lookup.
+	 */
+	private volatile Raster lastRaster;
+
+	/**
+	 * Creates a raster of the obstacle potential, the grids are sampled on first use of a radius.
+	 *
+	 * @param domain            the spatial domain containing the obstacles
+	 * @param potential         the obstacle potential: (distance to the closest obstacle, agent radius) -> potential
+	 * @param resolution        the distance of the grid points
+	 * @param modelAttributes   the attributes of the obstacle potential which identify the cached raster
+	 */
+	public ObstaclePotentialRaster(@NotNull final Domain domain,
+	                               @NotNull final DoubleBinaryOperator potential,
+	                               final double resolution,
+	                               @NotNull final Attributes modelAttributes) {
+		this.domain = domain;
+		this.potential = potential;
+		this.resolution = resolution;
+		this.name = modelAttributes.getClass().getSimpleName();
+		this.parameters = StateJsonConverter.serializeObject(modelAttributes);
+		this.cellGrids = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the bicubic interpolated obstacle potential at (x, y) for an agent with the given radius.
+	 * The potential is sampled on first use of the radius (bucket). If there are already {@link #MAX_RASTERS}
+	 * grids the exact potential is returned.
+	 *
+	 * @param x         the x-coordinate of the position
+	 * @param y         the y-coordinate of the position
+	 * @param radius    the radius of the agent
+	 * @return the obstacle potential at (x, y)
+	 */
+	public double getPotential(final double x, final double y, final double radius) {
+		Raster raster = lastRaster;
+		if (raster == null || raster.radius != radius) {
+			raster = new Raster(radius, getCellGrid(radius));
+			lastRaster = raster;
+		}
+		CellGrid cellGrid = raster.cellGrid;
+		if (cellGrid == null) {
+			return potential.applyAsDouble(domain.getTopography().distanceToObstacle(new VPoint(x, y)), radius);
+		}
+
+		double tx = (Math.min(Math.max(x, cellGrid.getMinX()), cellGrid.getMinX() + cellGrid.getWidth()) - cellGrid.getMinX()) / resolution;
+		double ty = (Math.min(Math.max(y, cellGrid.getMinY()), cellGrid.getMinY() + cellGrid.getHeight()) - cellGrid.getMinY()) / resolution;
+		int pointX = Math.max(0, Math.min((int) tx, cellGrid.getNumPointsX() - 2));
+		int pointY = Math.max(0, Math.min((int) ty, cellGrid.getNumPointsY() - 2));
+		tx -= pointX;
+		ty -= pointY;
+
+		double z0 = interpolateRow(cellGrid, pointX, Math.max(0, pointY - 1), tx);
+		double z1 = interpolateRow(cellGrid, pointX, pointY, tx);
+		double z2 = interpolateRow(cellGrid, pointX, pointY + 1, tx);
+		double z3 = interpolateRow(cellGrid, pointX, Math.min(pointY + 2, cellGrid.getNumPointsY() - 1), tx);
+
+		// the potentials are non-negative, the interpolation might overshoot at steep changes
+		return Math.max(0.0, InterpolationUtil.cubicInterpolation(z0, z1, z2, z3, ty));
+	}
+
+	private CellGrid getCellGrid(final double radius) {
+		final double bucket = Math.round(radius / RADIUS_BUCKET) * RADIUS_BUCKET;
+		CellGrid cellGrid = cellGrids.get(bucket);
+		if (cellGrid == null) {
+			synchronized (cellGrids) {
+				cellGrid = cellGrids.get(bucket);
+				if (cellGrid == null) {
+					if (cellGrids.size() >= MAX_RASTERS) {
+						logger.warnf("No obstacle potential raster for radius %f, there are already %d rasters.", radius, MAX_RASTERS);
+						return null;
+					}
+					cellGrid = sample(bucket);
+					cellGrids.put(bucket, cellGrid);
+				}
+			}
+		}
+		return cellGrid;
+	}
+
+	private static double interpolateRow(@NotNull final CellGrid cellGrid, final int pointX, final int pointY, final double tx) {
+		return InterpolationUtil.cubicInterpolation(
+				cellGrid.getPotential(Math.max(0, pointX - 1), pointY),
+				cellGrid.getPotential(pointX, pointY),
+				cellGrid.getPotential(pointX + 1, pointY),
+				cellGrid.getPotential(Math.min(pointX + 2, cellGrid.getNumPointsX() - 1), pointY),
+				tx);
+	}
+
+	private CellGrid sample(final double radius) {
+		Topography topography = domain.getTopography();
+		VRectangle bounds = new VRectangle(topography.getBounds());
+		CellGrid cellGrid = new CellGrid(bounds.getWidth(), bounds.getHeight(), resolution, new CellState(), bounds.getMinX(), bounds.getMinY());
+
+		ScenarioCache cache = (ScenarioCache) VadereContext.get(topography).getOrDefault("cache", ScenarioCache.empty());
+		ICellGridCacheObject cacheObject = null;
+		if (cache.isNotEmpty()) {
+			// the cached raster is identified by the parameters of the potential, the agent radius and the resolution
+			String hash = DigestUtils.sha1Hex(parameters + "\n" + radius + "\n" + resolution);
+			cacheObject = (ICellGridCacheObject) cache.getCacheForObstaclePotential(name + "_" + hash);
+			if (cacheObject.readable()) {
+				try {
+					cacheObject.initializeObjectFromCache(cellGrid);
+					logger.info("obstacle potential raster loaded from cache: " + cacheObject.getCacheLocation());
+					return cellGrid;
+				} catch (CacheException e) {
+					logger.errorf("Error loading cache solve manually. " + e);
+				}
+			}
+		}
+
+		long ms = System.currentTimeMillis();
+		VPoint point = new VPoint();
+		for (int pointX = 0; pointX < cellGrid.getNumPointsX(); pointX++) {
+			for (int pointY = 0; pointY < cellGrid.getNumPointsY(); pointY++) {
+				point.x = cellGrid.getMinX() + pointX * resolution;
+				point.y = cellGrid.getMinY() + pointY * resolution;
+				double value = potential.applyAsDouble(topography.distanceToObstacle(point), radius);
+				cellGrid.setValue(pointX, pointY, Math.min(value, MAX_POTENTIAL), PathFindingTag.Reachable);
+			}
+		}
+		logger.info("obstacle potential raster initialization time:" + (System.currentTimeMillis() - ms) + "[ms]");
+
+		if (cacheObject != null && cacheObject.writable()) {
+			try {
+				cacheObject.persistObject(cellGrid);
+			} catch (CacheException e) {
+				logger.errorf("Error saving cache.", e);
+			}
+		}
+
+		return cellGrid;
+	}
+
+	/**
+	 * A requested radius and its grid, the grid is <tt>null</tt> if the exact potential is used.
+	 */
+	private static final class Raster {
+		private final double radius;
+		private final CellGrid cellGrid;
+
+		private Raster(final double radius, final CellGrid cellGrid) {
+			this.radius = radius;
+			this.cellGrid = cellGrid;
+		}
+	}
+}
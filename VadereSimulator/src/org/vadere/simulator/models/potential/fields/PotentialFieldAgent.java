@@ -9,6 +9,7 @@ import org.vadere.state.scenario.Agent;
 import org.vadere.state.scenario.Topography;
 import org.vadere.util.geometry.shapes.IPoint;
 import org.vadere.util.geometry.shapes.VCircle;
+import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.geometry.shapes.Vector2D;
 import org.vadere.util.logging.Logger;
 import org.vadere.util.reflection.DynamicClassInstantiator;
@@ -57,6 +58,26 @@ public interface PotentialFieldAgent extends Model {
 	double getAgentPotential(IPoint pos, Agent pedestrian,
 			Collection<? extends Agent> otherAgents);
 
+	/**
+	 * Adds the potential of all other agents at the first <tt>n</tt> positions (x[i], y[i]) for the
+	 * pedestrian to potentials[i]. Implementations should override this method if they can evaluate
+	 * many positions at once without creating a point object for each position and without walking
+	 * the other agents for each position.
+	 *
+	 * @param x             the x-coordinates of the positions
+	 * @param y             the y-coordinates of the positions
+	 * @param n             the number of positions
+	 * @param pedestrian    the pedestrian for which the potential will be evaluated
+	 * @param otherAgents   the agents which contribute to the potential
+	 * @param potentials    the array the potentials will be added to
+	 */
+	default void addAgentPotentials(final double[] x, final double[] y, final int n, final Agent pedestrian,
+			final Collection<? extends Agent> otherAgents, final double[] potentials) {
+		for(int i = 0; i < n; i++) {
+			potentials[i] += getAgentPotential(new VPoint(x[i], y[i]), pedestrian, otherAgents);
+		}
+	}
+
 	Vector2D getAgentPotentialGradient(IPoint pos,
 			Vector2D velocity, Agent pedestrian,
 			Collection<? extends Agent> otherAgents);
@@ -0,0 +1,244 @@
+package org.vadere.simulator.models.potential.fields;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.vadere.simulator.utils.cache.CacheException;
+import org.vadere.simulator.utils.cache.ICellGridCacheObject;
+import org.vadere.simulator.utils.cache.ScenarioCache;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.state.scenario.Agent;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.data.cellgrid.CellState;
+import org.vadere.util.data.cellgrid.PathFindingTag;
+import org.vadere.util.geometry.shapes.IPoint;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.geometry.shapes.VShape;
+import org.vadere.util.logging.Logger;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * PotentialFieldDistancesQuadTree computes the nearest distance to any obstacle by computing
+ * the exact distance at certain discrete points lying on an Cartesian grid. Values inbetween are
+ * bilinear interpolated.
+ *
+ * In contrast to computing the distance of each grid point to all obstacles, the grid is recursively
+ * split into quadrants which are processed in parallel. For each quadrant only those obstacles are
+ * candidates whose bounding box is not farther away than the distance of the nearest obstacle to the
+ * center of the quadrant plus the radius of the quadrant. Since all other obstacles can not be the nearest
+ * obstacle of any grid point of the quadrant, the result is equal to the brute force computation.
+ */
+public class PotentialFieldDistancesQuadTree implements IPotentialField {
+
+	/**
+	 * The identifier of the cache object which is the same as the one of the former brute force
+	 * computation such that existing caches remain valid.
+	 */
+	public static final String CACHE_IDENTIFIER = "BruteForce";
+
+	/**
+	 * Quadrants with at most <tt>LEAF_SIZE x LEAF_SIZE</tt> grid points are not split any further.
+	 */
+	private static final int LEAF_SIZE = 8;
+
+	/**
+	 * Tolerance of the upper bound of the distance to account for rounding errors of the distance computation.
+	 */
+	private static final double EPSILON = 1.0E-6;
+
+	private static Logger logger = Logger.getLogger(PotentialFieldDistancesQuadTree.class);
+	private final CellGrid cellGrid;
+	private final VShape[] obstacles;
+	private final Rectangle2D[] obstacleBounds;
+
+	private final AtomicLong processedPoints = new AtomicLong(0);
+	private long totalPoints;
+
+	public PotentialFieldDistancesQuadTree(@NotNull final Collection<VShape> obstacles,
+	                                       @NotNull final VRectangle bounds,
+	                                       @NotNull final AttributesFloorField attributesFloorField,
+	                                       @NotNull final ScenarioCache cache) {
+
+		this.obstacles = obstacles.toArray(new VShape[0]);
+		this.obstacleBounds = Arrays.stream(this.obstacles).map(VShape::getBounds2D).toArray(Rectangle2D[]::new);
+		this.cellGrid = new CellGrid(bounds.getWidth(), bounds.getHeight(), attributesFloorField.getPotentialFieldResolution(), new CellState(), bounds.getMinX(), bounds.getMinY());
+
+		boolean isInitialized = false;
+		logger.info("solve floor field (PotentialFieldDistancesQuadTree)");
+		if (cache.isNotEmpty()){
+			double ms = System.currentTimeMillis();
+			String cacheIdentifier = cache.distToIdentifier(CACHE_IDENTIFIER);
+			ICellGridCacheObject cacheObject = (ICellGridCacheObject) cache.getCache(cacheIdentifier); // todo allow user setting in scenario.
+			if(cacheObject.readable()){
+				// cache found
+				try{
+					cacheObject.initializeObjectFromCache(cellGrid);
+					isInitialized = true;
+					logger.info("floor field initialization time:" + (System.currentTimeMillis() - ms + "[ms] (cache load time)"));
+				} catch (CacheException e){
+					logger.errorf("Error loading cache solve manually. " + e);
+				}
+			} else if(cacheObject.writable()) {
+				// no cache found
+				logger.infof("No cache found for scenario solve floor field");
+				computeDistances();
+				isInitialized = true;
+				try{
+					ms = System.currentTimeMillis();
+					logger.info("save floor field cache:");
+					cacheObject.persistObject(cellGrid);
+					logger.info("save floor field cache time:" + (System.currentTimeMillis() - ms + "[ms]"));
+				} catch (CacheException e){
+					logger.errorf("Error saving cache.", e);
+				}
+			}
+		}
+
+		if (!isInitialized){
+			computeDistances();
+		}
+	}
+
+	private void computeDistances() {
+		long ms = System.currentTimeMillis();
+		int numPointsX = cellGrid.getNumPointsX();
+		int numPointsY = cellGrid.getNumPointsY();
+		totalPoints = (long) numPointsX * numPointsY;
+		processedPoints.set(0);
+
+		int[] candidates = IntStream.range(0, obstacles.length).toArray();
+		ForkJoinPool.commonPool().invoke(new QuadrantAction(0, 0, numPointsX, numPointsY, candidates));
+
+		logger.info("floor field initialization time:" + (System.currentTimeMillis() - ms + "[ms]"));
+	}
+
+	private void printProgressIfCheckpointReached(final int newlyProcessedPoints) {
+		long before = processedPoints.getAndAdd(newlyProcessedPoints);
+		long after = before + newlyProcessedPoints;
+		double stepSize = 10.0;
+
+		if (Math.floor(before * 100.0 / totalPoints / stepSize) < Math.floor(after * 100.0 / totalPoints / stepSize)) {
+			double progressInPercentage = ((double) after / totalPoints) * 100;
+			logger.info(String.format("Progress: %2.0f%% -> %d/%d [points]", progressInPercentage, after, totalPoints));
+		}
+	}
+
+	/**
+	 * Returns the obstacles of <tt>candidates</tt> which might be the nearest obstacle of a point
+	 * inside the rectangle <tt>[minX, maxX] x [minY, maxY]</tt>.
+	 */
+	private int[] prune(final double minX, final double minY, final double maxX, final double maxY, @NotNull final int[] candidates) {
+		if (candidates.length <= 1) {
+			return candidates;
+		}
+
+		VPoint center = new VPoint((minX + maxX) / 2, (minY + maxY) / 2);
+		double radius = Math.hypot(maxX - minX, maxY - minY) / 2;
+
+		// lower bounds of the distances of the rectangle to the obstacles
+		double[] lowerBounds = new double[candidates.length];
+		for (int i = 0; i < candidates.length; i++) {
+			Rectangle2D obstacleBound = obstacleBounds[candidates[i]];
+			double dx = Math.max(0, Math.max(obstacleBound.getMinX() - maxX, minX - obstacleBound.getMaxX()));
+			double dy = Math.max(0, Math.max(obstacleBound.getMinY() - maxY, minY - obstacleBound.getMaxY()));
+			lowerBounds[i] = Math.hypot(dx, dy);
+		}
+
+		// upper bound of the distance of any point of the rectangle to its nearest obstacle
+		Integer[] order = IntStream.range(0, candidates.length).boxed().toArray(Integer[]::new);
+		Arrays.sort(order, (i, j) -> Double.compare(lowerBounds[i], lowerBounds[j]));
+		double upperBound = Double.MAX_VALUE;
+		for (int i : order) {
+			if (lowerBounds[i] > upperBound) {
+				break;
+			}
+			upperBound = Math.min(upperBound, obstacles[candidates[i]].distance(center) + radius + EPSILON);
+		}
+
+		// if a point is contained in an obstacle its (negative) distance is bounded by 0 only
+		double threshold = Math.max(upperBound, 0);
+		List<Integer> pruned = new ArrayList<>();
+		for (int i = 0; i < candidates.length; i++) {
+			if (lowerBounds[i] <= threshold) {
+				pruned.add(candidates[i]);
+			}
+		}
+		return pruned.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private void computeDistanceToGridPoint(final int pointX, final int pointY, @NotNull final int[] candidates) {
+		VPoint point = cellGrid.pointToCoord(pointX, pointY);
+		double distance = Double.MAX_VALUE;
+		for (int candidate : candidates) {
+			distance = Math.min(distance, obstacles[candidate].distance(point));
+		}
+		cellGrid.setValue(pointX, pointY, distance, PathFindingTag.Reachable);
+	}
+
+	/**
+	 * Computes the distances of the grid points <tt>[x0, x1) x [y0, y1)</tt>.
+	 */
+	private class QuadrantAction extends RecursiveAction {
+		private final int x0;
+		private final int y0;
+		private final int x1;
+		private final int y1;
+		private final int[] candidates;
+
+		private QuadrantAction(final int x0, final int y0, final int x1, final int y1, @NotNull final int[] candidates) {
+			this.x0 = x0;
+			this.y0 = y0;
+			this.x1 = x1;
+			this.y1 = y1;
+			this.candidates = candidates;
+		}
+
+		@Override
+		protected void compute() {
+			VPoint min = cellGrid.pointToCoord(x0, y0);
+			VPoint max = cellGrid.pointToCoord(x1 - 1, y1 - 1);
+			int[] pruned = prune(min.getX(), min.getY(), max.getX(), max.getY(), candidates);
+
+			int width = x1 - x0;
+			int height = y1 - y0;
+			if (width <= LEAF_SIZE && height <= LEAF_SIZE) {
+				for (int x = x0; x < x1; x++) {
+					for (int y = y0; y < y1; y++) {
+						computeDistanceToGridPoint(x, y, pruned);
+					}
+				}
+				printProgressIfCheckpointReached(width * height);
+			} else {
+				int xm = width > LEAF_SIZE ? x0 + width / 2 : x1;
+				int ym = height > LEAF_SIZE ? y0 + height / 2 : y1;
+				List<QuadrantAction> quadrants = new ArrayList<>(4);
+				quadrants.add(new QuadrantAction(x0, y0, xm, ym, pruned));
+				if (xm < x1) {
+					quadrants.add(new QuadrantAction(xm, y0, x1, ym, pruned));
+				}
+				if (ym < y1) {
+					quadrants.add(new QuadrantAction(x0, ym, xm, y1, pruned));
+				}
+				if (xm < x1 && ym < y1) {
+					quadrants.add(new QuadrantAction(xm, ym, x1, y1, pruned));
+				}
+				invokeAll(quadrants);
+			}
+		}
+	}
+
+	@Override
+	public double getPotential(@NotNull IPoint pos, @Nullable Agent agent) {
+		return cellGrid.getInterpolatedValueAt(pos).getLeft();
+	}
+
+}
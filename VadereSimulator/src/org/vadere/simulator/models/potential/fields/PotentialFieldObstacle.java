@@ -27,6 +27,23 @@ public interface PotentialFieldObstacle extends Model {
 
 	double getObstaclePotential(IPoint pos, Agent pedestrian);
 
+	/**
+	 * Adds the obstacle potential at the first <tt>n</tt> positions (x[i], y[i]) for the pedestrian
+	 * to potentials[i]. Implementations should override this method if they can evaluate many
+	 * positions at once without creating a point object for each position.
+	 *
+	 * @param x             the x-coordinates of the positions
+	 * @param y             the y-coordinates of the positions
+	 * @param n             the number of positions
+	 * @param pedestrian    the pedestrian for which the potential will be evaluated
+	 * @param potentials    the array the potentials will be added to
+	 */
+	default void addObstaclePotentials(final double[] x, final double[] y, final int n, final Agent pedestrian, final double[] potentials) {
+		for(int i = 0; i < n; i++) {
+			potentials[i] += getObstaclePotential(new VPoint(x[i], y[i]), pedestrian);
+		}
+	}
+
 	Vector2D getObstaclePotentialGradient(VPoint pos, Agent pedestrian);
 
 	PotentialFieldObstacle copy();
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.vadere.meshing.mesh.inter.IMesh;
 import org.vadere.simulator.models.potential.solver.calculators.EikonalSolver;
+import org.vadere.simulator.models.potential.solver.calculators.cartesian.AGridEikonalSolver;
 import org.vadere.simulator.projects.Domain;
 import org.vadere.state.attributes.Attributes;
 import org.vadere.state.attributes.models.AttributesFloorField;
@@ -25,6 +26,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -65,6 +68,15 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 	 */
 	protected final Map<Integer, EikonalSolver> eikonalSolvers;
 
+	/**
+	 * Caches the distances of the position of each agent to its target and the obstacles, see {@link StepCircle}.
+	 * The caches are dropped in each update.
+	 */
+	private final Map<Agent, StepCircle> stepCircles;
+
+	private final LongAdder containmentCacheHits;
+
+	private final LongAdder containmentCacheLookups;
 
 	public PotentialFieldTarget(@NotNull final Domain domain,
 	                            @NotNull final AttributesAgent attributesPedestrian,
@@ -73,6 +85,9 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 		this.attributesPedestrian = attributesPedestrian;
 		this.attributes = attributesPotential;
 		this.eikonalSolvers = new HashMap<>();
+		this.stepCircles = new ConcurrentHashMap<>();
+		this.containmentCacheHits = new LongAdder();
+		this.containmentCacheLookups = new LongAdder();
 	}
 
 	@Override
@@ -133,12 +148,56 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 		}
 
 		int targetId = agent.getNextTargetId();
-		return getPotential(pos, targetId, agent);
+		return getPotential(pos, targetId, agent, getStepCircle(agent, targetId));
+	}
+
+	/**
+	 * Adds the target potential at the positions (x[i], y[i]) for the agent to potentials[i].
+	 * The target and its potential field are looked up only once for all positions and a single
+	 * point is reused for the geometric tests which are skipped for positions close to the agent,
+	 * see {@link StepCircle}.
+	 *
+	 * @param x             the x-coordinates of the positions
+	 * @param y             the y-coordinates of the positions
+	 * @param n             the number of positions
+	 * @param agent         the agent for which the potential will be evaluated
+	 * @param potentials    the array the potentials will be added to
+	 */
+	@Override
+	public void addPotentials(final double[] x, final double[] y, final int n, final Agent agent, final double[] potentials) {
+		if (!agent.hasNextTarget()) {
+			return;
+		}
+
+		int targetId = agent.getNextTargetId();
+		VShape targetShape = domain.getTopography().getTarget(targetId).getShape();
+		Optional<EikonalSolver> optEikonalSolver = getSolver(targetId);
+		StepCircle stepCircle = getStepCircle(agent, targetId);
+		VPoint pos = new VPoint();
+
+		for (int i = 0; i < n; i++) {
+			pos.x = x[i];
+			pos.y = y[i];
+
+			if (!isOutsideTarget(stepCircle, x[i], y[i]) && targetShape.contains(pos)) {
+				continue;
+			}
+
+			if(!isOutsideObstacles(stepCircle, x[i], y[i]) && domain.getTopography().distanceToObstacle(pos, agent) <= 0) {
+				potentials[i] += Double.MAX_VALUE;
+			}
+			else if (!optEikonalSolver.isPresent()) {
+				logger.error("no target potential field for target = " + targetId + ", was found!");
+			}
+			else {
+				potentials[i] += optEikonalSolver.get().getPotential(x[i], y[i], agent);
+			}
+		}
 	}
 
-	private double getPotential(@NotNull final IPoint pos, final int targetId, @Nullable final Object caller) {
+	private double getPotential(@NotNull final IPoint pos, final int targetId, @Nullable final Object caller, @Nullable final StepCircle stepCircle) {
 		// the agent has reached his current target
-		if (domain.getTopography().getTarget(targetId).getShape().contains(pos)) {
+		if (!isOutsideTarget(stepCircle, pos.getX(), pos.getY()) && domain.getTopography().getTarget(targetId).getShape().contains(pos)) {
 			return 0.0;
 		}
 
@@ -156,7 +215,7 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 		}*/
 
 		// point lies outside
-		if(domain.getTopography().distanceToObstacle(pos, caller) <= 0) {
+		if(!isOutsideObstacles(stepCircle, pos.getX(), pos.getY()) && domain.getTopography().distanceToObstacle(pos, caller) <= 0) {
 			return Double.MAX_VALUE;
 		}
 
@@ -180,7 +239,89 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 
 	@Override
 	public double getPotential(@NotNull final IPoint pos, final int targetId) {
-		return getPotential(pos, targetId, null);
+		return getPotential(pos, targetId, null, null);
+	}
+
+	/**
+	 * Returns the {@link StepCircle} of the agent for its current position and target.
+	 */
+	private StepCircle getStepCircle(@NotNull final Agent agent, final int targetId) {
+		StepCircle stepCircle = stepCircles.computeIfAbsent(agent, a -> new StepCircle());
+		VPoint position = agent.getPosition();
+
+		if(stepCircle.targetId != targetId || stepCircle.x != position.x || stepCircle.y != position.y) {
+			Target target = domain.getTopography().getTarget(targetId);
+			stepCircle.targetId = targetId;
+			stepCircle.x = position.x;
+			stepCircle.y = position.y;
+
+			// moving targets might change during the update of the agents
+			if(target.isMovingTarget() || target.isTargetPedestrian() || target.getShape().contains(position)) {
+				stepCircle.targetFreeRadius = 0.0;
+			} else {
+				stepCircle.targetFreeRadius = 0.5 * target.getShape().distance(position);
+			}
+
+			stepCircle.obstacleFreeRadius = 0.5 * Math.max(0.0, domain.getTopography().distanceToObstacle(position, agent));
+		}
+
+		return stepCircle;
+	}
+
+	private boolean isOutsideTarget(@Nullable final StepCircle stepCircle, final double x, final double y) {
+		if(stepCircle == null) {
+			return false;
+		}
+
+		containmentCacheLookups.increment();
+		if(stepCircle.distance(x, y) < stepCircle.targetFreeRadius) {
+			containmentCacheHits.increment();
+			return true;
+		}
+		return false;
+	}
+
+	private boolean isOutsideObstacles(@Nullable final StepCircle stepCircle, final double x, final double y) {
+		if(stepCircle == null) {
+			return false;
+		}
+
+		containmentCacheLookups.increment();
+		if(stepCircle.distance(x, y) < stepCircle.obstacleFreeRadius) {
+			containmentCacheHits.increment();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the fraction of target and obstacle containment tests which were answered by the
+	 * cached distances of the agents, or 0 if there was no test.
+	 *
+	 * @return the hit rate of the containment caches
+	 */
+	public double getContainmentCacheHitRate() {
+		long lookups = containmentCacheLookups.sum();
+		return lookups == 0 ? 0.0 : (double) containmentCacheHits.sum() / lookups;
+	}
+
+	/**
+	 * Returns the fraction of interpolations of all grid based potential fields whose grid point
+	 * potentials were cached, see {@link AGridEikonalSolver#getInterpolationCacheHitRate()}, or 0
+	 * if there was no interpolation.
+	 *
+	 * @return the hit rate of the interpolation caches
+	 */
+	public double getInterpolationCacheHitRate() {
+		long hits = 0;
+		long lookups = 0;
+		for(EikonalSolver eikonalSolver : eikonalSolvers.values()) {
+			if(eikonalSolver instanceof AGridEikonalSolver) {
+				hits += ((AGridEikonalSolver) eikonalSolver).getInterpolationCacheHits();
+				lookups += ((AGridEikonalSolver) eikonalSolver).getInterpolationCacheLookups();
+			}
+		}
+		return lookups == 0 ? 0.0 : (double) hits / lookups;
 	}
 
 	/**
@@ -276,6 +417,11 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 	 */
 	@Override
 	public void update(final double simTimeInSec) {
+		stepCircles.clear();
+		eikonalSolvers.values().stream()
+				.filter(eikonalSolver -> eikonalSolver instanceof AGridEikonalSolver)
+				.forEach(eikonalSolver -> ((AGridEikonalSolver) eikonalSolver).clearInterpolationCaches());
+
 		if (isNeedsUpdate(simTimeInSec)) {
 			List<Target> targets = domain.getTopography().getTargets();
 			Map<Integer, List<VShape>> mergeMap = domain.getTopography().getTargetShapes();
@@ -285,5 +431,29 @@ public class PotentialFieldTarget implements IPotentialFieldTarget {
 	}
 
 	@Override
-	public void postLoop(final double simTimeInSec) {}
+	public void postLoop(final double simTimeInSec) {
+		logger.debug("target potential cache hit rates: interpolation = " + getInterpolationCacheHitRate()
+				+ ", containment = " + getContainmentCacheHitRate());
+	}
+
+	/**
+	 * The distances of the position of an agent to its target and to the closest obstacle, halved
+	 * to tolerate distance functions which are only approximately 1-Lipschitz, e.g. interpolated
+	 * distance fields. Positions inside the circle of radius targetFreeRadius (obstacleFreeRadius)
+	 * around the agent, e.g. its step candidates, are outside of the target (obstacles) such that
+	 * the geometric tests can be skipped.
+	 */
+	private static final class StepCircle {
+		private int targetId = -1;
+		private double x = Double.NaN;
+		private double y = Double.NaN;
+		private double targetFreeRadius;
+		private double obstacleFreeRadius;
+
+		private double distance(final double x, final double y) {
+			double dx = x - this.x;
+			double dy = y - this.y;
+			return Math.sqrt(dx * dx + dy * dy);
+		}
+	}
 }
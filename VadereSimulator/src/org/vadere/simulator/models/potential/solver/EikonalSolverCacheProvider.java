@@ -35,10 +35,11 @@ public class EikonalSolverCacheProvider extends EikonalSolverProvider {
 		   floor field initialization and log errors.
 		 */
 		boolean isInitialized = false;
+		ICacheObject cacheObject = null;
 		logger.info("solve floor field");
 		if (attributesPotential.isUseCachedFloorField() && cache.isNotEmpty()){
 			long ms = System.currentTimeMillis();
-			ICacheObject cacheObject = cache.getCacheForTarget(targetId);
+			cacheObject = cache.getCacheForTarget(targetId);
 			if (cacheObject.readable()){
 				isInitialized = eikonalSolver.loadCachedFloorField(cacheObject);
 				logger.info("floor field initialization time:" + (System.currentTimeMillis() - ms + "[ms] (cache load time)"));
@@ -60,6 +61,11 @@ public class EikonalSolverCacheProvider extends EikonalSolverProvider {
 			long ms = System.currentTimeMillis();
 			eikonalSolver.solve();
 			logger.info("floor field initialization time:" + (System.currentTimeMillis() - ms + "[ms]"));
+
+			// the cache could not be loaded: replace it, e.g. a shared floor field other runs are waiting for
+			if (cacheObject != null && cacheObject.writable()) {
+				eikonalSolver.saveFloorFieldToCache(cacheObject);
+			}
 		}
 	}
 }
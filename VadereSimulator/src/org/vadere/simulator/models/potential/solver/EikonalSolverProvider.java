@@ -10,6 +10,7 @@ import org.vadere.meshing.mesh.inter.IIncrementalTriangulation;
 import org.vadere.simulator.models.potential.fields.IPotentialField;
 import org.vadere.simulator.models.potential.solver.calculators.EikonalSolver;
 import org.vadere.simulator.models.potential.solver.calculators.PotentialFieldCalculatorNone;
+import org.vadere.simulator.models.potential.solver.calculators.cartesian.AGridEikonalSolver;
 import org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFIM;
 import org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFMM;
 import org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFSM;
@@ -140,6 +141,10 @@ public abstract class EikonalSolverProvider  {
 				default:
 					eikonalSolver = new EikonalSolverFMM(cellGrid, distFunc, isHighAccuracyFM, timeCost, attributesPotential.getObstacleGridPenalty(), attributesPotential.getTargetAttractionStrength());
 			}
+
+			if (attributesPotential.isIncrementalUpdate() && eikonalSolver instanceof AGridEikonalSolver) {
+				((AGridEikonalSolver) eikonalSolver).enableIncrementalUpdate(attributesPotential.getIncrementalUpdateThreshold());
+			}
 		} else {
 			if(domain.getFloorFieldMesh() != null) {
 				IIncrementalTriangulation<AVertex, AHalfEdge, AFace> triangulation = new IncrementalTriangulation<>(domain.getFloorFieldMesh());
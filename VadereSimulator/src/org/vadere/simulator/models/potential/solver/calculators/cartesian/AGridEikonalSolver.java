@@ -2,6 +2,11 @@ package org.vadere.simulator.models.potential.solver.calculators.cartesian;
 
 import org.vadere.util.geometry.shapes.IPoint;
 import org.vadere.util.data.cellgrid.CellGrid;
+
+import java.awt.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 // TODO: not necessarily abstract!
@@ -9,11 +14,78 @@ public abstract class AGridEikonalSolver implements GridEikonalSolver {
 	protected CellGrid potentialField;
 	private final double unknownPenalty;
 	private final double weight;
+	private IncrementalEikonalUpdate incrementalUpdate;
+	private final Map<Object, CellInterpolationCache> interpolationCaches;
+	private final LongAdder interpolationCacheHits;
+	private final LongAdder interpolationCacheLookups;
 
 	public AGridEikonalSolver(final CellGrid potentialField, final double unknownPenalty, final double weight) {
 		this.potentialField = potentialField;
 		this.unknownPenalty = unknownPenalty;
 		this.weight = weight;
+		this.incrementalUpdate = null;
+		this.interpolationCaches = new ConcurrentHashMap<>();
+		this.interpolationCacheHits = new LongAdder();
+		this.interpolationCacheLookups = new LongAdder();
+	}
+
+	/**
+	 * Activates the incremental update of a dynamic floor field, see {@link IncrementalEikonalUpdate}.
+	 * Solvers which do not support it solve the eikonal equation from scratch in each update.
+	 *
+	 * @param threshold the relative change of the time cost of a point such that the point gets re-solved
+	 */
+	public void enableIncrementalUpdate(final double threshold) {
+		incrementalUpdate = new IncrementalEikonalUpdate(this, threshold);
+	}
+
+	public boolean isIncrementalUpdate() {
+		return incrementalUpdate != null;
+	}
+
+	/**
+	 * Returns the number of points whose value was recomputed by the last update, i.e. all points if the
+	 * floor field was solved from scratch.
+	 */
+	public int getNumberOfUpdatedPoints() {
+		return incrementalUpdate != null ? incrementalUpdate.getNumberOfUpdatedPoints() : potentialField.getNumPointsX() * potentialField.getNumPointsY();
+	}
+
+	/**
+	 * Re-solves the eikonal equation for the changed time costs if the incremental update is activated.
+	 *
+	 * @return true if the floor field was updated, false if it has to be solved from scratch
+	 */
+	protected boolean updateIncrementally() {
+		return incrementalUpdate != null && incrementalUpdate.update();
+	}
+
+	/**
+	 * Has to be called after the eikonal equation was solved from scratch to store the time costs
+	 * used by the incremental update.
+	 */
+	protected void storeTimeCosts() {
+		if (incrementalUpdate != null) {
+			incrementalUpdate.storeTimeCosts();
+		}
+	}
+
+	/**
+	 * Has to be called before the time cost function gets updated to store the time costs of the initial
+	 * solution if they are not stored yet.
+	 */
+	protected void storeInitialTimeCosts() {
+		if (incrementalUpdate != null && !incrementalUpdate.hasTimeCosts()) {
+			incrementalUpdate.storeTimeCosts();
+		}
+	}
+
+	/**
+	 * Returns the initial travelling time of a neighbour of a target point which is used by the
+	 * incremental update.
+	 */
+	protected double computeTargetNeighborPotential(final Point point) {
+		return Double.MAX_VALUE;
 	}
 
     public Function<IPoint, Double> getPotentialField() {
@@ -31,6 +103,52 @@ public abstract class AGridEikonalSolver implements GridEikonalSolver {
 		return getPotential(x, y, unknownPenalty, weight);
     }
 
+	/**
+	 * Returns the interpolated potential at (x, y). The potentials of the grid points of the cells
+	 * recently evaluated by the caller are cached, see {@link CellInterpolationCache}, such that
+	 * repeated evaluations of the same caller inside the same cells do not access the grid again.
+	 *
+	 * @param x         x-coordinate of the position
+	 * @param y         y-coordinate of the position
+	 * @param caller    the caller, e.g. an agent, which is evaluated by at most one thread at a time
+	 * @return the interpolated potential at (x, y)
+	 */
+	@Override
+	public double getPotential(final double x, final double y, final Object caller) {
+		if(caller == null) {
+			return getPotential(x, y);
+		}
+
+		CellInterpolationCache cache = interpolationCaches.computeIfAbsent(caller, c -> new CellInterpolationCache(interpolationCacheHits, interpolationCacheLookups));
+		return cache.getPotential(potentialField, x, y, unknownPenalty, weight);
+	}
+
+	/**
+	 * Removes the cached potentials of all callers, e.g. to release the caches of agents which left the simulation.
+	 */
+	public void clearInterpolationCaches() {
+		interpolationCaches.clear();
+	}
+
+	/**
+	 * Returns the fraction of evaluations of {@link #getPotential(double, double, Object)} whose
+	 * grid point potentials were cached, or 0 if there was no evaluation.
+	 *
+	 * @return the hit rate of the interpolation caches
+	 */
+	public double getInterpolationCacheHitRate() {
+		long lookups = interpolationCacheLookups.sum();
+		return lookups == 0 ? 0.0 : (double) interpolationCacheHits.sum() / lookups;
+	}
+
+	public long getInterpolationCacheHits() {
+		return interpolationCacheHits.sum();
+	}
+
+	public long getInterpolationCacheLookups() {
+		return interpolationCacheLookups.sum();
+	}
+
 	@Override
 	public double getPotential(IPoint pos, double unknownPenalty, double weight) {
 		return getPotential(potentialField, pos, unknownPenalty, weight);
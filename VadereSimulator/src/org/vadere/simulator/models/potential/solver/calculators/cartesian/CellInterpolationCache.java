@@ -0,0 +1,120 @@
+package org.vadere.simulator.models.potential.solver.calculators.cartesian;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.util.data.cellgrid.CellGrid;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A small direct mapped cache of the potentials of the four grid points which are used to
+ * interpolate the potential inside a cell of a {@link CellGrid}. A cell is identified by the grid
+ * point closest to the evaluated position, see {@link CellGrid#getNearestPoint(double, double)}.
+ * The cache stores the cells of a block of 4 x 4 grid points without collisions, therefore
+ * repeated evaluations close to each other, e.g. of the step candidates of an agent, only read
+ * the cached values and do not allocate any objects. The interpolation is the same as
+ * {@link GridEikonalSolver#getPotential(CellGrid, double, double, double, double)}, i.e. the
+ * results are equal. All cached values are dropped if the potentials of the grid change,
+ * see {@link CellGrid#getModCount()}.
+ *
+ * A cache must not be used by multiple threads at the same time.
+ */
+class CellInterpolationCache {
+
+	private static final int SIZE = 16;
+
+	private final int[] keys;
+	private final double[] corners;
+	private final LongAdder hits;
+	private final LongAdder lookups;
+	private CellGrid grid;
+	private int modCount;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param hits      the counter of evaluations whose corner values were cached
+	 * @param lookups   the counter of all evaluations
+	 */
+	CellInterpolationCache(@NotNull final LongAdder hits, @NotNull final LongAdder lookups) {
+		this.keys = new int[SIZE];
+		this.corners = new double[4 * SIZE];
+		this.hits = hits;
+		this.lookups = lookups;
+		Arrays.fill(keys, -1);
+	}
+
+	/**
+	 * Returns the bilinear interpolated potential at (x, y) where unknown potentials are replaced by
+	 * the penalty, see {@link GridEikonalSolver#getPotential(CellGrid, double, double, double, double)}.
+	 *
+	 * @param grid              the grid containing the potentials
+	 * @param x                 the x-coordinate of the position
+	 * @param y                 the y-coordinate of the position
+	 * @param unknownPenalty    the penalty for unknown potentials
+	 * @param weight            the weight of the potential
+	 * @return the interpolated potential at (x, y)
+	 */
+	double getPotential(@NotNull final CellGrid grid, final double x, final double y, final double unknownPenalty, final double weight) {
+		if(this.grid != grid || modCount != grid.getModCount()) {
+			this.grid = grid;
+			this.modCount = grid.getModCount();
+			Arrays.fill(keys, -1);
+		}
+
+		double resolution = grid.getResolution();
+		double cx = Math.min(Math.max(x, grid.getMinX()), grid.getWidth() + grid.getMinX());
+		double cy = Math.min(Math.max(y, grid.getMinY()), grid.getHeight() + grid.getMinY());
+		int pointX = (int) ((cx - grid.getMinX()) / resolution + 0.5);
+		int pointY = (int) ((cy - grid.getMinY()) / resolution + 0.5);
+		int key = pointX * grid.getNumPointsY() + pointY;
+		int slot = ((pointX & 3) << 2) | (pointY & 3);
+		int offset = 4 * slot;
+
+		lookups.increment();
+		if(keys[slot] == key) {
+			hits.increment();
+		} else {
+			int incX = pointX + 1 >= grid.getNumPointsX() ? 0 : 1;
+			int incY = pointY + 1 >= grid.getNumPointsY() ? 0 : 1;
+			corners[offset] = grid.getPotential(pointX, pointY);
+			corners[offset + 1] = grid.getPotential(pointX + incX, pointY);
+			corners[offset + 2] = grid.getPotential(pointX + incX, pointY + incY);
+			corners[offset + 3] = grid.getPotential(pointX, pointY + incY);
+			keys[slot] = key;
+		}
+
+		double dx = (x - (grid.getMinX() + pointX * resolution)) / resolution;
+		double dy = (y - (grid.getMinY() + pointY * resolution)) / resolution;
+
+		/* Interpolate the known (potential < Double.MAX_VALUE) values. */
+		double potential = 0;
+		double weightOfKnown = 0;
+		for(int i = 0; i < 4; i++) {
+			double z = corners[offset + i];
+			if(z != Double.MAX_VALUE) {
+				double w = cornerWeight(i, dx, dy);
+				potential += w * z;
+				weightOfKnown += w;
+			}
+		}
+
+		if (weightOfKnown > 0.00001) {
+			potential = potential / weightOfKnown + (1 - weightOfKnown) * unknownPenalty;
+		} else {
+			potential = Double.MAX_VALUE;
+		}
+
+		potential *= weight;
+		return potential < Double.MAX_VALUE ? potential : Double.MAX_VALUE;
+	}
+
+	private static double cornerWeight(final int corner, final double dx, final double dy) {
+		switch (corner) {
+			case 0: return (1 - dx) * (1 - dy);
+			case 1: return dx * (1 - dy);
+			case 2: return dx * dy;
+			default: return (1 - dx) * dy;
+		}
+	}
+}
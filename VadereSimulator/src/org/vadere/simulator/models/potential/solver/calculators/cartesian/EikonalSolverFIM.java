@@ -2,7 +2,6 @@ package org.vadere.simulator.models.potential.solver.calculators.cartesian;
 
 import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
 import org.vadere.util.data.cellgrid.CellGrid;
-import org.vadere.util.data.cellgrid.CellState;
 import org.vadere.util.data.cellgrid.PathFindingTag;
 import org.vadere.util.logging.Logger;
 import org.vadere.util.math.IDistanceFunction;
@@ -50,7 +49,7 @@ public class EikonalSolverFIM extends AGridEikonalSolver {
 		this.timeCostFunction = timeCostFunction;
 		this.isHighAccuracy = isHighAccuracy;
 		this.distFunc = distFunc;
-		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Target).collect(Collectors.toList());
+		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Target).collect(Collectors.toList());
 		this.activeList = new LinkedList<>();
 		this.epsilon = cellGrid.getResolution() / 1000;
 
@@ -62,13 +61,17 @@ public class EikonalSolverFIM extends AGridEikonalSolver {
 	}
 
 	protected void resetDynamicPotentialField() {
-		for (CellState data : cellGrid.getRawBuffer()) {
-			data.potential = Double.MAX_VALUE;
-
-			if (data.tag == PathFindingTag.Reached) {
-				data.tag = PathFindingTag.Undefined;
-			} else if (data.tag == PathFindingTag.Target) {
-				data.potential = 0.0;
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				PathFindingTag tag = cellGrid.getTag(x, y);
+
+				if (tag == PathFindingTag.Reached) {
+					cellGrid.setValue(x, y, Double.MAX_VALUE, PathFindingTag.Undefined);
+				} else if (tag == PathFindingTag.Target) {
+					cellGrid.setPotential(x, y, 0.0);
+				} else {
+					cellGrid.setPotential(x, y, Double.MAX_VALUE);
+				}
 			}
 		}
 	}
@@ -78,12 +81,12 @@ public class EikonalSolverFIM extends AGridEikonalSolver {
 		resetDynamicPotentialField();
 		targetPoints.stream()
 				.flatMap(p -> cellGrid.getLegitNeumannNeighborhood(p).stream())
-				.filter(neighbor -> cellGrid.getValue(neighbor).tag != PathFindingTag.Obstacle)
+				.filter(neighbor -> cellGrid.getTag(neighbor) != PathFindingTag.Obstacle)
 				.forEach(neighbor -> {
-					if (cellGrid.getValue(neighbor).tag != PathFindingTag.NARROW) {
+					if (cellGrid.getTag(neighbor) != PathFindingTag.NARROW) {
 						activeList.add(neighbor);
 					}
-					cellGrid.setValue(neighbor, new CellState(Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor))), PathFindingTag.NARROW));
+					cellGrid.setValue(neighbor, Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor))), PathFindingTag.NARROW);
 				});
 	}
 
@@ -101,36 +104,35 @@ public class EikonalSolverFIM extends AGridEikonalSolver {
 
 			while (activeListIterator.hasNext()) {
 				Point activePoint = activeListIterator.next();
-				double p = cellGrid.getValue(activePoint).potential;
+				double p = cellGrid.getPotential(activePoint);
 				double q = Math.min(computeGodunovDifference(activePoint, cellGrid, Direction.ANY), p);
-				cellGrid.getValue(activePoint).potential = q;
+				cellGrid.setPotential(activePoint, q);
 
 				// converged
 				nUpdates++;
 				if (Math.abs(p - q) <= epsilon) {
 					for (Point neighbour : cellGrid.getLegitNeumannNeighborhood(activePoint)) {
-						if (cellGrid.getValue(neighbour).tag != PathFindingTag.NARROW
-								&& cellGrid.getValue(neighbour).tag != PathFindingTag.Obstacle) {
+						if (cellGrid.getTag(neighbour) != PathFindingTag.NARROW
+								&& cellGrid.getTag(neighbour) != PathFindingTag.Obstacle) {
 
-							double pp = cellGrid.getValue(neighbour).potential;
+							double pp = cellGrid.getPotential(neighbour);
 							double qq = computeGodunovDifference(neighbour, cellGrid, Direction.ANY);
 
 							// converged
 							if (qq < (pp - epsilon)) {
-								cellGrid.setValue(neighbour, new CellState(qq, PathFindingTag.NARROW));
+								cellGrid.setValue(neighbour, qq, PathFindingTag.NARROW);
 								newActiveList.add(neighbour);
 							}
 						}
 					}
-					cellGrid.setValue(activePoint,
-							new CellState(cellGrid.getValue(activePoint).potential, PathFindingTag.Reached));
+					cellGrid.setTag(activePoint, PathFindingTag.Reached);
 					activeListIterator.remove();
 				}
 			}
 			activeList.addAll(newActiveList);
 		}
 
-		logger.debug("#update / #vertices: " + nUpdates + " / " + cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Reached).count());
+		logger.debug("#update / #vertices: " + nUpdates + " / " + cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Reached).count());
 		nUpdates = 0;
 	}
 
@@ -144,7 +146,7 @@ public class EikonalSolverFIM extends AGridEikonalSolver {
 		 * BufferedWriter bw = new BufferedWriter(new FileWriter(new File("./potential.csv")));
 		 * for(int row = 0; row < cellGrid.getNumPointsY(); row++) {
 		 * for(int col = 0; col < cellGrid.getNumPointsX(); col++) {
-		 * bw.write(cellGrid.getValue(col, row).potential+" ");
+		 * bw.write(cellGrid.getPotential(col, row)+" ");
 		 * }
 		 * bw.write("\n");
 		 * }
@@ -158,8 +160,17 @@ public class EikonalSolverFIM extends AGridEikonalSolver {
 
 	@Override
 	public void update() {
+		storeInitialTimeCosts();
 		timeCostFunction.update();
-		solve();
+		if (!updateIncrementally()) {
+			solve();
+			storeTimeCosts();
+		}
+	}
+
+	@Override
+	protected double computeTargetNeighborPotential(final Point point) {
+		return Math.max(0, -distFunc.apply(cellGrid.pointToCoord(point)));
 	}
 
 	@Override
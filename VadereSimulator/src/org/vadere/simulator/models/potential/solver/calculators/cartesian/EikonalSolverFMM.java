@@ -2,7 +2,6 @@ package org.vadere.simulator.models.potential.solver.calculators.cartesian;
 
 import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
 import org.vadere.util.data.cellgrid.CellGrid;
-import org.vadere.util.data.cellgrid.CellState;
 import org.vadere.util.data.cellgrid.PathFindingTag;
 import org.vadere.util.logging.Logger;
 import org.vadere.util.math.IDistanceFunction;
@@ -47,7 +46,7 @@ public class EikonalSolverFMM extends AGridEikonalSolver {
             final double weight) {
         super(potentialField, unknownPenalty, weight);
         this.cellGrid = potentialField;
-        this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Target).collect(Collectors.toList());
+        this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Target).collect(Collectors.toList());
         this.distFunc = distFunc;
         this.isHighAccuracy = isHighAccuracy;
         this.narrowBand = new PriorityQueue<>(50, new ComparatorPotentialFieldValue(potentialField));
@@ -76,7 +75,7 @@ public class EikonalSolverFMM extends AGridEikonalSolver {
 		long ms = System.currentTimeMillis();
 		while (!narrowBand.isEmpty()) {
 			Point tmpPoint = narrowBand.poll();
-			cellGrid.getValue(tmpPoint).tag = PathFindingTag.Reached;
+			cellGrid.setTag(tmpPoint, PathFindingTag.Reached);
 			setNeighborDistances(tmpPoint);
 		}
 		long runTime = System.currentTimeMillis() - ms;
@@ -91,9 +90,9 @@ public class EikonalSolverFMM extends AGridEikonalSolver {
 	private void furtherRun(final Point point) {
 		Point tmpPoint;
 		while (!narrowBand.isEmpty()
-				&& cellGrid.getValue(point).tag == PathFindingTag.Undefined) {
+				&& cellGrid.getTag(point) == PathFindingTag.Undefined) {
 			tmpPoint = narrowBand.poll();
-			cellGrid.getValue(tmpPoint).tag = PathFindingTag.Reached;
+			cellGrid.setTag(tmpPoint, PathFindingTag.Reached);
 			setNeighborDistances(tmpPoint);
 		}
 	}
@@ -103,22 +102,30 @@ public class EikonalSolverFMM extends AGridEikonalSolver {
 		// logger.info("other-runtime: " + (System.currentTimeMillis() - runtime));
 		long ms = System.currentTimeMillis();
 		if (needsUpdate()) {
+			storeInitialTimeCosts();
 			timeCostFunction.update();
-			resetDynamicPotentialField();
-			solve();
+			if (!updateIncrementally()) {
+				resetDynamicPotentialField();
+				solve();
+				storeTimeCosts();
+			}
 		}
 		// logger.info("ffm-runtime: " + (System.currentTimeMillis() - ms));
 		runtime = System.currentTimeMillis();
 	}
 
 	protected void resetDynamicPotentialField() {
-		for (CellState data : cellGrid.getRawBuffer()) {
-			data.potential = Double.MAX_VALUE;
-
-			if (data.tag == PathFindingTag.Reached) {
-				data.tag = PathFindingTag.Undefined;
-			} else if (data.tag == PathFindingTag.Target) {
-				data.potential = 0.0;
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				PathFindingTag tag = cellGrid.getTag(x, y);
+
+				if (tag == PathFindingTag.Reached) {
+					cellGrid.setValue(x, y, Double.MAX_VALUE, PathFindingTag.Undefined);
+				} else if (tag == PathFindingTag.Target) {
+					cellGrid.setPotential(x, y, 0.0);
+				} else {
+					cellGrid.setPotential(x, y, Double.MAX_VALUE);
+				}
 			}
 		}
 	}
@@ -144,18 +151,17 @@ public class EikonalSolverFMM extends AGridEikonalSolver {
 
 		for (Point neighbor : neighbors) {
 			if (cellGrid.isValidPoint(neighbor)) {
-				if (cellGrid.getValue(neighbor).tag == PathFindingTag.Undefined) {
+				if (cellGrid.getTag(neighbor) == PathFindingTag.Undefined) {
 					distance = computeGodunovDifference(neighbor, cellGrid);
 					updates++;
-					cellGrid.setValue(neighbor, new CellState(distance,
-							PathFindingTag.Reachable));
+					cellGrid.setValue(neighbor, distance, PathFindingTag.Reachable);
 					narrowBand.add(neighbor);
-				} else if (cellGrid.getValue(neighbor).tag == PathFindingTag.Reachable) {
+				} else if (cellGrid.getTag(neighbor) == PathFindingTag.Reachable) {
 					distance = computeGodunovDifference(neighbor, cellGrid);
 					updates++;
-					if (distance < cellGrid.getValue(neighbor).potential) {
+					if (distance < cellGrid.getPotential(neighbor)) {
 						narrowBand.remove(neighbor);
-						cellGrid.getValue(neighbor).potential = distance;
+						cellGrid.setPotential(neighbor, distance);
 						narrowBand.add(neighbor);
 					}
 				}
@@ -163,15 +169,21 @@ public class EikonalSolverFMM extends AGridEikonalSolver {
 		}
 	}
 
+	@Override
+	protected double computeTargetNeighborPotential(final Point point) {
+		double distance = Math.max(0, -distFunc.apply(cellGrid.pointToCoord(point)));
+		return distance / timeCostFunction.costAt(cellGrid.pointToCoord(point));
+	}
+
 	protected void setTargetNeighborsDistances(final Point point) {
 		List<Point> neighbors = cellGrid.getLegitNeumannNeighborhood(point);
 
 		for (Point neighbor : neighbors) {
-			if (cellGrid.getValue(neighbor).tag == PathFindingTag.Undefined) {
+			if (cellGrid.getTag(neighbor) == PathFindingTag.Undefined) {
 				double distance = Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor)));
 				double timeCost = timeCostFunction.costAt(cellGrid.pointToCoord(neighbor));
 				double potential = distance / timeCost;
-				cellGrid.setValue(neighbor, new CellState(potential, PathFindingTag.Reachable));
+				cellGrid.setValue(neighbor, potential, PathFindingTag.Reachable);
 				narrowBand.add(neighbor);
 			}
 		}
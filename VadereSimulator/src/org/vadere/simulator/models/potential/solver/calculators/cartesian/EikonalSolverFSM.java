@@ -2,7 +2,6 @@ package org.vadere.simulator.models.potential.solver.calculators.cartesian;
 
 import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
 import org.vadere.util.data.cellgrid.CellGrid;
-import org.vadere.util.data.cellgrid.CellState;
 import org.vadere.util.data.cellgrid.PathFindingTag;
 import org.vadere.util.logging.Logger;
 import org.vadere.util.math.IDistanceFunction;
@@ -45,7 +44,7 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 	    this.distFunc = distFunc;
 		this.timeCostFunction = timeCostFunction;
 		this.isHighAccuracy = isHighAccuracy;
-		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Target).collect(Collectors.toList());
+		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Target).collect(Collectors.toList());
 		this.cellGrid = cellGrid;
 
 		if (targetPoints.size() == 0) {
@@ -65,7 +64,7 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 		 * BufferedWriter bw = new BufferedWriter(new FileWriter(new File("./potential.csv")));
 		 * for(int row = 0; row < cellGrid.getNumPointsY(); row++) {
 		 * for(int col = 0; col < cellGrid.getNumPointsX(); col++) {
-		 * bw.write(cellGrid.getValue(col, row).potential+" ");
+		 * bw.write(cellGrid.getPotential(col, row)+" ");
 		 * }
 		 * bw.write("\n");
 		 * }
@@ -81,9 +80,9 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 		// set distances of the target neighbor points
 		targetPoints.stream()
 				.flatMap(p -> cellGrid.getLegitNeumannNeighborhood(p).stream())
-				.filter(neighbor -> cellGrid.getValue(neighbor).tag != PathFindingTag.Obstacle)
+				.filter(neighbor -> cellGrid.getTag(neighbor) != PathFindingTag.Obstacle)
 				.forEach(neighbor -> {
-					cellGrid.setValue(neighbor, new CellState(Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor))), PathFindingTag.NARROW));
+					cellGrid.setValue(neighbor, Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor))), PathFindingTag.NARROW);
 				});
 	}
 
@@ -97,16 +96,16 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 			itNumb--;
 			allFrozen = true;
 			iterations++;
-			logger.info("iteration number: " + iterations);
+			logger.debug("iteration number: " + iterations);
 
 			// first sweep
 			for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
 				for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
 					Point point = new Point(x, y);
 					if (isRelevant(point)) {
-						double p = cellGrid.getValue(point).potential;
+						double p = cellGrid.getPotential(point);
 						double q = Math.min(computeGodunovDifference(point, cellGrid, Direction.ANY), p);
-						cellGrid.getValue(point).potential = q;
+						cellGrid.setPotential(point, q);
 
 						if (Math.abs(q - p) > EPSILON) {
 							allFrozen = false;
@@ -120,9 +119,9 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 				for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
 					Point point = new Point(x, y);
 					if (isRelevant(point)) {
-						double p = cellGrid.getValue(point).potential;
+						double p = cellGrid.getPotential(point);
 						double q = Math.min(computeGodunovDifference(point, cellGrid, Direction.ANY), p);
-						cellGrid.getValue(point).potential = q;
+						cellGrid.setPotential(point, q);
 
 						if (Math.abs(q - p) > EPSILON) {
 							allFrozen = false;
@@ -136,9 +135,9 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 				for (int x = cellGrid.getNumPointsX() - 1; x >= 0; x--) {
 					Point point = new Point(x, y);
 					if (isRelevant(point)) {
-						double p = cellGrid.getValue(point).potential;
+						double p = cellGrid.getPotential(point);
 						double q = Math.min(computeGodunovDifference(point, cellGrid, Direction.ANY), p);
-						cellGrid.getValue(point).potential = q;
+						cellGrid.setPotential(point, q);
 
 						if (Math.abs(q - p) > EPSILON) {
 							allFrozen = false;
@@ -152,9 +151,9 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 				for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
 					Point point = new Point(x, y);
 					if (isRelevant(point)) {
-						double p = cellGrid.getValue(point).potential;
+						double p = cellGrid.getPotential(point);
 						double q = Math.min(computeGodunovDifference(point, cellGrid, Direction.ANY), p);
-						cellGrid.getValue(point).potential = q;
+						cellGrid.setPotential(point, q);
 
 						if (Math.abs(q - p) > EPSILON) {
 							allFrozen = false;
@@ -165,13 +164,52 @@ public class EikonalSolverFSM extends AGridEikonalSolver {
 		}
 	}
 
+	@Override
+	public void update() {
+		if (needsUpdate()) {
+			storeInitialTimeCosts();
+			timeCostFunction.update();
+			if (!updateIncrementally()) {
+				resetDynamicPotentialField();
+				solve();
+				storeTimeCosts();
+			}
+		}
+	}
+
+	@Override
+	public boolean needsUpdate() {
+		return timeCostFunction.needsUpdate();
+	}
+
+	private void resetDynamicPotentialField() {
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				PathFindingTag tag = cellGrid.getTag(x, y);
+
+				if (tag == PathFindingTag.Target) {
+					cellGrid.setPotential(x, y, 0.0);
+				} else if (!tag.accessible) {
+					cellGrid.setPotential(x, y, Double.MAX_VALUE);
+				} else {
+					cellGrid.setValue(x, y, Double.MAX_VALUE, PathFindingTag.Undefined);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected double computeTargetNeighborPotential(final Point point) {
+		return Math.max(0, -distFunc.apply(cellGrid.pointToCoord(point)));
+	}
+
 	private boolean converged(final double oldValue, final double newValue) {
 		double diff = Math.abs(oldValue-newValue);
 		return diff < oldValue * EPSILON;
 	}
 
 	private boolean isRelevant(final Point point) {
-		return cellGrid.getValue(point).tag != PathFindingTag.Target && cellGrid.getValue(point).tag != PathFindingTag.Obstacle;
+		return cellGrid.getTag(point) != PathFindingTag.Target && cellGrid.getTag(point) != PathFindingTag.Obstacle;
 	}
 
 	@Override
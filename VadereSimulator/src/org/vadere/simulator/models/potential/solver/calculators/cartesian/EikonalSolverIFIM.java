@@ -4,7 +4,6 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.vadere.meshing.mesh.inter.IVertexContainerDouble;
 import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
 import org.vadere.util.data.cellgrid.CellGrid;
-import org.vadere.util.data.cellgrid.CellState;
 import org.vadere.util.data.cellgrid.PathFindingTag;
 import org.vadere.util.logging.Logger;
 import org.vadere.util.math.IDistanceFunction;
@@ -48,7 +47,7 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 	    this.cellGrid = cellGrid;
 		this.timeCostFunction = timeCostFunction;
 		this.distFunc = distFunc;
-		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Target).collect(Collectors.toList());
+		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Target).collect(Collectors.toList());
 		this.activeList = new LinkedList<>();
 		//this.epsilon = cellGrid.getResolution() / 1000;
 		this.epsilon = 0;
@@ -62,13 +61,17 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 	}
 
 	protected void resetDynamicPotentialField() {
-		for (CellState data : cellGrid.getRawBuffer()) {
-			data.potential = Double.MAX_VALUE;
-
-			if (data.tag == PathFindingTag.Reached) {
-				data.tag = PathFindingTag.Undefined;
-			} else if (data.tag == PathFindingTag.Target) {
-				data.potential = 0.0;
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				PathFindingTag tag = cellGrid.getTag(x, y);
+
+				if (tag == PathFindingTag.Reached) {
+					cellGrid.setValue(x, y, Double.MAX_VALUE, PathFindingTag.Undefined);
+				} else if (tag == PathFindingTag.Target) {
+					cellGrid.setPotential(x, y, 0.0);
+				} else {
+					cellGrid.setPotential(x, y, Double.MAX_VALUE);
+				}
 			}
 		}
 	}
@@ -78,14 +81,14 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 		resetDynamicPotentialField();
 		targetPoints.stream()
 				.flatMap(p -> cellGrid.getLegitNeumannNeighborhood(p).stream())
-				.filter(neighbor -> cellGrid.getValue(neighbor).tag != PathFindingTag.Obstacle)
-				.filter(neighbor -> cellGrid.getValue(neighbor).tag != PathFindingTag.Target)
+				.filter(neighbor -> cellGrid.getTag(neighbor) != PathFindingTag.Obstacle)
+				.filter(neighbor -> cellGrid.getTag(neighbor) != PathFindingTag.Target)
 				.forEach(neighbor -> {
 					if(isReady(neighbor)) {
-						if (cellGrid.getValue(neighbor).tag != PathFindingTag.NARROW) {
+						if (cellGrid.getTag(neighbor) != PathFindingTag.NARROW) {
 							activeList.add(neighbor);
 						}
-						cellGrid.setValue(neighbor, new CellState(Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor))), PathFindingTag.NARROW));
+						cellGrid.setValue(neighbor, Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor))), PathFindingTag.NARROW);
 					}
 				});
 	}
@@ -104,7 +107,7 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 
 			while (activeListIterator.hasNext()) {
 				Point activePoint = activeListIterator.next();
-				double p = cellGrid.getValue(activePoint).potential;
+				double p = cellGrid.getPotential(activePoint);
 
 				Triple<Double, Point, Point> r = computeGodunovDifferenceAndDep(activePoint, cellGrid, Direction.ANY);
 				if(r.getLeft() < p) {
@@ -113,18 +116,18 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 				}
 
 				double q = Math.min(r.getLeft(), p);
-				cellGrid.getValue(activePoint).potential = q;
+				cellGrid.setPotential(activePoint, q);
 				nUpdates++;
 				// converged
 				if (Math.abs(p - q) <= epsilon) {
-					cellGrid.setValue(activePoint, new CellState(cellGrid.getValue(activePoint).potential, PathFindingTag.Reached));
+					cellGrid.setTag(activePoint, PathFindingTag.Reached);
 					for (Point neighbour : cellGrid.getLegitNeumannNeighborhood(activePoint)) {
-						if (cellGrid.getValue(neighbour).tag != PathFindingTag.NARROW
-								&& cellGrid.getValue(neighbour).tag != PathFindingTag.Target
-								&& cellGrid.getValue(neighbour).tag != PathFindingTag.Obstacle) {
+						if (cellGrid.getTag(neighbour) != PathFindingTag.NARROW
+								&& cellGrid.getTag(neighbour) != PathFindingTag.Target
+								&& cellGrid.getTag(neighbour) != PathFindingTag.Obstacle) {
 
 							if(isReady(neighbour)) {
-								double pp = cellGrid.getValue(neighbour).potential;
+								double pp = cellGrid.getPotential(neighbour);
 								Triple<Double, Point, Point> r2 = computeGodunovDifferenceAndDep(neighbour, cellGrid, Direction.ANY);
 								double qq = r2.getLeft();
 								//nUpdates++;
@@ -134,15 +137,15 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 								if (qq < pp) {
 									this.definingVertices[neighbour.x][neighbour.y][0] = r2.getMiddle();
 									this.definingVertices[neighbour.x][neighbour.y][1] = r2.getRight();
-									//cellGrid.setValue(neighbour, new CellState(qq, PathFindingTag.NARROW));
-									cellGrid.setValue(neighbour, new CellState(qq, PathFindingTag.NARROW));
+									//cellGrid.setValue(neighbour, qq, PathFindingTag.NARROW);
+									cellGrid.setValue(neighbour, qq, PathFindingTag.NARROW);
 									newActiveList.add(neighbour);
 								}
 							} /*else {
 								System.out.println("not rdy:" + neighbour + " / " + cellGrid.pointToCoord(neighbour) + ", " + testCycle(neighbour));
-								if(cellGrid.getValue(activePoint).tag != PathFindingTag.NARROW) {
+								if(cellGrid.getTag(activePoint) != PathFindingTag.NARROW) {
 									newActiveList.add(activePoint);
-									cellGrid.setValue(activePoint, new CellState(cellGrid.getValue(activePoint).potential, PathFindingTag.NARROW));
+									cellGrid.setTag(activePoint, PathFindingTag.NARROW);
 								}
 							}*/
 						}
@@ -151,10 +154,7 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 					activeListIterator.remove();
 				}
 			}
-			newActiveList.forEach(p -> {
-				CellState state = cellGrid.getValue(p);
-				cellGrid.setValue(p, new CellState(state.potential, PathFindingTag.NARROW));
-			});
+			newActiveList.forEach(p -> cellGrid.setTag(p, PathFindingTag.NARROW));
 
 			activeList.addAll(newActiveList);
 		}
@@ -175,7 +175,7 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 		//}
 
 
-		//System.out.println(i+"#update / #vertices: " + nUpdates + " / " + cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Reached).count());
+		//System.out.println(i+"#update / #vertices: " + nUpdates + " / " + cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Reached).count());
 		nUpdates = 0;
 		i++;
 	}
@@ -225,13 +225,13 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 
 	private boolean isValid(Point p) {
 		//return true;
-		return p == null || cellGrid.getValue(p).tag == PathFindingTag.Reached || cellGrid.getValue(p).tag == PathFindingTag.Target;
-		//return p == null || cellGrid.getValue(p).tag != PathFindingTag.Undefined;
+		return p == null || cellGrid.getTag(p) == PathFindingTag.Reached || cellGrid.getTag(p) == PathFindingTag.Target;
+		//return p == null || cellGrid.getTag(p) != PathFindingTag.Undefined;
 				/*
-				cellGrid.getValue(p).tag == PathFindingTag.NARROW ||
-				cellGrid.getValue(p).tag == PathFindingTag.Reached ||
-				cellGrid.getValue(p).tag == PathFindingTag.Target ||
-				cellGrid.getValue(p).tag == PathFindingTag.Obstacle;*/
+				cellGrid.getTag(p) == PathFindingTag.NARROW ||
+				cellGrid.getTag(p) == PathFindingTag.Reached ||
+				cellGrid.getTag(p) == PathFindingTag.Target ||
+				cellGrid.getTag(p) == PathFindingTag.Obstacle;*/
 	}
 
 	@Override
@@ -244,7 +244,7 @@ public class EikonalSolverIFIM extends AGridEikonalSolver {
 		 * BufferedWriter bw = new BufferedWriter(new FileWriter(new File("./potential.csv")));
 		 * for(int row = 0; row < cellGrid.getNumPointsY(); row++) {
 		 * for(int col = 0; col < cellGrid.getNumPointsX(); col++) {
-		 * bw.write(cellGrid.getValue(col, row).potential+" ");
+		 * bw.write(cellGrid.getPotential(col, row)+" ");
 		 * }
 		 * bw.write("\n");
 		 * }
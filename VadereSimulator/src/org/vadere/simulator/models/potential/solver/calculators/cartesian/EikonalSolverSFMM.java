@@ -3,7 +3,6 @@ package org.vadere.simulator.models.potential.solver.calculators.cartesian;
 import org.apache.commons.math3.util.Pair;
 import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
 import org.vadere.util.data.cellgrid.CellGrid;
-import org.vadere.util.data.cellgrid.CellState;
 import org.vadere.util.data.cellgrid.PathFindingTag;
 import org.vadere.util.logging.Logger;
 import org.vadere.util.math.IDistanceFunction;
@@ -49,7 +48,7 @@ public class EikonalSolverSFMM extends AGridEikonalSolver {
 							final double weight) {
 		super(potentialField, unknownPenalty, weight);
 		this.cellGrid = potentialField;
-		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getValue(p).tag == PathFindingTag.Target).collect(Collectors.toList());
+		this.targetPoints = cellGrid.pointStream().filter(p -> cellGrid.getTag(p) == PathFindingTag.Target).collect(Collectors.toList());
 		this.distFunc = distFunc;
 		this.isHighAccuracy = isHighAccuracy;
 
@@ -79,8 +78,8 @@ public class EikonalSolverSFMM extends AGridEikonalSolver {
 			Point tmpPoint = pair.getKey();
 			double value = pair.getValue();
 
-			if(value <= cellGrid.getValue(tmpPoint).potential) {
-				cellGrid.getValue(tmpPoint).tag = PathFindingTag.Reached;
+			if(value <= cellGrid.getPotential(tmpPoint)) {
+				cellGrid.setTag(tmpPoint, PathFindingTag.Reached);
 				setNeighborDistances(tmpPoint);
 			}
 		}
@@ -92,14 +91,14 @@ public class EikonalSolverSFMM extends AGridEikonalSolver {
 	 * @param point
 	 */
 	private void furtherRun(final Point point) {
-		while (!narrowBand.isEmpty() && cellGrid.getValue(point).tag == PathFindingTag.Undefined) {
+		while (!narrowBand.isEmpty() && cellGrid.getTag(point) == PathFindingTag.Undefined) {
 			Pair<Point, Double> pair = narrowBand.poll();
 			Point tmpPoint = pair.getKey();
 			double value = pair.getValue();
 
 			// this might be an old value
-			if(value <= cellGrid.getValue(tmpPoint).potential) {
-				cellGrid.getValue(tmpPoint).tag = PathFindingTag.Reached;
+			if(value <= cellGrid.getPotential(tmpPoint)) {
+				cellGrid.setTag(tmpPoint, PathFindingTag.Reached);
 				setNeighborDistances(tmpPoint);
 			}
 		}
@@ -119,13 +118,17 @@ public class EikonalSolverSFMM extends AGridEikonalSolver {
 	}
 
 	protected void resetDynamicPotentialField() {
-		for (CellState data : cellGrid.getRawBuffer()) {
-			data.potential = Double.MAX_VALUE;
-
-			if (data.tag == PathFindingTag.Reached) {
-				data.tag = PathFindingTag.Undefined;
-			} else if (data.tag == PathFindingTag.Target) {
-				data.potential = 0.0;
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				PathFindingTag tag = cellGrid.getTag(x, y);
+
+				if (tag == PathFindingTag.Reached) {
+					cellGrid.setValue(x, y, Double.MAX_VALUE, PathFindingTag.Undefined);
+				} else if (tag == PathFindingTag.Target) {
+					cellGrid.setPotential(x, y, 0.0);
+				} else {
+					cellGrid.setPotential(x, y, Double.MAX_VALUE);
+				}
 			}
 		}
 	}
@@ -152,18 +155,17 @@ public class EikonalSolverSFMM extends AGridEikonalSolver {
 		for (Point neighbor : neighbors) {
 
 			if (cellGrid.isValidPoint(neighbor)) {
-				if (cellGrid.getValue(neighbor).tag == PathFindingTag.Undefined) {
+				if (cellGrid.getTag(neighbor) == PathFindingTag.Undefined) {
 					distance = computeGodunovDifference(neighbor, cellGrid);
-					cellGrid.setValue(neighbor, new CellState(distance,
-							PathFindingTag.Reachable));
-					narrowBand.add(Pair.create(new Point(neighbor), cellGrid.getValue(neighbor).potential));
-				} else if (cellGrid.getValue(neighbor).tag == PathFindingTag.Reachable) {
+					cellGrid.setValue(neighbor, distance, PathFindingTag.Reachable);
+					narrowBand.add(Pair.create(new Point(neighbor), cellGrid.getPotential(neighbor)));
+				} else if (cellGrid.getTag(neighbor) == PathFindingTag.Reachable) {
 					distance = computeGodunovDifference(neighbor, cellGrid);
 
-					if (distance < cellGrid.getValue(neighbor).potential) {
+					if (distance < cellGrid.getPotential(neighbor)) {
 						narrowBand.remove(neighbor);
-						cellGrid.getValue(neighbor).potential = distance;
-						narrowBand.add(Pair.create(new Point(neighbor), cellGrid.getValue(neighbor).potential));
+						cellGrid.setPotential(neighbor, distance);
+						narrowBand.add(Pair.create(new Point(neighbor), cellGrid.getPotential(neighbor)));
 					}
 				}
 			}
@@ -174,12 +176,12 @@ public class EikonalSolverSFMM extends AGridEikonalSolver {
 		List<Point> neighbors = cellGrid.getLegitNeumannNeighborhood(point);
 
 		for (Point neighbor : neighbors) {
-			if (cellGrid.getValue(neighbor).tag == PathFindingTag.Undefined) {
+			if (cellGrid.getTag(neighbor) == PathFindingTag.Undefined) {
 				double distance = Math.max(0, -distFunc.apply(cellGrid.pointToCoord(neighbor)));
 				double timeCost = timeCostFunction.costAt(cellGrid.pointToCoord(neighbor));
 				double potential = distance / timeCost;
-				cellGrid.setValue(neighbor, new CellState(potential, PathFindingTag.Reachable));
-				narrowBand.add(Pair.create(new Point(neighbor.x, neighbor.y), cellGrid.getValue(neighbor.x, neighbor.y).potential));
+				cellGrid.setValue(neighbor, potential, PathFindingTag.Reachable);
+				narrowBand.add(Pair.create(new Point(neighbor.x, neighbor.y), cellGrid.getPotential(neighbor.x, neighbor.y)));
 			}
 		}
 	}
@@ -0,0 +1,384 @@
+package org.vadere.simulator.models.potential.solver.calculators.cartesian;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.data.cellgrid.PathFindingTag;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.logging.Logger;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Re-solves the eikonal equation of a grid based solver after its (dynamic) time cost function has changed
+ * by re-propagating only from the grid points whose time cost changed. The time costs of the last solution
+ * are stored and a grid point is changed if its time cost differs by more than <tt>threshold</tt> (relative).
+ *
+ * The update consists of two phases:
+ * <ol>
+ *     <li>Raise: the changed points and all points which depend on them, i.e. whose (upwind) finite
+ *     difference uses one of them, are invalidated.</li>
+ *     <li>Lower: starting from the valid points at the border of the invalidated region, the fast marching
+ *     update is applied in increasing order of the travelling time. Valid points outside of the region
+ *     are updated as well if their travelling time decreases (by more than a small tolerance).</li>
+ * </ol>
+ * The values of the re-solved points are those of the fast marching update of
+ * {@link GridEikonalSolver#computeGodunovDifference(Point, CellGrid)}. If more than half of the
+ * grid points are invalidated the update is aborted and the solver has to solve from scratch.
+ */
+class IncrementalEikonalUpdate {
+
+	private static Logger logger = Logger.getLogger(IncrementalEikonalUpdate.class);
+
+	private static final int[] DX = {-1, 1, 0, 0};
+	private static final int[] DY = {0, 0, -1, 1};
+
+	private final AGridEikonalSolver solver;
+	private final CellGrid cellGrid;
+	private final double threshold;
+	private final double epsilon;
+
+	/** the time costs of the last solution, <tt>null</tt> if there is none. */
+	private double[] timeCosts;
+	private int updatedPoints;
+
+	IncrementalEikonalUpdate(@NotNull final AGridEikonalSolver solver, final double threshold) {
+		this.solver = solver;
+		this.cellGrid = solver.getCellGrid();
+		this.threshold = threshold;
+		this.epsilon = cellGrid.getResolution() / 1000;
+		this.updatedPoints = 0;
+	}
+
+	/**
+	 * Returns the number of grid points whose value was recomputed by the last update.
+	 */
+	int getNumberOfUpdatedPoints() {
+		return updatedPoints;
+	}
+
+	boolean hasTimeCosts() {
+		return timeCosts != null;
+	}
+
+	/**
+	 * Stores the time costs which were used to solve the eikonal equation from scratch.
+	 */
+	void storeTimeCosts() {
+		int numPointsY = cellGrid.getNumPointsY();
+		timeCosts = new double[cellGrid.getNumPointsX() * numPointsY];
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < numPointsY; y++) {
+				timeCosts[x * numPointsY + y] = timeCostAt(x, y);
+			}
+		}
+		updatedPoints = timeCosts.length;
+	}
+
+	/**
+	 * Updates the solution for the current time costs.
+	 *
+	 * @return true if the solution was updated, false if the eikonal equation has to be solved from scratch
+	 */
+	boolean update() {
+		if (timeCosts == null) {
+			return false;
+		}
+
+		int numPointsX = cellGrid.getNumPointsX();
+		int numPointsY = cellGrid.getNumPointsY();
+		int numPoints = numPointsX * numPointsY;
+		boolean[] invalid = new boolean[numPoints];
+		int[] region = new int[numPoints];
+		int regionSize = 0;
+		int changed = 0;
+
+		// changed time costs
+		double[] newTimeCosts = new double[numPoints];
+		for (int x = 0; x < numPointsX; x++) {
+			for (int y = 0; y < numPointsY; y++) {
+				int i = x * numPointsY + y;
+				if (isFree(x, y)) {
+					newTimeCosts[i] = timeCostAt(x, y);
+					if (Math.abs(newTimeCosts[i] - timeCosts[i]) > threshold * Math.abs(timeCosts[i])) {
+						invalid[i] = true;
+						region[regionSize++] = i;
+						changed++;
+					}
+				}
+			}
+		}
+
+		if (changed == 0) {
+			updatedPoints = 0;
+			return true;
+		}
+
+		// raise: invalidate all points depending on invalid points
+		for (int k = 0; k < regionSize; k++) {
+			int x = region[k] / numPointsY;
+			int y = region[k] % numPointsY;
+			double potential = cellGrid.getPotential(x, y);
+			for (int d = 0; d < 4; d++) {
+				int nx = x + DX[d];
+				int ny = y + DY[d];
+				if (isFree(nx, ny) && !invalid[nx * numPointsY + ny] && isUpwind(nx, ny, d, potential)) {
+					invalid[nx * numPointsY + ny] = true;
+					region[regionSize++] = nx * numPointsY + ny;
+				}
+
+				// second order finite differences use the point behind the upwind neighbour
+				int nnx = nx + DX[d];
+				int nny = ny + DY[d];
+				if (solver.isHighAccuracy() && isFree(nx, ny) && isFree(nnx, nny) && !invalid[nnx * numPointsY + nny]
+						&& potential <= cellGrid.getPotential(nx, ny) && isUpwind(nnx, nny, d, cellGrid.getPotential(nx, ny))) {
+					invalid[nnx * numPointsY + nny] = true;
+					region[regionSize++] = nnx * numPointsY + nny;
+				}
+			}
+
+			if (regionSize > numPoints / 2) {
+				logger.debug("incremental update aborted, too many invalid points: " + regionSize);
+				return false;
+			}
+		}
+
+		for (int k = 0; k < changed; k++) {
+			timeCosts[region[k]] = newTimeCosts[region[k]];
+		}
+
+		for (int k = 0; k < regionSize; k++) {
+			cellGrid.setValue(region[k] / numPointsY, region[k] % numPointsY, Double.MAX_VALUE, PathFindingTag.Undefined);
+		}
+
+		// lower: fast marching starting at the valid border of the invalidated region
+		Heap heap = new Heap();
+		boolean[] seeded = new boolean[numPoints];
+		for (int k = 0; k < regionSize; k++) {
+			int x = region[k] / numPointsY;
+			int y = region[k] % numPointsY;
+			for (int d = 0; d < 4; d++) {
+				int nx = x + DX[d];
+				int ny = y + DY[d];
+				if (cellGrid.isValidPoint(nx, ny) && !invalid[nx * numPointsY + ny] && !seeded[nx * numPointsY + ny]
+						&& cellGrid.getPotential(nx, ny) < Double.MAX_VALUE) {
+					seeded[nx * numPointsY + ny] = true;
+					heap.add(cellGrid.getPotential(nx, ny), nx * numPointsY + ny);
+				}
+			}
+		}
+
+		boolean[] done = new boolean[numPoints];
+		boolean[] updated = new boolean[numPoints];
+
+		// the values of invalid or updated points are not known until they are polled
+		boolean[] pending = invalid.clone();
+		updatedPoints = regionSize;
+		while (!heap.isEmpty()) {
+			double value = heap.minKey();
+			int i = heap.poll();
+			int x = i / numPointsY;
+			int y = i % numPointsY;
+			if (done[i] || value != cellGrid.getPotential(x, y)) {
+				continue;
+			}
+			done[i] = true;
+			pending[i] = false;
+			if (invalid[i] || updated[i]) {
+				cellGrid.setTag(x, y, PathFindingTag.Reached);
+			}
+
+			for (int d = 0; d < 4; d++) {
+				int nx = x + DX[d];
+				int ny = y + DY[d];
+				int n = nx * numPointsY + ny;
+				if (!isFree(nx, ny) || done[n]) {
+					continue;
+				}
+
+				double oldValue = cellGrid.getPotential(nx, ny);
+				double newValue = computePotential(nx, ny, pending);
+				if (invalid[n] ? newValue < oldValue : newValue < oldValue - epsilon) {
+					if (!invalid[n] && !updated[n]) {
+						updatedPoints++;
+					}
+					updated[n] = true;
+					pending[n] = true;
+					cellGrid.setValue(nx, ny, newValue, PathFindingTag.Reachable);
+					heap.add(newValue, n);
+				}
+			}
+		}
+
+		logger.debug("incremental update: #changed time costs = " + changed + ", #updated points = " + updatedPoints + " / " + numPoints);
+		return true;
+	}
+
+	/**
+	 * Tests if the point (x, y) is a free (accessible) point which is not part of the target.
+	 */
+	private boolean isFree(final int x, final int y) {
+		if (!cellGrid.isValidPoint(x, y)) {
+			return false;
+		}
+		PathFindingTag tag = cellGrid.getTag(x, y);
+		return tag.accessible && tag != PathFindingTag.Target;
+	}
+
+	/**
+	 * Tests if the neighbour of (x, y) in the opposite direction of <tt>d</tt> with the given potential is the
+	 * upwind neighbour of (x, y) along this axis, i.e. if the finite difference of (x, y) uses its value.
+	 */
+	private boolean isUpwind(final int x, final int y, final int d, final double neighbourPotential) {
+		double potential = cellGrid.getPotential(x, y);
+		if (neighbourPotential >= potential) {
+			return false;
+		}
+		int ox = x + DX[d];
+		int oy = y + DY[d];
+		return !cellGrid.isValidPoint(ox, oy) || neighbourPotential <= cellGrid.getPotential(ox, oy);
+	}
+
+	/**
+	 * Computes the travelling time of the point (x, y) by the Godunov upwind difference using all neighbours
+	 * whose travelling time is known, i.e. which are not pending.
+	 */
+	private double computePotential(final int x, final int y, final boolean[] pending) {
+		int numPointsY = cellGrid.getNumPointsY();
+		double cost = timeCostAt(x, y);
+		double distance = cellGrid.getResolution() * cost;
+
+		double coeff2 = 0;
+		double coeff1 = 0;
+		double coeff0 = -distance * distance;
+		double minValue = Double.MAX_VALUE;
+		double maxValue = -Double.MAX_VALUE;
+
+		for (int axis = 0; axis < 2; axis++) {
+			double val1 = Double.MAX_VALUE;
+			double val2 = Double.MAX_VALUE;
+			for (int side = 0; side < 2; side++) {
+				int d = 2 * axis + side;
+				int px = x + DX[d];
+				int py = y + DY[d];
+				if (cellGrid.isValidPoint(px, py) && !pending[px * numPointsY + py]) {
+					double val1n = cellGrid.getPotential(px, py);
+					if (val1n < val1) {
+						val1 = val1n;
+						val2 = Double.MAX_VALUE;
+						int ppx = px + DX[d];
+						int ppy = py + DY[d];
+						if (cellGrid.isValidPoint(ppx, ppy) && !pending[ppx * numPointsY + ppy] && cellGrid.getPotential(ppx, ppy) <= val1n) {
+							val2 = cellGrid.getPotential(ppx, ppy);
+						}
+					}
+				}
+			}
+
+			if (val2 != Double.MAX_VALUE && solver.isHighAccuracy()) {
+				double tp = (1.0 / 3.0) * (4.0 * val1 - val2);
+				double a = 9.0 / 4.0;
+				coeff2 += a;
+				coeff1 -= 2.0 * a * tp;
+				coeff0 += a * tp * tp;
+			} else if (val1 != Double.MAX_VALUE) {
+				coeff2 += 1.0;
+				coeff1 -= 2.0 * val1;
+				coeff0 += val1 * val1;
+			}
+
+			if (val1 != Double.MAX_VALUE) {
+				minValue = Math.min(minValue, val1);
+				maxValue = Math.max(maxValue, val1);
+			}
+		}
+
+		double result = Double.MAX_VALUE;
+		if (minValue != Double.MAX_VALUE) {
+			double discr = coeff1 * coeff1 - 4 * coeff2 * coeff0;
+			if (maxValue - minValue >= distance || discr < 0) {
+				// one sided difference, the other neighbour is too far upwind
+				result = minValue + distance;
+			} else {
+				result = (-coeff1 + Math.sqrt(discr)) / (2.0 * coeff2);
+			}
+		}
+
+		if (isTargetNeighbour(x, y)) {
+			result = Math.min(result, solver.computeTargetNeighborPotential(new Point(x, y)));
+		}
+		return result;
+	}
+
+	private boolean isTargetNeighbour(final int x, final int y) {
+		for (int d = 0; d < 4; d++) {
+			if (cellGrid.isValidPoint(x + DX[d], y + DY[d]) && cellGrid.getTag(x + DX[d], y + DY[d]) == PathFindingTag.Target) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private double timeCostAt(final int x, final int y) {
+		ITimeCostFunction timeCostFunction = solver.getTimeCostFunction();
+		VPoint position = cellGrid.pointToCoord(x, y);
+		return timeCostFunction.costAt(position);
+	}
+
+	/**
+	 * Binary min heap of grid point indices with their travelling time as key. Outdated entries are
+	 * not removed but skipped by the caller.
+	 */
+	private static class Heap {
+		private double[] keys = new double[64];
+		private int[] indices = new int[64];
+		private int size = 0;
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		double minKey() {
+			return keys[0];
+		}
+
+		void add(final double key, final int index) {
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, 2 * size);
+				indices = Arrays.copyOf(indices, 2 * size);
+			}
+			int i = size++;
+			while (i > 0 && keys[(i - 1) / 2] > key) {
+				keys[i] = keys[(i - 1) / 2];
+				indices[i] = indices[(i - 1) / 2];
+				i = (i - 1) / 2;
+			}
+			keys[i] = key;
+			indices[i] = index;
+		}
+
+		int poll() {
+			int result = indices[0];
+			size--;
+			double key = keys[size];
+			int index = indices[size];
+			int i = 0;
+			while (2 * i + 1 < size) {
+				int child = 2 * i + 1;
+				if (child + 1 < size && keys[child + 1] < keys[child]) {
+					child++;
+				}
+				if (keys[child] >= key) {
+					break;
+				}
+				keys[i] = keys[child];
+				indices[i] = indices[child];
+				i = child;
+			}
+			keys[i] = key;
+			indices[i] = index;
+			return result;
+		}
+	}
+}
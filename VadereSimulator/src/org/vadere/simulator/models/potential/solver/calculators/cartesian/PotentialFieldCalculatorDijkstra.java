@@ -1,7 +1,6 @@
 package org.vadere.simulator.models.potential.solver.calculators.cartesian;
 
 import org.vadere.util.data.cellgrid.CellGrid;
-import org.vadere.util.data.cellgrid.CellState;
 import org.vadere.util.data.cellgrid.PathFindingTag;
 import org.vadere.util.math.MathUtil;
 
@@ -42,33 +41,32 @@ public class PotentialFieldCalculatorDijkstra extends AGridEikonalSolver {
 		while (!priorityQueue.isEmpty()) {
 			currentPoint = priorityQueue.remove();
 
-			if (potentialField.getValue(currentPoint).tag != PathFindingTag.Target) {
-				potentialField.getValue(currentPoint).tag = PathFindingTag.Reachable;
+			if (potentialField.getTag(currentPoint) != PathFindingTag.Target) {
+				potentialField.setTag(currentPoint, PathFindingTag.Reachable);
 			}
 
 			neighbors = MathUtil.getMooreNeighborhood(currentPoint);
 
 			for (Point neighbor : neighbors) {
-				PathFindingTag neighborTag = potentialField.getValue(neighbor).tag;
+				PathFindingTag neighborTag = potentialField.getTag(neighbor);
 
 				if (neighborTag == PathFindingTag.Reachable) {
-					value = potentialField.getValue(currentPoint).potential
+					value = potentialField.getPotential(currentPoint)
 							+ potentialField.pointDistance(currentPoint,
 									neighbor);
 
-					if (value < potentialField.getValue(neighbor).potential) {
+					if (value < potentialField.getPotential(neighbor)) {
 						priorityQueue.remove(neighbor);
-						potentialField.getValue(neighbor).potential = value;
+						potentialField.setPotential(neighbor, value);
 						priorityQueue.add(neighbor);
 					}
 				} else if (neighborTag == PathFindingTag.Undefined) {
-					value = potentialField.getValue(currentPoint).potential
+					value = potentialField.getPotential(currentPoint)
 							+ potentialField.pointDistance(currentPoint,
 									neighbor);
 					priorityQueue.add(neighbor);
 
-					potentialField.setValue(neighbor, new CellState(value,
-							PathFindingTag.Reachable));
+					potentialField.setValue(neighbor, value, PathFindingTag.Reachable);
 				}
 			}
 		}
@@ -107,9 +107,12 @@ public class Queue implements DynamicElementRemoveListener<Pedestrian>, DynamicE
 			/**
 			 * Reposition the tail target.
 			 */
-			topography.getTargets().removeIf(target -> target.getId() == this.queueTailId);
-			polytopes.forEach(polytope -> topography.getTargets()
-					.add(new TargetQueue(new AttributesTarget(polytope, queueTailId, false))));
+			topography.getTargets().stream()
+					.filter(target -> target.getId() == this.queueTailId)
+					.collect(Collectors.toList())
+					.forEach(topography::removeTarget);
+			polytopes.forEach(polytope -> topography
+					.addTarget(new TargetQueue(new AttributesTarget(polytope, queueTailId, false))));
 		}
 	}
 
@@ -75,12 +75,12 @@ public class QueueDetector extends EikonalSolverFMM {
             int y = p.y;
 
             VPoint point = cellGrid.pointToCoord(x, y);
-            if (cellGrid.getValue(x, y).tag != PathFindingTag.Target
+            if (cellGrid.getTag(x, y) != PathFindingTag.Target
                     && filter.getFilteredValue(point.x, point.y) <= QUEUE_DENSITY) {
-                cellGrid.getValue(x, y).tag = PathFindingTag.Obstacle;
-            } else if (cellGrid.getValue(x, y).tag != PathFindingTag.Target) {
+                cellGrid.setTag(x, y, PathFindingTag.Obstacle);
+            } else if (cellGrid.getTag(x, y) != PathFindingTag.Target) {
                 // System.out.println("found:" + point);
-                cellGrid.getValue(x, y).tag = PathFindingTag.Undefined;
+                cellGrid.setTag(x, y, PathFindingTag.Undefined);
             }
         });
         orderedPoints.clear();
@@ -118,8 +118,8 @@ public class QueueDetector extends EikonalSolverFMM {
 	 * public List<VPoint> getTargetPoints() {
 	 * return this.orderedPoints.stream().sorted((p1, p2) ->
 	 * {
-	 * double computeGodunovDifference = cellGrid.getValue(p2.x, p2.y).potential -
-	 * cellGrid.getValue(p1.x, p1.y).potential;
+	 * double computeGodunovDifference = cellGrid.getPotential(p2.x, p2.y) -
+	 * cellGrid.getPotential(p1.x, p1.y);
 	 * if (computeGodunovDifference < 0) {
 	 * return -1;
 	 * } else if (computeGodunovDifference > 0) {
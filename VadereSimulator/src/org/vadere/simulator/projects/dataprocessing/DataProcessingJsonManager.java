@@ -48,6 +48,8 @@ public class DataProcessingJsonManager {
 	private static final String ATTRIBUTESTYPE_KEY = "attributesType";
 	private static final String TIMESTAMP_KEY = "isTimestamped";
 	private static final String WRITEMETA_KEY = "isWriteMetaData";
+	private static final String WRITEINCREMENTALLY_KEY = "isWriteIncrementally";
+	private static final String UPDATEINPARALLEL_KEY = "isUpdateInParallel";
 	public static ObjectWriter writer;
 	private static ObjectMapper mapper;
 
@@ -62,12 +64,16 @@ public class DataProcessingJsonManager {
 	private List<DataProcessor<?, ?>> dataProcessors;
 	private boolean isTimestamped;
 	private boolean isWriteMetaData;
+	private boolean isWriteIncrementally;
+	private boolean isUpdateInParallel;
 
 	public DataProcessingJsonManager() {
 		this.outputFiles = new ArrayList<>();
 		this.dataProcessors = new ArrayList<>();
 		this.isTimestamped = true;
 		this.isWriteMetaData = false;
+		this.isWriteIncrementally = false;
+		this.isUpdateInParallel = false;
 		this.outputFileFactory = OutputFileFactory.instance();
 		this.processorFactory = DataProcessorFactory.instance();
 	}
@@ -153,6 +159,16 @@ public class DataProcessingJsonManager {
 			manager.setWriteMetaData(writeMetaData.asBoolean());
 		}
 
+		JsonNode writeIncrementally = node.get(WRITEINCREMENTALLY_KEY);
+		if (writeIncrementally != null) {
+			manager.setWriteIncrementally(writeIncrementally.asBoolean());
+		}
+
+		JsonNode updateInParallel = node.get(UPDATEINPARALLEL_KEY);
+		if (updateInParallel != null) {
+			manager.setUpdateInParallel(updateInParallel.asBoolean());
+		}
+
 		return manager;
 	}
 
@@ -253,6 +269,22 @@ public class DataProcessingJsonManager {
 		this.isWriteMetaData = isWriteMetaData;
 	}
 
+	public boolean isWriteIncrementally() {
+		return this.isWriteIncrementally;
+	}
+
+	public void setWriteIncrementally(boolean isWriteIncrementally) {
+		this.isWriteIncrementally = isWriteIncrementally;
+	}
+
+	public boolean isUpdateInParallel() {
+		return this.isUpdateInParallel;
+	}
+
+	public void setUpdateInParallel(boolean isUpdateInParallel) {
+		this.isUpdateInParallel = isUpdateInParallel;
+	}
+
 	public String serialize() throws JsonProcessingException {
 		return writer.writeValueAsString(serializeToNode());
 	}
@@ -277,6 +309,13 @@ public class DataProcessingJsonManager {
 		// part 3: timestamp + write meta data option
 		main.put(TIMESTAMP_KEY, this.isTimestamped);
 		main.put(WRITEMETA_KEY, this.isWriteMetaData);
+		// only written if set to keep existing scenario files unchanged
+		if (this.isWriteIncrementally) {
+			main.put(WRITEINCREMENTALLY_KEY, true);
+		}
+		if (this.isUpdateInParallel) {
+			main.put(UPDATEINPARALLEL_KEY, true);
+		}
 
 		return main;
 	}
@@ -288,7 +327,10 @@ public class DataProcessingJsonManager {
 			f.setWriteMetaData(isWriteMetaData()); // allow to write meta data
 		}
 
-		return new ProcessorManager(dataProcessors, outputFiles, mainModel, topography);
+		ProcessorManager processorManager = new ProcessorManager(dataProcessors, outputFiles, mainModel, topography);
+		processorManager.setWriteIncrementally(isWriteIncrementally());
+		processorManager.setUpdateInParallel(isUpdateInParallel());
+		return processorManager;
 
 	}
 
@@ -5,14 +5,33 @@ import org.vadere.simulator.models.MainModel;
 import org.vadere.simulator.projects.SimulationResult;
 import org.vadere.simulator.projects.dataprocessing.outputfile.OutputFile;
 import org.vadere.simulator.projects.dataprocessing.processor.DataProcessor;
+import org.vadere.simulator.projects.dataprocessing.processor.util.FootStepListener;
+import org.vadere.simulator.projects.dataprocessing.processor.util.ModelEvaluator;
 import org.vadere.state.scenario.MeasurementArea;
+import org.vadere.state.scenario.Pedestrian;
 import org.vadere.state.scenario.Topography;
+import org.vadere.state.simulation.FootStep;
+import org.vadere.util.logging.Logger;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Mario Teixeira Parente
@@ -20,6 +39,8 @@ import java.util.Map;
 
 public class ProcessorManager {
 
+	private static Logger logger = Logger.getLogger(ProcessorManager.class);
+
 	private MainModel mainModel;
 	private final Topography topography;
 
@@ -27,6 +48,31 @@ public class ProcessorManager {
 	private List<OutputFile<?>> outputFiles;
 	private SimulationResult simulationResult;
 
+	private boolean isWriteIncrementally;
+	private List<OutputFile<?>> incrementalOutputFiles;
+	/** ids of processors requested by other processors, their data might be required at any time */
+	private Set<Integer> referencedProcessorIds;
+	/** ids of processors whose data must not be released after it is written */
+	private Set<Integer> retainedProcessorIds;
+
+	private boolean isUpdateInParallel;
+	/** ids of the processors each processor requested during its initialization, i.e. the processors it depends on */
+	private Map<Integer, Set<Integer>> processorDependencies;
+	/** the processor whose init method is running, processors requested by it are its dependencies */
+	private DataProcessor<?, ?> initializingProcessor;
+	/** false if a processor was requested outside of an init method, i.e. the dependencies might be incomplete */
+	private boolean isDependencyGraphComplete;
+	/** the processors ordered such that each processor follows its dependencies, null if the dependencies contain a cycle */
+	private List<DataProcessor<?, ?>> updateOrder;
+	private ExecutorService updateExecutor;
+
+	/** the processors which are notified about each completed foot step */
+	private List<FootStepListener> footStepListeners;
+	/** the start time of the last published foot step of each pedestrian (by id) */
+	private Map<Integer, Double> lastPublishedStartTimes;
+	private Map<Integer, Double> nextPublishedStartTimes;
+	private List<FootStep> unpublishedFootSteps;
+
 	public ProcessorManager(List<DataProcessor<?, ?>> dataProcessors,
 							List<OutputFile<?>> outputFiles, MainModel mainModel,
 							final Topography topography) {
@@ -34,26 +80,110 @@ public class ProcessorManager {
 		this.topography = topography;
 
 		this.outputFiles = outputFiles;
+		this.isWriteIncrementally = false;
+		this.incrementalOutputFiles = new ArrayList<>();
+		this.referencedProcessorIds = new HashSet<>();
+		this.retainedProcessorIds = new HashSet<>();
+		this.isUpdateInParallel = false;
+		this.processorDependencies = new HashMap<>();
+		this.lastPublishedStartTimes = new HashMap<>();
+		this.nextPublishedStartTimes = new HashMap<>();
+		this.unpublishedFootSteps = new ArrayList<>();
 
 		this.processorMap = new LinkedHashMap<>();
 		for (DataProcessor<?, ?> proc : dataProcessors)
 			this.processorMap.put(proc.getId(), proc);
 
-		dataProcessors.forEach(proc -> proc.init(this));
+		for (DataProcessor<?, ?> proc : dataProcessors) {
+			initializingProcessor = proc;
+			proc.init(this);
+		}
+		initializingProcessor = null;
+		isDependencyGraphComplete = true;
+
+		this.footStepListeners = dataProcessors.stream()
+				.filter(proc -> proc instanceof FootStepListener)
+				.map(proc -> (FootStepListener) proc)
+				.collect(Collectors.toList());
 	}
 
 	public void setMainModel(MainModel mainModel) {
 		this.mainModel = mainModel;
 	}
 
+	/**
+	 * If set, output files whose rows are ordered by time step are written while the simulation
+	 * is running: after each step all rows of previous steps are written by a background thread
+	 * and released from memory. The resulting files are identical to the ones written by
+	 * {@link #writeOutput()} after the simulation. Files which do not support this
+	 * (see {@link OutputFile#isIncrementallyWritable()}) are still written after the simulation.
+	 */
+	public void setWriteIncrementally(boolean isWriteIncrementally) {
+		this.isWriteIncrementally = isWriteIncrementally;
+	}
+
+	public boolean isWriteIncrementally() {
+		return isWriteIncrementally;
+	}
+
+	/**
+	 * If set, independent processors are updated in parallel on a pool of worker threads after
+	 * each step. The dependencies of a processor are the processors it requests via
+	 * {@link #getProcessor(int)} in {@link DataProcessor#init(ProcessorManager)}, a processor is
+	 * updated after all its dependencies are updated. Therefore, processors must not share any
+	 * other mutable state and must update their dependencies only via
+	 * {@link DataProcessor#update(SimulationState)}, which does nothing if the dependency is
+	 * already updated. Evaluating the models, e.g. their potential fields, is not thread-safe:
+	 * processors which do so have to implement {@link ModelEvaluator}, these are updated one after
+	 * another. If the dependencies are unknown, i.e. a processor is requested outside of an init
+	 * method, or cyclic, all processors are updated sequentially.
+	 */
+	public void setUpdateInParallel(boolean isUpdateInParallel) {
+		this.isUpdateInParallel = isUpdateInParallel;
+	}
+
+	public boolean isUpdateInParallel() {
+		return isUpdateInParallel;
+	}
+
 	public void initOutputFiles() {
 		outputFiles.forEach(file -> file.init(processorMap));
+
+		incrementalOutputFiles.clear();
+		retainedProcessorIds.clear();
+		if (isWriteIncrementally) {
+			incrementalOutputFiles = outputFiles.stream()
+					.filter(file -> !file.isEmpty() && file.isIncrementallyWritable())
+					.collect(Collectors.toList());
+
+			// processors used by other processors or by files which are written after the simulation keep their data.
+			retainedProcessorIds.addAll(referencedProcessorIds);
+			outputFiles.stream()
+					.filter(file -> !incrementalOutputFiles.contains(file))
+					.forEach(file -> retainedProcessorIds.addAll(file.getProcessorIds()));
+
+			incrementalOutputFiles.forEach(file -> file.open());
+		}
 	}
 
 	public DataProcessor<?, ?> getProcessor(int id) {
+		referencedProcessorIds.add(id);
+		if (initializingProcessor == null) {
+			isDependencyGraphComplete = false;
+		} else if (processorMap.containsKey(id) && id != initializingProcessor.getId()) {
+			processorDependencies.computeIfAbsent(initializingProcessor.getId(), key -> new HashSet<>()).add(id);
+		}
 		return this.processorMap.getOrDefault(id, null);
 	}
 
+	/**
+	 * Returns the ids of the processors the processor with the given id depends on, i.e. the
+	 * processors it requested during its initialization.
+	 */
+	public Set<Integer> getDependencies(int id) {
+		return Collections.unmodifiableSet(processorDependencies.getOrDefault(id, Collections.emptySet()));
+	}
+
 	public MeasurementArea getMeasurementArea(int measurementAreaId, boolean requireRectangular){
 
 		MeasurementArea measurementArea = topography.getMeasurementArea(measurementAreaId);
@@ -75,10 +205,135 @@ public class ProcessorManager {
 
 	public void preLoop(final SimulationState state) {
 		this.processorMap.values().forEach(proc -> proc.preLoop(state));
+		lastPublishedStartTimes.clear();
+
+		if (isUpdateInParallel && processorMap.size() > 1) {
+			updateOrder = isDependencyGraphComplete ? computeUpdateOrder() : null;
+			if (updateOrder == null) {
+				logger.warn("the dependencies of the processors are unknown or cyclic, processors are updated sequentially.");
+			} else if (updateExecutor == null) {
+				int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), processorMap.size());
+				AtomicInteger threadCounter = new AtomicInteger(0);
+				updateExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+					Thread thread = new Thread(runnable, "ProcessorManager-" + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+		}
+	}
+
+	/**
+	 * Returns the processors ordered such that each processor follows its dependencies or null
+	 * if the dependencies contain a cycle.
+	 */
+	private List<DataProcessor<?, ?>> computeUpdateOrder() {
+		Set<Integer> ordered = new LinkedHashSet<>();
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (DataProcessor<?, ?> proc : processorMap.values()) {
+				if (!ordered.contains(proc.getId()) && ordered.containsAll(getDependencies(proc.getId()))) {
+					ordered.add(proc.getId());
+					changed = true;
+				}
+			}
+		}
+
+		if (ordered.size() < processorMap.size()) {
+			return null;
+		}
+		return ordered.stream().map(processorMap::get).collect(Collectors.toList());
 	}
 
 	public void update(final SimulationState state) {
-		this.processorMap.values().forEach(proc -> proc.update(state));
+		publishFootSteps(state);
+
+		if (updateExecutor != null && updateOrder != null) {
+			updateInParallel(state);
+		} else {
+			this.processorMap.values().forEach(proc -> proc.update(state));
+		}
+
+		if (!incrementalOutputFiles.isEmpty()) {
+			// all steps before the current one are finished.
+			incrementalOutputFiles.forEach(file -> file.writeUntil(state.getStep()));
+			// release after all files are written since one processor might be part of multiple files.
+			incrementalOutputFiles.forEach(file -> file.releaseWrittenData(retainedProcessorIds));
+		}
+	}
+
+	/**
+	 * Notifies the {@link FootStepListener}s about the foot steps of all pedestrians which were not
+	 * published before. Most models clear the trajectory of a pedestrian at the beginning of each
+	 * step, others keep it. Therefore, the trajectory is traversed backwards until the last published
+	 * foot step (which is identified by its start time) is reached.
+	 */
+	private void publishFootSteps(final SimulationState state) {
+		if (footStepListeners.isEmpty()) {
+			return;
+		}
+
+		nextPublishedStartTimes.clear();
+		for (Pedestrian pedestrian : state.getTopography().getElements(Pedestrian.class)) {
+			Double lastPublishedStartTime = lastPublishedStartTimes.get(pedestrian.getId());
+			Iterator<FootStep> iterator = pedestrian.getTrajectory().descendingIterator();
+			unpublishedFootSteps.clear();
+			while (iterator.hasNext()) {
+				FootStep footStep = iterator.next();
+				if (lastPublishedStartTime != null && footStep.getStartTime() <= lastPublishedStartTime) {
+					break;
+				}
+				unpublishedFootSteps.add(footStep);
+			}
+
+			for (int i = unpublishedFootSteps.size() - 1; i >= 0; i--) {
+				FootStep footStep = unpublishedFootSteps.get(i);
+				footStepListeners.forEach(listener -> listener.footStepCompleted(state, pedestrian, footStep));
+			}
+
+			if (!unpublishedFootSteps.isEmpty()) {
+				nextPublishedStartTimes.put(pedestrian.getId(), unpublishedFootSteps.get(0).getStartTime());
+			} else if (lastPublishedStartTime != null) {
+				nextPublishedStartTimes.put(pedestrian.getId(), lastPublishedStartTime);
+			}
+		}
+
+		// pedestrians which left the topography are dropped
+		Map<Integer, Double> tmp = lastPublishedStartTimes;
+		lastPublishedStartTimes = nextPublishedStartTimes;
+		nextPublishedStartTimes = tmp;
+	}
+
+	/**
+	 * Submits the update of each processor to the worker pool as soon as the updates of all its
+	 * dependencies are finished and waits until all processors are updated. The updates of the
+	 * {@link ModelEvaluator}s additionally wait for each other (in the update order).
+	 */
+	private void updateInParallel(final SimulationState state) {
+		Map<Integer, CompletableFuture<Void>> updates = new HashMap<>();
+		CompletableFuture<Void> lastModelEvaluation = null;
+		for (DataProcessor<?, ?> proc : updateOrder) {
+			Stream<CompletableFuture<Void>> dependencies = getDependencies(proc.getId()).stream().map(updates::get);
+			if (proc instanceof ModelEvaluator && lastModelEvaluation != null) {
+				dependencies = Stream.concat(dependencies, Stream.of(lastModelEvaluation));
+			}
+			CompletableFuture<Void> update = CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+					.thenRunAsync(() -> proc.update(state), updateExecutor);
+			if (proc instanceof ModelEvaluator) {
+				lastModelEvaluation = update;
+			}
+			updates.put(proc.getId(), update);
+		}
+
+		try {
+			CompletableFuture.allOf(updates.values().toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
 	}
 
 	public void postLoop(final SimulationState state) {
@@ -95,7 +350,19 @@ public class ProcessorManager {
 	}
 
 	public void writeOutput() {
-		this.outputFiles.forEach(file -> file.write());
+		this.outputFiles.forEach(file -> {
+			if (incrementalOutputFiles.contains(file)) {
+				file.close();
+			} else {
+				file.write();
+			}
+		});
+		incrementalOutputFiles.clear();
+
+		if (updateExecutor != null) {
+			updateExecutor.shutdown();
+			updateExecutor = null;
+		}
 	}
 
 	public void setSimulationResult(SimulationResult simulationResult) {
@@ -5,6 +5,7 @@ package org.vadere.simulator.projects.dataprocessing.outputfile;
 import org.vadere.simulator.projects.dataprocessing.DataProcessingJsonManager;
 import org.vadere.simulator.projects.dataprocessing.datakey.DataKey;
 import org.vadere.simulator.projects.dataprocessing.processor.DataProcessor;
+import org.vadere.simulator.projects.dataprocessing.writer.VadereAsyncWriter;
 import org.vadere.simulator.projects.dataprocessing.writer.VadereWriter;
 import org.vadere.simulator.projects.dataprocessing.writer.VadereWriterFactory;
 
@@ -17,6 +18,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,6 +65,13 @@ public abstract class OutputFile<K extends DataKey<K>> {
 	private VadereWriterFactory writerFactory;
 	private VadereWriter writer;
 
+	/**
+	 * Smallest key which is not yet written if the file is written incrementally, <tt>null</tt> if
+	 * nothing is written yet.
+	 */
+	private K unwrittenKey;
+	private boolean isOpen;
+
 	protected OutputFile(final String... dataIndices) {
 		this.dataIndices = dataIndices;
 		this.isAddedProcessors = false;  // init method has to be called
@@ -129,6 +138,91 @@ public abstract class OutputFile<K extends DataKey<K>> {
 		return this.dataProcessors.isEmpty();
 	}
 
+	/**
+	 * Returns true if the rows of this file can be written while the simulation is running, i.e.
+	 * the keys are ordered by time step first (see {@link #getFirstKey(int)}) and all processors
+	 * only produce data of the current time step (see {@link DataProcessor#isIncrementallyWritable()}).
+	 */
+	public boolean isIncrementallyWritable() {
+		return getFirstKey(0) != null && dataProcessors.stream().allMatch(DataProcessor::isIncrementallyWritable);
+	}
+
+	/**
+	 * Opens the file for incremental writing, i.e. the meta data and the header are written and
+	 * the rows follow by calls of {@link #writeUntil(int)}. The lines are written by a background
+	 * thread. Must be finished by {@link #close()}.
+	 */
+	public void open() {
+		this.writer = new VadereAsyncWriter(writerFactory.create(absoluteFileName));
+		this.unwrittenKey = null;
+		this.isOpen = true;
+
+		if(this.isWriteMetaData){
+			printMetaData();
+		}
+
+		printHeader();
+	}
+
+	/**
+	 * Writes all rows of time steps smaller than <tt>step</tt> which are not yet written. The resulting
+	 * file is identical to the one produced by {@link #write()} because the keys are ordered by
+	 * time step first.
+	 */
+	public void writeUntil(final int step) {
+		final K toKey = getFirstKey(step);
+		printRows(unwrittenKey, toKey);
+		unwrittenKey = toKey;
+	}
+
+	/**
+	 * Removes the written data of all processors of this file, except for the processors contained in
+	 * <tt>retainedProcessorIds</tt> whose data is still required by others.
+	 */
+	public void releaseWrittenData(final Set<Integer> retainedProcessorIds) {
+		if (unwrittenKey != null) {
+			dataProcessors.stream()
+					.filter(p -> !retainedProcessorIds.contains(p.getId()))
+					.forEach(p -> p.removeKeys(unwrittenKey));
+		}
+	}
+
+	/**
+	 * Writes all remaining rows and closes the file opened by {@link #open()}.
+	 */
+	public void close() {
+		if (!isOpen) {
+			return;
+		}
+		isOpen = false;
+
+		try (VadereWriter out = this.writer) {
+			printRows(unwrittenKey, null);
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public boolean isOpen() {
+		return isOpen;
+	}
+
+	/**
+	 * Returns the smallest possible key of the time step <tt>step</tt> or <tt>null</tt> if the keys of
+	 * this file are not ordered by time step first (the default). In the later case the file can only
+	 * be written as a whole after the simulation.
+	 */
+	protected K getFirstKey(final int step) {
+		return null;
+	}
+
+	private void printRows(final K fromKey, final K toKey) {
+		this.dataProcessors.stream().flatMap(p -> p.getKeys(fromKey, toKey).stream())
+				.distinct().sorted()
+				.forEach(key -> printRow(key));
+	}
+
 	private void printMetaData(){
 		// use '#' symbol for comment -- the Java-style comment '//' is not appropriate because it requires two
 		// characters
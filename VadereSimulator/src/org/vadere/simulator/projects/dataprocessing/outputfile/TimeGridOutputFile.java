@@ -13,4 +13,9 @@ public class TimeGridOutputFile extends OutputFile<TimeGridKey> {
     public String[] toStrings(TimeGridKey key) {
         return key.toStrings();
     }
+
+    @Override
+    protected TimeGridKey getFirstKey(final int step) {
+        return new TimeGridKey(step, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    }
 }
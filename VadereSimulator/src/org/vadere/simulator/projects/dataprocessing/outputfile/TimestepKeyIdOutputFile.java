@@ -15,4 +15,8 @@ public class TimestepKeyIdOutputFile extends OutputFile<TimestepFaceIdKey> {
 		return new String[] { Integer.toString(key.getTimeStep()), Integer.toString(key.getFaceId()) };
 	}
 
+	@Override
+	protected TimestepFaceIdKey getFirstKey(final int step) {
+		return new TimestepFaceIdKey(step, Integer.MIN_VALUE);
+	}
 }
@@ -13,4 +13,9 @@ public class TimestepOutputFile extends OutputFile<TimestepKey> {
     public TimestepOutputFile() {
         super("timeStep");
     }
+
+    @Override
+    protected TimestepKey getFirstKey(final int step) {
+        return new TimestepKey(step);
+    }
 }
@@ -18,4 +18,9 @@ public class TimestepPedestrianIdOutputFile extends OutputFile<TimestepPedestria
 	public String[] toStrings(final TimestepPedestrianIdKey key) {
 		return new String[] { Integer.toString(key.getTimestep()), Integer.toString(key.getPedestrianId()) };
 	}
+
+	@Override
+	protected TimestepPedestrianIdKey getFirstKey(final int step) {
+		return new TimestepPedestrianIdKey(step, Integer.MIN_VALUE);
+	}
 }
@@ -14,4 +14,9 @@ public class TimestepPedestrianIdOverlapOutputFile extends OutputFile<TimestepPe
 	public String[] toStrings(final TimestepPedestrianIdOverlapKey key){
 		return key.toStrings();
 	}
+
+	@Override
+	protected TimestepPedestrianIdOverlapKey getFirstKey(final int step) {
+		return new TimestepPedestrianIdOverlapKey(step, Integer.MIN_VALUE, Integer.MIN_VALUE);
+	}
 }
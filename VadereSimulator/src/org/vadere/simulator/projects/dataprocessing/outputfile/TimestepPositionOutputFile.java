@@ -2,6 +2,7 @@ package org.vadere.simulator.projects.dataprocessing.outputfile;
 
 import org.vadere.annotation.factories.outputfiles.OutputFileClass;
 import org.vadere.simulator.projects.dataprocessing.datakey.TimestepPositionKey;
+import org.vadere.util.geometry.shapes.VPoint;
 
 @OutputFileClass(dataKeyMapping = TimestepPositionKey.class)
 public class TimestepPositionOutputFile extends OutputFile<TimestepPositionKey> {
@@ -13,4 +14,9 @@ public class TimestepPositionOutputFile extends OutputFile<TimestepPositionKey>
     public String[] toStrings(TimestepPositionKey key) {
         return new String[] { Integer.toString(key.getTimeStep()), Double.toString(key.getPosition().x), Double.toString(key.getPosition().y) };
     }
+
+    @Override
+    protected TimestepPositionKey getFirstKey(final int step) {
+        return new TimestepPositionKey(step, new VPoint(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY));
+    }
 }
@@ -13,4 +13,9 @@ public class TimestepRowOutputFile extends OutputFile<TimestepRowKey> {
     public String[] toStrings(TimestepRowKey key) {
         return new String[] { Integer.toString(key.getTimeStep()), Integer.toString(key.getRow()) };
     }
+
+    @Override
+    protected TimestepRowKey getFirstKey(final int step) {
+        return new TimestepRowKey(step, Integer.MIN_VALUE);
+    }
 }
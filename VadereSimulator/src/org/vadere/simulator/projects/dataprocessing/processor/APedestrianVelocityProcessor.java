@@ -6,4 +6,9 @@ public abstract class APedestrianVelocityProcessor extends DataProcessor<Timeste
 	public APedestrianVelocityProcessor() {
 		super("velocity");
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -27,4 +27,9 @@ public abstract class AreaDataProcessor<V> extends DataProcessor<TimestepKey, V>
     public MeasurementArea getMeasurementArea() {
         return this.measurementArea;
     }
+
+    @Override
+    public boolean isIncrementallyWritable() {
+        return true;
+    }
 }
@@ -41,4 +41,9 @@ public class AreaDensityGridCountingProcessor extends  DataProcessor<TimeGridKey
     public void init(ProcessorManager manager) {
         super.init(manager);
     }
+
+    @Override
+    public boolean isIncrementallyWritable() {
+        return true;
+    }
 }
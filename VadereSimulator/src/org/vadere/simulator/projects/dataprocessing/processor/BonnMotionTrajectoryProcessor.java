@@ -66,7 +66,7 @@ public class BonnMotionTrajectoryProcessor extends DataProcessor<BonnMotionKey,
 	@Override
 	protected void doUpdate(SimulationState state) {
 		//ensure pedestrianPositionProcessor was updated.
-		this.pedestrianPositionProcessor.doUpdate(state);
+		this.pedestrianPositionProcessor.update(state);
 	}
 
 
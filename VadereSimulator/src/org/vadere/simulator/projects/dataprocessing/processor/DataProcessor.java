@@ -10,6 +10,7 @@ import org.vadere.state.attributes.processor.AttributesProcessor;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
@@ -41,7 +42,7 @@ public abstract class DataProcessor<K extends DataKey<K>, V> {
 	private AttributesProcessor attributes;
 
 	private String[] headers;
-	private Map<K, V> data;
+	private NavigableMap<K, V> data;
 
 	private int lastStep;
 	private K lastKey;
@@ -93,6 +94,17 @@ public abstract class DataProcessor<K extends DataKey<K>, V> {
 		return this.getData().keySet();
 	}
 
+	/**
+	 * Returns the keys in ascending order which are greater or equal to <tt>fromKey</tt> and
+	 * smaller than <tt>toKey</tt>. A bound which is <tt>null</tt> is ignored.
+	 */
+	public Set<K> getKeys(final K fromKey, final K toKey) {
+		if (fromKey == null) {
+			return toKey == null ? data.keySet() : data.headMap(toKey, false).keySet();
+		}
+		return toKey == null ? data.tailMap(fromKey, true).keySet() : data.subMap(fromKey, true, toKey, false).keySet();
+	}
+
 	public Collection<V> getValues() {
 		return this.getData().values();
 	}
@@ -123,6 +135,14 @@ public abstract class DataProcessor<K extends DataKey<K>, V> {
 		this.data.remove(key);
 	}
 
+	/**
+	 * Removes all keys smaller than <tt>toKey</tt>. This is used to release data which
+	 * is already written, see {@link ProcessorManager#setWriteIncrementally(boolean)}.
+	 */
+	public void removeKeys(final K toKey) {
+		this.data.headMap(toKey, false).clear();
+	}
+
 	public void preLoop(final SimulationState state) { data.clear(); }
 
 	protected abstract void doUpdate(final SimulationState state);
@@ -161,6 +181,17 @@ public abstract class DataProcessor<K extends DataKey<K>, V> {
 		this.lastStep = 0;
 	}
 
+	/**
+	 * Returns true if this processor puts values only for the current time step during
+	 * {@link #doUpdate(SimulationState)} and never changes them afterwards, i.e. the data of all
+	 * previous time steps is final and can be written while the simulation is still running.
+	 * Processors which compute (parts of) their data in {@link #postLoop(SimulationState)} or
+	 * which touch keys of previous steps must return false (the default).
+	 */
+	public boolean isIncrementallyWritable() {
+		return false;
+	}
+
 	public String[] toStrings(final K key) {
 		return new String[] { this.hasValue(key) ? this.getValue(key).toString() : "NA" };
 	}
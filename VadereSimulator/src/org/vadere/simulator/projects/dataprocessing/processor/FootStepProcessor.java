@@ -4,12 +4,12 @@ import org.vadere.annotation.factories.dataprocessors.DataProcessorClass;
 import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.projects.dataprocessing.ProcessorManager;
 import org.vadere.simulator.projects.dataprocessing.datakey.EventtimePedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.FootStepListener;
 import org.vadere.state.scenario.Pedestrian;
 import org.vadere.state.simulation.FootStep;
 import org.vadere.state.simulation.VTrajectory;
 
 import java.util.Arrays;
-import java.util.LinkedList;
 
 /**
  * <p>During one time step a pedestrian my move multiple times which is saved by {@link Pedestrian#getTrajectory()}, i.e.
@@ -18,6 +18,8 @@ import java.util.LinkedList;
  *
  * <p>This processor writes out all those {@link FootStep}s. The index is the simulation time where the event occurred
  * and the pedestrian id. The "endTime" of the foot step is part of the data. Each row corresponds to one foot step.
+ * The foot steps are published once by the {@link ProcessorManager}, see {@link FootStepListener}, instead of
+ * copying the trajectories of all pedestrians in each step.
  * </p>
  *
  * <p>This is especially useful if one uses the {@link org.vadere.simulator.models.osm.OptimalStepsModel} or any other
@@ -27,7 +29,7 @@ import java.util.LinkedList;
  * @author Benedikt Zoennchen
  */
 @DataProcessorClass()
-public class FootStepProcessor extends DataProcessor<EventtimePedestrianIdKey, FootStep> {
+public class FootStepProcessor extends DataProcessor<EventtimePedestrianIdKey, FootStep> implements FootStepListener {
 
 	public FootStepProcessor() {
 		super("endTime", "startX", "startY", "endX", "endY");
@@ -35,13 +37,12 @@ public class FootStepProcessor extends DataProcessor<EventtimePedestrianIdKey, F
 
 	@Override
 	protected void doUpdate(final SimulationState state) {
-		for (Pedestrian pedestrian : state.getTopography().getElements(Pedestrian.class)) {
-			LinkedList<FootStep> footSteps = pedestrian.getTrajectory().clone().getFootSteps();
+		// the foot steps are published by the manager
+	}
 
-			for (FootStep fs : footSteps) {
-				putValue(new EventtimePedestrianIdKey(fs.getStartTime(), pedestrian.getId()), fs);
-			}
-		}
+	@Override
+	public void footStepCompleted(final SimulationState state, final Pedestrian pedestrian, final FootStep footStep) {
+		putValue(new EventtimePedestrianIdKey(footStep.getStartTime(), pedestrian.getId()), footStep);
 	}
 
 	@Override
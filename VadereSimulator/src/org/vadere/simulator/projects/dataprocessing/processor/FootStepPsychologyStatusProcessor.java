@@ -4,18 +4,17 @@ import org.vadere.annotation.factories.dataprocessors.DataProcessorClass;
 import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.projects.dataprocessing.ProcessorManager;
 import org.vadere.simulator.projects.dataprocessing.datakey.EventtimePedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.FootStepListener;
 import org.vadere.state.psychology.PsychologyStatus;
 import org.vadere.state.psychology.perception.ThreatMemory;
 import org.vadere.state.scenario.Pedestrian;
 import org.vadere.state.simulation.FootStep;
 
-import java.util.LinkedList;
-
 /**
  * Log {@link Pedestrian}'s current {@link PsychologyStatus} except its {@link ThreatMemory}.
  */
 @DataProcessorClass()
-public class FootStepPsychologyStatusProcessor extends DataProcessor<EventtimePedestrianIdKey, String> {
+public class FootStepPsychologyStatusProcessor extends DataProcessor<EventtimePedestrianIdKey, String> implements FootStepListener {
 
 	public static String[] HEADERS = { "mostImportantStimulus", "selfCategory", "groupMembership" };
 
@@ -25,15 +24,12 @@ public class FootStepPsychologyStatusProcessor extends DataProcessor<EventtimePe
 
 	@Override
 	protected void doUpdate(final SimulationState state) {
-		for (Pedestrian pedestrian : state.getTopography().getElements(Pedestrian.class)) {
-			LinkedList<FootStep> footSteps = pedestrian.getTrajectory().clone().getFootSteps();
-
-			String psychologyStatus = psychologyStatusToString(pedestrian);
+		// the foot steps are published by the manager
+	}
 
-			for (FootStep footStep : footSteps) {
-				putValue(new EventtimePedestrianIdKey(footStep.getStartTime(), pedestrian.getId()), psychologyStatus);
-			}
-		}
+	@Override
+	public void footStepCompleted(final SimulationState state, final Pedestrian pedestrian, final FootStep footStep) {
+		putValue(new EventtimePedestrianIdKey(footStep.getStartTime(), pedestrian.getId()), psychologyStatusToString(pedestrian));
 	}
 
 	private String psychologyStatusToString(Pedestrian pedestrian) {
@@ -3,17 +3,15 @@ package org.vadere.simulator.projects.dataprocessing.processor;
 import org.vadere.annotation.factories.dataprocessors.DataProcessorClass;
 import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.projects.dataprocessing.datakey.EventtimePedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.FootStepListener;
 import org.vadere.state.scenario.Pedestrian;
 import org.vadere.state.simulation.FootStep;
-import org.vadere.state.simulation.VTrajectory;
-
-import java.util.Collection;
 
 /**
  * Save self category of a pedestrian in each time step in an own column.
  */
 @DataProcessorClass()
-public class FootStepSelfCategoryProcessor extends DataProcessor<EventtimePedestrianIdKey, String> {
+public class FootStepSelfCategoryProcessor extends DataProcessor<EventtimePedestrianIdKey, String> implements FootStepListener {
 
 	public static String HEADER = "selfCategory";
 
@@ -23,15 +21,12 @@ public class FootStepSelfCategoryProcessor extends DataProcessor<EventtimePedest
 
 	@Override
 	public void doUpdate(final SimulationState state) {
-		Collection<Pedestrian> pedestrians = state.getTopography().getElements(Pedestrian.class);
+		// the foot steps are published by the manager
+	}
 
-		for(Pedestrian p : pedestrians){
-			VTrajectory traj = p.getTrajectory();
-			String selfCategoryString = p.getSelfCategory().toString();
-			for(FootStep fs : traj.getFootSteps()){
-				this.putValue(new EventtimePedestrianIdKey(fs.getStartTime(), p.getId()), selfCategoryString);
-			}
-		}
+	@Override
+	public void footStepCompleted(final SimulationState state, final Pedestrian pedestrian, final FootStep footStep) {
+		this.putValue(new EventtimePedestrianIdKey(footStep.getStartTime(), pedestrian.getId()), pedestrian.getSelfCategory().toString());
 	}
 
 }
@@ -3,14 +3,14 @@ package org.vadere.simulator.projects.dataprocessing.processor;
 import org.vadere.annotation.factories.dataprocessors.DataProcessorClass;
 import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.projects.dataprocessing.datakey.EventtimePedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.FootStepListener;
 import org.vadere.simulator.projects.dataprocessing.processor.util.ModelFilter;
 import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.simulation.FootStep;
 import org.vadere.util.logging.Logger;
 
-import java.util.Collection;
-
 @DataProcessorClass()
-public class FootStepTargetIDProcessor extends DataProcessor<EventtimePedestrianIdKey, Integer> implements ModelFilter {
+public class FootStepTargetIDProcessor extends DataProcessor<EventtimePedestrianIdKey, Integer> implements ModelFilter, FootStepListener {
 	private static Logger logger = Logger.getLogger(FootStepTargetIDProcessor.class);
 
 	public FootStepTargetIDProcessor(){
@@ -19,9 +19,11 @@ public class FootStepTargetIDProcessor extends DataProcessor<EventtimePedestrian
 
 	@Override
 	protected void doUpdate(SimulationState state) {
-		Collection<Pedestrian> peds = state.getTopography().getElements(Pedestrian.class);
-		peds.forEach(p -> p.getTrajectory().getFootSteps().forEach(fs -> {
-					this.putValue(new EventtimePedestrianIdKey(fs.getStartTime(), p.getId()), !p.hasNextTarget() ? -1 : p.getNextTargetId());
-		}));
+		// the foot steps are published by the manager
+	}
+
+	@Override
+	public void footStepCompleted(final SimulationState state, final Pedestrian pedestrian, final FootStep footStep) {
+		this.putValue(new EventtimePedestrianIdKey(footStep.getStartTime(), pedestrian.getId()), !pedestrian.hasNextTarget() ? -1 : pedestrian.getNextTargetId());
 	}
 }
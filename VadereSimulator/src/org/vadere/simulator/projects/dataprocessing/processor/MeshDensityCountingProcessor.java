@@ -91,4 +91,9 @@ public class MeshDensityCountingProcessor extends DataProcessor<TimestepFaceIdKe
 		}
 		return (AttributesMeshDensityCountingProcessor)super.getAttributes();
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
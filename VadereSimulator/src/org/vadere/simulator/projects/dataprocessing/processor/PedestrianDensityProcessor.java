@@ -48,4 +48,9 @@ public abstract class PedestrianDensityProcessor extends DataProcessor<TimestepP
 
         return super.getAttributes();
     }
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -56,4 +56,9 @@ public class PedestrianFlowProcessor extends DataProcessor<TimestepPedestrianIdK
 
         return super.getAttributes();
     }
+
+    @Override
+    public boolean isIncrementallyWritable() {
+        return true;
+    }
 }
@@ -46,4 +46,9 @@ public class PedestrianGroupIDProcessor extends DataProcessor<TimestepPedestrian
 
 		return new String[]{Integer.toString(i)};
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -38,5 +38,8 @@ public class PedestrianGroupMaxDistProcessor extends  DataProcessor<TimestepPede
 		return this.hasValue(key) ? this.getValue(key).toStrings() : new String[]{"N/A", "N/A"};
 	}
 
-
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
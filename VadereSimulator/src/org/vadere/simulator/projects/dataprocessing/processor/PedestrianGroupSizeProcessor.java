@@ -47,4 +47,9 @@ public class PedestrianGroupSizeProcessor extends DataProcessor<TimestepPedestri
 
 		return new String[]{Integer.toString(i)};
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
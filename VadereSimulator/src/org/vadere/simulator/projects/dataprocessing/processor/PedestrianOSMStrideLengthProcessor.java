@@ -53,4 +53,9 @@ public class PedestrianOSMStrideLengthProcessor extends DataProcessor<TimestepPe
 		if (model instanceof OptimalStepsModel)
 			this.osm = (OptimalStepsModel) model;
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -55,4 +55,9 @@ public class PedestrianOffsetPositionProcessor extends DataProcessor<TimestepPed
 		}
 		//return new String[]{Double.toString(p.x), Double.toString(p.y)};
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
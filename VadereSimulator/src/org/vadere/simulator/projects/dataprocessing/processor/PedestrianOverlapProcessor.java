@@ -72,4 +72,8 @@ public class PedestrianOverlapProcessor extends DataProcessor<TimestepPedestrian
 		return dynElements.getObjects(sourcePosition, radius);
 	}
 
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -69,4 +69,9 @@ public class PedestrianPositionProcessor extends DataProcessor<TimestepPedestria
 		}
 		return (AttributesPedestrianPositionProcessor)super.getAttributes();
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
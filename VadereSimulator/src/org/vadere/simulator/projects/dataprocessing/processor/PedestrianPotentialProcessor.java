@@ -7,6 +7,7 @@ import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.models.potential.PotentialFieldModel;
 import org.vadere.simulator.projects.dataprocessing.ProcessorManager;
 import org.vadere.simulator.projects.dataprocessing.datakey.TimestepPedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.ModelEvaluator;
 import org.vadere.state.attributes.processor.AttributesPedestrianPotentialProcessor;
 import org.vadere.state.scenario.Pedestrian;
 import org.vadere.util.geometry.shapes.VPoint;
@@ -29,7 +30,7 @@ import java.util.List;
  * @author Benedikt Zoennchen
  */
 @DataProcessorClass()
-public class PedestrianPotentialProcessor extends DataProcessor<TimestepPedestrianIdKey, Double>{
+public class PedestrianPotentialProcessor extends DataProcessor<TimestepPedestrianIdKey, Double> implements ModelEvaluator {
 
 	private PedestrianPositionProcessor pedestrianPositionProcessor;
 
@@ -87,4 +88,9 @@ public class PedestrianPotentialProcessor extends DataProcessor<TimestepPedestri
 		}
 		return (AttributesPedestrianPotentialProcessor)super.getAttributes();
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -27,4 +27,8 @@ public class PedestrianTargetIdProcessor extends DataProcessor<TimestepPedestria
 						p.getNextTargetId()));
 	}
 
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -3,12 +3,12 @@ package org.vadere.simulator.projects.dataprocessing.processor;
 import org.vadere.annotation.factories.dataprocessors.DataProcessorClass;
 import org.vadere.simulator.control.simulation.SimulationState;
 import org.vadere.simulator.projects.dataprocessing.datakey.PedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.FootStepListener;
 import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.simulation.FootStep;
 import org.vadere.state.simulation.VTrajectory;
 import org.vadere.state.util.StateJsonConverter;
 
-import java.util.Collection;
-
 /**
  * This processor writes out the {@link VTrajectory} for each {@link Pedestrian} of the simulation.
  * One such {@link VTrajectory} will be written to one line. Note that {@link VTrajectory} gives
@@ -20,7 +20,7 @@ import java.util.Collection;
  * @author Benedikt Zoennchen
  */
 @DataProcessorClass()
-public class PedestrianTrajectoryProcessor extends DataProcessor<PedestrianIdKey, VTrajectory> {
+public class PedestrianTrajectoryProcessor extends DataProcessor<PedestrianIdKey, VTrajectory> implements FootStepListener {
 
 	public PedestrianTrajectoryProcessor() {
 		super("trajectory");
@@ -28,12 +28,12 @@ public class PedestrianTrajectoryProcessor extends DataProcessor<PedestrianIdKey
 
 	@Override
 	protected void doUpdate(SimulationState state) {
-		Collection<Pedestrian> peds = state.getTopography().getElements(Pedestrian.class);
+		// the foot steps are published by the manager
+	}
 
-		for(Pedestrian ped : peds) {
-			PedestrianIdKey key = new PedestrianIdKey(ped.getId());
-			getValue(key).concat(ped.getTrajectory());
-		}
+	@Override
+	public void footStepCompleted(final SimulationState state, final Pedestrian pedestrian, final FootStep footStep) {
+		getValue(new PedestrianIdKey(pedestrian.getId())).concat(footStep);
 	}
 
 	@Override
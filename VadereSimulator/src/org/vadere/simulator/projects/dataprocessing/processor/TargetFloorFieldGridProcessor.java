@@ -7,6 +7,7 @@ import org.vadere.simulator.models.potential.PotentialFieldModel;
 import org.vadere.simulator.models.potential.fields.IPotentialFieldTarget;
 import org.vadere.simulator.projects.dataprocessing.ProcessorManager;
 import org.vadere.simulator.projects.dataprocessing.datakey.TimestepRowKey;
+import org.vadere.simulator.projects.dataprocessing.processor.util.ModelEvaluator;
 import org.vadere.state.attributes.processor.AttributesFloorFieldProcessor;
 import org.vadere.state.attributes.processor.AttributesProcessor;
 import org.vadere.state.scenario.Pedestrian;
@@ -20,7 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 @DataProcessorClass()
-public class TargetFloorFieldGridProcessor extends DataProcessor<TimestepRowKey, FloorFieldGridRow> {
+public class TargetFloorFieldGridProcessor extends DataProcessor<TimestepRowKey, FloorFieldGridRow> implements ModelEvaluator {
 	private static Logger logger = Logger.getLogger(TargetFloorFieldGridProcessor.class);
 	private AttributesFloorFieldProcessor att;
 	private List<Integer> targetIds;
@@ -94,4 +95,9 @@ public class TargetFloorFieldGridProcessor extends DataProcessor<TimestepRowKey,
 
 		return super.getAttributes();
 	}
+
+	@Override
+	public boolean isIncrementallyWritable() {
+		return true;
+	}
 }
@@ -0,0 +1,25 @@
+package org.vadere.simulator.projects.dataprocessing.processor.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.simulator.control.simulation.SimulationState;
+import org.vadere.simulator.projects.dataprocessing.ProcessorManager;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.simulation.FootStep;
+
+/**
+ * A processor implementing this interface is notified by the {@link ProcessorManager} about
+ * each {@link FootStep} exactly once, in the order of the foot steps of a pedestrian. The foot
+ * steps of a simulation step are published after the step is finished and before any processor
+ * is updated, i.e. foot steps which are undone by the model during the step are never published
+ * and the processor does not have to iterate over the trajectories of all pedestrians itself.
+ */
+public interface FootStepListener {
+
+	/**
+	 *
+	 * @param state			the state of the simulation step in which the foot step was completed
+	 * @param pedestrian	the pedestrian who made the foot step
+	 * @param footStep		the completed foot step
+	 */
+	void footStepCompleted(@NotNull final SimulationState state, @NotNull final Pedestrian pedestrian, @NotNull final FootStep footStep);
+}
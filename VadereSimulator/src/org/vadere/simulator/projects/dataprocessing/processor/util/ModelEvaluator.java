@@ -0,0 +1,12 @@
+package org.vadere.simulator.projects.dataprocessing.processor.util;
+
+import org.vadere.simulator.projects.dataprocessing.ProcessorManager;
+
+/**
+ * A processor implementing this interface evaluates the models of the simulation during its update,
+ * e.g. the potential fields at the positions of the pedestrians. Evaluating a model is not thread-safe
+ * since models cache data of the evaluated agents. Therefore, the {@link ProcessorManager} never updates
+ * two of these processors at the same time, even if processors are updated in parallel.
+ */
+public interface ModelEvaluator {
+}
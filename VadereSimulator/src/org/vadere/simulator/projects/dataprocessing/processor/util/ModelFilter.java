@@ -6,7 +6,11 @@ import org.vadere.simulator.models.Model;
 
 import java.util.Optional;
 
-public interface ModelFilter {
+/**
+ * Gives a processor access to the sub models of the main model. Since these are evaluated by the
+ * processor, it is a {@link ModelEvaluator}.
+ */
+public interface ModelFilter extends ModelEvaluator {
 
 	/**
 	 *
@@ -0,0 +1,144 @@
+package org.vadere.simulator.projects.dataprocessing.writer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Decorates a {@link VadereWriter} such that the lines are written by a background thread.
+ * Lines are handed over in batches through a bounded queue, i.e. the producer blocks if the
+ * writer thread falls behind. Therefore, the amount of buffered output does not depend on
+ * the length of the simulation.
+ *
+ * The order of the lines is preserved.
+ */
+public class VadereAsyncWriter implements VadereWriter {
+
+	private static final int BATCH_SIZE = 1024;
+	private static final int QUEUE_CAPACITY = 64;
+
+	// markers are compared by identity
+	private static final List<String> FLUSH = new ArrayList<>(0);
+	private static final List<String> CLOSE = new ArrayList<>(0);
+
+	private final VadereWriter writer;
+	private final BlockingQueue<List<String>> queue;
+	private final Thread thread;
+	private List<String> batch;
+	private volatile Exception error;
+	private boolean closed;
+
+	public VadereAsyncWriter(final VadereWriter writer) {
+		this.writer = writer;
+		this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		this.batch = new ArrayList<>(BATCH_SIZE);
+		this.closed = false;
+		this.thread = new Thread(this::drain, "VadereAsyncWriter");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	@Override
+	public void println(final String s) {
+		batch.add(s);
+		if (batch.size() >= BATCH_SIZE) {
+			enqueue(batch);
+			batch = new ArrayList<>(BATCH_SIZE);
+		}
+	}
+
+	/**
+	 * Hands the pending lines to the writer thread which flushes the underlying writer
+	 * after it has written them. This call does not wait for the write.
+	 */
+	@Override
+	public void flush() {
+		enqueuePending();
+		enqueue(FLUSH);
+	}
+
+	/**
+	 * Waits until all pending lines are written and closes the underlying writer.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		enqueuePending();
+		enqueue(CLOSE);
+
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		writer.close();
+
+		if (error != null) {
+			throw new IOException("Writing the output in the background failed.", error);
+		}
+	}
+
+	private void enqueuePending() {
+		if (!batch.isEmpty()) {
+			enqueue(batch);
+			batch = new ArrayList<>(BATCH_SIZE);
+		}
+	}
+
+	private void enqueue(final List<String> lines) {
+		if (error != null) {
+			throw new UncheckedIOException(new IOException("Writing the output in the background failed.", error));
+		}
+
+		try {
+			queue.put(lines);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new IOException("Interrupted while handing output to the writer thread.", e));
+		}
+	}
+
+	private void drain() {
+		while (true) {
+			List<String> lines;
+			try {
+				lines = queue.take();
+			} catch (InterruptedException e) {
+				// the thread is only stopped by the CLOSE marker, otherwise the producer might block forever.
+				continue;
+			}
+
+			if (lines == CLOSE) {
+				break;
+			}
+
+			// after an error the remaining lines are dropped but the queue is still consumed.
+			if (error != null) {
+				continue;
+			}
+
+			try {
+				if (lines == FLUSH) {
+					writer.flush();
+				} else {
+					for (String line : lines) {
+						writer.println(line);
+					}
+				}
+			} catch (RuntimeException e) {
+				error = e;
+			}
+		}
+
+		if (error == null) {
+			writer.flush();
+		}
+	}
+}
@@ -80,7 +80,7 @@ public abstract class IOOutput {
 	private static boolean testTrajectories (final VadereProject project, final File directory) {
 		try {
 			TrajectoryReader reader = new TrajectoryReader(getPathToOutputFile(project, directory.getName(), IOUtils.TRAJECTORY_FILE_EXTENSION));
-			reader.readFile();
+			reader.readHeader();
 			return true;
 
 		} catch (IOException | VadereClassNotFoundException e) {
@@ -156,6 +156,7 @@ public abstract class IOOutput {
 
 			for (File file : trajectoryFile) {
 				try {
+					Files.deleteIfExists(TrajectoryIndex.getIndexFilePath(file.toPath()));
 					Files.delete(file.toPath());
 				} catch (IOException e) {
 					logger.error("could not deleteEdge trajectory-file: " + file.getAbsolutePath() + ", "
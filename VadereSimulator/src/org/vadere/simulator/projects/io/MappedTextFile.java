@@ -0,0 +1,98 @@
+package org.vadere.simulator.projects.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only, memory-mapped text file which is accessed line by line via byte offsets. Files larger than
+ * a single mapping (2 GB) are mapped in chunks of {@link #CHUNK_SIZE} bytes. Consecutive chunks overlap by
+ * {@link #MAX_LINE_LENGTH} bytes such that each line starting in a chunk is contained in the chunk's mapping.
+ * Mapped pages are loaded by the operating system on access, i.e. the file is never loaded into the heap.
+ */
+final class MappedTextFile {
+
+	static final long CHUNK_SIZE = 1L << 30;
+	static final int MAX_LINE_LENGTH = 1 << 16;
+
+	private final Path path;
+	private final long size;
+	private final MappedByteBuffer[] chunks;
+
+	MappedTextFile(@NotNull final Path path) throws IOException {
+		this.path = path;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			this.size = channel.size();
+			int numberOfChunks = (int) Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+			this.chunks = new MappedByteBuffer[numberOfChunks];
+			for (int i = 0; i < numberOfChunks; i++) {
+				long position = i * CHUNK_SIZE;
+				long length = Math.min(size - position, CHUNK_SIZE + MAX_LINE_LENGTH);
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+			}
+		}
+	}
+
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the mapping containing the line which starts at <tt>offset</tt>.
+	 */
+	MappedByteBuffer chunk(final long offset) {
+		return chunks[(int) (offset / CHUNK_SIZE)];
+	}
+
+	/**
+	 * Returns the position of <tt>offset</tt> inside its {@link #chunk(long)}.
+	 */
+	static int local(final long offset) {
+		return (int) (offset % CHUNK_SIZE);
+	}
+
+	/**
+	 * Returns the (exclusive) end offset of the line starting at <tt>offset</tt>, i.e. the offset of its line
+	 * break or the size of the file for the last line.
+	 */
+	long lineEnd(final long offset) throws IOException {
+		MappedByteBuffer chunk = chunk(offset);
+		int start = local(offset);
+		int limit = chunk.limit();
+		for (int i = start; i < limit; i++) {
+			if (chunk.get(i) == '\n') {
+				return offset + (i - start);
+			}
+		}
+
+		long end = offset + (limit - start);
+		if (end < size) {
+			throw new IOException("line at offset " + offset + " of " + path + " is longer than " + MAX_LINE_LENGTH + " bytes");
+		}
+		return end;
+	}
+
+	/**
+	 * Returns the line starting at <tt>offset</tt> without its line break.
+	 */
+	String line(final long offset) throws IOException {
+		long end = lineEnd(offset);
+		int length = (int) (end - offset);
+		MappedByteBuffer chunk = chunk(offset);
+		int start = local(offset);
+		if (length > 0 && chunk.get(start + length - 1) == '\r') {
+			length--;
+		}
+		byte[] bytes = new byte[length];
+		ByteBuffer view = chunk.duplicate();
+		view.position(start);
+		view.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
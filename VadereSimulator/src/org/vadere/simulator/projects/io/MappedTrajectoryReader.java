@@ -0,0 +1,153 @@
+package org.vadere.simulator.projects.io;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.simulator.projects.dataprocessing.processor.FootStepProcessor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * An out-of-core counterpart of the {@link TrajectoryReader} for the footstep output of the
+ * {@link FootStepProcessor}. The trajectory file is memory-mapped and only the footsteps of a requested time window
+ * are parsed, i.e. the size of the file is not bounded by the heap. The footsteps of a time window are found via a
+ * {@link TrajectoryIndex} which is created next to the trajectory file when it is opened for the first time.
+ *
+ * The tables returned by this reader have the same columns as the table returned by
+ * {@link TrajectoryReader#readFile()}, the column types are inferred from all values of a column.
+ */
+public class MappedTrajectoryReader {
+
+	public static final String BIRTH_TIME_COLUMN_NAME = "birthTime";
+	public static final String DEATH_TIME_COLUMN_NAME = "deathTime";
+
+	private final Path trajectoryFilePath;
+	private final MappedTextFile trajectoryFile;
+	private final TrajectoryIndex index;
+	private final String[] columnNames;
+
+	public MappedTrajectoryReader(@NotNull final Path trajectoryFilePath) throws IOException {
+		this.trajectoryFilePath = trajectoryFilePath;
+		this.trajectoryFile = new MappedTextFile(trajectoryFilePath);
+		this.index = TrajectoryIndex.open(trajectoryFile, trajectoryFilePath);
+		this.columnNames = trajectoryFile.line(0).split(" ");
+	}
+
+	/**
+	 * Returns all footsteps <tt>fs</tt> for which <tt>fs.startTime</tt> is smaller than <tt>endTime</tt>
+	 * and <tt>fs.endTime</tt> is greater or equals <tt>startTime</tt> in the order of the file.
+	 *
+	 * @param startTime the start of the time window
+	 * @param endTime   the end of the time window
+	 * @return multiple footsteps for each agent
+	 */
+	public Table readTimeWindow(final double startTime, final double endTime) throws IOException {
+		return readTimeWindow(startTime, endTime, false);
+	}
+
+	/**
+	 * Returns all footsteps of {@link #readTimeWindow(double, double)}. If <tt>withDisappearedAgents</tt> is
+	 * true, the last footstep of each agent which disappeared before <tt>startTime</tt> is appended such that
+	 * the table contains all agents which appeared before <tt>endTime</tt>.
+	 *
+	 * @param startTime             the start of the time window
+	 * @param endTime               the end of the time window
+	 * @param withDisappearedAgents if true, the last footsteps of agents which disappeared before the window are added
+	 * @return multiple footsteps for each agent
+	 */
+	public Table readTimeWindow(final double startTime, final double endTime, final boolean withDisappearedAgents) throws IOException {
+		LongArrayList offsets = index.getFootStepOffsets(startTime, endTime);
+		if (withDisappearedAgents) {
+			offsets.addAll(index.getLastFootStepOffsets(startTime));
+		}
+		return read(offsets);
+	}
+
+	/**
+	 * Returns all footsteps of the file.
+	 */
+	public Table readFile() throws IOException {
+		return readTimeWindow(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+	}
+
+	/**
+	 * Returns a table containing the id (first column), the birth time ({@link #BIRTH_TIME_COLUMN_NAME}) and the
+	 * death time ({@link #DEATH_TIME_COLUMN_NAME}) of all agents sorted by their id.
+	 */
+	public Table readAgents() {
+		String pedIdColumnName = columnNames[ColumnNames.getInstance().getPedestrianIdCol(createTable())];
+		return Table.create("agents",
+				IntColumn.create(pedIdColumnName, index.getPedIds()),
+				DoubleColumn.create(BIRTH_TIME_COLUMN_NAME, index.getBirthTimes()),
+				DoubleColumn.create(DEATH_TIME_COLUMN_NAME, index.getDeathTimes()));
+	}
+
+	public double getMinStartTime() {
+		return index.getMinStartTime();
+	}
+
+	public double getMaxEndTime() {
+		return index.getMaxEndTime();
+	}
+
+	public long getNumberOfFootSteps() {
+		return index.getNumberOfFootSteps();
+	}
+
+	public int getNumberOfAgents() {
+		return index.getNumberOfAgents();
+	}
+
+	private Table read(@NotNull final LongArrayList offsets) throws IOException {
+		Table table = createTable();
+		Column<?>[] columns = table.columnArray();
+		for (int i = 0; i < offsets.size(); i++) {
+			String[] values = trajectoryFile.line(offsets.getLong(i)).split(" ");
+			for (int col = 0; col < columns.length; col++) {
+				switch (index.getColumnType(col)) {
+					case INTEGER:
+						((IntColumn) columns[col]).append(parseInt(values[col]));
+						break;
+					case DOUBLE:
+						((DoubleColumn) columns[col]).append(Double.parseDouble(values[col]));
+						break;
+					default:
+						((StringColumn) columns[col]).append(values[col]);
+				}
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Parses an integer which might have a zero decimal, see {@link TrajectoryIndex.ColumnType#INTEGER}.
+	 */
+	private static int parseInt(@NotNull final String value) {
+		int decimalPoint = value.indexOf('.');
+		return Integer.parseInt(decimalPoint < 0 ? value : value.substring(0, decimalPoint));
+	}
+
+	private Table createTable() {
+		Table table = Table.create(trajectoryFilePath.getFileName().toString());
+		for (int col = 0; col < columnNames.length; col++) {
+			switch (index.getColumnType(col)) {
+				case INTEGER:
+					table.addColumns(IntColumn.create(columnNames[col]));
+					break;
+				case DOUBLE:
+					table.addColumns(DoubleColumn.create(columnNames[col]));
+					break;
+				default:
+					table.addColumns(StringColumn.create(columnNames[col]));
+			}
+		}
+		return table;
+	}
+}
@@ -0,0 +1,486 @@
+package org.vadere.simulator.projects.io;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.util.logging.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+/**
+ * A compact binary sidecar index of a trajectory (footstep) file, see {@link MappedTrajectoryReader}. The index is
+ * created by a single streaming pass over the memory-mapped trajectory file when the file is opened for the first
+ * time and it is stored next to it (<tt>postvis.traj</tt> → <tt>postvis.traj.idx</tt>). An index is rebuild if the
+ * size or the modification time of the trajectory file changes.
+ *
+ * <p>For each footstep the index contains the byte offset of its line and its start and end time (in file order).
+ * Each block of {@link #BLOCK_SIZE} footsteps is summarized by its minimal start and maximal end time such that a
+ * time window query only visits blocks overlapping the window. For each agent the index contains its birth time,
+ * its death time and the offset of its last footstep. Furthermore, the index contains the column types which
+ * are inferred from all values of a column.</p>
+ *
+ * <p>Only the block and agent summaries are loaded into the heap, the footstep records are memory-mapped.</p>
+ *
+ * File layout (big-endian):
+ * <pre>
+ * header:    magic, version (int), trajectory file size, last modified, data offset, footsteps (long),
+ *            blocks, agents, columns (int), column types (byte[columns])
+ * footsteps: (offset (long), start time, end time (double))[footsteps]
+ * blocks:    (min start time, max end time (double))[blocks]
+ * agents:    (id (int), birth time, death time (double), offset of the last footstep (long))[agents]
+ * </pre>
+ */
+public class TrajectoryIndex {
+
+	private static final Logger logger = Logger.getLogger(TrajectoryIndex.class);
+
+	public static final String INDEX_FILE_EXTENSION = ".idx";
+
+	static final int BLOCK_SIZE = 1024;
+
+	private static final int MAGIC = 0x56545258; // VTRX
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 2 * Integer.BYTES + 4 * Long.BYTES + 3 * Integer.BYTES;
+	private static final int FOOTSTEP_BYTES = Long.BYTES + 2 * Double.BYTES;
+	private static final int BLOCK_BYTES = 2 * Double.BYTES;
+	private static final int AGENT_BYTES = Integer.BYTES + 2 * Double.BYTES + Long.BYTES;
+	private static final int FOOTSTEPS_PER_MAPPING = 1 << 26;
+
+	/**
+	 * The type of the values of a column, ordered such that a column of mixed values has the maximal type.
+	 * As for the CSV reader of Tablesaw, a column of integers with zero decimals is an {@link #INTEGER} column.
+	 */
+	public enum ColumnType {
+		INTEGER, DOUBLE, STRING
+	}
+
+	private final long dataOffset;
+	private final long numberOfFootSteps;
+	private final ColumnType[] columnTypes;
+
+	private final MappedByteBuffer[] footSteps;
+	private final double[] blockMinStartTimes;
+	private final double[] blockMaxEndTimes;
+
+	private final int[] pedIds;
+	private final double[] birthTimes;
+	private final double[] deathTimes;
+	private final long[] lastFootStepOffsets;
+
+	private TrajectoryIndex(@NotNull final Path indexFilePath) throws IOException {
+		try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.READ)) {
+			ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+			header.position(2 * Integer.BYTES + 2 * Long.BYTES);
+			this.dataOffset = header.getLong();
+			this.numberOfFootSteps = header.getLong();
+			int numberOfBlocks = header.getInt();
+			int numberOfAgents = header.getInt();
+			int numberOfColumns = header.getInt();
+
+			ByteBuffer types = readFully(channel, HEADER_BYTES, numberOfColumns);
+			this.columnTypes = new ColumnType[numberOfColumns];
+			for (int col = 0; col < numberOfColumns; col++) {
+				columnTypes[col] = ColumnType.values()[types.get()];
+			}
+
+			long position = HEADER_BYTES + numberOfColumns;
+			int numberOfMappings = (int) ((numberOfFootSteps + FOOTSTEPS_PER_MAPPING - 1) / FOOTSTEPS_PER_MAPPING);
+			this.footSteps = new MappedByteBuffer[numberOfMappings];
+			for (int i = 0; i < numberOfMappings; i++) {
+				long count = Math.min(FOOTSTEPS_PER_MAPPING, numberOfFootSteps - (long) i * FOOTSTEPS_PER_MAPPING);
+				footSteps[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, count * FOOTSTEP_BYTES);
+				position += count * FOOTSTEP_BYTES;
+			}
+
+			ByteBuffer blocks = readFully(channel, position, numberOfBlocks * BLOCK_BYTES);
+			position += (long) numberOfBlocks * BLOCK_BYTES;
+			this.blockMinStartTimes = new double[numberOfBlocks];
+			this.blockMaxEndTimes = new double[numberOfBlocks];
+			for (int block = 0; block < numberOfBlocks; block++) {
+				blockMinStartTimes[block] = blocks.getDouble();
+				blockMaxEndTimes[block] = blocks.getDouble();
+			}
+
+			ByteBuffer agents = readFully(channel, position, numberOfAgents * AGENT_BYTES);
+			this.pedIds = new int[numberOfAgents];
+			this.birthTimes = new double[numberOfAgents];
+			this.deathTimes = new double[numberOfAgents];
+			this.lastFootStepOffsets = new long[numberOfAgents];
+			for (int agent = 0; agent < numberOfAgents; agent++) {
+				pedIds[agent] = agents.getInt();
+				birthTimes[agent] = agents.getDouble();
+				deathTimes[agent] = agents.getDouble();
+				lastFootStepOffsets[agent] = agents.getLong();
+			}
+		}
+	}
+
+	/**
+	 * Opens the index of the trajectory file. The index is (re-)build if it does not exist or if it is outdated.
+	 * If the index can not be written next to the trajectory file, it is written to a temporary file.
+	 *
+	 * @param trajectoryFile the mapped trajectory file
+	 * @param trajectoryFilePath the path of the trajectory file
+	 */
+	static TrajectoryIndex open(@NotNull final MappedTextFile trajectoryFile, @NotNull final Path trajectoryFilePath) throws IOException {
+		Path indexFilePath = getIndexFilePath(trajectoryFilePath);
+		long lastModified = Files.getLastModifiedTime(trajectoryFilePath).toMillis();
+
+		if (isValid(indexFilePath, trajectoryFile.size(), lastModified)) {
+			return new TrajectoryIndex(indexFilePath);
+		}
+
+		if (!Files.isWritable(indexFilePath.toAbsolutePath().getParent())) {
+			logger.warn("could not write the trajectory index " + indexFilePath + ", use a temporary file instead.");
+			indexFilePath = Files.createTempFile(trajectoryFilePath.getFileName().toString(), INDEX_FILE_EXTENSION);
+			indexFilePath.toFile().deleteOnExit();
+		}
+		try {
+			build(trajectoryFile, lastModified, indexFilePath);
+		} catch (IOException e) {
+			Files.deleteIfExists(getTemporaryFilePath(indexFilePath));
+			throw e;
+		}
+		return new TrajectoryIndex(indexFilePath);
+	}
+
+	/**
+	 * Returns the path of the sidecar index of a trajectory file.
+	 */
+	public static Path getIndexFilePath(@NotNull final Path trajectoryFilePath) {
+		return trajectoryFilePath.resolveSibling(trajectoryFilePath.getFileName().toString() + INDEX_FILE_EXTENSION);
+	}
+
+	private static Path getTemporaryFilePath(@NotNull final Path indexFilePath) {
+		return indexFilePath.resolveSibling(indexFilePath.getFileName().toString() + ".tmp");
+	}
+
+	private static boolean isValid(@NotNull final Path indexFilePath, final long size, final long lastModified) {
+		if (!Files.isRegularFile(indexFilePath)) {
+			return false;
+		}
+
+		try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_BYTES) {
+				return false;
+			}
+			ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+			return header.getInt() == MAGIC && header.getInt() == VERSION && header.getLong() == size && header.getLong() == lastModified;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static void build(@NotNull final MappedTextFile trajectoryFile, final long lastModified, @NotNull final Path indexFilePath) throws IOException {
+		long start = System.currentTimeMillis();
+		long dataOffset = Math.min(trajectoryFile.size(), trajectoryFile.lineEnd(0) + 1);
+		String[] columnNames = trajectoryFile.line(0).split(" ");
+		int pedIdCol;
+		int startTimeCol;
+		int endTimeCol;
+		{
+			Table header = Table.create("header");
+			for (String columnName : columnNames) {
+				header.addColumns(StringColumn.create(columnName));
+			}
+			ColumnNames names = ColumnNames.getInstance();
+			pedIdCol = names.getPedestrianIdCol(header);
+			startTimeCol = names.getStartTimeCol(header);
+			endTimeCol = names.getEndTimeCol(header);
+			if (pedIdCol == ColumnNames.NOT_SET_COLUMN_INDEX_IDENTIFIER
+					|| startTimeCol == ColumnNames.NOT_SET_COLUMN_INDEX_IDENTIFIER
+					|| endTimeCol == ColumnNames.NOT_SET_COLUMN_INDEX_IDENTIFIER) {
+				throw new IOException("the trajectory file has to contain a pedestrian id, a start time and an end time column: " + Arrays.toString(columnNames));
+			}
+		}
+
+		ColumnType[] columnTypes = new ColumnType[columnNames.length];
+		Arrays.fill(columnTypes, ColumnType.INTEGER);
+		DoubleArrayList blockMinStartTimes = new DoubleArrayList();
+		DoubleArrayList blockMaxEndTimes = new DoubleArrayList();
+		Int2IntOpenHashMap pedIdToAgent = new Int2IntOpenHashMap();
+		pedIdToAgent.defaultReturnValue(-1);
+		IntArrayList agentPedIds = new IntArrayList();
+		DoubleArrayList birthTimes = new DoubleArrayList();
+		DoubleArrayList deathTimes = new DoubleArrayList();
+		LongArrayList lastFootStepOffsets = new LongArrayList();
+
+		Path tmpFilePath = getTemporaryFilePath(indexFilePath);
+		long numberOfFootSteps = 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFilePath), 1 << 16))) {
+			out.write(new byte[HEADER_BYTES + columnNames.length]);
+
+			int[] fieldStarts = new int[columnNames.length];
+			int[] fieldEnds = new int[columnNames.length];
+			long offset = dataOffset;
+			while (offset < trajectoryFile.size()) {
+				long end = trajectoryFile.lineEnd(offset);
+				MappedByteBuffer chunk = trajectoryFile.chunk(offset);
+				int from = MappedTextFile.local(offset);
+				int to = from + (int) (end - offset);
+				if (to > from && chunk.get(to - 1) == '\r') {
+					to--;
+				}
+
+				if (to > from) {
+					int numberOfFields = split(chunk, from, to, fieldStarts, fieldEnds);
+					if (numberOfFields != columnNames.length) {
+						throw new IOException("the line at offset " + offset + " has " + numberOfFields + " instead of " + columnNames.length + " columns");
+					}
+					for (int col = 0; col < numberOfFields; col++) {
+						ColumnType type = typeOf(chunk, fieldStarts[col], fieldEnds[col]);
+						if (type.compareTo(columnTypes[col]) > 0) {
+							columnTypes[col] = type;
+						}
+					}
+
+					int pedId;
+					double startTime;
+					double endTime;
+					try {
+						pedId = Integer.parseInt(ascii(chunk, fieldStarts[pedIdCol], fieldEnds[pedIdCol]));
+						startTime = Double.parseDouble(ascii(chunk, fieldStarts[startTimeCol], fieldEnds[startTimeCol]));
+						endTime = Double.parseDouble(ascii(chunk, fieldStarts[endTimeCol], fieldEnds[endTimeCol]));
+					} catch (NumberFormatException e) {
+						throw new IOException("the line at offset " + offset + " contains an invalid id or time: " + e.getMessage());
+					}
+
+					out.writeLong(offset);
+					out.writeDouble(startTime);
+					out.writeDouble(endTime);
+
+					if (numberOfFootSteps % BLOCK_SIZE == 0) {
+						blockMinStartTimes.add(startTime);
+						blockMaxEndTimes.add(endTime);
+					} else {
+						int block = blockMinStartTimes.size() - 1;
+						blockMinStartTimes.set(block, Math.min(blockMinStartTimes.getDouble(block), startTime));
+						blockMaxEndTimes.set(block, Math.max(blockMaxEndTimes.getDouble(block), endTime));
+					}
+
+					int agent = pedIdToAgent.get(pedId);
+					if (agent < 0) {
+						pedIdToAgent.put(pedId, agentPedIds.size());
+						agentPedIds.add(pedId);
+						birthTimes.add(startTime);
+						deathTimes.add(endTime);
+						lastFootStepOffsets.add(offset);
+					} else {
+						birthTimes.set(agent, Math.min(birthTimes.getDouble(agent), startTime));
+						deathTimes.set(agent, Math.max(deathTimes.getDouble(agent), endTime));
+						lastFootStepOffsets.set(agent, offset);
+					}
+					numberOfFootSteps++;
+				}
+				offset = end + 1;
+			}
+
+			for (int block = 0; block < blockMinStartTimes.size(); block++) {
+				out.writeDouble(blockMinStartTimes.getDouble(block));
+				out.writeDouble(blockMaxEndTimes.getDouble(block));
+			}
+
+			int[] agents = new int[agentPedIds.size()];
+			for (int agent = 0; agent < agents.length; agent++) {
+				agents[agent] = agent;
+			}
+			IntArrays.quickSort(agents, (a1, a2) -> Integer.compare(agentPedIds.getInt(a1), agentPedIds.getInt(a2)));
+			for (int agent : agents) {
+				out.writeInt(agentPedIds.getInt(agent));
+				out.writeDouble(birthTimes.getDouble(agent));
+				out.writeDouble(deathTimes.getDouble(agent));
+				out.writeLong(lastFootStepOffsets.getLong(agent));
+			}
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + columnNames.length);
+		header.putInt(MAGIC).putInt(VERSION)
+				.putLong(trajectoryFile.size()).putLong(lastModified).putLong(dataOffset).putLong(numberOfFootSteps)
+				.putInt(blockMinStartTimes.size()).putInt(agentPedIds.size()).putInt(columnNames.length);
+		for (ColumnType type : columnTypes) {
+			header.put((byte) type.ordinal());
+		}
+		header.flip();
+		try (FileChannel channel = FileChannel.open(tmpFilePath, StandardOpenOption.WRITE)) {
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+		}
+
+		try {
+			Files.move(tmpFilePath, indexFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tmpFilePath, indexFilePath, StandardCopyOption.REPLACE_EXISTING);
+		}
+		logger.infof("indexed %d footsteps of %d agents in %d ms: %s", numberOfFootSteps, agentPedIds.size(),
+				System.currentTimeMillis() - start, indexFilePath);
+	}
+
+	/**
+	 * Returns the offsets of all footsteps <tt>fs</tt> for which <tt>fs.startTime</tt> is smaller than
+	 * <tt>endTime</tt> and <tt>fs.endTime</tt> is greater or equals <tt>startTime</tt> in file order.
+	 */
+	public LongArrayList getFootStepOffsets(final double startTime, final double endTime) {
+		LongArrayList offsets = new LongArrayList();
+		for (int block = 0; block < blockMinStartTimes.length; block++) {
+			if (blockMinStartTimes[block] < endTime && blockMaxEndTimes[block] >= startTime) {
+				long to = Math.min(numberOfFootSteps, (long) (block + 1) * BLOCK_SIZE);
+				for (long footStep = (long) block * BLOCK_SIZE; footStep < to; footStep++) {
+					MappedByteBuffer mapping = footSteps[(int) (footStep / FOOTSTEPS_PER_MAPPING)];
+					int position = (int) (footStep % FOOTSTEPS_PER_MAPPING) * FOOTSTEP_BYTES;
+					if (mapping.getDouble(position + Long.BYTES) < endTime && mapping.getDouble(position + Long.BYTES + Double.BYTES) >= startTime) {
+						offsets.add(mapping.getLong(position));
+					}
+				}
+			}
+		}
+		return offsets;
+	}
+
+	/**
+	 * Returns the offsets of the last footstep of all agents which disappeared before <tt>time</tt>,
+	 * i.e. whose death time is smaller than <tt>time</tt>, ordered by the agent id.
+	 */
+	public LongArrayList getLastFootStepOffsets(final double time) {
+		LongArrayList offsets = new LongArrayList();
+		for (int agent = 0; agent < pedIds.length; agent++) {
+			if (deathTimes[agent] < time) {
+				offsets.add(lastFootStepOffsets[agent]);
+			}
+		}
+		return offsets;
+	}
+
+	public long getDataOffset() {
+		return dataOffset;
+	}
+
+	public long getNumberOfFootSteps() {
+		return numberOfFootSteps;
+	}
+
+	public int getNumberOfAgents() {
+		return pedIds.length;
+	}
+
+	public ColumnType getColumnType(final int col) {
+		return columnTypes[col];
+	}
+
+	/**
+	 * Returns the ids of all agents in ascending order.
+	 */
+	public int[] getPedIds() {
+		return pedIds.clone();
+	}
+
+	/**
+	 * Returns the birth times of all agents in the order of {@link #getPedIds()}.
+	 */
+	public double[] getBirthTimes() {
+		return birthTimes.clone();
+	}
+
+	/**
+	 * Returns the death times of all agents in the order of {@link #getPedIds()}.
+	 */
+	public double[] getDeathTimes() {
+		return deathTimes.clone();
+	}
+
+	public double getMinStartTime() {
+		return Arrays.stream(birthTimes).min().orElse(0.0);
+	}
+
+	public double getMaxEndTime() {
+		return Arrays.stream(deathTimes).max().orElse(0.0);
+	}
+
+	/**
+	 * Splits the line <tt>[from, to)</tt> at each space and returns the number of fields.
+	 */
+	private static int split(@NotNull final ByteBuffer chunk, final int from, final int to, @NotNull final int[] fieldStarts, @NotNull final int[] fieldEnds) {
+		int numberOfFields = 0;
+		int fieldStart = from;
+		for (int i = from; i <= to; i++) {
+			if (i == to || chunk.get(i) == ' ') {
+				if (numberOfFields < fieldStarts.length) {
+					fieldStarts[numberOfFields] = fieldStart;
+					fieldEnds[numberOfFields] = i;
+				}
+				numberOfFields++;
+				fieldStart = i + 1;
+			}
+		}
+		return numberOfFields;
+	}
+
+	/**
+	 * Returns the type of the value <tt>[from, to)</tt>. As the CSV reader of Tablesaw, integers with a zero
+	 * decimal, e.g. <tt>1.0</tt>, are integers.
+	 */
+	private static ColumnType typeOf(@NotNull final ByteBuffer chunk, final int from, final int to) {
+		boolean digits = false;
+		boolean integer = true;
+		boolean decimal = false;
+		for (int i = from; i < to; i++) {
+			byte c = chunk.get(i);
+			if (c >= '0' && c <= '9') {
+				digits = true;
+				integer &= !decimal || c == '0';
+			} else if (c == '-' || c == '+') {
+				integer &= i == from;
+			} else if (c == '.') {
+				integer &= !decimal;
+				decimal = true;
+			} else if (c == 'e' || c == 'E') {
+				integer = false;
+			} else {
+				String value = ascii(chunk, from, to);
+				return value.equals("NaN") || value.endsWith("Infinity") ? ColumnType.DOUBLE : ColumnType.STRING;
+			}
+		}
+
+		if (!digits) {
+			return ColumnType.STRING;
+		}
+		return integer ? ColumnType.INTEGER : ColumnType.DOUBLE;
+	}
+
+	private static String ascii(@NotNull final ByteBuffer chunk, final int from, final int to) {
+		char[] chars = new char[to - from];
+		for (int i = from; i < to; i++) {
+			chars[i - from] = (char) chunk.get(i);
+		}
+		return new String(chars);
+	}
+
+	private static ByteBuffer readFully(@NotNull final FileChannel channel, final long position, final int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("unexpected end of the trajectory index");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+}
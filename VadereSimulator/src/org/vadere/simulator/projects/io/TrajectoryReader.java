@@ -3,10 +3,12 @@ package org.vadere.simulator.projects.io;
 import org.vadere.simulator.projects.dataprocessing.outputfile.OutputFile;
 import org.vadere.simulator.projects.dataprocessing.processor.FootStepProcessor;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
 
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
 
@@ -37,6 +39,28 @@ public class TrajectoryReader {
 		this.trajectoryFilePath = trajectoryFilePath;
 	}
 
+	/**
+	 * Reads the header (first line) of the trajectory file only and returns an empty table containing its columns.
+	 */
+	public Table readHeader() throws IOException {
+		String header;
+		try (BufferedReader reader = Files.newBufferedReader(trajectoryFilePath)) {
+			header = reader.readLine();
+		}
+		if (header == null) {
+			throw new IOException("The trajectory file " + trajectoryFilePath + " is empty");
+		}
+
+		Table dataFrame = Table.create(trajectoryFilePath.getFileName().toString());
+		for (String columnName : header.split(String.valueOf(SPLITTER))) {
+			dataFrame.addColumns(StringColumn.create(columnName));
+		}
+		if(ColumnNames.getInstance().hasDuplicates(dataFrame)) {
+			throw new IOException("The header of table " + dataFrame + " is contains duplicates which can lead to unwanted side effects");
+		}
+		return dataFrame;
+	}
+
 	public Table readFile() throws IOException {
 		CsvReadOptions options = CsvReadOptions.builder(trajectoryFilePath.toFile()).separator(SPLITTER).header(true).build();
 		dataFrame = Table.read().usingOptions(options);
@@ -0,0 +1,228 @@
+package org.vadere.simulator.utils.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.logging.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Cache of a {@link CellGrid} stored in a file which is memory mapped (see {@link FileChannel#map}) to load it.
+ * In contrast to {@link CellGridBinaryCacheObject} the values are not parsed one by one but the potentials
+ * and tags are stored as raw arrays (little endian, column major order) which are copied into the grid
+ * in bulk. Processes loading the same cache share the pages of the mapped file via the page cache of
+ * the operating system.
+ *
+ * The file starts with a header of <tt>HEADER_SIZE</tt> bytes:
+ * <pre>
+ *     int    magic number ("VFFM")
+ *     int    version of the file format
+ *     int    numPointsX
+ *     int    numPointsY
+ *     double resolution
+ *     double xMin
+ *     double yMin
+ *     int    length of the floor field hash
+ *     byte[] floor field hash (UTF-8)
+ * </pre>
+ * followed by <tt>numPointsX * numPointsY</tt> potentials (double) and <tt>numPointsX * numPointsY</tt>
+ * tags (byte ordinal of {@link org.vadere.util.data.cellgrid.PathFindingTag}).
+ */
+public class CellGridMappedCacheObject extends AbstractCacheObject implements ICellGridCacheObject {
+
+	private static Logger logger = Logger.getLogger(CellGridMappedCacheObject.class);
+
+	public static final int MAGIC = 0x5646464D;
+	public static final int VERSION = 1;
+
+	private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	private static final int MAX_HASH_LENGTH = 84;
+	private static final int HEADER_SIZE = 128;
+
+	private final String hash;
+	private final ByteBuffer buffer;
+
+	/**
+	 * @param cacheIdentifier   the identifier of the floor field
+	 * @param cacheLocation     the file of the cache
+	 * @param hash              the floor field hash of the scenario, a cache with a different hash is rejected
+	 */
+	public CellGridMappedCacheObject(String cacheIdentifier, File cacheLocation, @Nullable String hash) {
+		super(cacheIdentifier, cacheLocation, null);
+		this.hash = hash;
+		this.buffer = null;
+	}
+
+	/**
+	 * A read only cache whose content is already in memory, e.g. provided via TraCI.
+	 *
+	 * @param cacheIdentifier   the identifier of the floor field
+	 * @param buffer            the content of a cache file
+	 * @param hash              the floor field hash of the scenario, a cache with a different hash is rejected
+	 */
+	public CellGridMappedCacheObject(String cacheIdentifier, @NotNull ByteBuffer buffer, @Nullable String hash) {
+		super(cacheIdentifier, null, null);
+		this.hash = hash;
+		this.buffer = buffer;
+	}
+
+	@Override
+	public boolean readable() {
+		return buffer != null || (cacheLocation != null && cacheLocation.isFile());
+	}
+
+	@Override
+	public void initializeObjectFromCache(CellGrid object) throws CacheException {
+		logger.infof("read cache: %s", getCacheLocation());
+		ByteBuffer content = buffer != null ? buffer.duplicate() : map();
+		content.order(BYTE_ORDER);
+
+		int numPoints = checkHeader(content, object);
+		long expectedSize = HEADER_SIZE + (long) numPoints * (Double.BYTES + Byte.BYTES);
+		if (content.limit() != expectedSize) {
+			throw new CacheException(String.format("Cache has %d bytes, expected %d bytes", content.limit(), expectedSize));
+		}
+
+		content.position(HEADER_SIZE);
+		DoubleBuffer potentials = content.slice().order(BYTE_ORDER).asDoubleBuffer();
+		potentials.limit(numPoints);
+		content.position(HEADER_SIZE + numPoints * Double.BYTES);
+		ByteBuffer tags = content.slice();
+		object.readFrom(potentials, tags);
+	}
+
+	/**
+	 * The cache is written into a temporary file which replaces the cache file afterwards. Therefore,
+	 * other processes either see no cache or the complete cache.
+	 */
+	@Override
+	public void persistObject(CellGrid object) throws CacheException {
+		int numPoints = object.getNumPointsX() * object.getNumPointsY();
+		long size = HEADER_SIZE + (long) numPoints * (Double.BYTES + Byte.BYTES);
+		Path target = cacheLocation.toPath().toAbsolutePath();
+		Path tmp = null;
+		try {
+			Files.createDirectories(target.getParent());
+			tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+				content.order(BYTE_ORDER);
+				writeHeader(content, object);
+
+				content.position(HEADER_SIZE);
+				DoubleBuffer potentials = content.slice().order(BYTE_ORDER).asDoubleBuffer();
+				content.position(HEADER_SIZE + numPoints * Double.BYTES);
+				ByteBuffer tags = content.slice();
+				object.writeTo(potentials, tags);
+				content.force();
+			}
+
+			try {
+				Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new CacheException("Cannot save cache " + target, e);
+		} finally {
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e) {
+					logger.warnf("cannot delete temporary cache file %s", tmp);
+				}
+			}
+		}
+	}
+
+	@Override
+	public String getCacheLocation() {
+		if (cacheLocation != null ){
+			return cacheLocation.getAbsolutePath();
+		} else {
+			return "provided via TraCI";
+		}
+	}
+
+	/**
+	 * Maps the cache file read only. The mapping remains valid after the channel is closed.
+	 */
+	private ByteBuffer map() throws CacheException {
+		try (FileChannel channel = FileChannel.open(cacheLocation.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new CacheException("Cache is too large to be mapped: " + cacheLocation);
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new CacheException("Cannot map cache " + cacheLocation, e);
+		}
+	}
+
+	private void writeHeader(@NotNull final ByteBuffer content, @NotNull final CellGrid object) throws CacheException {
+		byte[] hashBytes = hash == null ? new byte[0] : hash.getBytes(StandardCharsets.UTF_8);
+		if (hashBytes.length > MAX_HASH_LENGTH) {
+			throw new CacheException("Floor field hash is too long: " + hash);
+		}
+		content.putInt(MAGIC);
+		content.putInt(VERSION);
+		content.putInt(object.getNumPointsX());
+		content.putInt(object.getNumPointsY());
+		content.putDouble(object.getResolution());
+		content.putDouble(object.getMinX());
+		content.putDouble(object.getMinY());
+		content.putInt(hashBytes.length);
+		content.put(hashBytes);
+	}
+
+	/**
+	 * Checks that the header is compatible with the grid and the floor field hash.
+	 *
+	 * @return the number of grid points
+	 */
+	private int checkHeader(@NotNull final ByteBuffer content, @NotNull final CellGrid object) throws CacheException {
+		if (content.limit() < HEADER_SIZE || content.getInt(0) != MAGIC) {
+			throw new CacheException("Not a memory mapped floor field cache: " + getCacheLocation());
+		}
+		content.position(Integer.BYTES);
+		int version = content.getInt();
+		if (version != VERSION) {
+			throw new CacheException(String.format("Unsupported cache version %d, expected %d", version, VERSION));
+		}
+
+		int numPointsX = content.getInt();
+		int numPointsY = content.getInt();
+		double resolution = content.getDouble();
+		double xMin = content.getDouble();
+		double yMin = content.getDouble();
+		if (numPointsX != object.getNumPointsX() || numPointsY != object.getNumPointsY()
+				|| resolution != object.getResolution() || xMin != object.getMinX() || yMin != object.getMinY()) {
+			throw new CacheException(String.format("Cache grid (%d x %d, resolution %f) does not match the floor field (%d x %d, resolution %f)",
+					numPointsX, numPointsY, resolution, object.getNumPointsX(), object.getNumPointsY(), object.getResolution()));
+		}
+
+		int hashLength = content.getInt();
+		if (hashLength < 0 || hashLength > MAX_HASH_LENGTH) {
+			throw new CacheException("Corrupted cache header: " + getCacheLocation());
+		}
+		byte[] hashBytes = new byte[hashLength];
+		content.get(hashBytes);
+		String cacheHash = new String(hashBytes, StandardCharsets.UTF_8);
+		if (hash != null && !hash.equals(cacheHash)) {
+			throw new CacheException(String.format("Cache hash %s does not match the floor field hash %s", cacheHash, hash));
+		}
+		return numPointsX * numPointsY;
+	}
+}
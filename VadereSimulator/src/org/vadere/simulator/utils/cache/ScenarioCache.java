@@ -14,6 +14,7 @@ import org.vadere.util.logging.Logger;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -25,8 +26,10 @@ public class ScenarioCache {
 	private static final String CACHE_DIR_NAME = "__cache__";
 	private static final String TARGET_FF = "_targetFF_";
 	private static final String Distance_FF = "_distanceFF_";
+	private static final String OBSTACLE_FF = "_obstacleFF_";
 	private static final String txt_sufix = ".txt";
 	private static final String bin_sufix = ".ffcache";
+	private static final String mmap_sufix = ".ffmap";
 
 	private boolean empty;
 	final private Scenario scenario;
@@ -127,13 +130,7 @@ public class ScenarioCache {
 
 		File file;
 		if (eikType.isUsingCellGrid()){
-			if(cacheType == CacheType.TXT_CACHE){
-				file = buildCsvCachePath(cacheIdentifier).toFile();
-				cacheMap.put(cacheIdentifier, new CellGridTxtCacheObject(cacheIdentifier, file));
-			} else {
-				file = buildBinCachePath(cacheIdentifier).toFile();
-				cacheMap.put(cacheIdentifier, new CellGridBinaryCacheObject(cacheIdentifier, file));
-			}
+			cacheMap.put(cacheIdentifier, createCellGridCache(cacheType, cacheIdentifier));
 		} else {
 			if(cacheType == CacheType.TXT_CACHE){
 				file = buildCsvCachePath(cacheIdentifier).toFile();
@@ -142,6 +139,16 @@ public class ScenarioCache {
 		}
 	}
 
+	private ICellGridCacheObject createCellGridCache(CacheType cacheType, String cacheIdentifier){
+		if(cacheType == CacheType.TXT_CACHE){
+			return new CellGridTxtCacheObject(cacheIdentifier, buildCsvCachePath(cacheIdentifier).toFile());
+		} else if(cacheType == CacheType.MMAP_CACHE){
+			return new CellGridMappedCacheObject(cacheIdentifier, buildMappedCachePath(cacheIdentifier).toFile(), hash);
+		} else {
+			return new CellGridBinaryCacheObject(cacheIdentifier, buildBinCachePath(cacheIdentifier).toFile());
+		}
+	}
+
 	private Path buildCsvCachePath(String floorFieldIdentifier){
 		return cachePath.resolve(hash +  floorFieldIdentifier + txt_sufix);
 	}
@@ -150,6 +157,10 @@ public class ScenarioCache {
 		return cachePath.resolve(hash +  floorFieldIdentifier + bin_sufix);
 	}
 
+	private Path buildMappedCachePath(String floorFieldIdentifier){
+		return cachePath.resolve(hash +  floorFieldIdentifier + mmap_sufix);
+	}
+
 	public String targetToIdentifier(int targetId){
 		return TARGET_FF + targetId;
 	}
@@ -158,6 +169,10 @@ public class ScenarioCache {
 		return Distance_FF + name;
 	}
 
+	public String obstacleToIdentifier(String name){
+		return OBSTACLE_FF + name;
+	}
+
 
 	public ScenarioCache addReadOnlyCache(String cacheIdentifier, ByteArrayInputStream stream){
 		if(empty)
@@ -171,12 +186,45 @@ public class ScenarioCache {
 				cacheMap.put(cacheIdentifier, new CellGridTxtCacheObject(cacheIdentifier, null, stream));
 				logger.infof("csv cache loaded for identifier: %s", cacheIdentifier);
 				break;
+			case MMAP_CACHE:
+				cacheMap.put(cacheIdentifier, new CellGridMappedCacheObject(cacheIdentifier, ByteBuffer.wrap(stream.readAllBytes()), hash));
+				logger.infof("memory mapped cache loaded for identifier: %s", cacheIdentifier);
+				break;
 			default:
-				throw new IllegalStateException("Must be either CSV or BIN cache");
+				throw new IllegalStateException("Must be either CSV, BIN or MMAP cache");
+		}
+		return this;
+	}
+
+	/**
+	 * Shares the cell grid floor fields of this cache with all other caches which use the same shared cache,
+	 * i.e. a floor field with the same floor field hash and identifier is computed or loaded only once.
+	 * The owner of a floor field still persists it in its own cache. Call {@link #releaseSharedCaches()}
+	 * after the simulation run, otherwise the shared cache keeps the floor fields in memory.
+	 *
+	 * @param sharedCache the shared in-memory floor field store
+	 * @return this cache
+	 */
+	public ScenarioCache shareWith(final SharedFloorFieldCache sharedCache){
+		if (!empty){
+			cacheMap.replaceAll((cacheIdentifier, cacheObject) -> cacheObject instanceof ICellGridCacheObject
+					? sharedCache.share(hash + cacheIdentifier, (ICellGridCacheObject) cacheObject)
+					: cacheObject);
 		}
 		return this;
 	}
 
+	/**
+	 * Releases the shared floor fields of this cache, a floor field is removed from the shared cache if no other
+	 * cache uses it. Floor fields which are owned by this cache but were not initialized, e.g. because the
+	 * simulation run failed, are computed by the other runs waiting for them themselves.
+	 */
+	public void releaseSharedCaches(){
+		cacheMap.values().stream()
+				.filter(cacheObject -> cacheObject instanceof SharedCellGridCacheObject)
+				.forEach(cacheObject -> ((SharedCellGridCacheObject) cacheObject).release());
+	}
+
 	/**
 	 * Retrun cache for given cacheIdentifier of null if no cache readable.
 	 * @param cacheIdentifier
@@ -200,6 +248,20 @@ public class ScenarioCache {
 		return getCache(distToIdentifier(distFunction));
 	}
 
+	/**
+	 * Returns the cell grid cache of a static obstacle potential. In contrast to the floor fields the obstacle
+	 * potentials are not known in advance, i.e. the cache object is created on the first request. The name has
+	 * to identify the obstacle potential, e.g. by a hash of its parameters.
+	 *
+	 * @param name  the name of the obstacle potential
+	 * @return the cache of the obstacle potential
+	 */
+	public synchronized ICacheObject getCacheForObstaclePotential(String name){
+		if (empty)
+			throw new IllegalStateException("Empty cache object.");
+		return cacheMap.computeIfAbsent(obstacleToIdentifier(name), cacheIdentifier -> createCellGridCache(attFF.getCacheType(), cacheIdentifier));
+	}
+
 
 
 	public boolean isEmpty() {
@@ -0,0 +1,139 @@
+package org.vadere.simulator.utils.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.logging.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache object of one run which shares its floor field via a {@link SharedFloorFieldCache}. The run which
+ * claims the floor field first is its owner: it initializes the floor field using the wrapped cache object
+ * (or computes it if the wrapped cache is not readable) and publishes it. For all other runs the floor field
+ * is readable, loading it waits until the owner has published it. After the run released this object, it
+ * only uses the wrapped cache object.
+ */
+class SharedCellGridCacheObject implements ICellGridCacheObject {
+
+	private static Logger logger = Logger.getLogger(SharedCellGridCacheObject.class);
+
+	private final SharedFloorFieldCache sharedCache;
+	private final String key;
+	private final ICellGridCacheObject cacheObject;
+
+	/** the future of the floor field if this object is its owner, otherwise <tt>null</tt>. */
+	private CompletableFuture<SharedFloorFieldCache.Snapshot> ownedFloorField;
+	private boolean claimed;
+	private boolean released;
+
+	SharedCellGridCacheObject(@NotNull final SharedFloorFieldCache sharedCache, @NotNull final String key, @NotNull final ICellGridCacheObject cacheObject) {
+		this.sharedCache = sharedCache;
+		this.key = key;
+		this.cacheObject = cacheObject;
+		this.claimed = false;
+		this.released = false;
+	}
+
+	private synchronized boolean isOwner() {
+		if (!claimed) {
+			// a released object owns a floor field which is not shared
+			ownedFloorField = released ? new CompletableFuture<>() : sharedCache.claim(key);
+			claimed = true;
+		}
+		return ownedFloorField != null;
+	}
+
+	@Override
+	public void initializeObjectFromCache(CellGrid object) throws CacheException {
+		if (isOwner()) {
+			boolean loaded = false;
+			try {
+				cacheObject.initializeObjectFromCache(object);
+				loaded = true;
+			} finally {
+				// whatever the wrapped cache throws, runs waiting for the floor field must not block. They compute
+				// it themselves and the floor field computed by the owner is published by persistObject().
+				if (!loaded) {
+					ownedFloorField.completeExceptionally(new CacheException("Floor field could not be loaded by its owner."));
+				}
+			}
+			ownedFloorField.complete(new SharedFloorFieldCache.Snapshot(object));
+		} else {
+			logger.infof("wait for shared floor field: %s", getCacheIdentifier());
+			CompletableFuture<SharedFloorFieldCache.Snapshot> future = sharedCache.get(key);
+			if (future == null) {
+				throw new CacheException("Shared floor field was released.");
+			}
+			try {
+				future.get().copyTo(object);
+			} catch (ExecutionException e) {
+				throw new CacheException("Shared floor field could not be initialized by its owner.", e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CacheException("Interrupted while waiting for the shared floor field.", e);
+			}
+		}
+	}
+
+	/**
+	 * Publishes the floor field if this object owns it. If the owner failed to load the floor field,
+	 * the floor field it computed instead replaces the failed one for all runs which request it later.
+	 */
+	@Override
+	public void persistObject(CellGrid object) throws CacheException {
+		if (isOwner()) {
+			SharedFloorFieldCache.Snapshot snapshot = new SharedFloorFieldCache.Snapshot(object);
+			if (!ownedFloorField.complete(snapshot) && ownedFloorField.isCompletedExceptionally()) {
+				sharedCache.replace(key, ownedFloorField, snapshot);
+			}
+			if (cacheObject.writable()) {
+				cacheObject.persistObject(object);
+			}
+		}
+	}
+
+	/**
+	 * Owners are readable if the wrapped cache is readable, all others wait for the owner.
+	 */
+	@Override
+	public boolean readable() {
+		return !isOwner() || cacheObject.readable();
+	}
+
+	@Override
+	public boolean writable() {
+		return isOwner();
+	}
+
+	/**
+	 * Releases the reference of this object to the shared floor field, the floor field is removed from the
+	 * shared cache if no other run uses it. If this object owns the floor field but did not publish it, e.g.
+	 * because the simulation failed, runs waiting for the floor field will compute it themselves. Releasing
+	 * an object more than once has no effect.
+	 */
+	void release() {
+		CompletableFuture<SharedFloorFieldCache.Snapshot> future;
+		synchronized (this) {
+			if (released) {
+				return;
+			}
+			released = true;
+			future = ownedFloorField;
+		}
+		if (future != null && !future.isDone()) {
+			future.completeExceptionally(new CacheException("Floor field was not computed by its owner."));
+		}
+		sharedCache.release(key);
+	}
+
+	@Override
+	public String getCacheLocation() {
+		return cacheObject.getCacheLocation();
+	}
+
+	@Override
+	public String getCacheIdentifier() {
+		return cacheObject.getCacheIdentifier();
+	}
+}
@@ -0,0 +1,115 @@
+package org.vadere.simulator.utils.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.util.data.cellgrid.CellGrid;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory store of cell grid floor fields which is shared by all {@link ScenarioCache}s of concurrent
+ * simulation runs, see {@link ScenarioCache#shareWith(SharedFloorFieldCache)}. Floor fields are identified
+ * by the floor field hash of the scenario and the cache identifier, i.e. runs whose topography and
+ * floor field attributes are equal use the same floor fields.
+ *
+ * The first run which requests a floor field computes it (or loads it from its file cache) and publishes
+ * a copy. All other runs wait for this copy instead of computing the same floor field again. A floor
+ * field is kept as long as a run sharing it did not release it, see {@link ScenarioCache#releaseSharedCaches()},
+ * i.e. the memory of a long living shared cache is bounded by the floor fields of the active runs. Later runs
+ * load the floor field from the file cache of its owner.
+ */
+public class SharedFloorFieldCache {
+
+	/**
+	 * A floor field and the number of cache objects sharing it which are not released.
+	 */
+	private static class Entry {
+		private CompletableFuture<Snapshot> future = new CompletableFuture<>();
+		private boolean claimed = false;
+		private int references = 0;
+	}
+
+	private final HashMap<String, Entry> floorFields = new HashMap<>();
+
+	/**
+	 * Returns the number of floor fields which are stored or being computed for runs which did not release them.
+	 */
+	public synchronized int size() {
+		return floorFields.size();
+	}
+
+	/**
+	 * Claims the floor field with the given key.
+	 *
+	 * @return the future of the floor field if the caller is the first one claiming it, otherwise <tt>null</tt>
+	 */
+	synchronized CompletableFuture<Snapshot> claim(@NotNull final String key) {
+		Entry entry = floorFields.get(key);
+		if (entry.claimed) {
+			return null;
+		}
+		entry.claimed = true;
+		return entry.future;
+	}
+
+	/**
+	 * Returns the future of a floor field or <tt>null</tt> if all runs sharing it released it.
+	 */
+	synchronized CompletableFuture<Snapshot> get(@NotNull final String key) {
+		Entry entry = floorFields.get(key);
+		return entry == null ? null : entry.future;
+	}
+
+	/**
+	 * Replaces a failed floor field, e.g. one the owner could not load, by the floor field computed instead.
+	 */
+	synchronized void replace(@NotNull final String key, @NotNull final CompletableFuture<Snapshot> failed, @NotNull final Snapshot snapshot) {
+		Entry entry = floorFields.get(key);
+		if (entry != null && entry.future == failed) {
+			entry.future = CompletableFuture.completedFuture(snapshot);
+		}
+	}
+
+	/**
+	 * Wraps the cache object of one run such that its floor field is shared. The floor field is kept
+	 * until the returned cache object is released.
+	 */
+	synchronized ICellGridCacheObject share(@NotNull final String key, @NotNull final ICellGridCacheObject cacheObject) {
+		floorFields.computeIfAbsent(key, k -> new Entry()).references++;
+		return new SharedCellGridCacheObject(this, key, cacheObject);
+	}
+
+	/**
+	 * Releases one reference of the floor field, the floor field is removed if it was the last one.
+	 */
+	synchronized void release(@NotNull final String key) {
+		Entry entry = floorFields.get(key);
+		if (--entry.references == 0) {
+			floorFields.remove(key);
+		}
+	}
+
+	/**
+	 * Immutable copy of the potentials and tags of a {@link CellGrid}.
+	 */
+	static class Snapshot {
+		private final double[] potentials;
+		private final byte[] tags;
+
+		Snapshot(@NotNull final CellGrid cellGrid) {
+			int numPoints = cellGrid.getNumPointsX() * cellGrid.getNumPointsY();
+			potentials = new double[numPoints];
+			tags = new byte[numPoints];
+			cellGrid.writeTo(DoubleBuffer.wrap(potentials), ByteBuffer.wrap(tags));
+		}
+
+		void copyTo(@NotNull final CellGrid cellGrid) throws CacheException {
+			if (potentials.length != cellGrid.getNumPointsX() * cellGrid.getNumPointsY()) {
+				throw new CacheException("Shared floor field does not match the size of the grid.");
+			}
+			cellGrid.readFrom(DoubleBuffer.wrap(potentials), ByteBuffer.wrap(tags));
+		}
+	}
+}
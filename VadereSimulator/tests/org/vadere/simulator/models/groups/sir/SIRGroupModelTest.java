@@ -0,0 +1,105 @@
+package org.vadere.simulator.models.groups.sir;
+
+import org.junit.Test;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.state.attributes.Attributes;
+import org.vadere.state.attributes.models.AttributesSIRG;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.util.StateJsonConverter;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SIRGroupModelTest {
+
+	private static final double timeStep = 0.4;
+
+	@Test
+	public void onlyCloseSusceptiblePedestriansGetInfected() throws IOException {
+		Topography topography = new Topography();
+		SIRGroupModel model = createModel(topography, 1, 0.5, 0.0, 42);
+
+		List<Pedestrian> pedestrians = new ArrayList<>();
+		pedestrians.add(addPedestrian(topography, 1, new VPoint(2.0, 2.0)));
+		for (int i = 0; i < 10; i++) {
+			pedestrians.add(addPedestrian(topography, 2 + i, new VPoint(2.5 + 0.05 * i, 2.0)));
+			pedestrians.add(addPedestrian(topography, 12 + i, new VPoint(6.0 + 1.5 * (i % 3), 1.0 + 1.5 * (i / 3))));
+		}
+		assertEquals(SIRType.ID_INFECTED.ordinal(), groupId(pedestrians.get(0)));
+		List<Integer> initialGroupIds = new ArrayList<>();
+		pedestrians.forEach(p -> initialGroupIds.add(groupId(p)));
+
+		for (int step = 1; step <= 20; step++) {
+			model.update(step * timeStep);
+		}
+
+		for (int i = 0; i < pedestrians.size(); i++) {
+			Pedestrian pedestrian = pedestrians.get(i);
+			if (pedestrian.getPosition().x < 5) {
+				assertEquals(SIRType.ID_INFECTED.ordinal(), groupId(pedestrian));
+			} else {
+				// the pedestrians on the right side are too far away from each other and the pedestrians on the left side
+				assertEquals(initialGroupIds.get(i).intValue(), groupId(pedestrian));
+			}
+		}
+	}
+
+	@Test
+	public void sameSeedGivesSameEpidemic() throws IOException {
+		List<List<Integer>> first = runEpidemic(7);
+		List<List<Integer>> second = runEpidemic(7);
+		assertEquals(first, second);
+		assertTrue(first.get(first.size() - 1).contains(SIRType.ID_RECOVERED.ordinal()));
+	}
+
+	private List<List<Integer>> runEpidemic(final long seed) throws IOException {
+		Topography topography = new Topography();
+		SIRGroupModel model = createModel(topography, 5, 0.05, 0.05, seed);
+		Random positions = new Random(0);
+		List<Pedestrian> pedestrians = new ArrayList<>();
+		for (int i = 1; i <= 500; i++) {
+			pedestrians.add(addPedestrian(topography, i, new VPoint(10 * positions.nextDouble(), 10 * positions.nextDouble())));
+		}
+
+		List<List<Integer>> groupIdsPerStep = new ArrayList<>();
+		for (int step = 1; step <= 30; step++) {
+			model.update(step * timeStep);
+			List<Integer> groupIds = new ArrayList<>();
+			pedestrians.stream().sorted((p1, p2) -> Integer.compare(p1.getId(), p2.getId())).forEach(p -> groupIds.add(groupId(p)));
+			groupIdsPerStep.add(groupIds);
+		}
+		return groupIdsPerStep;
+	}
+
+	private SIRGroupModel createModel(final Topography topography, final int infectionsAtStart, final double infectionRate,
+	                                  final double recoveryRate, final long seed) throws IOException {
+		String json = String.format("{\"infectionsAtStart\": %d, \"infectionRate\": %s, \"recoveryRate\": %s, \"infectionMaxDistance\": 1.0}",
+				infectionsAtStart, infectionRate, recoveryRate);
+		List<Attributes> attributesList = new ArrayList<>();
+		attributesList.add(StateJsonConverter.deserializeObjectFromJson(json, AttributesSIRG.class));
+
+		SIRGroupModel model = new SIRGroupModel();
+		model.initialize(attributesList, new Domain(topography), new AttributesAgent(), new Random(seed));
+		model.preLoop(0);
+		return model;
+	}
+
+	private Pedestrian addPedestrian(final Topography topography, final int id, final VPoint position) {
+		Pedestrian pedestrian = new Pedestrian(new AttributesAgent(id), new Random(id));
+		pedestrian.setPosition(position);
+		topography.addElement(pedestrian);
+		return pedestrian;
+	}
+
+	private int groupId(final Pedestrian pedestrian) {
+		return pedestrian.getGroupIds().getFirst();
+	}
+}
@@ -0,0 +1,146 @@
+package org.vadere.simulator.models.osm.updateScheme;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.simulator.models.MainModel;
+import org.vadere.simulator.models.MainModelBuilder;
+import org.vadere.simulator.models.Model;
+import org.vadere.simulator.models.osm.PedestrianOSM;
+import org.vadere.simulator.projects.Scenario;
+import org.vadere.simulator.projects.io.JsonConverter;
+import org.vadere.state.psychology.perception.types.ElapsedTime;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.io.IOUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs a seeded OSM scenario with the {@link UpdateSchemeForkJoin} with different levels of parallelism. The
+ * trajectories of the agents must neither depend on the number of threads nor on the thread scheduling.
+ */
+public class UpdateSchemeForkJoinTest {
+
+	private static final double SIM_TIME_STEP_LENGTH = 0.4;
+	private static final int[] PARALLELISM = {1, 2, 4};
+
+	/**
+	 * ids of the targets of the test scenario: a large target at the right border and a tiny target at its center.
+	 */
+	private static final int TARGET_BORDER = 1;
+	private static final int TARGET_CENTER = 2;
+
+	private String json;
+
+	@Before
+	public void setUp() throws Exception {
+		json = IOUtils.readTextFile(new File(getClass()
+				.getResource("/org/vadere/simulator/models/osm/updateScheme/fork_join.scenario").toURI()).getAbsolutePath());
+	}
+
+	@Test
+	public void testTrajectoriesDoNotDependOnParallelism() throws Exception {
+		List<VPoint> positions = new ArrayList<>();
+		for (int row = 0; row < 8; row++) {
+			for (int column = 0; column < 6; column++) {
+				positions.add(new VPoint(1.0 + column * 0.5, 3.0 + row * 0.5));
+			}
+		}
+
+		List<Map<Integer, VPoint>> expected = simulate(PARALLELISM[0], positions, TARGET_BORDER, 30);
+		assertEquals(positions.size(), expected.get(expected.size() - 1).size());
+		assertTrue(expected.get(0).get(1).distance(expected.get(expected.size() - 1).get(1)) > 1.0);
+
+		for (int parallelism : PARALLELISM) {
+			for (int run = 0; run < 3; run++) {
+				assertEquals("parallelism = " + parallelism + ", run = " + run,
+						expected, simulate(parallelism, positions, TARGET_BORDER, 30));
+			}
+		}
+	}
+
+	/**
+	 * Two agents with the same time of the next step walk to the same point and both steps end on top of each
+	 * other. The agent with the smaller id keeps its step, the other one has to undo its step and to step again.
+	 */
+	@Test
+	public void testConflictIsResolvedByTheSmallerId() throws Exception {
+		testConflict(new VPoint(9.4, 5.0), new VPoint(10.6, 5.0));
+		testConflict(new VPoint(10.6, 5.0), new VPoint(9.4, 5.0));
+	}
+
+	private void testConflict(final VPoint first, final VPoint second) throws Exception {
+		List<VPoint> positions = List.of(first, second);
+		VPoint center = new VPoint(10.0, 5.0);
+
+		// the first update only initializes the time of the next step
+		List<Map<Integer, VPoint>> expected = simulate(PARALLELISM[0], positions, TARGET_CENTER, 2);
+		Map<Integer, VPoint> result = expected.get(1);
+
+		// without the other agent both agents would step into the center
+		assertTrue(result.get(1).distance(center) < 0.1);
+		assertTrue(result.get(2).distance(center) > 0.3);
+		assertTrue(result.get(2).distance(second) > 0.1);
+
+		for (int parallelism : PARALLELISM) {
+			for (int run = 0; run < 3; run++) {
+				assertEquals("parallelism = " + parallelism + ", run = " + run,
+						expected, simulate(parallelism, positions, TARGET_CENTER, 2));
+			}
+		}
+	}
+
+	/**
+	 * Creates a fresh model with the fixed seed of the scenario and the agents at the positions (with the ids
+	 * 1, 2, ...) and returns the positions of all agents after each simulation step.
+	 */
+	private List<Map<Integer, VPoint>> simulate(final int parallelism, final List<VPoint> positions, final int targetId,
+	                                            final int steps) throws Exception {
+		Scenario scenario = JsonConverter.deserializeScenarioRunManager(json);
+		Topography topography = scenario.getTopography();
+		MainModelBuilder modelBuilder = new MainModelBuilder(scenario.getScenarioStore(), null, null);
+		modelBuilder.createModelAndRandom();
+		MainModel mainModel = modelBuilder.getModel();
+
+		for (int i = 0; i < positions.size(); i++) {
+			PedestrianOSM pedestrian = (PedestrianOSM) mainModel.createElement(positions.get(i), i + 1, Pedestrian.class);
+			pedestrian.setTargets(new LinkedList<>(List.of(targetId)));
+			topography.addElement(pedestrian);
+		}
+
+		for (Model model : mainModel.getSubmodels()) {
+			model.preLoop(0);
+		}
+
+		UpdateSchemeForkJoin updateScheme = new UpdateSchemeForkJoin(topography, parallelism);
+		List<Map<Integer, VPoint>> trajectories = new ArrayList<>();
+		try {
+			for (int step = 1; step <= steps; step++) {
+				double simTimeInSec = step * SIM_TIME_STEP_LENGTH;
+				for (Pedestrian pedestrian : topography.getPedestrianDynamicElements().getElements()) {
+					pedestrian.setMostImportantStimulus(new ElapsedTime(simTimeInSec));
+				}
+				updateScheme.update(SIM_TIME_STEP_LENGTH, simTimeInSec);
+
+				Map<Integer, VPoint> snapshot = new TreeMap<>();
+				for (Pedestrian pedestrian : topography.getPedestrianDynamicElements().getElements()) {
+					snapshot.put(pedestrian.getId(), pedestrian.getPosition());
+				}
+				trajectories.add(snapshot);
+			}
+		} finally {
+			updateScheme.shutdown();
+			mainModel.postLoop(steps * SIM_TIME_STEP_LENGTH);
+		}
+		return trajectories;
+	}
+}
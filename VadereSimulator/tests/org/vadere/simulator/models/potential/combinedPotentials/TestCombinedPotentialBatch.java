@@ -0,0 +1,126 @@
+package org.vadere.simulator.models.potential.combinedPotentials;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.simulator.models.potential.PotentialFieldObstacleCompact;
+import org.vadere.simulator.models.potential.PotentialFieldObstacleCompactSoftshell;
+import org.vadere.simulator.models.potential.PotentialFieldPedestrianCompact;
+import org.vadere.simulator.models.potential.PotentialFieldPedestrianCompactSoftshell;
+import org.vadere.simulator.models.potential.fields.IPotentialFieldTargetGrid;
+import org.vadere.simulator.models.potential.fields.PotentialFieldAgent;
+import org.vadere.simulator.models.potential.fields.PotentialFieldObstacle;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.state.attributes.Attributes;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.state.attributes.models.AttributesOSM;
+import org.vadere.state.attributes.models.AttributesPotentialCompact;
+import org.vadere.state.attributes.models.AttributesPotentialCompactSoftshell;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.attributes.scenario.AttributesObstacle;
+import org.vadere.state.attributes.scenario.AttributesTarget;
+import org.vadere.state.scenario.Obstacle;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Target;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.shapes.VCircle;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestCombinedPotentialBatch {
+
+	private Domain domain;
+	private IPotentialFieldTargetGrid potentialFieldTarget;
+	private List<Attributes> attributesList;
+	private Pedestrian pedestrian;
+	private List<Pedestrian> otherPedestrians;
+	private double[] x;
+	private double[] y;
+
+	@Before
+	public void setUp() {
+		Topography topography = new Topography();
+
+		Target target = new Target(new AttributesTarget());
+		target.setShape(new VCircle(new VPoint(8, 5), 1));
+		target.getAttributes().setId(1);
+		topography.addTarget(target);
+		topography.addObstacle(new Obstacle(new AttributesObstacle(2, new VRectangle(4, 2, 1, 2))));
+
+		domain = new Domain(topography);
+		attributesList = new ArrayList<>();
+		attributesList.add(new AttributesFloorField());
+		attributesList.add(new AttributesPotentialCompact());
+		attributesList.add(new AttributesPotentialCompactSoftshell());
+
+		potentialFieldTarget = IPotentialFieldTargetGrid.createPotentialField(attributesList, domain,
+				new AttributesAgent(), new AttributesOSM().getTargetPotentialModel());
+		potentialFieldTarget.preLoop(0);
+
+		pedestrian = createPedestrian(1, new VPoint(3.5, 3));
+		otherPedestrians = new ArrayList<>();
+		otherPedestrians.add(pedestrian);
+		otherPedestrians.add(createPedestrian(2, new VPoint(3.8, 3.3)));
+		otherPedestrians.add(createPedestrian(3, new VPoint(3.1, 2.6)));
+		otherPedestrians.add(createPedestrian(4, new VPoint(3.4, 3.9)));
+
+		// some positions are close to or inside the obstacle and close to other pedestrians
+		Random random = new Random(0);
+		int n = 200;
+		x = new double[n];
+		y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = pedestrian.getPosition().x + (random.nextDouble() - 0.5) * 2.0;
+			y[i] = pedestrian.getPosition().y + (random.nextDouble() - 0.5) * 2.0;
+		}
+	}
+
+	private Pedestrian createPedestrian(final int id, final VPoint position) {
+		Pedestrian pedestrian = new Pedestrian(new AttributesAgent(id), new Random(id));
+		pedestrian.setPosition(position);
+		LinkedList<Integer> targets = new LinkedList<>();
+		targets.add(1);
+		pedestrian.setTargets(targets);
+		return pedestrian;
+	}
+
+	private void assertBatchEqualsSingle(final ICombinedPotentialStrategy strategy) {
+		double[] values = new double[x.length + 1];
+		Arrays.fill(values, -1.0);
+		strategy.getValues(x, y, x.length, pedestrian, otherPedestrians, values);
+
+		for (int i = 0; i < x.length; i++) {
+			assertEquals(strategy.getValue(new VPoint(x[i], y[i]), pedestrian, otherPedestrians), values[i], 0.0);
+		}
+		assertEquals(-1.0, values[x.length], 0.0);
+	}
+
+	@Test
+	public void testCompactSoftshellBatchEqualsSingleEvaluation() {
+		PotentialFieldObstacle potentialFieldObstacle = PotentialFieldObstacle.createPotentialField(attributesList, domain,
+				new AttributesAgent(), new Random(0), PotentialFieldObstacleCompactSoftshell.class.getName());
+		PotentialFieldAgent potentialFieldAgent = PotentialFieldAgent.createPotentialField(attributesList, domain,
+				new AttributesAgent(), new Random(0), PotentialFieldPedestrianCompactSoftshell.class.getName());
+
+		assertBatchEqualsSingle(new TargetAttractionStrategy(potentialFieldTarget, potentialFieldObstacle, potentialFieldAgent));
+		assertBatchEqualsSingle(new TargetRepulsionStrategy(potentialFieldTarget, potentialFieldObstacle, potentialFieldAgent));
+	}
+
+	@Test
+	public void testCompactBatchEqualsSingleEvaluation() {
+		PotentialFieldObstacle potentialFieldObstacle = PotentialFieldObstacle.createPotentialField(attributesList, domain,
+				new AttributesAgent(), new Random(0), PotentialFieldObstacleCompact.class.getName());
+		PotentialFieldAgent potentialFieldAgent = PotentialFieldAgent.createPotentialField(attributesList, domain,
+				new AttributesAgent(), new Random(0), PotentialFieldPedestrianCompact.class.getName());
+
+		assertBatchEqualsSingle(new TargetAttractionStrategy(potentialFieldTarget, potentialFieldObstacle, potentialFieldAgent));
+		assertBatchEqualsSingle(new TargetRepulsionStrategy(potentialFieldTarget, potentialFieldObstacle, potentialFieldAgent));
+	}
+}
@@ -0,0 +1,94 @@
+package org.vadere.simulator.models.potential.fields;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.simulator.models.potential.PotentialFieldObstacleCompactSoftshell;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.state.attributes.Attributes;
+import org.vadere.state.attributes.models.AttributesPotentialCompactSoftshell;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.attributes.scenario.AttributesObstacle;
+import org.vadere.state.scenario.Obstacle;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestObstaclePotentialRaster {
+
+	private Domain domain;
+	private List<Attributes> attributesList;
+	private AttributesPotentialCompactSoftshell attributesPotential;
+	private Pedestrian pedestrian;
+
+	@Before
+	public void setUp() {
+		Topography topography = new Topography();
+		topography.addObstacle(new Obstacle(new AttributesObstacle(1, new VRectangle(4, 2, 1, 2))));
+		domain = new Domain(topography);
+
+		attributesPotential = new AttributesPotentialCompactSoftshell();
+		attributesList = new ArrayList<>();
+		attributesList.add(attributesPotential);
+
+		pedestrian = new Pedestrian(new AttributesAgent(1), new Random(1));
+	}
+
+	private PotentialFieldObstacle createSoftshell() {
+		return PotentialFieldObstacle.createPotentialField(attributesList, domain, new AttributesAgent(), new Random(0),
+				PotentialFieldObstacleCompactSoftshell.class.getName());
+	}
+
+	@Test
+	public void testSimilarRadiiShareRaster() {
+		// the potential is the radius of the raster, i.e. constant on each raster
+		ObstaclePotentialRaster raster = new ObstaclePotentialRaster(domain, (distance, radius) -> radius, 0.5, attributesPotential);
+
+		assertEquals(0.2, raster.getPotential(1.0, 1.0, 0.2012), 1.0E-9);
+		assertEquals(0.2, raster.getPotential(1.0, 1.0, 0.1961), 1.0E-9);
+		assertEquals(0.21, raster.getPotential(1.0, 1.0, 0.2089), 1.0E-9);
+	}
+
+	@Test
+	public void testNumberOfRastersIsLimited() {
+		ObstaclePotentialRaster raster = new ObstaclePotentialRaster(domain, (distance, radius) -> radius, 0.5, attributesPotential);
+		for (int i = 0; i < 16; i++) {
+			assertEquals(0.1 + i * 0.01, raster.getPotential(1.0, 1.0, 0.1 + i * 0.01), 1.0E-9);
+		}
+
+		// without a free raster the exact potential is used
+		assertEquals(0.2649, raster.getPotential(1.0, 1.0, 0.2649), 0.0);
+		assertEquals(0.1, raster.getPotential(1.0, 1.0, 0.1003), 1.0E-9);
+	}
+
+	@Test
+	public void testRasterApproximatesObstaclePotential() {
+		PotentialFieldObstacle exact = createSoftshell();
+		attributesPotential.setObstaclePotentialRaster(true);
+		attributesPotential.setObstaclePotentialRasterResolution(0.05);
+		PotentialFieldObstacle raster = createSoftshell();
+
+		// positions in front of the obstacle outside of the body of the agent and far away from it
+		for (double x = 2.0; x < 3.75; x += 0.013) {
+			VPoint pos = new VPoint(x, 3.1);
+			double expected = exact.getObstaclePotential(pos, pedestrian);
+			assertEquals(expected, raster.getObstaclePotential(pos, pedestrian), 0.01 * expected + 1.0E-3);
+		}
+
+		double[] x = {1.0, 2.5, 3.5, 9.0};
+		double[] y = {1.0, 3.0, 2.5, 9.0};
+		double[] potentials = new double[x.length];
+		raster.addObstaclePotentials(x, y, x.length, pedestrian, potentials);
+		for (int i = 0; i < x.length; i++) {
+			assertEquals(raster.getObstaclePotential(new VPoint(x[i], y[i]), pedestrian), potentials[i], 0.0);
+		}
+		assertEquals(0.0, potentials[0], 0.0);
+		assertEquals(0.0, potentials[3], 0.0);
+	}
+}
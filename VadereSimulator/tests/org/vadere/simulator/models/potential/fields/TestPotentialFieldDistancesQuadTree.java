@@ -0,0 +1,69 @@
+package org.vadere.simulator.models.potential.fields;
+
+import org.junit.Test;
+import org.vadere.simulator.utils.cache.ScenarioCache;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.util.geometry.GeometryUtils;
+import org.vadere.util.geometry.shapes.VCircle;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+import org.vadere.util.geometry.shapes.VShape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestPotentialFieldDistancesQuadTree {
+
+	private static final double EPSILON = 1.0E-9;
+
+	private final VRectangle bounds = new VRectangle(0, 0, 12, 7);
+	private final AttributesFloorField attributesFloorField = new AttributesFloorField();
+
+	@Test
+	public void testDistancesAreEqualToBruteForceDistances() {
+		Random random = new Random(0);
+		List<VShape> obstacles = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			double x = random.nextDouble() * bounds.getWidth();
+			double y = random.nextDouble() * bounds.getHeight();
+			switch (i % 3) {
+				case 0:
+					obstacles.add(new VRectangle(x, y, 0.1 + random.nextDouble(), 0.1 + random.nextDouble()));
+					break;
+				case 1:
+					obstacles.add(new VCircle(new VPoint(x, y), 0.1 + random.nextDouble() * 0.5));
+					break;
+				default:
+					obstacles.add(GeometryUtils.toPolygon(new VPoint(x, y), new VPoint(x + 1.5, y + 0.2), new VPoint(x + 0.3, y + 0.9)));
+			}
+		}
+
+		assertDistances(obstacles);
+	}
+
+	@Test
+	public void testDistancesOfAFewLargeObstacles() {
+		List<VShape> obstacles = new ArrayList<>();
+		obstacles.add(new VRectangle(-1, -1, 14, 1));
+		obstacles.add(new VRectangle(-1, 7, 14, 1));
+		obstacles.add(new VRectangle(5, 2, 0.5, 3));
+
+		assertDistances(obstacles);
+	}
+
+	private void assertDistances(final List<VShape> obstacles) {
+		IPotentialField distanceField = new PotentialFieldDistancesQuadTree(obstacles, bounds, attributesFloorField, ScenarioCache.empty());
+		double resolution = attributesFloorField.getPotentialFieldResolution();
+
+		for (int x = 0; x * resolution <= bounds.getWidth(); x++) {
+			for (int y = 0; y * resolution <= bounds.getHeight(); y++) {
+				VPoint point = new VPoint(bounds.getMinX() + x * resolution, bounds.getMinY() + y * resolution);
+				double expected = obstacles.stream().mapToDouble(shape -> shape.distance(point)).min().getAsDouble();
+				assertEquals("distance at " + point, expected, distanceField.getPotential(point, null), EPSILON);
+			}
+		}
+	}
+}
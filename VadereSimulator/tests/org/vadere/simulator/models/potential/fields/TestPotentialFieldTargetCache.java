@@ -0,0 +1,107 @@
+package org.vadere.simulator.models.potential.fields;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.simulator.projects.Domain;
+import org.vadere.state.attributes.Attributes;
+import org.vadere.state.attributes.models.AttributesFloorField;
+import org.vadere.state.attributes.models.AttributesOSM;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.attributes.scenario.AttributesObstacle;
+import org.vadere.state.attributes.scenario.AttributesTarget;
+import org.vadere.state.scenario.Obstacle;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Target;
+import org.vadere.state.scenario.Topography;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.geometry.shapes.VCircle;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPotentialFieldTargetCache {
+
+	private PotentialFieldTarget potentialFieldTarget;
+	private Pedestrian pedestrian;
+
+	@Before
+	public void setUp() {
+		Topography topography = new Topography();
+
+		Target target = new Target(new AttributesTarget());
+		target.setShape(new VCircle(new VPoint(8, 5), 1));
+		target.getAttributes().setId(1);
+		topography.addTarget(target);
+		topography.addObstacle(new Obstacle(new AttributesObstacle(2, new VRectangle(4, 2, 1, 2))));
+
+		List<Attributes> attributesList = new ArrayList<>();
+		attributesList.add(new AttributesFloorField());
+		potentialFieldTarget = (PotentialFieldTarget) IPotentialFieldTargetGrid.createPotentialField(attributesList, new Domain(topography),
+				new AttributesAgent(), new AttributesOSM().getTargetPotentialModel());
+		potentialFieldTarget.preLoop(0);
+
+		pedestrian = new Pedestrian(new AttributesAgent(1), new Random(1));
+		LinkedList<Integer> targets = new LinkedList<>();
+		targets.add(1);
+		pedestrian.setTargets(targets);
+	}
+
+	// evaluates positions around the pedestrian, some of them inside the obstacle or the target
+	private void assertCachedEqualsUncached(final VPoint position) {
+		pedestrian.setPosition(position);
+		Random random = new Random(0);
+		int n = 200;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		double[] potentials = new double[n];
+
+		for (int i = 0; i < n; i++) {
+			x[i] = position.x + (random.nextDouble() - 0.5) * 2.0;
+			y[i] = position.y + (random.nextDouble() - 0.5) * 2.0;
+		}
+
+		potentialFieldTarget.addPotentials(x, y, n, pedestrian, potentials);
+
+		for (int i = 0; i < n; i++) {
+			VPoint pos = new VPoint(x[i], y[i]);
+			double expected = potentialFieldTarget.getPotential(pos, 1);
+			assertEquals(expected, potentials[i], 0.0);
+			assertEquals(expected, potentialFieldTarget.getPotential(pos, pedestrian), 0.0);
+		}
+	}
+
+	@Test
+	public void testCachedPotentialEqualsUncachedPotential() {
+		assertCachedEqualsUncached(new VPoint(3.5, 3));
+		assertCachedEqualsUncached(new VPoint(2, 7));
+		assertCachedEqualsUncached(new VPoint(8.5, 5.2));
+		assertCachedEqualsUncached(new VPoint(0.2, 0.3));
+
+		assertTrue(potentialFieldTarget.getInterpolationCacheHitRate() > 0);
+		assertTrue(potentialFieldTarget.getContainmentCacheHitRate() > 0);
+	}
+
+	@Test
+	public void testCachedPotentialFollowsGridChanges() {
+		VPoint position = new VPoint(2, 7);
+		pedestrian.setPosition(position);
+		double potential = potentialFieldTarget.getPotential(position, pedestrian);
+
+		CellGrid cellGrid = ((PotentialFieldTargetGrid) potentialFieldTarget).getCellGrids().get(1);
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				cellGrid.setPotential(x, y, cellGrid.getPotential(x, y) + 1.0);
+			}
+		}
+
+		assertEquals(potentialFieldTarget.getPotential(position, 1), potentialFieldTarget.getPotential(position, pedestrian), 0.0);
+		assertTrue(potentialFieldTarget.getPotential(position, pedestrian) > potential);
+	}
+}
@@ -0,0 +1,170 @@
+package org.vadere.simulator.models.potential.solver;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.simulator.models.potential.solver.calculators.cartesian.AGridEikonalSolver;
+import org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFIM;
+import org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFMM;
+import org.vadere.simulator.models.potential.solver.calculators.cartesian.EikonalSolverFSM;
+import org.vadere.simulator.models.potential.solver.timecost.ITimeCostFunction;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.data.cellgrid.CellState;
+import org.vadere.util.data.cellgrid.PathFindingTag;
+import org.vadere.util.geometry.shapes.IPoint;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.math.IDistanceFunction;
+
+import java.awt.*;
+import java.util.function.BiFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the incremental update of dynamic floor fields with solving the eikonal equation from scratch.
+ */
+public class TestIncrementalGridEikonalSolver {
+
+	private static final double resolution = 0.1;
+	private static final double width = 6.0;
+	private static final double height = 6.0;
+
+	private IDistanceFunction distFunc;
+	private MovingBumpTimeCost timeCost;
+
+	@Before
+	public void setUp() {
+		VPoint target = new VPoint(3.0, 3.0);
+		distFunc = p -> -target.distance(p);
+		timeCost = new MovingBumpTimeCost();
+	}
+
+	@Test
+	public void testFMM() {
+		testIncrementalUpdate((grid, cost) -> new EikonalSolverFMM(grid, distFunc, false, cost, 0.1, 1.0), 1.0e-4);
+	}
+
+	@Test
+	public void testHighAccuracyFMM() {
+		testIncrementalUpdate((grid, cost) -> new EikonalSolverFMM(grid, distFunc, true, cost, 0.1, 1.0), 1.0e-3);
+	}
+
+	@Test
+	public void testFIM() {
+		testIncrementalUpdate((grid, cost) -> new EikonalSolverFIM(grid, distFunc, false, cost, 0.1, 1.0), 0.01);
+	}
+
+	@Test
+	public void testFSM() {
+		testIncrementalUpdate((grid, cost) -> new EikonalSolverFSM(grid, distFunc, false, cost, 0.1, 1.0), 0.01);
+	}
+
+	@Test
+	public void testUnchangedTimeCost() {
+		CellGrid cellGrid = createCellGrid();
+		AGridEikonalSolver solver = new EikonalSolverFMM(cellGrid, distFunc, false, timeCost, 0.1, 1.0);
+		solver.enableIncrementalUpdate(0.01);
+		solver.solve();
+		CellGrid expected = cellGrid.clone();
+
+		timeCost.moveTo(null, 0.0);
+		solver.update();
+		assertEquals(0, solver.getNumberOfUpdatedPoints());
+		assertEqualPotentials(expected, cellGrid, 0.0);
+	}
+
+	private void testIncrementalUpdate(final BiFunction<CellGrid, ITimeCostFunction, AGridEikonalSolver> factory, final double tolerance) {
+		CellGrid cellGrid = createCellGrid();
+		AGridEikonalSolver solver = factory.apply(cellGrid, timeCost);
+		solver.enableIncrementalUpdate(0.01);
+		assertTrue(solver.isIncrementalUpdate());
+		solver.solve();
+
+		// a congestion appears in the free space, moves behind the obstacle and dissolves
+		VPoint[] centers = {new VPoint(4.5, 3.0), new VPoint(4.2, 4.0), new VPoint(0.5, 3.0), null};
+		double[] amplitudes = {2.0, 2.0, 4.0, 0.0};
+		int numberOfPoints = cellGrid.getNumPointsX() * cellGrid.getNumPointsY();
+
+		for (int i = 0; i < centers.length; i++) {
+			timeCost.moveTo(centers[i], amplitudes[i]);
+			solver.update();
+			int updatedPoints = solver.getNumberOfUpdatedPoints();
+			assertTrue(updatedPoints > 0);
+			assertTrue("updated " + updatedPoints, updatedPoints < numberOfPoints / 2);
+
+			MovingBumpTimeCost fixedTimeCost = new MovingBumpTimeCost();
+			fixedTimeCost.moveTo(centers[i], amplitudes[i]);
+			fixedTimeCost.update();
+			CellGrid expected = createCellGrid();
+			factory.apply(expected, fixedTimeCost).solve();
+			assertEqualPotentials(expected, cellGrid, tolerance);
+		}
+	}
+
+	private CellGrid createCellGrid() {
+		CellGrid cellGrid = new CellGrid(width, height, resolution, new CellState(Double.MAX_VALUE, PathFindingTag.Undefined));
+		cellGrid.setValue(new Point(30, 30), new CellState(0.0, PathFindingTag.Target));
+		for (int x = 10; x < 20; x++) {
+			for (int y = 20; y < 45; y++) {
+				cellGrid.setValue(new Point(x, y), new CellState(Double.MAX_VALUE, PathFindingTag.Obstacle));
+			}
+		}
+		return cellGrid;
+	}
+
+	private void assertEqualPotentials(final CellGrid expected, final CellGrid actual, final double tolerance) {
+		for (int x = 0; x < expected.getNumPointsX(); x++) {
+			for (int y = 0; y < expected.getNumPointsY(); y++) {
+				double expectedPotential = expected.getPotential(x, y);
+				double actualPotential = actual.getPotential(x, y);
+				if (expectedPotential == Double.MAX_VALUE) {
+					assertEquals(Double.MAX_VALUE, actualPotential, 0.0);
+				} else {
+					assertEquals("potential at (" + x + ", " + y + ")", expectedPotential, actualPotential, tolerance * Math.max(1.0, expectedPotential));
+				}
+			}
+		}
+	}
+
+	/**
+	 * A unit time cost with a disc of higher cost which moves in each update, like a moving group of pedestrians.
+	 */
+	private static class MovingBumpTimeCost implements ITimeCostFunction {
+		private static final double radius = 0.5;
+
+		private VPoint center;
+		private double amplitude;
+		private VPoint nextCenter;
+		private double nextAmplitude;
+		private boolean needsUpdate;
+
+		/**
+		 * The disc moves with the next update.
+		 */
+		void moveTo(final VPoint center, final double amplitude) {
+			this.nextCenter = center;
+			this.nextAmplitude = amplitude;
+			this.needsUpdate = true;
+		}
+
+		@Override
+		public double costAt(final IPoint p) {
+			if (center != null && center.distance(p) < radius) {
+				return 1.0 + amplitude;
+			}
+			return 1.0;
+		}
+
+		@Override
+		public void update() {
+			center = nextCenter;
+			amplitude = nextAmplitude;
+			needsUpdate = false;
+		}
+
+		@Override
+		public boolean needsUpdate() {
+			return needsUpdate;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package org.vadere.simulator.projects.dataprocessing;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.simulator.control.simulation.SimulationState;
+import org.vadere.simulator.projects.dataprocessing.datakey.EventtimePedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.datakey.PedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.processor.DataProcessor;
+import org.vadere.simulator.projects.dataprocessing.processor.FootStepProcessor;
+import org.vadere.simulator.projects.dataprocessing.processor.PedestrianTrajectoryProcessor;
+import org.vadere.state.attributes.scenario.AttributesAgent;
+import org.vadere.state.scenario.Pedestrian;
+import org.vadere.state.scenario.Topography;
+import org.vadere.state.simulation.FootStep;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ensure that the {@link ProcessorManager} publishes each foot step exactly once, independent of
+ * whether the model clears the trajectories of the pedestrians in each step or not.
+ */
+public class FootStepPublishingTest {
+
+	private Topography topography;
+	private FootStepProcessor footStepProcessor;
+	private PedestrianTrajectoryProcessor trajectoryProcessor;
+	private ProcessorManager manager;
+	private Map<EventtimePedestrianIdKey, FootStep> footSteps;
+	private int publishedFootSteps;
+
+	@Before
+	public void setUp() {
+		topography = new Topography();
+		footStepProcessor = new FootStepProcessor() {
+			@Override
+			public void footStepCompleted(final SimulationState state, final Pedestrian pedestrian, final FootStep footStep) {
+				super.footStepCompleted(state, pedestrian, footStep);
+				publishedFootSteps++;
+			}
+		};
+		footStepProcessor.setId(1);
+		trajectoryProcessor = new PedestrianTrajectoryProcessor();
+		trajectoryProcessor.setId(2);
+
+		List<DataProcessor<?, ?>> processors = Arrays.asList(footStepProcessor, trajectoryProcessor);
+		manager = new ProcessorManager(processors, new ArrayList<>(), null, topography);
+		manager.preLoop(createState(0));
+		footSteps = new LinkedHashMap<>();
+	}
+
+	private SimulationState createState(final int step) {
+		SimulationState state = mock(SimulationState.class);
+		when(state.getStep()).thenReturn(step);
+		when(state.getTopography()).thenReturn(topography);
+		return state;
+	}
+
+	private Pedestrian addPedestrian(final int id) {
+		Pedestrian pedestrian = new Pedestrian(new AttributesAgent(id), new Random(1));
+		pedestrian.setPosition(new VPoint(0, 0));
+		topography.addElement(pedestrian);
+		return pedestrian;
+	}
+
+	private void step(final Pedestrian pedestrian, final double startTime, final double endTime) {
+		FootStep footStep = new FootStep(new VPoint(startTime, 0), new VPoint(endTime, 0), startTime, endTime);
+		pedestrian.addFootStepToTrajectory(footStep);
+		footSteps.put(new EventtimePedestrianIdKey(startTime, pedestrian.getId()), footStep);
+	}
+
+	@Test
+	public void eachFootStepIsPublishedOnce() {
+		Pedestrian first = addPedestrian(1);
+		step(first, 0.0, 0.4);
+		step(first, 0.4, 0.8);
+		manager.update(createState(1));
+
+		// the trajectory is not cleared
+		Pedestrian second = addPedestrian(2);
+		step(first, 0.8, 1.2);
+		step(second, 0.9, 1.3);
+		manager.update(createState(2));
+
+		// no foot step
+		manager.update(createState(3));
+
+		// the trajectories are cleared
+		first.clearFootSteps();
+		second.clearFootSteps();
+		step(first, 1.2, 1.6);
+		step(first, 1.6, 2.0);
+		step(second, 1.3, 1.7);
+		manager.update(createState(4));
+
+		assertEquals(footSteps.size(), publishedFootSteps);
+		assertEquals(footSteps.keySet(), new HashSet<>(footStepProcessor.getKeys()));
+		footSteps.forEach((key, footStep) -> assertEquals(footStep, footStepProcessor.getValue(key)));
+
+		assertEquals(5, trajectoryProcessor.getValue(new PedestrianIdKey(1)).size());
+		assertEquals(2, trajectoryProcessor.getValue(new PedestrianIdKey(2)).size());
+	}
+}
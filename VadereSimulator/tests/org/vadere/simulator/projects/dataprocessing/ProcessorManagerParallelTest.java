@@ -0,0 +1,204 @@
+package org.vadere.simulator.projects.dataprocessing;
+
+import org.junit.Test;
+import org.vadere.simulator.control.simulation.SimulationState;
+import org.vadere.simulator.projects.dataprocessing.datakey.TimestepKey;
+import org.vadere.simulator.projects.dataprocessing.processor.DataProcessor;
+import org.vadere.simulator.projects.dataprocessing.processor.util.ModelEvaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ensure that updating the processors in parallel respects the dependencies of the processors
+ * and computes the same data as the sequential update.
+ */
+public class ProcessorManagerParallelTest {
+
+	private static final int STEPS = 50;
+
+	/**
+	 * Puts the sum of the values of its dependencies plus one for each step. The dependencies are
+	 * not updated by this processor, i.e. their values are only present if the manager updated them before.
+	 */
+	private static class SumProcessor extends DataProcessor<TimestepKey, Integer> {
+		private final int[] dependencyIds;
+		private final List<DataProcessor<TimestepKey, Integer>> dependencies;
+
+		SumProcessor(final int id, final int... dependencyIds) {
+			setId(id);
+			this.dependencyIds = dependencyIds;
+			this.dependencies = new ArrayList<>();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void init(final ProcessorManager manager) {
+			super.init(manager);
+			dependencies.clear();
+			for (int id : dependencyIds) {
+				dependencies.add((DataProcessor<TimestepKey, Integer>) manager.getProcessor(id));
+			}
+		}
+
+		@Override
+		protected void doUpdate(final SimulationState state) {
+			TimestepKey key = new TimestepKey(state.getStep());
+			int sum = 1;
+			for (DataProcessor<TimestepKey, Integer> dependency : dependencies) {
+				if (!dependency.hasValue(key)) {
+					throw new IllegalStateException(this + " is updated before " + dependency);
+				}
+				sum += dependency.getValue(key);
+			}
+			putValue(key, sum);
+		}
+	}
+
+	private static List<DataProcessor<?, ?>> createProcessors() {
+		// the order of the list does not respect the dependencies
+		return Arrays.asList(
+				new SumProcessor(5, 2, 3),
+				new SumProcessor(2, 1),
+				new SumProcessor(3, 1),
+				new SumProcessor(1),
+				new SumProcessor(4),
+				new SumProcessor(6, 5, 4));
+	}
+
+	private static SimulationState createState(final int step) {
+		SimulationState state = mock(SimulationState.class);
+		when(state.getStep()).thenReturn(step);
+		return state;
+	}
+
+	private static ProcessorManager createManager(final List<DataProcessor<?, ?>> processors, final boolean isUpdateInParallel) {
+		ProcessorManager manager = new ProcessorManager(processors, new ArrayList<>(), null, null);
+		manager.setUpdateInParallel(isUpdateInParallel);
+		manager.preLoop(createState(0));
+		return manager;
+	}
+
+	private static void run(final ProcessorManager manager) {
+		for (int step = 1; step <= STEPS; step++) {
+			manager.update(createState(step));
+		}
+		manager.writeOutput();
+	}
+
+	@Test
+	public void dependenciesAreRecordedDuringInit() {
+		ProcessorManager manager = createManager(createProcessors(), true);
+
+		assertEquals(new HashSet<>(Arrays.asList(2, 3)), manager.getDependencies(5));
+		assertEquals(Collections.singleton(1), manager.getDependencies(2));
+		assertEquals(Collections.emptySet(), manager.getDependencies(1));
+		manager.writeOutput();
+	}
+
+	@Test
+	public void parallelUpdateEqualsSequentialUpdate() {
+		List<DataProcessor<?, ?>> processors = createProcessors();
+		run(createManager(processors, true));
+
+		// sequentially the processors are updated in the order of the list which has to respect the dependencies
+		List<DataProcessor<?, ?>> expectedProcessors = createProcessors();
+		List<DataProcessor<?, ?>> sorted = new ArrayList<>(expectedProcessors);
+		sorted.sort((p1, p2) -> Integer.compare(p1.getId(), p2.getId()));
+		run(createManager(sorted, false));
+
+		for (int i = 0; i < processors.size(); i++) {
+			Map<?, ?> data = processors.get(i).getData();
+			assertEquals(STEPS, data.size());
+			assertEquals(expectedProcessors.get(i).getData(), data);
+		}
+		assertEquals(7, (int) ((SumProcessor) processors.get(5)).getValue(new TimestepKey(STEPS)));
+	}
+
+	@Test
+	public void cyclicDependenciesAreUpdatedSequentially() {
+		SumProcessor first = new SumProcessor(1);
+		SumProcessor second = new SumProcessor(2, 1);
+		SumProcessor cycle = new SumProcessor(3, 4);
+		SumProcessor other = new SumProcessor(4, 3) {
+			@Override
+			protected void doUpdate(final SimulationState state) {
+				putValue(new TimestepKey(state.getStep()), 0);
+			}
+		};
+		List<DataProcessor<?, ?>> processors = Arrays.asList(first, second, other, cycle);
+		run(createManager(processors, true));
+
+		assertEquals(STEPS, second.getData().size());
+		assertEquals(STEPS, cycle.getData().size());
+	}
+
+	/**
+	 * Counts the model evaluators which are updated at the same time.
+	 */
+	private static class EvaluatingProcessor extends SumProcessor implements ModelEvaluator {
+		private final AtomicInteger evaluating;
+		private final AtomicInteger maxEvaluating;
+
+		EvaluatingProcessor(final int id, final AtomicInteger evaluating, final AtomicInteger maxEvaluating) {
+			super(id);
+			this.evaluating = evaluating;
+			this.maxEvaluating = maxEvaluating;
+		}
+
+		@Override
+		protected void doUpdate(final SimulationState state) {
+			maxEvaluating.accumulateAndGet(evaluating.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			super.doUpdate(state);
+			evaluating.decrementAndGet();
+		}
+	}
+
+	@Test
+	public void modelEvaluatorsAreNotUpdatedConcurrently() {
+		AtomicInteger evaluating = new AtomicInteger(0);
+		AtomicInteger maxEvaluating = new AtomicInteger(0);
+		List<DataProcessor<?, ?>> processors = Arrays.asList(
+				new EvaluatingProcessor(1, evaluating, maxEvaluating),
+				new EvaluatingProcessor(2, evaluating, maxEvaluating),
+				new SumProcessor(3),
+				new EvaluatingProcessor(4, evaluating, maxEvaluating),
+				new SumProcessor(5, 3));
+		run(createManager(processors, true));
+
+		assertEquals(1, maxEvaluating.get());
+		for (DataProcessor<?, ?> processor : processors) {
+			assertEquals(STEPS, processor.getData().size());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void exceptionsOfProcessorsArePropagated() {
+		SumProcessor failing = new SumProcessor(1) {
+			@Override
+			protected void doUpdate(final SimulationState state) {
+				throw new IllegalStateException();
+			}
+		};
+		ProcessorManager manager = createManager(Arrays.asList(failing, new SumProcessor(2)), true);
+		try {
+			manager.update(createState(1));
+		} finally {
+			manager.writeOutput();
+		}
+	}
+}
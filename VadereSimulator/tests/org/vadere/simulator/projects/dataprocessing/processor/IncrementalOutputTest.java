@@ -0,0 +1,101 @@
+package org.vadere.simulator.projects.dataprocessing.processor;
+
+import org.junit.Test;
+import org.vadere.simulator.control.simulation.SimulationState;
+import org.vadere.simulator.projects.dataprocessing.datakey.TimestepPedestrianIdKey;
+import org.vadere.simulator.projects.dataprocessing.outputfile.OutputFile;
+import org.vadere.simulator.projects.dataprocessing.writer.VadereStringWriter;
+import org.vadere.simulator.projects.dataprocessing.writer.VadereWriter;
+import org.vadere.simulator.projects.dataprocessing.writer.VadereWriterFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Ensure that writing an {@link OutputFile} incrementally during the simulation produces the same
+ * output as writing it after the simulation and that the written data is released.
+ */
+public class IncrementalOutputTest {
+
+	@Test
+	public void incrementalOutputEqualsBatchOutput() {
+		assertEquals(writeBatch(PedestrianPositionProcessorTestEnv::new),
+				writeIncrementally(PedestrianPositionProcessorTestEnv::new));
+	}
+
+	@Test
+	public void incrementalOutputWithDependencyEqualsBatchOutput() {
+		assertEquals(writeBatch(PedestrianVelocityProcessorTestEnv::new),
+				writeIncrementally(PedestrianVelocityProcessorTestEnv::new));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void writtenDataIsReleased() {
+		ProcessorTestEnv<?, ?> env = createEnv(PedestrianPositionProcessorTestEnv::new);
+		OutputFile<?> outputFile = env.getOutputFile();
+		DataProcessor<TimestepPedestrianIdKey, ?> p = (DataProcessor<TimestepPedestrianIdKey, ?>) env.getTestedProcessor();
+		outputFile.setVadereWriterFactory(VadereWriterFactory.getStringWriterFactory());
+
+		assertTrue(outputFile.isIncrementallyWritable());
+		outputFile.open();
+		for (SimulationState s : env.getSimStates()) {
+			p.update(s);
+			outputFile.writeUntil(s.getStep());
+			outputFile.releaseWrittenData(Collections.emptySet());
+			assertTrue(p.getKeys().stream().allMatch(key -> key.getTimestep() == s.getStep()));
+		}
+		outputFile.close();
+	}
+
+	private ProcessorTestEnv<?, ?> createEnv(Supplier<ProcessorTestEnv<?, ?>> envSupplier) {
+		ProcessorTestEnv<?, ?> env = envSupplier.get();
+		env.loadDefaultSimulationStateMocks();
+		env.init();
+		return env;
+	}
+
+	private List<String> writeBatch(Supplier<ProcessorTestEnv<?, ?>> envSupplier) {
+		ProcessorTestEnv<?, ?> env = createEnv(envSupplier);
+		VadereStringWriter writer = new VadereStringWriter();
+		env.getOutputFile().setVadereWriterFactory(factoryOf(writer));
+
+		for (SimulationState s : env.getSimStates()) {
+			env.getTestedProcessor().update(s);
+		}
+		env.getOutputFile().write();
+
+		return writer.getOutput();
+	}
+
+	private List<String> writeIncrementally(Supplier<ProcessorTestEnv<?, ?>> envSupplier) {
+		ProcessorTestEnv<?, ?> env = createEnv(envSupplier);
+		VadereStringWriter writer = new VadereStringWriter();
+		OutputFile<?> outputFile = env.getOutputFile();
+		outputFile.setVadereWriterFactory(factoryOf(writer));
+
+		assertTrue(outputFile.isIncrementallyWritable());
+		outputFile.open();
+		for (SimulationState s : env.getSimStates()) {
+			env.getTestedProcessor().update(s);
+			outputFile.writeUntil(s.getStep());
+			outputFile.releaseWrittenData(Collections.emptySet());
+		}
+		outputFile.close();
+
+		return writer.getOutput();
+	}
+
+	private static VadereWriterFactory factoryOf(final VadereWriter writer) {
+		return new VadereWriterFactory() {
+			@Override
+			public VadereWriter create(String path) {
+				return writer;
+			}
+		};
+	}
+}
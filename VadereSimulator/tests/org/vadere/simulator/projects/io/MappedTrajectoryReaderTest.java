@@ -0,0 +1,169 @@
+package org.vadere.simulator.projects.io;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Row;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappedTrajectoryReaderTest {
+
+	private static final String HEADER = "pedestrianId simTime endTime-PID1 startX-PID1 startY-PID1 endX-PID1 endY-PID1 mostImportantStimulus-PID5 targetId-PID1";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path trajectoryFile;
+
+	@Before
+	public void setUp() throws IOException {
+		trajectoryFile = folder.getRoot().toPath().resolve("postvis.traj");
+		Random random = new Random(1);
+		// the FootStepProcessor writes the footsteps sorted by the agent id
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(trajectoryFile))) {
+			writer.println(HEADER);
+			for (int pedId = 1; pedId <= 40; pedId++) {
+				double time = random.nextDouble() * 30;
+				int steps = 1 + random.nextInt(100);
+				for (int step = 0; step < steps; step++) {
+					double duration = 0.2 + random.nextDouble();
+					writer.println(pedId + " " + time + " " + (time + duration) + " " + (step + 0.25) + " " + pedId + ".5 "
+							+ (step + 1.25) + " " + pedId + ".5 " + (step % 2 == 0 ? "ElapsedTime" : "Wait") + " " + (pedId % 3) + ".0");
+					time += duration;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void readFileEqualsTrajectoryReader() throws IOException {
+		Table expected = new TrajectoryReader(trajectoryFile).readFile();
+		Table actual = new MappedTrajectoryReader(trajectoryFile).readFile();
+
+		assertEquals(expected.columnNames(), actual.columnNames());
+		assertEquals(expected.rowCount(), actual.rowCount());
+		assertTrue(actual.column(0) instanceof IntColumn);
+		assertTrue(actual.column(1) instanceof DoubleColumn);
+		assertTrue(actual.column(3) instanceof DoubleColumn);
+		assertTrue(actual.column(7) instanceof StringColumn);
+		assertTrue(actual.column(8) instanceof IntColumn);
+		assertEquals(rows(expected), rows(actual));
+	}
+
+	@Test
+	public void readTimeWindow() throws IOException {
+		Table all = new TrajectoryReader(trajectoryFile).readFile();
+		MappedTrajectoryReader reader = new MappedTrajectoryReader(trajectoryFile);
+
+		for (double startTime = 0; startTime < 150; startTime += 7.3) {
+			double endTime = startTime + 5;
+			Table expected = all.where(all.doubleColumn(1).isLessThan(endTime).and(all.doubleColumn(2).isGreaterThanOrEqualTo(startTime)));
+			assertEquals(rows(expected), rows(reader.readTimeWindow(startTime, endTime)));
+		}
+	}
+
+	@Test
+	public void readTimeWindowWithDisappearedAgents() throws IOException {
+		MappedTrajectoryReader reader = new MappedTrajectoryReader(trajectoryFile);
+		Table agents = reader.readAgents();
+		double startTime = 60;
+		Table window = reader.readTimeWindow(startTime, startTime + 10, true);
+
+		List<Integer> expectedPedIds = new ArrayList<>();
+		for (Row agent : agents) {
+			if (agent.getDouble(1) < startTime + 10) {
+				expectedPedIds.add(agent.getInt(0));
+			}
+		}
+		assertEquals(expectedPedIds, window.intColumn(0).asList().stream().distinct().sorted().collect(Collectors.toList()));
+
+		for (Row row : window) {
+			int agent = agents.intColumn(0).asList().indexOf(row.getInt(0));
+			if (agents.doubleColumn(2).getDouble(agent) < startTime) {
+				// the last footstep of a disappeared agent
+				assertEquals(agents.doubleColumn(2).getDouble(agent), row.getDouble(2), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void readAgents() throws IOException {
+		Table all = new TrajectoryReader(trajectoryFile).readFile();
+		MappedTrajectoryReader reader = new MappedTrajectoryReader(trajectoryFile);
+		Table agents = reader.readAgents();
+
+		assertEquals(40, agents.rowCount());
+		assertEquals("pedestrianId", agents.column(0).name());
+		for (Row agent : agents) {
+			Table footSteps = all.where(all.intColumn(0).isEqualTo(agent.getInt(0)));
+			assertEquals(footSteps.doubleColumn(1).min(), agent.getDouble(MappedTrajectoryReader.BIRTH_TIME_COLUMN_NAME), 0.0);
+			assertEquals(footSteps.doubleColumn(2).max(), agent.getDouble(MappedTrajectoryReader.DEATH_TIME_COLUMN_NAME), 0.0);
+		}
+		assertEquals(all.doubleColumn(1).min(), reader.getMinStartTime(), 0.0);
+		assertEquals(all.doubleColumn(2).max(), reader.getMaxEndTime(), 0.0);
+		assertEquals(all.rowCount(), reader.getNumberOfFootSteps());
+	}
+
+	@Test
+	public void indexIsReusedUntilTheFileChanges() throws IOException {
+		Path indexFile = TrajectoryIndex.getIndexFilePath(trajectoryFile);
+		new MappedTrajectoryReader(trajectoryFile);
+		assertTrue(Files.isRegularFile(indexFile));
+
+		FileTime indexed = FileTime.fromMillis(0);
+		Files.setLastModifiedTime(indexFile, indexed);
+		new MappedTrajectoryReader(trajectoryFile);
+		assertEquals(indexed, Files.getLastModifiedTime(indexFile));
+
+		// a changed trajectory file invalidates the index
+		Files.write(trajectoryFile, "41 200.0 201.0 0.0 0.0 1.0 1.0 Wait 2.0\n".getBytes(), StandardOpenOption.APPEND);
+		MappedTrajectoryReader reader = new MappedTrajectoryReader(trajectoryFile);
+		assertTrue(Files.getLastModifiedTime(indexFile).compareTo(indexed) > 0);
+		assertEquals(41, reader.getNumberOfAgents());
+		assertEquals(1, reader.readTimeWindow(200.5, 200.6).rowCount());
+	}
+
+	@Test(expected = IOException.class)
+	public void missingMandatoryColumn() throws IOException {
+		Files.write(trajectoryFile, "pedestrianId startX-PID1\n1 2.0\n".getBytes());
+		new MappedTrajectoryReader(trajectoryFile);
+	}
+
+	@Test
+	public void readHeader() throws IOException {
+		Table header = new TrajectoryReader(trajectoryFile).readHeader();
+		assertEquals(HEADER, String.join(" ", header.columnNames()));
+		assertEquals(0, header.rowCount());
+	}
+
+	private static List<String> rows(final Table table) {
+		List<String> rows = new ArrayList<>(table.rowCount());
+		for (Row row : table) {
+			StringBuilder builder = new StringBuilder();
+			for (int col = 0; col < table.columnCount(); col++) {
+				builder.append(table.column(col).getString(row.getRowNumber())).append(' ');
+			}
+			rows.add(builder.toString());
+		}
+		return rows;
+	}
+}
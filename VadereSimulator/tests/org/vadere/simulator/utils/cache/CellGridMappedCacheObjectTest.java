@@ -0,0 +1,91 @@
+package org.vadere.simulator.utils.cache;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.data.cellgrid.CellState;
+import org.vadere.util.data.cellgrid.PathFindingTag;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CellGridMappedCacheObjectTest {
+
+	private static final String HASH = "4e1243bd22c66e76c2ba9eddc1f91394e57f9f83";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private CellGrid cellGrid;
+	private File cacheFile;
+
+	@Before
+	public void setUp() throws IOException {
+		cellGrid = new CellGrid(4.0, 3.0, 0.5, new CellState(), 1.0, 2.0);
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				PathFindingTag tag = PathFindingTag.values()[(x + y) % PathFindingTag.values().length];
+				cellGrid.setValue(x, y, x * 100.0 + y, tag);
+			}
+		}
+		cacheFile = new File(folder.getRoot(), "cache/floorfield.ffmap");
+	}
+
+	@Test
+	public void persistAndLoad() throws CacheException {
+		CellGridMappedCacheObject cacheObject = new CellGridMappedCacheObject("id", cacheFile, HASH);
+		assertFalse(cacheObject.readable());
+		assertTrue(cacheObject.writable());
+		cacheObject.persistObject(cellGrid);
+
+		assertTrue(cacheObject.readable());
+		CellGrid loaded = new CellGrid(4.0, 3.0, 0.5, new CellState(), 1.0, 2.0);
+		new CellGridMappedCacheObject("id", cacheFile, HASH).initializeObjectFromCache(loaded);
+		assertGridEquals(cellGrid, loaded);
+	}
+
+	@Test
+	public void loadFromBuffer() throws CacheException, IOException {
+		new CellGridMappedCacheObject("id", cacheFile, HASH).persistObject(cellGrid);
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cacheFile.toPath()));
+
+		CellGrid loaded = new CellGrid(4.0, 3.0, 0.5, new CellState(), 1.0, 2.0);
+		CellGridMappedCacheObject cacheObject = new CellGridMappedCacheObject("id", buffer, HASH);
+		assertTrue(cacheObject.readable());
+		cacheObject.initializeObjectFromCache(loaded);
+		assertGridEquals(cellGrid, loaded);
+	}
+
+	@Test(expected = CacheException.class)
+	public void rejectDifferentHash() throws CacheException {
+		new CellGridMappedCacheObject("id", cacheFile, HASH).persistObject(cellGrid);
+
+		CellGrid loaded = new CellGrid(4.0, 3.0, 0.5, new CellState(), 1.0, 2.0);
+		new CellGridMappedCacheObject("id", cacheFile, "anotherHash").initializeObjectFromCache(loaded);
+	}
+
+	@Test(expected = CacheException.class)
+	public void rejectDifferentGrid() throws CacheException {
+		new CellGridMappedCacheObject("id", cacheFile, HASH).persistObject(cellGrid);
+
+		CellGrid loaded = new CellGrid(4.0, 3.0, 0.1, new CellState(), 1.0, 2.0);
+		new CellGridMappedCacheObject("id", cacheFile, HASH).initializeObjectFromCache(loaded);
+	}
+
+	private void assertGridEquals(CellGrid expected, CellGrid actual) {
+		for (int x = 0; x < expected.getNumPointsX(); x++) {
+			for (int y = 0; y < expected.getNumPointsY(); y++) {
+				assertEquals(expected.getPotential(x, y), actual.getPotential(x, y), 0.0);
+				assertEquals(expected.getTag(x, y), actual.getTag(x, y));
+			}
+		}
+	}
+}
@@ -73,6 +73,18 @@ public class ScenarioCacheTest implements TestResourceHandlerScenario {
 		}
 	}
 
+	@Test
+	public void testObstaclePotentialCache(){
+		Scenario s = getScenarioFromRelativeResource("s002.scenario"); // binary cache
+		ScenarioCache scenarioCache = ScenarioCache.load(s, getTestDir().toAbsolutePath());
+
+		ICacheObject cacheObject = scenarioCache.getCacheForObstaclePotential("softshell");
+		assertThat(cacheObject instanceof CellGridBinaryCacheObject, equalTo(true));
+		assertThat(cacheObject.writable(), equalTo(true));
+		assertThat(cacheObject.getCacheIdentifier(), equalTo(scenarioCache.obstacleToIdentifier("softshell")));
+		assertThat(scenarioCache.getCache(scenarioCache.obstacleToIdentifier("softshell")) == cacheObject, equalTo(true));
+	}
+
 	@Test
 	public void testManualBinCache(){
 		HashMap<String, ByteArrayInputStream> cacheInput= new HashMap<>();
@@ -0,0 +1,177 @@
+package org.vadere.simulator.utils.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.util.data.cellgrid.CellGrid;
+import org.vadere.util.data.cellgrid.CellState;
+import org.vadere.util.data.cellgrid.PathFindingTag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SharedFloorFieldCacheTest {
+
+	private SharedFloorFieldCache sharedCache;
+	private CellGrid cellGrid;
+
+	@Before
+	public void setUp() {
+		sharedCache = new SharedFloorFieldCache();
+		cellGrid = new CellGrid(2.0, 1.0, 0.5, new CellState());
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				cellGrid.setValue(x, y, x + 10.0 * y, (x + y) % 2 == 0 ? PathFindingTag.Target : PathFindingTag.Reachable);
+			}
+		}
+	}
+
+	@Test
+	public void firstRunComputesAndOthersLoad() {
+		RecordingCacheObject ownerFileCache = new RecordingCacheObject(false);
+		ICellGridCacheObject owner = sharedCache.share("hash_targetFF_1", ownerFileCache);
+		ICellGridCacheObject other = sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+
+		assertFalse(owner.readable());
+		assertTrue(owner.writable());
+		assertTrue(other.readable());
+		assertFalse(other.writable());
+
+		owner.persistObject(cellGrid);
+		assertSame(cellGrid, ownerFileCache.persisted);
+
+		CellGrid loaded = new CellGrid(2.0, 1.0, 0.5, new CellState());
+		other.initializeObjectFromCache(loaded);
+		for (int x = 0; x < cellGrid.getNumPointsX(); x++) {
+			for (int y = 0; y < cellGrid.getNumPointsY(); y++) {
+				assertEquals(cellGrid.getPotential(x, y), loaded.getPotential(x, y), 0.0);
+				assertEquals(cellGrid.getTag(x, y), loaded.getTag(x, y));
+			}
+		}
+		assertEquals(1, sharedCache.size());
+	}
+
+	@Test
+	public void ownerLoadsFromReadableFileCache() {
+		RecordingCacheObject ownerFileCache = new RecordingCacheObject(true);
+		ICellGridCacheObject owner = sharedCache.share("hash_targetFF_1", ownerFileCache);
+		assertTrue(owner.readable());
+
+		owner.initializeObjectFromCache(cellGrid);
+		assertSame(cellGrid, ownerFileCache.initialized);
+	}
+
+	@Test(expected = CacheException.class)
+	public void releasedFloorFieldIsNotLoaded() {
+		SharedCellGridCacheObject owner = (SharedCellGridCacheObject) sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+		ICellGridCacheObject other = sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+		assertFalse(owner.readable());
+		owner.release();
+
+		other.initializeObjectFromCache(new CellGrid(2.0, 1.0, 0.5, new CellState()));
+	}
+
+	@Test(timeout = 10000)
+	public void failedLoadOfOwnerDoesNotBlockOthers() {
+		ICellGridCacheObject owner = sharedCache.share("hash_targetFF_1", new RecordingCacheObject(true) {
+			@Override
+			public void initializeObjectFromCache(CellGrid object) throws CacheException {
+				throw new CacheException("corrupted cache file");
+			}
+		});
+		ICellGridCacheObject other = sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+		assertTrue(owner.readable());
+		try {
+			owner.initializeObjectFromCache(cellGrid);
+			fail("the owner must not load the floor field");
+		} catch (CacheException e) {
+			// the owner solves the floor field instead
+		}
+
+		try {
+			other.initializeObjectFromCache(new CellGrid(2.0, 1.0, 0.5, new CellState()));
+			fail("the floor field was not published");
+		} catch (CacheException e) {
+			// the other run solves the floor field itself
+		}
+
+		// the floor field solved by the owner is published to runs which request it later
+		owner.persistObject(cellGrid);
+		ICellGridCacheObject later = sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+		CellGrid loaded = new CellGrid(2.0, 1.0, 0.5, new CellState());
+		later.initializeObjectFromCache(loaded);
+		assertEquals(cellGrid.getPotential(1, 1), loaded.getPotential(1, 1), 0.0);
+	}
+
+	@Test
+	public void floorFieldIsRemovedWhenTheLastRunReleasesIt() {
+		SharedCellGridCacheObject owner = (SharedCellGridCacheObject) sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+		SharedCellGridCacheObject other = (SharedCellGridCacheObject) sharedCache.share("hash_targetFF_1", new RecordingCacheObject(false));
+		sharedCache.share("hash_targetFF_2", new RecordingCacheObject(false));
+		assertEquals(2, sharedCache.size());
+		owner.persistObject(cellGrid);
+
+		owner.release();
+		owner.release();
+		assertEquals(2, sharedCache.size());
+		other.initializeObjectFromCache(new CellGrid(2.0, 1.0, 0.5, new CellState()));
+
+		other.release();
+		assertEquals(1, sharedCache.size());
+	}
+
+	@Test
+	public void releasedObjectUsesItsOwnCache() {
+		RecordingCacheObject fileCache = new RecordingCacheObject(true);
+		SharedCellGridCacheObject released = (SharedCellGridCacheObject) sharedCache.share("hash_targetFF_1", fileCache);
+		released.release();
+		assertEquals(0, sharedCache.size());
+
+		assertTrue(released.readable());
+		released.initializeObjectFromCache(cellGrid);
+		assertSame(cellGrid, fileCache.initialized);
+		assertEquals(0, sharedCache.size());
+	}
+
+	private static class RecordingCacheObject implements ICellGridCacheObject {
+		private final boolean readable;
+		private CellGrid initialized;
+		private CellGrid persisted;
+
+		RecordingCacheObject(boolean readable) {
+			this.readable = readable;
+		}
+
+		@Override
+		public void initializeObjectFromCache(CellGrid object) throws CacheException {
+			initialized = object;
+		}
+
+		@Override
+		public void persistObject(CellGrid object) throws CacheException {
+			persisted = object;
+		}
+
+		@Override
+		public boolean readable() {
+			return readable;
+		}
+
+		@Override
+		public boolean writable() {
+			return true;
+		}
+
+		@Override
+		public String getCacheLocation() {
+			return "memory";
+		}
+
+		@Override
+		public String getCacheIdentifier() {
+			return "id";
+		}
+	}
+}
@@ -51,6 +51,20 @@ public class AttributesFloorField extends Attributes {
 	@JsonView(Views.CacheViewExclude.class)
 	private String cacheDir = "";
 
+	/**
+	 * If true, a dynamic floor field (e.g. using the pedestrian density as time cost) is not solved from
+	 * scratch in each update. Instead only the points whose time cost changed by more than
+	 * {@link #incrementalUpdateThreshold} (relative) and the points depending on them are re-solved.
+	 * This is only supported by the grid based solvers FAST_MARCHING, HIGH_ACCURACY_FAST_MARCHING,
+	 * FAST_ITERATIVE_METHOD and FAST_SWEEPING_METHOD. Like {@link #cacheDir} it does not affect the
+	 * cache hash since the static floor field does not change.
+	 */
+	@JsonView(Views.CacheViewExclude.class)
+	private boolean incrementalUpdate = false;
+
+	@JsonView(Views.CacheViewExclude.class)
+	private double incrementalUpdateThreshold = 0.01;
+
 	private AttributesTimeCost timeCostAttributes;
 
 	public AttributesFloorField() {
@@ -124,4 +138,22 @@ public class AttributesFloorField extends Attributes {
 		checkSealed();
 		this.cacheDir = cacheDir;
 	}
+
+	public boolean isIncrementalUpdate() {
+		return incrementalUpdate;
+	}
+
+	public void setIncrementalUpdate(boolean incrementalUpdate) {
+		checkSealed();
+		this.incrementalUpdate = incrementalUpdate;
+	}
+
+	public double getIncrementalUpdateThreshold() {
+		return incrementalUpdateThreshold;
+	}
+
+	public void setIncrementalUpdateThreshold(double incrementalUpdateThreshold) {
+		checkSealed();
+		this.incrementalUpdateThreshold = incrementalUpdateThreshold;
+	}
 }
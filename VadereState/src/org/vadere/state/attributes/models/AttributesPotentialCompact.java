@@ -27,6 +27,11 @@ public class AttributesPotentialCompact extends Attributes {
 	// queueing
 	private double visionFieldRadius = 5;
 
+	// sample the obstacle potential on a grid, only used if obstDistanceDeviation is 0 (see ObstaclePotentialRaster)
+	private boolean obstaclePotentialRaster = false;
+
+	private double obstaclePotentialRasterResolution = 0.1;
+
 
 	public AttributesPotentialCompact() {}
 
@@ -58,4 +63,22 @@ public class AttributesPotentialCompact extends Attributes {
 		return useHardBodyShell;
 	}
 
+	public boolean isObstaclePotentialRaster() {
+		return obstaclePotentialRaster;
+	}
+
+	public void setObstaclePotentialRaster(boolean obstaclePotentialRaster) {
+		checkSealed();
+		this.obstaclePotentialRaster = obstaclePotentialRaster;
+	}
+
+	public double getObstaclePotentialRasterResolution() {
+		return obstaclePotentialRasterResolution;
+	}
+
+	public void setObstaclePotentialRasterResolution(double obstaclePotentialRasterResolution) {
+		checkSealed();
+		this.obstaclePotentialRasterResolution = obstaclePotentialRasterResolution;
+	}
+
 }
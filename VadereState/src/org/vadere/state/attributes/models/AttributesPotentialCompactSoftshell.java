@@ -14,6 +14,8 @@ public class AttributesPotentialCompactSoftshell extends Attributes {
 	private double intimateSpaceFactor = 1.2;
 	private int personalSpacePower = 1;
 	private int intimateSpacePower = 1;
+	private boolean obstaclePotentialRaster = false; // see ObstaclePotentialRaster
+	private double obstaclePotentialRasterResolution = 0.1;
 
 	public int getIntimateSpacePower() {
 		return intimateSpacePower;
@@ -47,4 +49,22 @@ public class AttributesPotentialCompactSoftshell extends Attributes {
 		return personalSpacePower;
 	}
 
+	public boolean isObstaclePotentialRaster() {
+		return obstaclePotentialRaster;
+	}
+
+	public void setObstaclePotentialRaster(boolean obstaclePotentialRaster) {
+		checkSealed();
+		this.obstaclePotentialRaster = obstaclePotentialRaster;
+	}
+
+	public double getObstaclePotentialRasterResolution() {
+		return obstaclePotentialRasterResolution;
+	}
+
+	public void setObstaclePotentialRasterResolution(double obstaclePotentialRasterResolution) {
+		checkSealed();
+		this.obstaclePotentialRasterResolution = obstaclePotentialRasterResolution;
+	}
+
 }
@@ -46,6 +46,12 @@ public class AttributesPotentialOSM extends Attributes {
 	// seitz-2012 b_0 = 2.0
 	private double bObsOSM = 0.2;
 
+	// sample the obstacle potential on a grid and interpolate it bicubic (see ObstaclePotentialRaster)
+	private boolean obstaclePotentialRaster = false;
+
+	// grid resolution of the obstacle potential raster
+	private double obstaclePotentialRasterResolution = 0.1;
+
 	// Getters...
 
 	public double getPedestrianBodyPotential() {
@@ -95,4 +101,22 @@ public class AttributesPotentialOSM extends Attributes {
 	public double getBObsOSM() {
 		return bObsOSM;
 	}
+
+	public boolean isObstaclePotentialRaster() {
+		return obstaclePotentialRaster;
+	}
+
+	public void setObstaclePotentialRaster(boolean obstaclePotentialRaster) {
+		checkSealed();
+		this.obstaclePotentialRaster = obstaclePotentialRaster;
+	}
+
+	public double getObstaclePotentialRasterResolution() {
+		return obstaclePotentialRasterResolution;
+	}
+
+	public void setObstaclePotentialRasterResolution(double obstaclePotentialRasterResolution) {
+		checkSealed();
+		this.obstaclePotentialRasterResolution = obstaclePotentialRasterResolution;
+	}
 }
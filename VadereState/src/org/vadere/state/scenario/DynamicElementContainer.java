@@ -3,6 +3,7 @@ package org.vadere.state.scenario;
 import java.awt.geom.RectangularShape;
 import java.util.*;
 
+import org.vadere.util.geometry.ConcurrentLinkedCellsGrid;
 import org.vadere.util.geometry.LinkedCellsGrid;
 import org.vadere.util.geometry.shapes.VPoint;
 
@@ -18,7 +19,7 @@ public class DynamicElementContainer<T extends DynamicElement> {
 	/**
 	 * LinkedCellsGrid storing all elements for fast access.
 	 */
-	private final LinkedCellsGrid<T> cellsElements;
+	private volatile LinkedCellsGrid<T> cellsElements;
 
 	private final RectangularShape bounds;
 	private final double cellSize;
@@ -37,10 +38,26 @@ public class DynamicElementContainer<T extends DynamicElement> {
 		this.moveListener = new LinkedList<>();
 	}
 
-	public synchronized LinkedCellsGrid<T> getCellsElements() {
+	public LinkedCellsGrid<T> getCellsElements() {
 		return cellsElements;
 	}
 
+	/**
+	 * Replaces the {@link LinkedCellsGrid} by a {@link ConcurrentLinkedCellsGrid} containing the same elements.
+	 * This should only be used if the elements are moved and queried in separate phases, e.g. by a parallel
+	 * update scheme.
+	 */
+	public synchronized void useConcurrentCellsElements() {
+		if (!(cellsElements instanceof ConcurrentLinkedCellsGrid)) {
+			LinkedCellsGrid<T> concurrentCellsElements = new ConcurrentLinkedCellsGrid<>(bounds.getMinX(),
+					bounds.getMinY(), bounds.getWidth(), bounds.getHeight(), cellSize);
+			for (T element : cellsElements.getElements()) {
+				concurrentCellsElements.addObject(element);
+			}
+			this.cellsElements = concurrentCellsElements;
+		}
+	}
+
 	public synchronized Collection<T> getElements() {
 		return elementMap.values();
 	}
@@ -134,6 +151,9 @@ public class DynamicElementContainer<T extends DynamicElement> {
 		for (T initialElement : this.initialElements) {
 			clone.addInitialElement(initialElement);
 		}
+		if (cellsElements instanceof ConcurrentLinkedCellsGrid) {
+			clone.useConcurrentCellsElements();
+		}
 
 		// clone listener?
 
@@ -37,7 +37,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-@JsonIgnoreProperties(value = {"allOtherAttributes", "obstacleDistanceFunction", "contextId", "reachablePointProvider"})
+@JsonIgnoreProperties(value = {"allOtherAttributes", "obstacleDistanceFunction", "contextId", "reachablePointProvider", "modCount"})
 public class Topography implements DynamicElementMover{
 
 	/** Transient to prevent JSON serialization. */
@@ -113,6 +113,12 @@ public class Topography implements DynamicElementMover{
 	/** Used to store links to all attributes that are not part of scenario elements. */
 	private Set<Attributes> allOtherAttributes = new HashSet<>(); // will be filled in the constructor
 
+	/**
+	 * Number of modifications of the static scenario elements, see {@link #getModCount()}. It is
+	 * written by the thread which changes the topography (simulation or TraCI) and read by others (drawing).
+	 */
+	private transient volatile int modCount;
+
 	/** set dynamicElementIds to values bigger than the biggest initial element to ensure unique ids.**/
 	private AtomicInteger dynamicElementIdCounter;
 
@@ -358,6 +364,14 @@ public class Topography implements DynamicElementMover{
 		return getContainer(elementType).getCellsElements();
 	}
 
+	/**
+	 * Uses a {@link org.vadere.util.geometry.ConcurrentLinkedCellsGrid} as spatial map for the given type such that
+	 * concurrent neighbour queries do not block each other, see {@link DynamicElementContainer#useConcurrentCellsElements()}.
+	 */
+	public <T extends DynamicElement> void useConcurrentSpatialMap(Class<T> elementType) {
+		getContainer(elementType).useConcurrentCellsElements();
+	}
+
 	public <T extends DynamicElement> Collection<T> getElements(Class<T> elementType) {
 		return getContainer(elementType).getElements();
 	}
@@ -470,31 +484,89 @@ public class Topography implements DynamicElementMover{
 
 	public void addSource(Source source) {
 		this.sources.add(source);
+		modCount++;
 	}
 
 	public void addTarget(Target target) {
 		this.targets.add(target);
+		modCount++;
 	}
 
-	public void addTargetChanger(TargetChanger targetChanger) { this.targetChangers.add(targetChanger); }
+	public void addTargetChanger(TargetChanger targetChanger) {
+		this.targetChangers.add(targetChanger);
+		modCount++;
+	}
 
 	public void addAbsorbingArea(AbsorbingArea absorbingArea) {
 		this.absorbingAreas.add(absorbingArea);
+		modCount++;
 	}
 
 	public void addObstacle(Obstacle obstacle) {
 		this.obstacles.add(obstacle);
+		modCount++;
 	}
 
 	public void addMeasurementArea(MeasurementArea measurementArea){
 		this.measurementAreas.add(measurementArea);
+		modCount++;
 	}
 
 	public void addStairs(Stairs stairs) {
 		this.stairs.add(stairs);
+		modCount++;
+	}
+
+	public boolean removeSource(Source source) {
+		return countModification(this.sources.remove(source));
+	}
+
+	public boolean removeTarget(Target target) {
+		return countModification(this.targets.remove(target));
+	}
+
+	public boolean removeTargetChanger(TargetChanger targetChanger) {
+		return countModification(this.targetChangers.remove(targetChanger));
+	}
+
+	public boolean removeAbsorbingArea(AbsorbingArea absorbingArea) {
+		return countModification(this.absorbingAreas.remove(absorbingArea));
+	}
+
+	public boolean removeObstacle(Obstacle obstacle) {
+		return countModification(this.obstacles.remove(obstacle));
+	}
+
+	public boolean removeMeasurementArea(MeasurementArea measurementArea) {
+		return countModification(this.measurementAreas.remove(measurementArea));
+	}
+
+	public boolean removeStairs(Stairs stairs) {
+		return countModification(this.stairs.remove(stairs));
+	}
+
+	private boolean countModification(final boolean modified) {
+		if (modified) {
+			modCount++;
+		}
+		return modified;
+	}
+
+	/**
+	 * Returns the number of modifications of the static scenario elements (obstacles, sources,
+	 * targets, target changers, absorbing areas, measurement areas, stairs and the teleporter) via
+	 * the methods of this class. Copies of the scenery are outdated if the number changed since
+	 * they were copied. Changes of the dynamic elements and direct changes of the lists returned by
+	 * the getters are not counted.
+	 *
+	 * @return the number of modifications of the static scenario elements
+	 */
+	public int getModCount() {
+		return modCount;
 	}
 
 	public void setTeleporter(Teleporter teleporter) {
+		modCount++;
 		allScenarioElements.remove(this.teleporter); // remove old teleporter
 
 		this.teleporter = teleporter;
@@ -575,6 +647,7 @@ public class Topography implements DynamicElementMover{
 			this.obstacles.remove(boundaryObstacle);
 		}
 		this.boundaryObstacles.clear();
+		modCount++;
 	}
 
 	/**
@@ -186,9 +186,16 @@ public class VTrajectory implements Iterable<FootStep> {
 
 	public void concat(@NotNull final VTrajectory trajectory) {
 		for (FootStep footStep : trajectory) {
-			if(isEmpty() || (footStep.getStartTime() >= footSteps.peekLast().getEndTime())) {
-				footSteps.addLast(footStep);
-			}
+			concat(footStep);
+		}
+	}
+
+	/**
+	 * Appends the foot step if it does not start before the end of this trajectory.
+	 */
+	public void concat(@NotNull final FootStep footStep) {
+		if(isEmpty() || (footStep.getStartTime() >= footSteps.peekLast().getEndTime())) {
+			footSteps.addLast(footStep);
 		}
 	}
 
@@ -21,6 +21,8 @@ public enum TraCIDataType {
 	POLYGON(0x06, -1, false),
 	TRAFFIC_LIGHT_PHASE_LIST(0x0D, -1, false),
 	COLOR(0x11, 5, false),
+	INTEGER_LIST(0x12, -1, true), // int count followed by packed big-endian int values
+	DOUBLE_LIST(0x13, -1, true), // int count followed by packed big-endian double values
 	;
 
 
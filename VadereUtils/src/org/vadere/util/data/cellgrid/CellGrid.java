@@ -8,6 +8,9 @@ import org.vadere.util.math.InterpolationUtil;
 import org.vadere.util.math.MathUtil;
 
 import java.awt.*;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
@@ -27,7 +30,12 @@ import tech.tablesaw.api.Table;
  * represents the distance of two grid points along the x- or y-axis. The values
  * of the grid points can be regarded as elements of a matrix. Each element in
  * the matrix refers to a certain point in the grid. Internally the values are
- * stored as array of values in column major order.
+ * stored in column major order as two primitive arrays, one for the potentials
+ * and one for the {@link PathFindingTag}s, such that reading and writing values
+ * by {@link #getPotential(int, int)}, {@link #setPotential(int, int, double)},
+ * {@link #getTag(int, int)} and {@link #setTag(int, int, PathFindingTag)} does
+ * not allocate any objects. The {@link CellState} based methods are adapters
+ * which copy the values from and into the arrays.
  */
 public class CellGrid {
 
@@ -46,7 +54,16 @@ public class CellGrid {
 
 	protected final double yMin;
 
-	protected CellState[][] values;
+	private static final PathFindingTag[] TAGS = PathFindingTag.values();
+
+	/** Potentials of all grid points in column major order. */
+	protected final double[] potentials;
+
+	/** Ordinals of the {@link PathFindingTag}s of all grid points in column major order. */
+	protected final byte[] tags;
+
+	/** Number of modifications of the potentials, see {@link #getModCount()}. */
+	private int modCount;
 
 	/**
 	 * Creates an grid with the given width, height and resolution. All grid
@@ -64,7 +81,8 @@ public class CellGrid {
 		numPointsX = (int) Math.floor(width / resolution + 0.001) + 1;
 		numPointsY = (int) Math.floor(height / resolution + 0.001) + 1;
 
-		values = new CellState[numPointsX][numPointsY];
+		potentials = new double[numPointsX * numPointsY];
+		tags = new byte[numPointsX * numPointsY];
 
 		reset(value);
 	}
@@ -86,18 +104,16 @@ public class CellGrid {
 		resolution = grid.resolution;
 		numPointsX = grid.numPointsX;
 		numPointsY = grid.numPointsY;
-		values = new CellState[numPointsX][numPointsY];
+		potentials = grid.potentials.clone();
+		tags = grid.tags.clone();
 		xMin = grid.xMin;
 		yMin = grid.yMin;
-
-		for (int row = 0; row < numPointsY; row++) {
-			for (int col = 0; col < numPointsX; col++) {
-				values[col][row] = grid.values[col][row].clone();
-			}
-		}
 	}
 
-	/** Returns the values of all data points. */
+	/**
+	 * Returns copies of the values of all data points, i.e. changing the returned values
+	 * does not change the grid.
+	 */
 	public Iterable<CellState> getRawBuffer() {
 		return new Iterable<CellState>() {
 			@Override
@@ -113,7 +129,7 @@ public class CellGrid {
 
 					@Override
 					public CellState next() {
-						CellState result = values[col][row];
+						CellState result = getValue(col, row);
 						col++;
 						if (col >= numPointsX) {
 							col = 0;
@@ -132,23 +148,21 @@ public class CellGrid {
 	}
 
 	/**
-	 * Load data for CellState[][] structure from the given table. Method asumes the dimension
-	 * of the table matches the dimension of {@link #values}
+	 * Load the values from the given table. Method asumes the dimension
+	 * of the table matches the dimension of the grid.
 	 *
 	 * @param table contains data in the form [x, y, (potential)value, tag]
 	 */
 	public void loadFromTable(Table table){
 		for (Row r : table){
-			values[r.getInt("x")][r.getInt("y")].potential = r.getDouble("value");
-			values[r.getInt("x")][r.getInt("y")].tag =
-					PathFindingTag.valueOf(r.getString("tag"));
+			setValue(r.getInt("x"), r.getInt("y"), r.getDouble("value"), PathFindingTag.valueOf(r.getString("tag")));
 		}
 	}
 
 	/**
-	 * Generate table view of {@link #values} to save as cache
+	 * Generate table view of the values to save as cache
 	 * *
-	 * @return table representation of {@link #values} data in the from [x, y, (potential)value, tag]
+	 * @return table representation of the values in the from [x, y, (potential)value, tag]
 	 */
 	public Table asTable(){
 		int len = numPointsX * numPointsY;
@@ -161,8 +175,8 @@ public class CellGrid {
 			for (int col = 0; col < numPointsX; col++) {
 				colX.set(tblRow, col);
 				colY.set(tblRow, row);
-				colVal.set(tblRow, values[col][row].potential);
-				colTag.set(tblRow, values[col][row].tag.name());
+				colVal.set(tblRow, getPotential(col, row));
+				colTag.set(tblRow, getTag(col, row).name());
 				tblRow++;
 			}
 		}
@@ -211,15 +225,100 @@ public class CellGrid {
 		return pointToCoord(p.x, p.y);
 	}
 
+	private int index(int pointX, int pointY) {
+		return pointX * numPointsY + pointY;
+	}
+
+	/**
+	 * Returns the potential of the grid point specified by matrix element indices.
+	 */
+	public double getPotential(int pointX, int pointY) {
+		return potentials[index(pointX, pointY)];
+	}
+
+	/**
+	 * Returns the potential of the grid point specified by the given matrix element
+	 * index 'p'.
+	 */
+	public double getPotential(Point p) {
+		return getPotential(p.x, p.y);
+	}
+
+	/**
+	 * Sets the potential of the grid point specified by matrix element indices.
+	 */
+	public void setPotential(int pointX, int pointY, double potential) {
+		potentials[index(pointX, pointY)] = potential;
+		modCount++;
+	}
+
+	/**
+	 * Sets the potential of the grid point specified by the given matrix element
+	 * index 'p'.
+	 */
+	public void setPotential(Point p, double potential) {
+		setPotential(p.x, p.y, potential);
+	}
+
+	/**
+	 * Returns the tag of the grid point specified by matrix element indices.
+	 */
+	public PathFindingTag getTag(int pointX, int pointY) {
+		return TAGS[tags[index(pointX, pointY)]];
+	}
+
+	/**
+	 * Returns the tag of the grid point specified by the given matrix element
+	 * index 'p'.
+	 */
+	public PathFindingTag getTag(Point p) {
+		return getTag(p.x, p.y);
+	}
+
 	/**
-	 * Returns the value of the grid point specified by matrix element indices.
+	 * Sets the tag of the grid point specified by matrix element indices.
+	 */
+	public void setTag(int pointX, int pointY, PathFindingTag tag) {
+		tags[index(pointX, pointY)] = (byte) tag.ordinal();
+	}
+
+	/**
+	 * Sets the tag of the grid point specified by the given matrix element
+	 * index 'p'.
+	 */
+	public void setTag(Point p, PathFindingTag tag) {
+		setTag(p.x, p.y, tag);
+	}
+
+	/**
+	 * Sets the potential and the tag of the grid point specified by matrix element indices.
+	 */
+	public void setValue(int pointX, int pointY, double potential, PathFindingTag tag) {
+		int index = index(pointX, pointY);
+		potentials[index] = potential;
+		tags[index] = (byte) tag.ordinal();
+		modCount++;
+	}
+
+	/**
+	 * Sets the potential and the tag of the grid point specified by the given matrix
+	 * element index 'p'.
+	 */
+	public void setValue(Point p, double potential, PathFindingTag tag) {
+		setValue(p.x, p.y, potential, tag);
+	}
+
+	/**
+	 * Returns a copy of the value of the grid point specified by matrix element indices,
+	 * i.e. changing the returned value does not change the grid, use
+	 * {@link #setValue(int, int, CellState)} instead.
 	 */
 	public CellState getValue(int pointX, int pointY) {
-		return values[pointX][pointY];
+		return new CellState(getPotential(pointX, pointY), getTag(pointX, pointY));
 	}
 
 	/**
-	 * Returns the value of the grid point specified by the given matrix element
+	 * Returns a copy of the value of the grid point specified by the given matrix element
 	 * index 'p'.
 	 */
 	public CellState getValue(Point p) {
@@ -230,8 +329,7 @@ public class CellGrid {
 	 * Sets the value of the grid point specified by matrix element indices.
 	 */
 	public void setValue(int pointX, int pointY, CellState value) {
-		// points.set(pointToIdx(pointX, pointY), value);
-		values[pointX][pointY] = value;
+		setValue(pointX, pointY, value.potential, value.tag);
 	}
 
 	/**
@@ -279,13 +377,51 @@ public class CellGrid {
 		return pointDistance(p1.x, p1.y, p2.x, p2.y);
 	}
 
+	/**
+	 * Copies the potentials and the tag ordinals of all grid points in column major order
+	 * from the given buffers, e.g. from a memory mapped file, without converting single values.
+	 *
+	 * @param potentials    the buffer containing {@link #getNumPointsX()} * {@link #getNumPointsY()} potentials
+	 * @param tags          the buffer containing {@link #getNumPointsX()} * {@link #getNumPointsY()} tag ordinals
+	 */
+	public void readFrom(@NotNull final DoubleBuffer potentials, @NotNull final ByteBuffer tags) {
+		potentials.get(this.potentials);
+		tags.get(this.tags);
+		modCount++;
+	}
+
+	/**
+	 * Copies the potentials and the tag ordinals of all grid points in column major order
+	 * into the given buffers, i.e. the inverse of {@link #readFrom(DoubleBuffer, ByteBuffer)}.
+	 *
+	 * @param potentials    the buffer with space for {@link #getNumPointsX()} * {@link #getNumPointsY()} potentials
+	 * @param tags          the buffer with space for {@link #getNumPointsX()} * {@link #getNumPointsY()} tag ordinals
+	 */
+	public void writeTo(@NotNull final DoubleBuffer potentials, @NotNull final ByteBuffer tags) {
+		potentials.put(this.potentials);
+		tags.put(this.tags);
+	}
+
 	/** Sets the values of all grid points to 'value'. */
 	public void reset(CellState value) {
-		for (int row = 0; row < numPointsY; row++) {
-			for (int col = 0; col < numPointsX; col++) {
-				values[col][row] = value.clone();
-			}
-		}
+		reset(value.potential, value.tag);
+	}
+
+	/** Sets the potentials and tags of all grid points to 'potential' and 'tag'. */
+	public void reset(double potential, PathFindingTag tag) {
+		Arrays.fill(potentials, potential);
+		Arrays.fill(tags, (byte) tag.ordinal());
+		modCount++;
+	}
+
+	/**
+	 * Returns the number of modifications of the potentials of this grid. Values copied from the
+	 * grid are outdated if the number changed since they were copied.
+	 *
+	 * @return the number of modifications of the potentials
+	 */
+	public int getModCount() {
+		return modCount;
 	}
 
 	/** Dumps the grid values. */
@@ -371,10 +507,10 @@ public class CellGrid {
 
 			VPoint gridPointCoord = pointToCoord(gridPoint);
 
-			double z1 = getValue(gridPoint).potential;
-			double z2 = getValue(gridPoint.x + incX, gridPoint.y).potential;
-			double z3 = getValue(gridPoint.x + incX, gridPoint.y + incY).potential;
-			double z4 = getValue(gridPoint.x, gridPoint.y + incY).potential;
+			double z1 = getPotential(gridPoint);
+			double z2 = getPotential(gridPoint.x + incX, gridPoint.y);
+			double z3 = getPotential(gridPoint.x + incX, gridPoint.y + incY);
+			double z4 = getPotential(gridPoint.x, gridPoint.y + incY);
 
 			double t = (pos.getX() - gridPointCoord.x) / getResolution();
 			double u = (pos.getY() - gridPointCoord.y) / getResolution();
@@ -398,10 +534,10 @@ public class CellGrid {
 		}
 
 
-		gridPotentials[0] = getValue(gridPoint).potential;
-		gridPotentials[1] = getValue(gridPoint.x + incX, gridPoint.y).potential;
-		gridPotentials[2] = getValue(gridPoint.x + incX, gridPoint.y + incY).potential;
-		gridPotentials[3] = getValue(gridPoint.x, gridPoint.y + incY).potential;
+		gridPotentials[0] = getPotential(gridPoint);
+		gridPotentials[1] = getPotential(gridPoint.x + incX, gridPoint.y);
+		gridPotentials[2] = getPotential(gridPoint.x + incX, gridPoint.y + incY);
+		gridPotentials[3] = getPotential(gridPoint.x, gridPoint.y + incY);
 
 
 		/* Interpolate the known (potential < Double.MAX_VALUE) values. */
@@ -65,11 +65,8 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 
 		assert xDim == cellGrid.getNumPointsX();
 		assert yDim == cellGrid.getNumPointsY();
-		CellState[][] values = cellGrid.values;
 		for (Row r : table){
-			values[r.getInt("x")][r.getInt("y")].potential = r.getDouble("value");
-			values[r.getInt("x")][r.getInt("y")].tag =
-					PathFindingTag.valueOf(r.getString("tag"));
+			cellGrid.setValue(r.getInt("x"), r.getInt("y"), r.getDouble("value"), PathFindingTag.valueOf(r.getString("tag")));
 		}
 
 		return cellGrid;
@@ -80,7 +77,6 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 	@Override
 	public void toTextFile(File file) throws IOException {
 		file.getAbsoluteFile().getParentFile().mkdirs();
-		CellState[][] values = cellGrid.values;
 
 		PrintWriter stream = new PrintWriter(
 				new FastBufferedOutputStream(new FileOutputStream(file)));
@@ -91,9 +87,9 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 				stream.write(",");
 				stream.write(Integer.toString(row));
 				stream.write(",");
-				stream.write(values[col][row].potential.toString());
+				stream.write(Double.toString(cellGrid.getPotential(col, row)));
 				stream.write(",");
-				stream.write(values[col][row].tag.name());
+				stream.write(cellGrid.getTag(col, row).name());
 				stream.write("\n");
 			}
 		}
@@ -123,7 +119,6 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 
 		assert xDim == cellGrid.getNumPointsX();
 		assert yDim == cellGrid.getNumPointsY();
-		CellState[][] values = cellGrid.values;
 
 		int lines = 0;
 		int maxLines = xDim * yDim;
@@ -134,8 +129,7 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 				int row = stream.readInt();
 				double val = stream.readDouble();
 				PathFindingTag tag = PathFindingTag.valueOf(stream.readInt());
-				values[col][row].potential = val;
-				values[col][row].tag = tag;
+				cellGrid.setValue(col, row, val, tag);
 				lines++;
 			} catch (EOFException eof){
 				throw new IllegalArgumentException("Stream ended to soon. Expected " +
@@ -148,7 +142,6 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 	@Override
 	public void toBinary(File file) throws IOException {
 		file.getAbsoluteFile().getParentFile().mkdirs();
-		CellState[][] values = cellGrid.values;
 
 		DataOutputStream stream = new DataOutputStream(
 				new FastBufferedOutputStream(new FileOutputStream(file))
@@ -161,8 +154,8 @@ public class CellGridReadWriter implements IDataWriter, IDataReader<CellGrid> {
 			for (int col = 0; col < cellGrid.getNumPointsX(); col++) {
 				stream.writeInt(col);
 				stream.writeInt(row);
-				stream.writeDouble(values[col][row].potential);
-				stream.writeInt(values[col][row].tag.ordinal());
+				stream.writeDouble(cellGrid.getPotential(col, row));
+				stream.writeInt(cellGrid.getTag(col, row).ordinal());
 			}
 		}
 		stream.flush();
@@ -56,7 +56,7 @@ public class FloorDiscretizer {
 				// Convert the grid point to the bodies coordinate system and
 				// verify if lies within the bodies shape.
 				if (elementShape.contains(floorGrid.pointToCoord(x, y)) && floorGrid.isValidPoint(new Point(x, y))) {
-					floorGrid.setValue(x, y, value.clone());
+					floorGrid.setValue(x, y, value);
 				}
 			}
 		}
@@ -96,7 +96,7 @@ public class FloorDiscretizer {
 				// check, use the center point on the grid, not the left lower corner.
 				VPoint p = floorGrid.pointToCoord(x, y).add(new Vector2D(dx / 2, dy / 2));
 				if (elementShape.contains(p) && floorGrid.isValidPoint(new Point(x, y))) {
-					floorGrid.setValue(x, y, value.clone());
+					floorGrid.setValue(x, y, value);
 				}
 			}
 		}
@@ -0,0 +1,180 @@
+package org.vadere.util.geometry;
+
+import org.jetbrains.annotations.NotNull;
+import org.vadere.util.geometry.shapes.VPoint;
+import org.vadere.util.geometry.shapes.VRectangle;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+
+/**
+ * A {@link LinkedCellsGrid} which is optimized for many concurrent neighbour queries, e.g. during the
+ * (parallel) computation of the next positions of all agents.
+ *
+ * Modifications are applied to the cells of the {@link LinkedCellsGrid} and invalidate the current
+ * snapshot. The first query after a modification rebuilds the snapshot in one batch: all objects are
+ * sorted by their cell into flat arrays, i.e. the objects of a cell are stored consecutively together
+ * with their coordinates and the cell start indices are stored in a single int-array. As long as the
+ * grid is not modified, queries only read the (immutable) snapshot and therefore require no lock.
+ *
+ * Note that the snapshot stores the positions of the objects at the time of the rebuild, therefore,
+ * each change of a position has to be reported via {@link LinkedCellsGrid#moveObject(PointPositioned, VPoint)}.
+ * Since each modification followed by a query requires a rebuild, this grid should only be used if
+ * modifications and queries are carried out in separate phases (e.g. the parallel update scheme of the OSM).
+ * The order of the objects returned by a query is equal to the order of {@link LinkedCellsGrid}.
+ *
+ * @param <T> type of the stored objects
+ */
+public class ConcurrentLinkedCellsGrid<T extends PointPositioned> extends LinkedCellsGrid<T> {
+
+	/**
+	 * the current snapshot or <tt>null</tt> if the grid was modified since the last rebuild.
+	 */
+	private volatile Snapshot snapshot;
+
+	/**
+	 * An immutable copy of the grid. It is never modified after its construction such that
+	 * queries which still use an old snapshot are not affected by a rebuild.
+	 */
+	private static class Snapshot {
+		/**
+		 * the objects of cell i are stored at the indices cellStart[i], ..., cellStart[i+1]-1.
+		 */
+		private final int[] cellStart;
+		private final double[] x;
+		private final double[] y;
+		private final Object[] objects;
+
+		private Snapshot(final int numberOfCells, final int size) {
+			this.cellStart = new int[numberOfCells + 1];
+			this.x = new double[size];
+			this.y = new double[size];
+			this.objects = new Object[size];
+		}
+	}
+
+	public ConcurrentLinkedCellsGrid(@NotNull final VRectangle bound, double sideLength) {
+		this(bound.x, bound.y, bound.width, bound.height, sideLength);
+	}
+
+	public ConcurrentLinkedCellsGrid(double left, double top, double width, double height, double sideLength) {
+		super(left, top, width, height, sideLength);
+		this.snapshot = null;
+	}
+
+	@Override
+	public synchronized void addObject(final T object) {
+		super.addObject(object);
+		invalidate();
+	}
+
+	@Override
+	public synchronized void removeObject(final T object) {
+		super.removeObject(object);
+		invalidate();
+	}
+
+	@Override
+	public synchronized void removeObject(final T object, final VPoint oldPosition) {
+		super.removeObject(object, oldPosition);
+		invalidate();
+	}
+
+	@Override
+	public synchronized void clear() {
+		super.clear();
+		invalidate();
+	}
+
+	/**
+	 * Adds the objects in the ball around pos with given radius to the given buffer. The query does not
+	 * acquire a lock unless the grid was modified since the last query.
+	 *
+	 * @param pos
+	 *        position of the center of the ball
+	 * @param radius
+	 *        radius of the ball
+	 * @param result
+	 *        the buffer to which the objects are added
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void getObjects(final VPoint pos, final double radius, @NotNull final List<? super T> result) {
+		final Snapshot s = getSnapshot();
+
+		final int iX = (int) Math.max(0, Math.min(gridSize[0] - 1, Math.floor((pos.x - left) / width * gridSize[0])));
+		final int iY = (int) Math.max(0, Math.min(gridSize[1] - 1, Math.floor((pos.y - top) / height * gridSize[1])));
+		final int discreteRadX = (int) Math.ceil(radius / cellSize[0]);
+		final int discreteRadY = (int) Math.ceil(radius / cellSize[1]);
+
+		final int maxRow = Math.min(gridSize[0] - 1, iX + discreteRadX);
+		final int maxCol = Math.min(gridSize[1] - 1, iY + discreteRadY);
+		final int minCol = Math.max(0, iY - discreteRadY);
+
+		for (int row = Math.max(0, iX - discreteRadX); row <= maxRow; row++) {
+			// the cells of a row are stored consecutively
+			final int from = s.cellStart[row * gridSize[1] + minCol];
+			final int to = s.cellStart[row * gridSize[1] + maxCol + 1];
+
+			for (int i = from; i < to; i++) {
+				if (Point2D.distance(s.x[i], s.y[i], pos.x, pos.y) < radius) {
+					result.add((T) s.objects[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the snapshot if the grid was modified. This is done automatically by the first query after a
+	 * modification but it can be called explicitly to avoid that the first query has to wait for the rebuild.
+	 */
+	public void rebuild() {
+		getSnapshot();
+	}
+
+	private Snapshot getSnapshot() {
+		Snapshot s = snapshot;
+		if (s == null) {
+			synchronized (this) {
+				s = snapshot;
+				if (s == null) {
+					s = build();
+					snapshot = s;
+				}
+			}
+		}
+		return s;
+	}
+
+	private void invalidate() {
+		snapshot = null;
+	}
+
+	private Snapshot build() {
+		final int numberOfCells = gridSize[0] * gridSize[1];
+		int n = 0;
+		for (int r = 0; r < gridSize[0]; r++) {
+			for (int c = 0; c < gridSize[1]; c++) {
+				n += grid[r][c].objects.size();
+			}
+		}
+
+		final Snapshot s = new Snapshot(numberOfCells, n);
+
+		int index = 0;
+		for (int r = 0; r < gridSize[0]; r++) {
+			for (int c = 0; c < gridSize[1]; c++) {
+				s.cellStart[r * gridSize[1] + c] = index;
+				for (T object : grid[r][c].objects) {
+					VPoint position = object.getPosition();
+					s.x[index] = position.x;
+					s.y[index] = position.y;
+					s.objects[index] = object;
+					index++;
+				}
+			}
+		}
+		s.cellStart[numberOfCells] = index;
+		return s;
+	}
+}
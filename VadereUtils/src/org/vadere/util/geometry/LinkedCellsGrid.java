@@ -19,13 +19,13 @@ import org.vadere.util.geometry.shapes.VRectangle;
  * 
  */
 public class LinkedCellsGrid<T extends PointPositioned> implements Iterable<T> {
-	final private double left;
-	final private double top;
-	final private double width;
-	final private double height;
-	private GridCell<T>[][] grid;
-	private int[] gridSize = new int[2];
-	private double[] cellSize = new double[2];
+	final protected double left;
+	final protected double top;
+	final protected double width;
+	final protected double height;
+	protected GridCell<T>[][] grid;
+	protected int[] gridSize = new int[2];
+	protected double[] cellSize = new double[2];
 	private int size;
 
 	/**
@@ -36,7 +36,7 @@ public class LinkedCellsGrid<T extends PointPositioned> implements Iterable<T> {
 	 * @param <E>
 	 *        type of objects stored in this cell.
 	 */
-	private class GridCell<E extends PointPositioned> {
+	protected class GridCell<E extends PointPositioned> {
 		public List<E> objects = new ArrayList<>();
 
 		@Override
@@ -238,9 +238,25 @@ public class LinkedCellsGrid<T extends PointPositioned> implements Iterable<T> {
 	 *        radius of the ball
 	 * @return set of objects, or an empty set if no objects are present.
 	 */
-	public synchronized List<T> getObjects(final VPoint pos, final double radius) {
+	public List<T> getObjects(final VPoint pos, final double radius) {
 		final List<T> result = new LinkedList<T>();
+		getObjects(pos, radius, result);
+		return result;
+	}
 
+	/**
+	 * Adds the objects in the ball around pos with given radius to the given buffer. In contrast to
+	 * {@link LinkedCellsGrid#getObjects(VPoint, double)} no new list is created, i.e. the caller can
+	 * reuse the buffer for many queries. Note that the buffer is not cleared.
+	 *
+	 * @param pos
+	 *        position of the center of the ball
+	 * @param radius
+	 *        radius of the ball
+	 * @param result
+	 *        the buffer to which the objects are added
+	 */
+	public synchronized void getObjects(final VPoint pos, final double radius, @NotNull final List<? super T> result) {
 		int[] gridPos = gridPos(pos);
 		int[] discreteRad = new int[2];
 		discreteRad[0] = (int) Math.ceil(radius / cellSize[0]);
@@ -260,7 +276,6 @@ public class LinkedCellsGrid<T extends PointPositioned> implements Iterable<T> {
 				}
 			}
 		}
-		return result;
 	}
 
 	/**
@@ -0,0 +1,21 @@
+package org.vadere.util.math;
+
+/**
+ * A real valued function of the plane which evaluates many positions at once:
+ * (x[i], y[i]) -> values[i] for 0 <= i < n. The positions are given by primitive
+ * coordinate arrays such that no point objects have to be created per evaluation.
+ */
+@FunctionalInterface
+public interface IBatchFunction {
+
+	/**
+	 * Evaluates the function at the first <tt>n</tt> positions and writes the
+	 * results into <tt>values</tt>.
+	 *
+	 * @param x         the x-coordinates of the positions
+	 * @param y         the y-coordinates of the positions
+	 * @param n         the number of positions
+	 * @param values    the array the function values will be written to, its length has to be at least <tt>n</tt>
+	 */
+	void apply(final double[] x, final double[] y, final int n, final double[] values);
+}
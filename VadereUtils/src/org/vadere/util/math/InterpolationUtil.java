@@ -172,6 +172,24 @@ public class InterpolationUtil {
 		return result;
 	}
 
+	/**
+	 * Computes the cubic (Catmull-Rom) interpolation of four equidistant values z0 to z3 at the
+	 * normalized offset t in [0, 1] between z1 and z2. Bicubic interpolation on a grid is done
+	 * by interpolating four rows and interpolating the results along the columns. In contrast to
+	 * the bilinear interpolation the result is continuously differentiable but might overshoot
+	 * at steep changes of the values.
+	 *
+	 * @param z0    the value left of z1
+	 * @param z1    the value at t = 0
+	 * @param z2    the value at t = 1
+	 * @param z3    the value right of z2
+	 * @param t     the normalized offset from z1 towards z2
+	 * @return the cubic interpolated value at t
+	 */
+	public static double cubicInterpolation(double z0, double z1, double z2, double z3, double t) {
+		return z1 + 0.5 * t * (z2 - z0 + t * (2.0 * z0 - 5.0 * z1 + 4.0 * z2 - z3 + t * (3.0 * (z1 - z2) + z3 - z0)));
+	}
+
 
     /**
      * Computes bilinear interpolation for (x,y) while nodes may be undefined
@@ -240,22 +258,22 @@ public class InterpolationUtil {
 		int y4 = (int) y;
 
 		// compute the plane spanned by v1 and v2
-		double z1 = pot.getValue(x1, y1).potential;
-		double z31 = pot.getValue(x3, y3).potential - z1;
+		double z1 = pot.getPotential(x1, y1);
+		double z31 = pot.getPotential(x3, y3) - z1;
 		double[] v1 = new double[3];
 		double[] v2 = new double[] {x3 - x1, y3 - y1, z31};
 
 		// check whether its the upper or lower triangle
 		if (locX < locY) // upper triangle
 		{
-			double z21 = pot.getValue(x2, y2).potential - z1;
+			double z21 = pot.getPotential(x2, y2) - z1;
 
 			v1[0] = x2 - x1;
 			v1[1] = y2 - y1;
 			v1[2] = z21;
 		} else // lower triangle
 		{
-			double z41 = pot.getValue(x4, y4).potential - z1;
+			double z41 = pot.getPotential(x4, y4) - z1;
 
 			v1[0] = x4 - x1;
 			v1[1] = y4 - y1;
@@ -5,7 +5,9 @@ import org.vadere.util.geometry.GeometryUtils;
 import org.vadere.util.geometry.shapes.ICircleSector;
 import org.vadere.util.geometry.shapes.VPoint;
 import org.vadere.util.logging.Logger;
+import org.vadere.util.math.IBatchFunction;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
@@ -23,7 +25,10 @@ public class PSO {
 	private double gBest;
 	private double gLastBest;
 	private VPoint gBestLocation;
-	private final Function<VPoint, Double> evaluationFunction;
+	private final IBatchFunction evaluationFunction;
+	private final double[] x;
+	private final double[] y;
+	private final double[] values;
 	private int iterationCounter;
 	private final double maxVelocity;
 	private final double minAngle;
@@ -40,7 +45,37 @@ public class PSO {
 			@NotNull final Random random,
 			@NotNull final double maxVelocity,
 			@NotNull final List<VPoint> swarmPositions) {
+		this((x, y, n, values) -> {
+			for(int i = 0; i < n; i++) {
+				values[i] = f.apply(new VPoint(x[i], y[i]));
+			}
+		}, circle, minAngle, maxAngle, random, maxVelocity, swarmPositions);
+	}
+
+	/**
+	 * Constructs a particle swarm optimizer which evaluates the fitness of all particles of an iteration
+	 * by one call of the evaluation function.
+	 *
+	 * @param f                 the (batch) evaluation function which will be minimized
+	 * @param circle            the (sector of the) circle in which the optimum will be searched
+	 * @param minAngle          the smallest angle of the initial velocities
+	 * @param maxAngle          the largest angle of the initial velocities
+	 * @param random            the random number generator
+	 * @param maxVelocity       the maximal velocity of a particle
+	 * @param swarmPositions    the initial positions of the particles
+	 */
+	public PSO(
+			@NotNull final IBatchFunction f,
+			@NotNull final ICircleSector circle,
+			final double minAngle,
+			final double maxAngle,
+			@NotNull final Random random,
+			@NotNull final double maxVelocity,
+			@NotNull final List<VPoint> swarmPositions) {
 		this.evaluationFunction = f;
+		this.x = new double[swarmPositions.size()];
+		this.y = new double[swarmPositions.size()];
+		this.values = new double[swarmPositions.size()];
 		this.random = random;
 		this.circle = circle;
 		this.gBest = Double.MAX_VALUE;
@@ -93,6 +128,7 @@ public class PSO {
 			double omega = attributesPSO.wUpperBound - (iterationCounter / attributesPSO.minIteration) * (attributesPSO.wUpperBound - attributesPSO.wLowerBound);
 
 			particles.forEach(particle -> updateParticle(particle, omega));
+			evaluate();
 		}
 	}
 
@@ -116,11 +152,23 @@ public class PSO {
 			particle.setVelocity(particle.getVelocity().scalarMultiply(-0.5));
 			particle.setLocation(circle.getClosestIntersectionPoint(currentLocation, particle.getLocation(), particle.getLocation()).orElse(particle.getLocation()));
 		}
-		particle.setFitnessValue(evaluationFunction.apply(particle.getLocation()));
-		evaluationCounter++;
-		if(evaluationCounter % 100 == 0) {
-			logger.debugf("#evaluations: " + evaluationCounter);
+	}
+
+	/**
+	 * Evaluates the fitness of all particles at their current location by one call of the evaluation function.
+	 */
+	private void evaluate() {
+		for(int i = 0; i < particles.size(); i++) {
+			x[i] = particles.get(i).getLocation().getX();
+			y[i] = particles.get(i).getLocation().getY();
+		}
+
+		evaluationFunction.apply(x, y, particles.size(), values);
+
+		for(int i = 0; i < particles.size(); i++) {
+			particles.get(i).setFitnessValue(values[i]);
 		}
+		evaluationCounter += particles.size();
 	}
 
 	/**
@@ -220,7 +268,20 @@ public class PSO {
 	}
 
 	private List<Particle> initialSwarm(@NotNull List<VPoint> swarmPositions) {
-		return swarmPositions.stream().map(location -> locationToParticle(location)).collect(Collectors.toList());
+		List<VPoint> velocities = swarmPositions.stream().map(location -> initialVelocity(location)).collect(Collectors.toList());
+
+		for(int i = 0; i < swarmPositions.size(); i++) {
+			x[i] = swarmPositions.get(i).getX();
+			y[i] = swarmPositions.get(i).getY();
+		}
+		evaluationFunction.apply(x, y, swarmPositions.size(), values);
+		evaluationCounter += swarmPositions.size();
+
+		List<Particle> swarm = new ArrayList<>(swarmPositions.size());
+		for(int i = 0; i < swarmPositions.size(); i++) {
+			swarm.add(new Particle(swarmPositions.get(i), velocities.get(i), values[i]));
+		}
+		return swarm;
 	}
 
 	/*private Particle locationToParticle(@NotNull final VPoint location) {
@@ -230,17 +291,10 @@ public class PSO {
 		return new Particle(location, velocity, fitnessValue);
 	}*/
 
-	private Particle locationToParticle(@NotNull final VPoint location) {
+	private VPoint initialVelocity(@NotNull final VPoint location) {
 		double vDelta = random() * (maxAngle - minAngle);
 		double vMag = Math.sqrt(random()) * maxVelocity;
 		VPoint v = new VPoint(Math.cos(vDelta), Math.sin(vDelta)).setMagnitude(vMag);
-		VPoint velocity = v.subtract(location).scalarMultiply(0.5).limit(maxVelocity);
-
-		double fitnessValue = evaluationFunction.apply(location);
-		evaluationCounter++;
-		/*if(evaluationCounter % 100 == 0) {
-			logger.debugf("#evaluations: " + evaluationCounter);
-		}*/
-		return new Particle(location, velocity, fitnessValue);
+		return v.subtract(location).scalarMultiply(0.5).limit(maxVelocity);
 	}
 }
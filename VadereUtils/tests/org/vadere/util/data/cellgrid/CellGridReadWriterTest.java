@@ -36,11 +36,9 @@ public class CellGridReadWriterTest {
 
 
 		// compare
-		CellState[][] values1 = cellGrid.values;
-		CellState[][] values2 = cellGrid2.values;
 		for (int row = 0; row < cellGrid.getNumPointsY(); row++) {
 			for (int col = 0; col < cellGrid.getNumPointsX(); col++) {
-				assertEquals(values1[col][row], values2[col][row]);
+				assertEquals(cellGrid.getValue(col, row), cellGrid2.getValue(col, row));
 			}
 		}
 	}
@@ -62,11 +60,9 @@ public class CellGridReadWriterTest {
 
 
 		// compare
-		CellState[][] values1 = cellGrid.values;
-		CellState[][] values2 = cellGrid2.values;
 		for (int row = 0; row < cellGrid.getNumPointsY(); row++) {
 			for (int col = 0; col < cellGrid.getNumPointsX(); col++) {
-				assertEquals(values1[col][row], values2[col][row]);
+				assertEquals(cellGrid.getValue(col, row), cellGrid2.getValue(col, row));
 			}
 		}
 	}
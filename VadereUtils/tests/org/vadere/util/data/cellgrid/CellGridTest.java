@@ -51,9 +51,9 @@ public class CellGridTest {
 		// set random data to CellGrid
 		for (int row = 0; row < cellGrid.numPointsY; row++) {
 			for (int col = 0; col < cellGrid.numPointsX; col++) {
-				cellGrid.values[col][row] =
+				cellGrid.setValue(col, row,
 						new CellState(rnd.nextDouble(),
-								PathFindingTag.values()[rnd.nextInt(maxPathFindingTag)]);
+								PathFindingTag.values()[rnd.nextInt(maxPathFindingTag)]));
 			}
 		}
 
@@ -61,10 +61,32 @@ public class CellGridTest {
 	}
 
 
+	@Test
+	public void setAndGetPrimitiveValues(){
+		CellGrid cellGrid = new CellGrid(3.0, 2.0, 1.0, new CellState(), 0.0, 0.0);
+		cellGrid.setValue(3, 1, 0.5, PathFindingTag.Reached);
+		cellGrid.setPotential(1, 2, 1.5);
+		cellGrid.setTag(1, 2, PathFindingTag.Obstacle);
+
+		assertThat(cellGrid.getPotential(3, 1), equalTo(0.5));
+		assertThat(cellGrid.getTag(3, 1), equalTo(PathFindingTag.Reached));
+		assertThat(cellGrid.getValue(1, 2), equalTo(new CellState(1.5, PathFindingTag.Obstacle)));
+		assertThat(cellGrid.getValue(0, 0), equalTo(new CellState()));
+
+		// the returned CellState is a copy
+		cellGrid.getValue(3, 1).potential = 2.0;
+		assertThat(cellGrid.getPotential(3, 1), equalTo(0.5));
+
+		// the copy constructor creates a deep copy
+		CellGrid copy = cellGrid.clone();
+		cellGrid.setValue(3, 1, 1.0, PathFindingTag.Target);
+		assertThat(copy.getValue(3, 1), equalTo(new CellState(0.5, PathFindingTag.Reached)));
+	}
+
 	private void compare(Table t, CellGrid cellGrid){
 		for (int row = 0; row < cellGrid.numPointsY; row++) {
 			for (int col = 0; col < cellGrid.numPointsX; col++) {
-				CellState state = cellGrid.values[col][row];
+				CellState state = cellGrid.getValue(col, row);
 				Table f = t.where(
 						t.intColumn("x").isEqualTo(col)
 								.and(t.intColumn("y").isEqualTo(row))
@@ -0,0 +1,137 @@
+package org.vadere.util.geometry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.vadere.util.geometry.shapes.VPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the {@link ConcurrentLinkedCellsGrid} answers all queries exactly like the {@link LinkedCellsGrid}.
+ */
+public class TestConcurrentLinkedCellsGrid {
+
+	private static class MovingPoint implements PointPositioned {
+		private VPoint position;
+
+		private MovingPoint(VPoint position) {
+			this.position = position;
+		}
+
+		@Override
+		public VPoint getPosition() {
+			return position;
+		}
+	}
+
+	private static final double left = -5;
+	private static final double top = 3;
+	private static final double width = 40;
+	private static final double height = 20;
+	private static final double sideLength = 1.5;
+
+	private Random random;
+	private LinkedCellsGrid<MovingPoint> linkedCellsGrid;
+	private ConcurrentLinkedCellsGrid<MovingPoint> concurrentLinkedCellsGrid;
+	private List<MovingPoint> points;
+
+	@Before
+	public void setUp() {
+		random = new Random(42);
+		linkedCellsGrid = new LinkedCellsGrid<>(left, top, width, height, sideLength);
+		concurrentLinkedCellsGrid = new ConcurrentLinkedCellsGrid<>(left, top, width, height, sideLength);
+		points = new ArrayList<>();
+
+		for (int i = 0; i < 500; i++) {
+			MovingPoint point = new MovingPoint(randomPoint());
+			points.add(point);
+			linkedCellsGrid.addObject(point);
+			concurrentLinkedCellsGrid.addObject(point);
+		}
+	}
+
+	@Test
+	public void testGetObjects() {
+		assertEqualQueries();
+	}
+
+	@Test
+	public void testGetObjectsAfterMove() {
+		assertEqualQueries();
+
+		for (MovingPoint point : points.subList(0, 100)) {
+			VPoint oldPosition = point.getPosition();
+			point.position = randomPoint();
+			linkedCellsGrid.moveObject(point, oldPosition);
+			concurrentLinkedCellsGrid.moveObject(point, oldPosition);
+		}
+
+		assertEqualQueries();
+	}
+
+	@Test
+	public void testGetObjectsAfterRemoveAndClear() {
+		for (MovingPoint point : points.subList(0, 250)) {
+			linkedCellsGrid.removeObject(point);
+			concurrentLinkedCellsGrid.removeObject(point);
+		}
+		assertEqualQueries();
+
+		concurrentLinkedCellsGrid.clear();
+		assertTrue(concurrentLinkedCellsGrid.getObjects(new VPoint(10, 10), 100).isEmpty());
+	}
+
+	@Test
+	public void testBufferIsNotCleared() {
+		MovingPoint point = points.get(0);
+		List<MovingPoint> buffer = new ArrayList<>();
+		buffer.add(point);
+		concurrentLinkedCellsGrid.getObjects(point.getPosition(), 0.001, buffer);
+
+		assertEquals(point, buffer.get(0));
+		assertTrue(buffer.size() >= 2);
+	}
+
+	@Test
+	public void testConcurrentQueries() {
+		concurrentLinkedCellsGrid.rebuild();
+		List<List<MovingPoint>> expected = points.stream()
+				.map(point -> linkedCellsGrid.getObjects(point.getPosition(), 3.0))
+				.collect(Collectors.toList());
+
+		List<List<MovingPoint>> actual = IntStream.range(0, points.size()).parallel()
+				.mapToObj(i -> {
+					List<MovingPoint> buffer = new ArrayList<>();
+					concurrentLinkedCellsGrid.getObjects(points.get(i).getPosition(), 3.0, buffer);
+					return buffer;
+				})
+				.collect(Collectors.toList());
+
+		assertEquals(expected, actual);
+	}
+
+	private void assertEqualQueries() {
+		List<MovingPoint> buffer = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			// also query positions outside of the grid
+			VPoint pos = new VPoint(left - 2 + random.nextDouble() * (width + 4), top - 2 + random.nextDouble() * (height + 4));
+			double radius = random.nextDouble() * 5;
+
+			buffer.clear();
+			concurrentLinkedCellsGrid.getObjects(pos, radius, buffer);
+			assertEquals(linkedCellsGrid.getObjects(pos, radius), buffer);
+			assertEquals(linkedCellsGrid.getObjects(pos, radius), concurrentLinkedCellsGrid.getObjects(pos, radius));
+		}
+	}
+
+	private VPoint randomPoint() {
+		return new VPoint(left + random.nextDouble() * width, top + random.nextDouble() * height);
+	}
+}